@@ -1,17 +1,200 @@
 package com;
 
-//TIP To <b>Run</b> code, press <shortcut actionId="Run"/> or
-// click the <icon src="AllIcons.Actions.Execute"/> icon in the gutter.
+import com.exception.GestionEvenementsException;
+import com.model.Evenement;
+import com.model.Participant;
+import com.service.GestionEvenements;
+import com.service.ImportEvenements;
+import com.service.OperationsSauvegarde;
+import com.service.StockagePartitionne;
+import com.util.FormatsDate;
+import com.util.SerializationUtil;
+import java.io.File;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Outil en ligne de commande sans interface graphique (traitements par lots)
+ * Même moteur que l'application : GestionEvenements et SerializationUtil
+ * - les résultats sont écrits sur la sortie standard, les messages du moteur sur la sortie d'erreur
+ * - code de sortie : 0 succès, 1 échec du traitement, 2 commande invalide
+ */
 public class Main {
+
+    private static final String USAGE = """
+            Usage : eventmanager-cli <commande> [arguments]
+              valider <fichier>                             vérifie chaque événement, les IDs et les inscriptions
+              stats <fichier>                               statistiques du fichier
+              fusionner <sortie.json> <fichier>...          fusionne des fichiers (premier fichier prioritaire)
+              decouper <fichier> <dossier> [jour|mois|annee] une sauvegarde par période (mois par défaut)
+              convertir <fichier> <sortie.json|.jsonl|.csv>  change de format
+              compacter <sauvegarde.json> [sortie.json]     retire annulés et doublons, sans mise en page
+              importer <fichier.csv|.jsonl> <sauvegarde.json> importe des événements dans la sauvegarde (créée si absente)
+              exporter <sauvegarde.json> [sortie.json]      export JSON lisible (sortie standard par défaut)
+            Fichiers : sauvegarde .json, JSON lignes .jsonl, ou .csv ; lus en flux, analysés sur tous les cœurs
+            """;
+
+    // Sortie standard d'origine : System.out est réservé aux messages du moteur
+    private static final PrintStream sortie = System.out;
+
     public static void main(String[] args) {
-        //TIP Press <shortcut actionId="ShowIntentionActions"/> with your caret at the highlighted text
-        // to see how IntelliJ IDEA suggests fixing it.
-        System.out.printf("Hello and welcome!");
+        System.setOut(System.err);
+        System.exit(executer(args));
+    }
+
+    static int executer(String[] args) {
+        if (args.length == 0) {
+            System.err.print(USAGE);
+            return 2;
+        }
+        try {
+            switch (args[0]) {
+                case "valider" -> {
+                    exigerArguments(args, 2);
+                    return valider(new File(args[1]));
+                }
+                case "stats" -> {
+                    exigerArguments(args, 2);
+                    statistiques(new File(args[1]));
+                }
+                case "fusionner" -> {
+                    exigerArguments(args, 3);
+                    List<File> entrees = new ArrayList<>();
+                    for (int i = 2; i < args.length; i++) {
+                        entrees.add(new File(args[i]));
+                    }
+                    afficher(new OperationsSauvegarde().fusionner(entrees, new File(args[1])));
+                }
+                case "decouper" -> {
+                    exigerArguments(args, 3);
+                    OperationsSauvegarde.Periode periode = args.length > 3
+                            ? OperationsSauvegarde.Periode.valueOf(args[3].toUpperCase(Locale.ROOT))
+                            : OperationsSauvegarde.Periode.MOIS;
+                    afficher(new OperationsSauvegarde().decouper(new File(args[1]), new File(args[2]), periode));
+                }
+                case "convertir" -> {
+                    exigerArguments(args, 3);
+                    afficher(new OperationsSauvegarde().convertir(new File(args[1]), new File(args[2])));
+                }
+                case "compacter" -> {
+                    exigerArguments(args, 2);
+                    afficher(new OperationsSauvegarde().compacter(new File(args[1]),
+                            args.length > 2 ? new File(args[2]) : null));
+                }
+                case "importer" -> {
+                    exigerArguments(args, 3);
+                    importer(new File(args[1]), new File(args[2]));
+                }
+                case "exporter" -> {
+                    exigerArguments(args, 2);
+                    exporter(new File(args[1]), args.length > 2 ? new File(args[2]) : null);
+                }
+                default -> throw new IllegalArgumentException("Commande inconnue: " + args[0]);
+            }
+            return 0;
+        } catch (IllegalArgumentException e) {
+            System.err.println("❌ " + e.getMessage());
+            System.err.print(USAGE);
+            return 2;
+        } catch (GestionEvenementsException e) {
+            System.err.println("❌ " + e.getMessageUtilisateur());
+            return 1;
+        } catch (Exception e) {
+            System.err.println("❌ Erreur inattendue: " + e.getMessage());
+            return 1;
+        }
+    }
+
+    private static void exigerArguments(String[] args, int minimum) {
+        if (args.length < minimum) {
+            throw new IllegalArgumentException("Arguments manquants pour " + args[0]);
+        }
+    }
+
+    // ============ COMMANDES ============
+
+    /**
+     * Code de sortie 1 si au moins une anomalie est relevée
+     */
+    private static int valider(File fichier) throws GestionEvenementsException {
+        OperationsSauvegarde.Rapport rapport = new OperationsSauvegarde().valider(fichier);
+        afficher(rapport);
+        return rapport.getNombreAnomalies() == 0 ? 0 : 1;
+    }
+
+    private static void statistiques(File fichier) throws GestionEvenementsException {
+        OperationsSauvegarde.StatistiquesFichier resultat = new OperationsSauvegarde().statistiques(fichier);
+        StockagePartitionne.Statistiques statistiques = resultat.statistiques();
 
-        for (int i = 1; i <= 5; i++) {
-            //TIP Press <shortcut actionId="Debug"/> to start debugging your code. We have set one <icon src="AllIcons.Debugger.Db_set_breakpoint"/> breakpoint
-            // for you, but you can always add more by pressing <shortcut actionId="ToggleLineBreakpoint"/>.
-            System.out.println("i = " + i);
+        sortie.println("Fichier          : " + fichier.getName());
+        sortie.println("Événements       : " + statistiques.evenements());
+        sortie.println("Participants     : " + resultat.participants());
+        sortie.println("Inscriptions     : " + statistiques.inscriptions());
+        sortie.println("Observers        : " + statistiques.observers());
+        sortie.printf("Taux d'occupation: %.1f%%%n", statistiques.tauxOccupationMoyen());
+        if (resultat.premiereDate() != null) {
+            sortie.println("Période          : du " + resultat.premiereDate().format(FormatsDate.DATE_HEURE)
+                    + " au " + resultat.derniereDate().format(FormatsDate.DATE_HEURE));
+        }
+
+        Map<String, Double> tauxParType = statistiques.tauxOccupationParType();
+        new TreeMap<>(statistiques.parType()).forEach((type, nombre) ->
+                sortie.printf("  %-15s: %d événement(s), occupation %.1f%%%n",
+                        type, nombre, tauxParType.getOrDefault(type, 0.0)));
+        if (resultat.rapport().getNombreAnomalies() > 0) {
+            sortie.println("Éléments illisibles: " + resultat.rapport().getNombreAnomalies());
+        }
+    }
+
+    private static void afficher(OperationsSauvegarde.Rapport rapport) {
+        sortie.println(rapport);
+        rapport.getAnomalies().forEach(anomalie -> sortie.println("  " + anomalie));
+        if (rapport.getNombreAnomalies() > rapport.getAnomalies().size()) {
+            sortie.println("  ... " + (rapport.getNombreAnomalies() - rapport.getAnomalies().size()) + " autre(s)");
+        }
+    }
+
+    private static void importer(File fichier, File sauvegarde) throws GestionEvenementsException {
+        GestionEvenements gestion = sauvegarde.exists() ? charger(sauvegarde) : GestionEvenements.getInstance();
+        ImportEvenements.RapportImport rapport = new ImportEvenements().importer(fichier);
+        SerializationUtil.sauvegarderDonnees(gestion.getObservableEvenements(), gestion.getObservableParticipants(),
+                sauvegarde);
+
+        sortie.println(rapport);
+        rapport.getLignesRejetees().forEach(rejetee -> sortie.println("  " + rejetee));
+    }
+
+    private static void exporter(File sauvegarde, File destination) throws Exception {
+        GestionEvenements gestion = charger(sauvegarde);
+        String json = SerializationUtil.exporterEnJSON(gestion.getObservableEvenements(),
+                gestion.getObservableParticipants());
+        if (destination == null) {
+            sortie.println(json);
+        } else {
+            Files.writeString(destination.toPath(), json, StandardCharsets.UTF_8);
+        }
+    }
+
+    // ============ CHARGEMENT ============
+
+    /**
+     * Charge une sauvegarde dans le service, comme le chargement de l'interface (relations Observer restaurées)
+     */
+    private static GestionEvenements charger(File sauvegarde) throws GestionEvenementsException {
+        SerializationUtil.DonneesSauvegarde donnees = SerializationUtil.chargerDonnees(sauvegarde);
+        GestionEvenements gestion = GestionEvenements.getInstance();
+        for (Participant participant : donnees.getParticipants()) {
+            gestion.ajouterParticipant(participant);
+        }
+        for (Evenement evenement : donnees.getEvenements()) {
+            gestion.ajouterEvenement(evenement);
         }
+        return gestion;
     }
-}
\ No newline at end of file
+}
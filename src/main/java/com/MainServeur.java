@@ -0,0 +1,150 @@
+package com;
+
+import com.model.Participant;
+import com.moteur.JournalCommandes;
+import com.moteur.ModeleLectureEvenements;
+import com.moteur.MoteurMonoEcrivain;
+import com.replication.MaitreReplication;
+import com.replication.SuiveurReplication;
+import com.serveur.ServeurApi;
+import com.service.GestionEvenements;
+import com.util.Journal;
+import com.util.SerializationUtil;
+import java.io.File;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Point d'entrée sans interface graphique : expose GestionEvenements via l'API HTTP
+ *
+ * Usage : java -cp ... com.MainServeur [--port 8080] [--hote 0.0.0.0] [--donnees fichier.json] [--silencieux]
+ *         [--mono-ecrivain [--journal-commandes fichier.jsonl] [--replication-port N]]
+ *         [--suiveur hote:port]
+ * --mono-ecrivain fait passer toutes les mutations par le moteur mono-écrivain (MoteurMonoEcrivain),
+ * avec journal des commandes rejoué au démarrage si --journal-commandes est fourni
+ * --replication-port fait de ce nœud le maître de réplication : ses commandes sont diffusées aux suiveurs
+ * --suiveur fait de ce nœud une réplique en lecture seule du maître indiqué (état reçu par instantané)
+ * Les traces console du modèle passent par le journal asynchrone ; --silencieux les supprime
+ * (une ligne par inscription / notification), pour mesurer le débit réel du serveur
+ */
+public class MainServeur {
+
+    private static final int PORT_DEFAUT = 8080;
+    private static final int CAPACITE_JOURNAL = 1 << 16;
+
+    public static void main(String[] args) throws Exception {
+        int port = PORT_DEFAUT;
+        String hote = "0.0.0.0";
+        File donnees = null;
+        boolean silencieux = false;
+        boolean monoEcrivain = false;
+        Path journalCommandes = null;
+        Integer portReplication = null;
+        InetSocketAddress adresseMaitre = null;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--port": port = Integer.parseInt(args[++i]); break;
+                case "--hote": hote = args[++i]; break;
+                case "--donnees": donnees = new File(args[++i]); break;
+                case "--silencieux": silencieux = true; break;
+                case "--mono-ecrivain": monoEcrivain = true; break;
+                case "--journal-commandes": journalCommandes = Path.of(args[++i]); break;
+                case "--replication-port": portReplication = Integer.parseInt(args[++i]); break;
+                case "--suiveur": adresseMaitre = adresse(args[++i]); break;
+                default:
+                    System.err.println("Option inconnue: " + args[i]);
+                    System.err.println("Usage: MainServeur [--port N] [--hote H] [--donnees fichier.json] [--silencieux]"
+                            + " [--mono-ecrivain [--journal-commandes fichier.jsonl] [--replication-port N]]"
+                            + " [--suiveur hote:port]");
+                    System.exit(2);
+            }
+        }
+        if (portReplication != null && !monoEcrivain) {
+            System.err.println("--replication-port nécessite --mono-ecrivain");
+            System.exit(2);
+        }
+        if (adresseMaitre != null && (monoEcrivain || donnees != null)) {
+            System.err.println("--suiveur est incompatible avec --mono-ecrivain et --donnees (l'état vient du maître)");
+            System.exit(2);
+        }
+
+        PrintStream console = System.out;
+        GestionEvenements gestion = GestionEvenements.getInstance();
+        if (donnees != null) {
+            var sauvegarde = SerializationUtil.chargerDonnees(donnees);
+            for (Participant participant : sauvegarde.getParticipants()) {
+                gestion.ajouterParticipant(participant);
+            }
+            gestion.ajouterEvenements(sauvegarde.getEvenements());
+            console.println(String.format("📂 [SERVEUR] %d événements et %d participants chargés depuis %s",
+                    sauvegarde.getEvenements().size(), sauvegarde.getParticipants().size(), donnees.getName()));
+        }
+
+        if (silencieux) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        } else {
+            // Les commandes ne bloquent pas sur la console
+            Journal.demarrerAsynchrone(CAPACITE_JOURNAL);
+        }
+
+        ServeurApi serveur = new ServeurApi(gestion);
+        MoteurMonoEcrivain moteur = null;
+        MaitreReplication maitre = null;
+        SuiveurReplication suiveur = null;
+        if (monoEcrivain) {
+            // Journal rejoué par-dessus les données chargées, puis toutes les mutations passent par le moteur
+            moteur = new MoteurMonoEcrivain(gestion, MoteurMonoEcrivain.TAILLE_DEFAUT,
+                    journalCommandes != null ? new JournalCommandes(journalCommandes, false) : null);
+            moteur.rejouer();
+            ModeleLectureEvenements modeleLecture = new ModeleLectureEvenements(gestion);
+            modeleLecture.initialiser();
+            moteur.ajouterEcouteur(modeleLecture);
+            moteur.demarrer();
+            serveur.utiliserMoteur(moteur, modeleLecture);
+            if (portReplication != null) {
+                maitre = new MaitreReplication(moteur, gestion);
+                int portEffectifReplication = maitre.demarrer(new InetSocketAddress(hote, portReplication));
+                console.println("🔁 [SERVEUR] Réplication disponible sur " + hote + ":" + portEffectifReplication);
+            }
+        } else if (adresseMaitre != null) {
+            suiveur = new SuiveurReplication(adresseMaitre, gestion);
+            suiveur.demarrer();
+            serveur.utiliserReplique(suiveur);
+        }
+        int portEffectif = serveur.demarrer(new InetSocketAddress(hote, port));
+        console.println("🌐 [SERVEUR] API disponible sur http://" + hote + ":" + portEffectif + "/api/evenements");
+
+        CountDownLatch arret = new CountDownLatch(1);
+        MoteurMonoEcrivain moteurDemarre = moteur;
+        MaitreReplication maitreDemarre = maitre;
+        SuiveurReplication suiveurDemarre = suiveur;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            serveur.arreter(1);
+            if (suiveurDemarre != null) {
+                suiveurDemarre.arreter();
+            }
+            if (maitreDemarre != null) {
+                maitreDemarre.arreter();
+            }
+            if (moteurDemarre != null) {
+                moteurDemarre.arreter();
+            }
+            Journal.arreter();
+            console.println("🌐 [SERVEUR] Arrêté");
+            arret.countDown();
+        }, "arret-serveur"));
+        arret.await();
+    }
+
+    private static InetSocketAddress adresse(String hotePort) {
+        int separateur = hotePort.lastIndexOf(':');
+        if (separateur <= 0) {
+            throw new IllegalArgumentException("Adresse attendue sous la forme hote:port: " + hotePort);
+        }
+        return new InetSocketAddress(hotePort.substring(0, separateur), Integer.parseInt(hotePort.substring(separateur + 1)));
+    }
+}
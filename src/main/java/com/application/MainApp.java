@@ -6,10 +6,21 @@ import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.stage.Stage;
 import com.service.GestionEvenements;
+import com.exception.SerializationException;
+import com.notification.BoiteEnvoi;
+import com.notification.CanalFichier;
+import com.notification.LimiteurDebit;
+import com.metrics.ExportateurJmx;
+import com.metrics.ExportateurPrometheus;
+import com.observer.MetriquesDiffusion;
+import com.util.PrechargementSauvegarde;
+import java.nio.file.Paths;
 
 /**
  * Classe principale de l'application JavaFX
  * Point d'entrée de l'interface graphique
+ * Démarrage : seul ce que la première image affiche est construit avant elle ; la dernière sauvegarde est
+ * relue en arrière-plan, la boîte d'envoi et l'export des métriques démarrent après la première image
  */
 public class MainApp extends Application {
 
@@ -19,12 +30,16 @@ public class MainApp extends Application {
     @Override
     public void start(Stage stage) {
         try {
+            MesureDemarrage.marquer("lancement JavaFX");
             primaryStage = stage;
             gestionEvenements = GestionEvenements.getInstance();
+            PrechargementSauvegarde.getInstance().demarrer();
+            MesureDemarrage.marquer("services");
 
             // Charger la vue principale
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/fxml/MainView.fxml"));
             Scene scene = new Scene(loader.load(), 1200, 800);
+            MesureDemarrage.marquer("interface chargée");
 
             // Ajouter le CSS (optionnel)
             scene.getStylesheets().add(getClass().getResource("/css/styles.css").toExternalForm());
@@ -46,6 +61,7 @@ public class MainApp extends Application {
             });
 
             primaryStage.show();
+            MesureDemarrage.apresPremiereImage(this::demarrerServicesDiffires);
 
             // Initialiser quelques données de démonstration
             initialiserDonneesDemo();
@@ -66,6 +82,54 @@ public class MainApp extends Application {
         System.out.println("📊 Système de gestion prêt à l'utilisation");
     }
 
+    /**
+     * Services inutiles à la première image (journal sur disque, JMX), démarrés hors du thread JavaFX
+     * Les notifications émises avant le démarrage de la boîte d'envoi restent affichées en console
+     */
+    private void demarrerServicesDiffires() {
+        Thread.ofVirtual().name("demarrage-services").start(() -> {
+            demarrerBoiteEnvoi();
+            demarrerExportMetriques();
+        });
+    }
+
+    /**
+     * Démarre la livraison asynchrone des notifications (canal fichier local)
+     * Un échec n'empêche pas le démarrage : les notifications restent alors affichées en console
+     */
+    private void demarrerBoiteEnvoi() {
+        BoiteEnvoi boiteEnvoi = BoiteEnvoi.getInstance();
+        try {
+            boiteEnvoi.ajouterCanal(new CanalFichier(Paths.get("notifications_envoyees.log")));
+            boiteEnvoi.setLimiteur(new LimiteurDebit(50, 20));
+            boiteEnvoi.demarrer(Paths.get("boite_envoi.jsonl"), 2);
+        } catch (SerializationException e) {
+            System.err.println("⚠️ Boîte d'envoi non démarrée: " + e.getMessageUtilisateur());
+        }
+    }
+
+    /**
+     * Expose les métriques en JMX, et en HTTP (format Prometheus, localhost uniquement)
+     * si la propriété système eventmanager.metriques.port est définie
+     */
+    private void demarrerExportMetriques() {
+        MetriquesDiffusion.getInstance(); // déclare les métriques de diffusion dès le démarrage
+        try {
+            ExportateurJmx.enregistrer();
+        } catch (Exception e) {
+            System.err.println("⚠️ MBean JMX non enregistré: " + e.getMessage());
+        }
+
+        String port = System.getProperty("eventmanager.metriques.port");
+        if (port != null) {
+            try {
+                new ExportateurPrometheus().demarrer(Integer.parseInt(port.trim()));
+            } catch (Exception e) {
+                System.err.println("⚠️ Export Prometheus non démarré: " + e.getMessage());
+            }
+        }
+    }
+
     /**
      * Gestion de la fermeture de l'application
      */
@@ -78,6 +142,7 @@ public class MainApp extends Application {
         alert.showAndWait().ifPresent(response -> {
             if (response == javafx.scene.control.ButtonType.OK) {
                 System.out.println("👋 Fermeture de l'application");
+                BoiteEnvoi.getInstance().arreter();
                 primaryStage.close();
                 System.exit(0);
             }
@@ -118,6 +183,7 @@ public class MainApp extends Application {
     }
 
     public static void main(String[] args) {
+        MesureDemarrage.marquer("main");
         launch(args);
     }
 }
@@ -0,0 +1,69 @@
+package com.application;
+
+import com.metrics.RegistreMetriques;
+import javafx.animation.AnimationTimer;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Mesure du démarrage, du lancement du processus à la première image affichée
+ * - chaque étape est datée depuis le lancement du processus (à défaut, depuis le chargement de cette classe)
+ * - le rapport est affiché en console après la première image et exposé en métrique
+ * - avec -Deventmanager.demarrage.quitter=true, l'application se ferme après le rapport (mesures répétées)
+ */
+final class MesureDemarrage {
+
+    private static final long ORIGINE_NANOS = origine();
+    private static final Map<String, Long> etapes = new LinkedHashMap<>();
+
+    private MesureDemarrage() {}
+
+    private static long origine() {
+        long maintenant = System.nanoTime();
+        return ProcessHandle.current().info().startInstant()
+                .map(lancement -> maintenant - (Instant.now().toEpochMilli() - lancement.toEpochMilli()) * 1_000_000)
+                .orElse(maintenant);
+    }
+
+    static synchronized void marquer(String etape) {
+        etapes.put(etape, (System.nanoTime() - ORIGINE_NANOS) / 1_000_000);
+    }
+
+    /**
+     * Exécute une action une fois la première image rendue
+     * Une impulsion JavaFX ne commence qu'après le rendu de la précédente : le début de la deuxième
+     * impulsion suivant l'affichage de la fenêtre date la première image
+     */
+    static void apresPremiereImage(Runnable action) {
+        new AnimationTimer() {
+            private int impulsions;
+
+            @Override
+            public void handle(long maintenant) {
+                if (++impulsions < 2) {
+                    return;
+                }
+                stop();
+                marquer("première image");
+                publierRapport();
+                action.run();
+            }
+        }.start();
+    }
+
+    private static synchronized void publierRapport() {
+        long premiereImage = etapes.get("première image");
+        StringJoiner detail = new StringJoiner(", ");
+        etapes.forEach((etape, ms) -> detail.add(etape + " " + ms + " ms"));
+        System.out.println("⏱️ [DÉMARRAGE] Première image à " + premiereImage + " ms (" + detail + ")");
+
+        RegistreMetriques.getInstance().jauge("demarrage_premiere_image_secondes",
+                "Délai entre le lancement du processus et la première image", () -> premiereImage / 1000.0);
+
+        if (Boolean.getBoolean("eventmanager.demarrage.quitter")) {
+            System.exit(0);
+        }
+    }
+}
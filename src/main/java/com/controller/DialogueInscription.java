@@ -4,14 +4,13 @@ import javafx.scene.control.*;
 import javafx.scene.layout.*;
 import javafx.geometry.Insets;
 import javafx.util.Callback;
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import com.model.*;
 import com.service.GestionEvenements;
+import com.service.IndexRecherche;
 import com.application.MainApp;
 import com.exception.*;
-import java.util.List;
-import java.util.stream.Collectors;
+import com.util.FormatsDate;
+import java.util.Optional;
 
 /**
  * Dialogue complet pour inscrire un participant à un événement
@@ -28,6 +27,8 @@ public class DialogueInscription extends Dialog<Boolean> {
     private VBox containerInfos;
 
     private GestionEvenements gestionEvenements;
+    private SaisieSemiAutomatique<Participant> saisieParticipant;
+    private SaisieSemiAutomatique<Evenement> saisieEvenement;
 
     public DialogueInscription() {
         this.gestionEvenements = GestionEvenements.getInstance();
@@ -98,7 +99,6 @@ public class DialogueInscription extends Dialog<Boolean> {
         // Sélection du participant
         grid.add(new Label("Participant:"), 0, 0);
         comboParticipant = new ComboBox<>();
-        comboParticipant.setPromptText("Sélectionner un participant");
         comboParticipant.setPrefWidth(300);
         configurerComboParticipant();
         grid.add(comboParticipant, 1, 0);
@@ -106,7 +106,6 @@ public class DialogueInscription extends Dialog<Boolean> {
         // Sélection de l'événement
         grid.add(new Label("Événement:"), 0, 1);
         comboEvenement = new ComboBox<>();
-        comboEvenement.setPromptText("Sélectionner un événement");
         comboEvenement.setPrefWidth(300);
         configurerComboEvenement();
         grid.add(comboEvenement, 1, 1);
@@ -243,19 +242,28 @@ public class DialogueInscription extends Dialog<Boolean> {
     }
 
     private void actualiserDonnees() {
-        // Charger les participants
-        ObservableList<Participant> participantsDisponibles = FXCollections.observableArrayList(
-                gestionEvenements.getObservableParticipants()
-        );
-        comboParticipant.setItems(participantsDisponibles);
-
-        // Charger les événements (seulement ceux qui ne sont pas annulés)
-        ObservableList<Evenement> evenementsDisponibles = FXCollections.observableArrayList(
-                gestionEvenements.getObservableEvenements().stream()
-                        .filter(e -> !e.isAnnule())
-                        .collect(Collectors.toList())
-        );
-        comboEvenement.setItems(evenementsDisponibles);
+        // Suggestions fournies par les index du service à chaque frappe : les listes ne sont jamais copiées
+        comboParticipant.setPromptText(String.format("Rechercher parmi %d participants (nom, ID, email)",
+                gestionEvenements.getIndexParticipants().getTaille()));
+        saisieParticipant = SaisieSemiAutomatique.configurer(comboParticipant,
+                gestionEvenements.getIndexParticipants(),
+                participant -> participant.getNom() + " (" + participant.getId() + ")",
+                participant -> true,
+                IndexRecherche.RESULTATS_DEFAUT);
+
+        // Seuls les événements non annulés sont proposés
+        comboEvenement.setPromptText(String.format("Rechercher parmi %d événements actifs (nom, ID)",
+                gestionEvenements.getNombreEvenementsActifs()));
+        saisieEvenement = SaisieSemiAutomatique.configurer(comboEvenement,
+                gestionEvenements.getIndexEvenements(),
+                evenement -> evenement.getNom() + " (" + evenement.getId() + ")",
+                evenement -> !evenement.isAnnule(),
+                IndexRecherche.RESULTATS_DEFAUT);
+
+        setOnHidden(e -> {
+            saisieParticipant.arreter();
+            saisieEvenement.arreter();
+        });
     }
 
     private void mettreAJourInformations() {
@@ -281,11 +289,11 @@ public class DialogueInscription extends Dialog<Boolean> {
                             "👁️ Observers actuels: %d",
                     evenement.getNom(),
                     evenement.getLieu(),
-                    evenement.getDate().format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
+                    evenement.getDate().format(FormatsDate.DATE_HEURE),
                     evenement.getNombreParticipants(),
                     evenement.getCapaciteMax(),
                     evenement.getPlacesDisponibles(),
-                    evenement.getObservers().size()
+                    evenement.getNombreObservers()
             ));
 
             // Mise à jour de la barre de progression
@@ -320,8 +328,17 @@ public class DialogueInscription extends Dialog<Boolean> {
             if (evenement.estInscrit(participant)) {
                 lblInfoObserver.setText("⚠️ Ce participant est déjà inscrit à cet événement et est déjà Observer.");
                 lblInfoObserver.setStyle("-fx-text-fill: #f57c00; -fx-font-style: italic; -fx-font-size: 12px;");
+            } else if (evenement.estEnListeAttente(participant)) {
+                lblInfoObserver.setText(String.format(
+                        "⏳ Ce participant est déjà en liste d'attente (position %d).",
+                        evenement.getPositionListeAttente(participant)));
+                lblInfoObserver.setStyle("-fx-text-fill: #f57c00; -fx-font-style: italic; -fx-font-size: 12px;");
             } else if (evenement.getPlacesDisponibles() <= 0) {
-                lblInfoObserver.setText("❌ Aucune place disponible pour cet événement.");
+                lblInfoObserver.setText(String.format(
+                        "❌ Aucune place disponible pour cet événement (%d personne(s) en attente).\n" +
+                                "⏳ Le participant peut être placé en liste d'attente et sera inscrit automatiquement " +
+                                "dès qu'une place se libère.",
+                        evenement.getNombreEnAttente()));
                 lblInfoObserver.setStyle("-fx-text-fill: #d32f2f; -fx-font-style: italic; -fx-font-size: 12px;");
             } else {
                 lblInfoObserver.setText(String.format(
@@ -351,18 +368,16 @@ public class DialogueInscription extends Dialog<Boolean> {
                 return false;
             }
 
-            if (evenement.getPlacesDisponibles() <= 0) {
-                MainApp.afficherErreur("Complet",
-                        "Aucune place disponible pour cet événement.");
-                return false;
-            }
-
             if (evenement.isAnnule()) {
                 MainApp.afficherErreur("Événement annulé",
                         "Impossible de s'inscrire à un événement annulé.");
                 return false;
             }
 
+            if (evenement.getPlacesDisponibles() <= 0) {
+                return proposerListeAttente(participant, evenement);
+            }
+
             // Effectuer l'inscription via GestionEvenements
             gestionEvenements.inscrireParticipant(participant.getId(), evenement.getId());
 
@@ -386,7 +401,7 @@ public class DialogueInscription extends Dialog<Boolean> {
                     evenement.getNombreParticipants() - 1,
                     evenement.getNombreParticipants(),
                     evenement.getCapaciteMax(),
-                    evenement.getObservers().size(),
+                    evenement.getNombreObservers(),
                     evenement.getPlacesDisponibles()
             ));
 
@@ -396,6 +411,10 @@ public class DialogueInscription extends Dialog<Boolean> {
             return true;
 
         } catch (CapaciteMaxAtteinteException e) {
+            // La dernière place a été prise entre-temps
+            if (proposerListeAttente(comboParticipant.getValue(), comboEvenement.getValue())) {
+                return true;
+            }
             Alert erreur = new Alert(Alert.AlertType.WARNING);
             erreur.setTitle("Capacité maximale atteinte");
             erreur.setHeaderText("Impossible d'inscrire le participant");
@@ -413,4 +432,53 @@ public class DialogueInscription extends Dialog<Boolean> {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Propose de placer le participant en liste d'attente d'un événement complet
+     * @return true si le participant a été inscrit ou placé en attente
+     */
+    private boolean proposerListeAttente(Participant participant, Evenement evenement) {
+        if (evenement.estEnListeAttente(participant)) {
+            MainApp.afficherErreur("Déjà en attente",
+                    String.format("%s est déjà en liste d'attente (position %d).",
+                            participant.getNom(), evenement.getPositionListeAttente(participant)));
+            return false;
+        }
+
+        Alert confirmation = new Alert(Alert.AlertType.CONFIRMATION);
+        confirmation.setTitle("Événement complet");
+        confirmation.setHeaderText("Aucune place disponible pour '" + evenement.getNom() + "'");
+        confirmation.setContentText(String.format(
+                "Placer %s en liste d'attente ?\n\n" +
+                        "⏳ Personnes déjà en attente: %d\n" +
+                        "🎟️ Dès qu'une place se libère, le premier de la liste est inscrit automatiquement " +
+                        "et devient Observer de l'événement.",
+                participant.getNom(), evenement.getNombreEnAttente()));
+
+        Optional<ButtonType> reponse = confirmation.showAndWait();
+        if (reponse.isEmpty() || reponse.get() != ButtonType.OK) {
+            return false;
+        }
+
+        try {
+            boolean inscrit = gestionEvenements.inscrireParticipantOuListeAttente(participant.getId(), evenement.getId());
+            if (inscrit) {
+                MainApp.afficherInfo("Inscription réussie",
+                        participant.getNom() + " a obtenu une place libérée entre-temps.");
+            } else {
+                MainApp.afficherInfo("Liste d'attente",
+                        String.format("%s est en liste d'attente pour '%s' (position %d).",
+                                participant.getNom(), evenement.getNom(),
+                                evenement.getPositionListeAttente(participant)));
+            }
+            return true;
+        } catch (ParticipantIntrouvableException | EvenementIntrouvableException e) {
+            MainApp.afficherErreur("Données introuvables", e.getMessageUtilisateur());
+            return false;
+        } catch (Exception e) {
+            MainApp.afficherErreur("Erreur d'inscription",
+                    "Impossible de placer le participant en liste d'attente : " + e.getMessage());
+            return false;
+        }
+    }
+}
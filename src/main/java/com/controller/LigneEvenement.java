@@ -0,0 +1,72 @@
+package com.controller;
+
+import com.model.Evenement;
+import com.util.FormatsDate;
+import javafx.beans.property.ReadOnlyStringProperty;
+import javafx.beans.property.ReadOnlyStringWrapper;
+
+/**
+ * Colonnes dérivées d'une ligne du tableau des événements
+ * Les propriétés sont créées une fois par ligne mise en cache et liées aux cellules :
+ * l'affichage et le défilement ne recalculent ni n'allouent rien, seule une modification
+ * de l'événement (actualiser) change leurs valeurs
+ */
+final class LigneEvenement {
+
+    private final ReadOnlyStringWrapper type = new ReadOnlyStringWrapper();
+    private final ReadOnlyStringWrapper date = new ReadOnlyStringWrapper();
+    private final ReadOnlyStringWrapper occupation = new ReadOnlyStringWrapper();
+    private final ReadOnlyStringWrapper observers = new ReadOnlyStringWrapper();
+    private final ReadOnlyStringWrapper statut = new ReadOnlyStringWrapper();
+
+    // Dernières valeurs sources : une chaîne n'est reformatée que si sa source a changé
+    private Object dateSource;
+    private int participantsSource = -1;
+    private int capaciteSource = -1;
+    private int observersSource = -1;
+
+    LigneEvenement(Evenement evenement) {
+        actualiser(evenement);
+    }
+
+    void actualiser(Evenement evenement) {
+        type.set(evenement.getClass().getSimpleName());
+        if (!evenement.getDate().equals(dateSource)) {
+            dateSource = evenement.getDate();
+            date.set(evenement.getDate().format(FormatsDate.DATE_HEURE));
+        }
+        int participants = evenement.getNombreParticipants();
+        int capacite = evenement.getCapaciteMax();
+        if (participants != participantsSource || capacite != capaciteSource) {
+            participantsSource = participants;
+            capaciteSource = capacite;
+            occupation.set(participants + "/" + capacite);
+        }
+        int nombreObservers = evenement.getNombreObservers();
+        if (nombreObservers != observersSource) {
+            observersSource = nombreObservers;
+            observers.set(String.valueOf(nombreObservers));
+        }
+        statut.set(evenement.isAnnule() ? "ANNULÉ" : "ACTIF");
+    }
+
+    ReadOnlyStringProperty typeProperty() {
+        return type.getReadOnlyProperty();
+    }
+
+    ReadOnlyStringProperty dateProperty() {
+        return date.getReadOnlyProperty();
+    }
+
+    ReadOnlyStringProperty occupationProperty() {
+        return occupation.getReadOnlyProperty();
+    }
+
+    ReadOnlyStringProperty observersProperty() {
+        return observers.getReadOnlyProperty();
+    }
+
+    ReadOnlyStringProperty statutProperty() {
+        return statut.getReadOnlyProperty();
+    }
+}
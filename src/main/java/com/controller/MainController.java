@@ -1,24 +1,36 @@
 package com.controller;
 
 import com.util.SerializationUtil;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
 import javafx.scene.control.*;
 import javafx.scene.control.cell.PropertyValueFactory;
+import javafx.scene.layout.VBox;
 import javafx.collections.FXCollections;
-import javafx.collections.transformation.FilteredList;
 import javafx.stage.FileChooser;
 import com.model.*;
 import com.service.GestionEvenements;
+import com.service.ImportEvenements;
+import com.observer.HistogrammeLatence;
+import com.observer.MetriquesDiffusion;
+import com.metrics.Compteur;
+import com.metrics.EchantillonneurMetriques;
+import com.metrics.RegistreMetriques;
 import com.application.MainApp;
 import com.exception.*;
+import com.util.FormatsDate;
+import com.util.PrechargementSauvegarde;
+import com.controller.PlanificateurRafraichissement.Zone;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.ResourceBundle;
 import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.io.File;
 import java.io.PrintStream;
 import java.io.ByteArrayOutputStream;
@@ -66,8 +78,13 @@ public class MainController implements Initializable {
     @FXML private Label lblTauxOccupation;
     @FXML private Label lblNbObservers;
     @FXML private Label lblNbNotifications;
+    @FXML private Label lblLatenceDiffusion;
+    @FXML private Label lblEchecsDiffusion;
+    @FXML private Label lblObserversLents;
     @FXML private Label lblNbConferences;
     @FXML private Label lblNbConcerts;
+    @FXML private Tab tabStatistiques;
+    @FXML private VBox conteneurTableauDeBord;
 
     // ============ FXML CONTROLS - BARRE DE STATUT ============
     @FXML private Label lblStatut;
@@ -77,24 +94,49 @@ public class MainController implements Initializable {
 
     // ============ PROPRIÉTÉS ============
     private GestionEvenements gestionEvenements;
-    private FilteredList<Evenement> evenementsFiltres;
-    private FilteredList<Participant> participantsFiltres;
-    private int nombreNotifications = 0;
+    // Sources paginées des tableaux : seules les lignes visibles sont lues, les lignes modifiées mises à jour une à une
+    private SourceDonneesPaginee<Evenement, LigneEvenement> sourceEvenements;
+    private SourceDonneesPaginee<Participant, String> sourceParticipants;
+    private RechercheDifferee<Evenement> rechercheEvenements;
+    private RechercheDifferee<Participant> rechercheParticipants;
+    // Listes d'inscription, statistiques, barre de statut et journal : recalculés au plus une fois par impulsion
+    private final PlanificateurRafraichissement rafraichissement = new PlanificateurRafraichissement();
+    // Notifications capturées pas encore ajoutées au journal (écrites depuis n'importe quel thread)
+    private final Queue<String> journalEnAttente = new ConcurrentLinkedQueue<>();
+    // Compteur global (exporté) ; l'interface affiche l'écart depuis le dernier effacement des logs
+    private final Compteur notificationsAffichees = RegistreMetriques.getInstance()
+            .compteur("notifications_affichees_total", "Notifications affichées dans le journal de l'interface");
+    private long notificationsAuDernierEffacement = notificationsAffichees.getValeur();
+    // Séries temporelles du tableau de bord, échantillonnées une fois par seconde en arrière-plan
+    private final EchantillonneurMetriques echantillonneur = new EchantillonneurMetriques();
+    // Lu par le thread de l'échantillonneur
+    private volatile boolean statistiquesAffichees;
 
     // ============ INITIALISATION ============
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         gestionEvenements = MainApp.getGestionEvenements();
+        // Les listes observables (liste déroulante des inscriptions) ne changent que sur le thread JavaFX,
+        // même quand l'écriture vient d'un thread d'arrière-plan (import, chargement)
+        gestionEvenements.setPublicationListes(tache -> {
+            if (javafx.application.Platform.isFxApplicationThread()) {
+                tache.run();
+            } else {
+                javafx.application.Platform.runLater(tache);
+            }
+        });
 
         // Initialiser les tableaux
         initialiserTableEvenements();
         initialiserTableParticipants();
         initialiserInscriptions();
         initialiserLogs();
+        initialiserEchantillonnage();
 
         // Configurer les listeners
         configurerListeners();
+        configurerRafraichissement();
 
         // Actualiser l'affichage
         actualiserInterface();
@@ -105,31 +147,77 @@ public class MainController implements Initializable {
         mettreAJourStatut("Interface JavaFX initialisée avec Pattern Observer");
     }
 
+    // Séries échantillonnées dès le démarrage (compteurs seulement) ; le tableau de bord (TilesFX) n'est créé qu'à l'ouverture de l'onglet
+    private void initialiserEchantillonnage() {
+        RegistreMetriques registre = RegistreMetriques.getInstance();
+        // Mêmes métriques que celles alimentées par le service et la sauvegarde (enregistrées par nom)
+        Compteur inscriptions = registre.compteur("inscriptions_total", "Inscriptions à un événement");
+        HistogrammeLatence sauvegardes = registre
+                .chronometre("sauvegarde_duree_secondes", "Durée d'une sauvegarde complète").getHistogramme();
+        MetriquesDiffusion diffusion = MetriquesDiffusion.getInstance();
+
+        echantillonneur.taux("inscriptions_par_seconde", inscriptions::getValeur);
+        echantillonneur.taux("notifications_par_seconde", diffusion::getNombreAppels);
+        echantillonneur.moyenne("latence_sauvegarde_ms", sauvegardes);
+        // Parcours de toutes les partitions : seulement pendant que l'onglet des statistiques est affiché
+        statistiquesAffichees = tabStatistiques.isSelected();
+        tabStatistiques.selectedProperty().addListener((obs, avant, affiche) -> statistiquesAffichees = affiche);
+        echantillonneur.groupe("occupation", () -> gestionEvenements.getStatistiques().tauxOccupationParType(),
+                () -> statistiquesAffichees);
+        echantillonneur.demarrer();
+    }
+
+    private void initialiserTableauDeBord() {
+        TableauDeBord tableauDeBord = new TableauDeBord(echantillonneur);
+        tableauDeBord.ajouterTuile("inscriptions_par_seconde", "Inscriptions", "/s");
+        tableauDeBord.ajouterTuile("notifications_par_seconde", "Notifications", "/s");
+        tableauDeBord.ajouterTuile("latence_sauvegarde_ms", "Latence de sauvegarde", "ms");
+        tableauDeBord.ajouterGroupe("occupation", "Occupation", "%");
+        conteneurTableauDeBord.getChildren().add(tableauDeBord.getVue());
+
+        // Les tuiles ne sont mises à jour que lorsque l'onglet est affiché
+        tabStatistiques.selectedProperty().addListener((obs, avant, affiche) -> tableauDeBord.setAffiche(affiche));
+        tableauDeBord.setAffiche(true);
+    }
+
+    /**
+     * Initialisation différée d'un onglet non visible au démarrage, à sa première sélection
+     */
+    private void initialiserALaPremiereSelection(Tab onglet, Runnable initialisation) {
+        if (onglet.isSelected()) {
+            initialisation.run();
+            return;
+        }
+        onglet.selectedProperty().addListener(new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Boolean> obs, Boolean avant, Boolean selectionne) {
+                if (selectionne) {
+                    onglet.selectedProperty().removeListener(this);
+                    initialisation.run();
+                }
+            }
+        });
+    }
+
     private void initialiserTableEvenements() {
         // Configuration des colonnes
         colEvenementId.setCellValueFactory(cellData -> cellData.getValue().idProperty());
         colEvenementNom.setCellValueFactory(cellData -> cellData.getValue().nomProperty());
-        colEvenementType.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(cellData.getValue().getClass().getSimpleName()));
-        colEvenementDate.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(
-                        cellData.getValue().getDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm"))));
+        colEvenementType.setCellValueFactory(cellData -> ligne(cellData.getValue()).typeProperty());
+        colEvenementDate.setCellValueFactory(cellData -> ligne(cellData.getValue()).dateProperty());
         colEvenementLieu.setCellValueFactory(cellData -> cellData.getValue().lieuProperty());
         colEvenementCapacite.setCellValueFactory(cellData ->
                 cellData.getValue().capaciteMaxProperty().asString());
-        colEvenementParticipants.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(
-                        cellData.getValue().getNombreParticipants() + "/" + cellData.getValue().getCapaciteMax()));
-        colEvenementObservers.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(
-                        String.valueOf(cellData.getValue().getObservers().size())));
-        colEvenementStatut.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(
-                        cellData.getValue().isAnnule() ? "ANNULÉ" : "ACTIF"));
+        colEvenementParticipants.setCellValueFactory(cellData -> ligne(cellData.getValue()).occupationProperty());
+        colEvenementObservers.setCellValueFactory(cellData -> ligne(cellData.getValue()).observersProperty());
+        colEvenementStatut.setCellValueFactory(cellData -> ligne(cellData.getValue()).statutProperty());
 
-        // Binding avec les données
-        evenementsFiltres = new FilteredList<>(gestionEvenements.getObservableEvenements());
-        tableEvenements.setItems(evenementsFiltres);
+        // Binding avec les données : inscriptions et modifications ne mettent à jour que la ligne concernée
+        sourceEvenements = new SourceDonneesPaginee<>(gestionEvenements.getEvenementsMap(),
+                Evenement::getId, LigneEvenement::new, LigneEvenement::actualiser);
+        gestionEvenements.ajouterEcouteurModification(sourceEvenements::signalerModification);
+        gestionEvenements.ajouterEcouteurAjoutsEnMasse(sourceEvenements::signalerAjouts);
+        tableEvenements.setItems(sourceEvenements);
 
         // Double-clic pour voir les détails
         tableEvenements.setRowFactory(tv -> {
@@ -149,11 +237,16 @@ public class MainController implements Initializable {
         colParticipantNom.setCellValueFactory(cellData -> cellData.getValue().nomProperty());
         colParticipantEmail.setCellValueFactory(cellData -> cellData.getValue().emailProperty());
         colParticipantType.setCellValueFactory(cellData ->
-                new javafx.beans.property.SimpleStringProperty(cellData.getValue().getClass().getSimpleName()));
+                new javafx.beans.property.SimpleStringProperty(sourceParticipants.getLigne(cellData.getValue())));
 
         // Binding avec les données
-        participantsFiltres = new FilteredList<>(gestionEvenements.getObservableParticipants());
-        tableParticipants.setItems(participantsFiltres);
+        sourceParticipants = new SourceDonneesPaginee<>(gestionEvenements.getParticipantsMap(),
+                Participant::getId, participant -> participant.getClass().getSimpleName());
+        tableParticipants.setItems(sourceParticipants);
+    }
+
+    private LigneEvenement ligne(Evenement evenement) {
+        return sourceEvenements.getLigne(evenement);
     }
 
     private void initialiserInscriptions() {
@@ -189,15 +282,34 @@ public class MainController implements Initializable {
     }
 
     private void configurerListeners() {
-        // Recherche d'événements
-        txtRechercheEvenements.textProperty().addListener((observable, oldValue, newValue) -> {
-            rechercherEvenements();
-        });
+        // Recherches : évaluées hors du thread JavaFX sur les index du service, après une pause de frappe
+        rechercheEvenements = RechercheDifferee.configurer(txtRechercheEvenements,
+                gestionEvenements.getIndexEvenements(), sourceEvenements, Evenement::getId);
+        rechercheParticipants = RechercheDifferee.configurer(txtRechercheParticipants,
+                gestionEvenements.getIndexParticipants(), sourceParticipants, Participant::getId);
+    }
 
-        // Recherche de participants
-        txtRechercheParticipants.textProperty().addListener((observable, oldValue, newValue) -> {
-            rechercherParticipants();
+    private void configurerRafraichissement() {
+        rafraichissement.enregistrer(Zone.JOURNAL, this::viderJournalEnAttente);
+        rafraichissement.enregistrer(Zone.INSCRIPTIONS, () -> {
+            Evenement evenementSelectionne = comboEvenementsInscription.getValue();
+            if (evenementSelectionne != null) {
+                actualiserListesInscription(evenementSelectionne);
+            }
+        });
+        // Statistiques (un parcours des partitions) recalculées seulement onglet affiché, et à son affichage
+        rafraichissement.enregistrer(Zone.STATISTIQUES, () -> {
+            if (tabStatistiques.isSelected()) {
+                calculerStatistiques();
+            }
+        });
+        tabStatistiques.selectedProperty().addListener((obs, avant, affiche) -> {
+            if (affiche) {
+                rafraichissement.marquer(Zone.STATISTIQUES);
+            }
         });
+        initialiserALaPremiereSelection(tabStatistiques, this::initialiserTableauDeBord);
+        rafraichissement.enregistrer(Zone.BARRE_STATUT, this::mettreAJourBarreStatut);
     }
 
     private void configurerRedirectionLogs() {
@@ -208,12 +320,9 @@ public class MainController implements Initializable {
             public void write(byte[] b, int off, int len) {
                 String text = new String(b, off, len);
                 if (text.contains("[OBSERVER]") || text.contains("🔔") || text.contains("❌")) {
-                    javafx.application.Platform.runLater(() -> {
-                        textAreaLogs.appendText(text);
-                        textAreaLogs.positionCaret(textAreaLogs.getLength());
-                        nombreNotifications++;
-                        actualiserStatistiques();
-                    });
+                    journalEnAttente.add(text);
+                    notificationsAffichees.incrementer();
+                    rafraichissement.marquer(Zone.JOURNAL, Zone.STATISTIQUES);
                 }
                 // Aussi écrire vers la console originale
                 originalOut.write(b, off, len);
@@ -222,6 +331,19 @@ public class MainController implements Initializable {
         System.setOut(customOut);
     }
 
+    // Un seul ajout au journal pour toutes les notifications capturées depuis la dernière impulsion
+    private void viderJournalEnAttente() {
+        StringBuilder texte = new StringBuilder();
+        String ligne;
+        while ((ligne = journalEnAttente.poll()) != null) {
+            texte.append(ligne);
+        }
+        if (!texte.isEmpty()) {
+            textAreaLogs.appendText(texte.toString());
+            textAreaLogs.positionCaret(textAreaLogs.getLength());
+        }
+    }
+
     // ============ ACTIONS ÉVÉNEMENTS ============
 
     @FXML
@@ -337,40 +459,10 @@ public class MainController implements Initializable {
 
     // ============ AUTRES MÉTHODES ============
 
-    @FXML
-    private void rechercherEvenements() {
-        String recherche = txtRechercheEvenements.getText().toLowerCase();
-        evenementsFiltres.setPredicate(evenement -> {
-            if (recherche == null || recherche.isEmpty()) {
-                return true;
-            }
-            return evenement.getNom().toLowerCase().contains(recherche) ||
-                    evenement.getLieu().toLowerCase().contains(recherche) ||
-                    evenement.getClass().getSimpleName().toLowerCase().contains(recherche);
-        });
-    }
-
-    @FXML
-    private void rechercherParticipants() {
-        String recherche = txtRechercheParticipants.getText().toLowerCase();
-        participantsFiltres.setPredicate(participant -> {
-            if (recherche == null || recherche.isEmpty()) {
-                return true;
-            }
-            return participant.getNom().toLowerCase().contains(recherche) ||
-                    participant.getEmail().toLowerCase().contains(recherche);
-        });
-    }
-
     private void actualiserInterface() {
-        // Actualiser tous les éléments de l'interface
-        javafx.application.Platform.runLater(() -> {
-            tableEvenements.refresh();
-            tableParticipants.refresh();
-            actualiserInscriptions();
-            actualiserStatistiques();
-            mettreAJourBarreStatut();
-        });
+        // Les tableaux se mettent à jour seuls (SourceDonneesPaginee) : seuls les listes et compteurs sont recalculés,
+        // une fois pour toutes les actions de la même impulsion (appelable depuis n'importe quel thread)
+        rafraichissement.marquer(Zone.INSCRIPTIONS, Zone.STATISTIQUES, Zone.BARRE_STATUT);
     }
 
     private void mettreAJourBarreStatut() {
@@ -388,8 +480,8 @@ public class MainController implements Initializable {
     }
 
     // Autres méthodes FXML (simplifiées pour l'exemple)
-    @FXML private void effacerRechercheEvenements() { txtRechercheEvenements.clear(); }
-    @FXML private void effacerRechercheParticipants() { txtRechercheParticipants.clear(); }
+    @FXML private void effacerRechercheEvenements() { txtRechercheEvenements.clear(); rechercheEvenements.actualiser(); }
+    @FXML private void effacerRechercheParticipants() { txtRechercheParticipants.clear(); rechercheParticipants.actualiser(); }
 
 
     private void afficherDetailsEvenement(Evenement evenement) {
@@ -399,11 +491,11 @@ public class MainController implements Initializable {
         details.setContentText(String.format(
                 "Type: %s\nDate: %s\nLieu: %s\nCapacité: %d\nParticipants: %d\nObservers: %d\nStatut: %s",
                 evenement.getClass().getSimpleName(),
-                evenement.getDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
+                evenement.getDate().format(FormatsDate.DATE_HEURE),
                 evenement.getLieu(),
                 evenement.getCapaciteMax(),
                 evenement.getNombreParticipants(),
-                evenement.getObservers().size(),
+                evenement.getNombreObservers(),
                 evenement.isAnnule() ? "ANNULÉ" : "ACTIF"
         ));
         details.showAndWait();
@@ -577,7 +669,7 @@ public class MainController implements Initializable {
                 new FileChooser.ExtensionFilter("Tous les fichiers", "*.*")
         );
         fileChooser.setInitialFileName("evenements_" +
-                java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")) +
+                java.time.LocalDateTime.now().format(FormatsDate.motif("yyyyMMdd_HHmm")) +
                 ".json");
 
         File file = fileChooser.showSaveDialog(MainApp.getPrimaryStage());
@@ -589,6 +681,7 @@ public class MainController implements Initializable {
                         gestionEvenements.getObservableParticipants(),
                         file
                 );
+                PrechargementSauvegarde.getInstance().memoriser(file);
 
                 textAreaLogs.appendText(String.format(
                         "💾 SAUVEGARDE: %d événements et %d participants sauvegardés dans %s\n",
@@ -618,6 +711,14 @@ public class MainController implements Initializable {
                 new FileChooser.ExtensionFilter("Tous les fichiers", "*.*")
         );
 
+        // Proposer la dernière sauvegarde, déjà relue en arrière-plan au démarrage
+        PrechargementSauvegarde prechargement = PrechargementSauvegarde.getInstance();
+        File derniere = prechargement.getDerniereSauvegarde();
+        if (derniere != null && derniere.isFile()) {
+            fileChooser.setInitialDirectory(derniere.getParentFile());
+            fileChooser.setInitialFileName(derniere.getName());
+        }
+
         File file = fileChooser.showOpenDialog(MainApp.getPrimaryStage());
         if (file != null) {
             Alert confirmation = new Alert(Alert.AlertType.CONFIRMATION);
@@ -630,7 +731,8 @@ public class MainController implements Initializable {
                 if (response == ButtonType.OK) {
                     try {
                         // Charger les données
-                        var donnees = SerializationUtil.chargerDonnees(file);
+                        var donnees = prechargement.charger(file);
+                        prechargement.memoriser(file);
 
                         // Vider les données actuelles
                         gestionEvenements.viderTout();
@@ -668,6 +770,45 @@ public class MainController implements Initializable {
         }
     }
 
+    @FXML
+    private void importerEvenements() {
+        FileChooser fileChooser = new FileChooser();
+        fileChooser.setTitle("Importer des événements");
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("CSV ou JSON lignes", "*.csv", "*.jsonl", "*.ndjson"),
+                new FileChooser.ExtensionFilter("Tous les fichiers", "*.*")
+        );
+
+        File file = fileChooser.showOpenDialog(MainApp.getPrimaryStage());
+        if (file != null) {
+            mettreAJourStatut("Import en cours: " + file.getName());
+
+            // L'import s'exécute hors du thread JavaFX
+            new Thread(() -> {
+                try {
+                    ImportEvenements.RapportImport rapport = new ImportEvenements().importer(file);
+
+                    javafx.application.Platform.runLater(() -> {
+                        textAreaLogs.appendText("📥 IMPORT: " + rapport + "\n");
+                        rapport.getLignesRejetees().stream().limit(20).forEach(rejet ->
+                                textAreaLogs.appendText("   ⚠️ " + rejet + "\n"));
+
+                        actualiserInterface();
+                        MainApp.afficherInfo("Import terminé", String.format(
+                                "Événements importés: %d\nLignes rejetées: %d\nDébit: %.0f lignes/s",
+                                rapport.getEvenementsImportes(),
+                                rapport.getLignesRejetees().size(),
+                                rapport.getDebitParSeconde()));
+                        mettreAJourStatut("Import terminé: " + file.getName());
+                    });
+                } catch (SerializationException e) {
+                    javafx.application.Platform.runLater(() ->
+                            MainApp.afficherErreur("Erreur d'import", e.getMessageUtilisateur()));
+                }
+            }, "import-ui").start();
+        }
+    }
+
     // ============ DÉMONSTRATIONS ET TESTS ============
 
     @FXML
@@ -780,7 +921,7 @@ public class MainController implements Initializable {
             gestionEvenements.inscrireParticipant("DEMO_ALICE", "DEMO_CONCERT"); // Alice dans les 2
             Thread.sleep(500);
 
-            javafx.application.Platform.runLater(() -> actualiserInterface());
+            actualiserInterface();
 
         } catch (Exception e) {
             textAreaLogs.appendText("❌ Erreur inscription: " + e.getMessage() + "\n");
@@ -790,17 +931,20 @@ public class MainController implements Initializable {
         textAreaLogs.appendText("\n🔄 ÉTAPE 4: Modifications déclenchant les notifications Observer\n");
         textAreaLogs.appendText("Modification 1: Changement de lieu de la conférence\n");
         demoConf.setLieu("Nouveau Centre de Conférences Demo");
+        gestionEvenements.signalerModification(demoConf.getId());
         Thread.sleep(1000);
 
         textAreaLogs.appendText("Modification 2: Changement de date du concert\n");
         demoConcert.setDate(LocalDateTime.now().plusDays(10));
+        gestionEvenements.signalerModification(demoConcert.getId());
         Thread.sleep(1000);
 
         textAreaLogs.appendText("Modification 3: Changement de capacité de la conférence\n");
         demoConf.setCapaciteMax(25);
+        gestionEvenements.signalerModification(demoConf.getId());
         Thread.sleep(1000);
 
-        javafx.application.Platform.runLater(() -> actualiserInterface());
+        actualiserInterface();
 
         // Étape 5: Annulation (= notification à tous les observers)
         textAreaLogs.appendText("\n❌ ÉTAPE 5: Annulation d'événement (notification à tous les observers)\n");
@@ -811,7 +955,7 @@ public class MainController implements Initializable {
             gestionEvenements.supprimerEvenement("DEMO_CONF");
             Thread.sleep(1500);
 
-            javafx.application.Platform.runLater(() -> actualiserInterface());
+            actualiserInterface();
 
         } catch (Exception e) {
             textAreaLogs.appendText("❌ Erreur annulation: " + e.getMessage() + "\n");
@@ -876,29 +1020,45 @@ public class MainController implements Initializable {
 
     @FXML
     private void actualiserStatistiques() {
-        int nbEvenements = gestionEvenements.getObservableEvenements().size();
+        calculerStatistiques();
+        mettreAJourStatut("Statistiques actualisées");
+    }
+
+    private void calculerStatistiques() {
+        // Un seul parcours des partitions pour tous les compteurs
+        var statistiques = gestionEvenements.getStatistiques();
+        int nbEvenements = statistiques.evenements();
         int nbParticipants = gestionEvenements.getObservableParticipants().size();
-        int nbInscriptions = gestionEvenements.getTotalParticipants();
-        int nbObservers = gestionEvenements.getTotalObservers();
+        long nbInscriptions = statistiques.inscriptions();
+        long nbObservers = statistiques.observers();
 
         lblNbEvenements.setText("Événements: " + nbEvenements);
         lblNbParticipants.setText("Participants: " + nbParticipants);
         lblNbInscriptions.setText("Inscriptions totales: " + nbInscriptions);
         lblNbObservers.setText("Observers actifs: " + nbObservers);
-        lblNbNotifications.setText("Notifications envoyées: " + nombreNotifications);
+        lblNbNotifications.setText("Notifications envoyées: " + getNombreNotifications());
 
-        var stats = gestionEvenements.getStatistiquesParType();
+        MetriquesDiffusion metriques = MetriquesDiffusion.getInstance();
+        HistogrammeLatence latence = metriques.getLatenceObservers();
+        lblLatenceDiffusion.setText(String.format("Latence observers: p50 %d µs, p99 %d µs, max %d µs",
+                latence.getCentileNanos(50) / 1000, latence.getCentileNanos(99) / 1000, latence.getMaxNanos() / 1000));
+        lblEchecsDiffusion.setText("Échecs de notification: " + metriques.getNombreEchecs());
+        lblObserversLents.setText(String.format("Observers lents (> %d ms): %d",
+                metriques.getSeuilLenteurMs(), metriques.getObserversLents(Integer.MAX_VALUE).size()));
+
+        var stats = statistiques.parType();
         lblNbConferences.setText("Conférences: " + stats.getOrDefault("Conference", 0L));
         lblNbConcerts.setText("Concerts: " + stats.getOrDefault("Concert", 0L));
 
-        var tauxMoyen = gestionEvenements.getTauxOccupationMoyen();
-        if (tauxMoyen.isPresent()) {
-            lblTauxOccupation.setText(String.format("Taux d'occupation: %.1f%%", tauxMoyen.getAsDouble()));
+        if (nbEvenements > 0) {
+            lblTauxOccupation.setText(String.format("Taux d'occupation: %.1f%%", statistiques.tauxOccupationMoyen()));
         } else {
             lblTauxOccupation.setText("Taux d'occupation: N/A");
         }
+    }
 
-        mettreAJourStatut("Statistiques actualisées");
+    private long getNombreNotifications() {
+        return notificationsAffichees.getValeur() - notificationsAuDernierEffacement;
     }
 
     // ============ MÉTHODES UTILITAIRES SUPPLÉMENTAIRES ============
@@ -908,10 +1068,11 @@ public class MainController implements Initializable {
      */
     @FXML
     private void effacerLogs() {
+        journalEnAttente.clear();
         textAreaLogs.clear();
-        nombreNotifications = 0;
+        notificationsAuDernierEffacement = notificationsAffichees.getValeur();
         initialiserLogs();
-        actualiserStatistiques();
+        calculerStatistiques();
         mettreAJourStatut("Logs effacés et compteurs remis à zéro");
     }
 
@@ -925,7 +1086,7 @@ public class MainController implements Initializable {
                 new FileChooser.ExtensionFilter("Fichiers texte", "*.txt")
         );
         fileChooser.setInitialFileName("statistiques_" +
-                java.time.LocalDateTime.now().format(java.time.format.DateTimeFormatter.ofPattern("yyyyMMdd_HHmm")) +
+                java.time.LocalDateTime.now().format(FormatsDate.motif("yyyyMMdd_HHmm")) +
                 ".txt");
 
         File file = fileChooser.showSaveDialog(MainApp.getPrimaryStage());
@@ -944,7 +1105,7 @@ public class MainController implements Initializable {
         rapport.append("=".repeat(50)).append("\n");
         rapport.append("RAPPORT STATISTIQUES - SYSTÈME DE GESTION D'ÉVÉNEMENTS\n");
         rapport.append("Généré le: ").append(java.time.LocalDateTime.now().format(
-                java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss")
+                FormatsDate.DATE_HEURE_SECONDES
         )).append("\n");
         rapport.append("=".repeat(50)).append("\n\n");
 
@@ -953,7 +1114,9 @@ public class MainController implements Initializable {
         rapport.append("- Nombre de participants: ").append(gestionEvenements.getObservableParticipants().size()).append("\n");
         rapport.append("- Total des inscriptions: ").append(gestionEvenements.getTotalParticipants()).append("\n");
         rapport.append("- Observers actifs: ").append(gestionEvenements.getTotalObservers()).append("\n");
-        rapport.append("- Notifications envoyées: ").append(nombreNotifications).append("\n\n");
+        rapport.append("- Notifications envoyées: ").append(getNombreNotifications()).append("\n\n");
+
+        rapport.append(MetriquesDiffusion.getInstance().genererRapport()).append("\n");
 
         var stats = gestionEvenements.getStatistiquesParType();
         rapport.append("RÉPARTITION PAR TYPE:\n");
@@ -965,7 +1128,7 @@ public class MainController implements Initializable {
             rapport.append(String.format("- %s (%s): %d/%d participants, %d observers\n",
                     evenement.getNom(), evenement.getClass().getSimpleName(),
                     evenement.getNombreParticipants(), evenement.getCapaciteMax(),
-                    evenement.getObservers().size()));
+                    evenement.getNombreObservers()));
         }
 
         return rapport.toString();
@@ -0,0 +1,82 @@
+package com.controller;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Regroupe les rafraîchissements de l'interface : les zones marquées « à rafraîchir » (depuis
+ * n'importe quel thread) sont recalculées au plus une fois par impulsion d'animation JavaFX,
+ * quel que soit le nombre de marquages reçus entre deux impulsions
+ * Le timer ne tourne que lorsqu'une zone est en attente : aucun coût au repos
+ */
+public class PlanificateurRafraichissement {
+
+    /**
+     * Zones rafraîchies, dans l'ordre de leur recalcul
+     */
+    public enum Zone {
+        JOURNAL,
+        INSCRIPTIONS,
+        STATISTIQUES,
+        BARRE_STATUT
+    }
+
+    private final Map<Zone, Runnable> rafraichissements = new EnumMap<>(Zone.class);
+    // Un bit par zone en attente
+    private final AtomicInteger zonesEnAttente = new AtomicInteger();
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long maintenant) {
+            vider();
+        }
+    };
+
+    /**
+     * Associe à une zone son rafraîchissement (exécuté sur le thread JavaFX)
+     */
+    public void enregistrer(Zone zone, Runnable rafraichissement) {
+        rafraichissements.put(zone, rafraichissement);
+    }
+
+    /**
+     * Marque des zones à rafraîchir à la prochaine impulsion (tout thread)
+     */
+    public void marquer(Zone... zones) {
+        int bits = 0;
+        for (Zone zone : zones) {
+            bits |= 1 << zone.ordinal();
+        }
+        int masque = bits;
+        int avant = zonesEnAttente.getAndUpdate(enAttente -> enAttente | masque);
+        if (avant == 0) {
+            // Première zone en attente depuis la dernière impulsion : le timer est réveillé
+            if (Platform.isFxApplicationThread()) {
+                timer.start();
+            } else {
+                Platform.runLater(timer::start);
+            }
+        }
+    }
+
+    private void vider() {
+        timer.stop();
+        int zones = zonesEnAttente.getAndSet(0);
+        for (Zone zone : Zone.values()) {
+            Runnable rafraichissement = rafraichissements.get(zone);
+            if ((zones & (1 << zone.ordinal())) != 0 && rafraichissement != null) {
+                rafraichissement.run();
+            }
+        }
+    }
+
+    /**
+     * Arrête le timer ; les zones en attente ne sont pas rafraîchies
+     */
+    public void arreter() {
+        zonesEnAttente.set(0);
+        timer.stop();
+    }
+}
@@ -0,0 +1,96 @@
+package com.controller;
+
+import com.service.IndexRecherche;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.control.TextInputControl;
+import javafx.util.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Champ de recherche filtrant un tableau adossé à une SourceDonneesPaginee
+ * - la saisie est regroupée : une recherche après une courte pause de frappe
+ * - la requête est évaluée hors du thread JavaFX sur l'IndexRecherche du service ;
+ *   une nouvelle frappe annule la recherche précédente
+ * - le résultat est publié dans le tableau en un seul changement de liste
+ */
+public class RechercheDifferee<T> {
+
+    private static final Duration DELAI_SAISIE = Duration.millis(200);
+
+    private final TextInputControl champ;
+    private final IndexRecherche<T> index;
+    private final SourceDonneesPaginee<T, ?> source;
+    private final Function<T, String> cle;
+    private final PauseTransition pause = new PauseTransition(DELAI_SAISIE);
+
+    private CompletableFuture<List<T>> rechercheEnCours;
+    // Numéro de la dernière recherche lancée : les réponses plus anciennes sont ignorées
+    private long derniereRecherche;
+
+    private RechercheDifferee(TextInputControl champ, IndexRecherche<T> index,
+                              SourceDonneesPaginee<T, ?> source, Function<T, String> cle) {
+        this.champ = champ;
+        this.index = index;
+        this.source = source;
+        this.cle = cle;
+    }
+
+    /**
+     * @param cle clé d'un élément dans la source (identique à celle de l'index)
+     */
+    public static <T> RechercheDifferee<T> configurer(TextInputControl champ, IndexRecherche<T> index,
+                                                      SourceDonneesPaginee<T, ?> source, Function<T, String> cle) {
+        RechercheDifferee<T> recherche = new RechercheDifferee<>(champ, index, source, cle);
+        recherche.pause.setOnFinished(e -> recherche.rechercher(champ.getText()));
+        champ.textProperty().addListener((obs, ancien, texte) -> recherche.pause.playFromStart());
+        return recherche;
+    }
+
+    private void rechercher(String texte) {
+        if (rechercheEnCours != null) {
+            rechercheEnCours.cancel(false);
+        }
+        long numero = ++derniereRecherche;
+        Predicate<T> filtre = index.correspondance(texte);
+        source.demarrerRecherche();
+        rechercheEnCours = index.rechercherAsync(texte, Integer.MAX_VALUE, element -> true);
+        // Clés et ensemble de la sélection préparés sur le thread de la recherche
+        rechercheEnCours
+                .thenApply(resultats -> {
+                    List<String> cles = new ArrayList<>(resultats.size());
+                    for (T element : resultats) {
+                        cles.add(cle.apply(element));
+                    }
+                    return SourceDonneesPaginee.Selection.de(cles);
+                })
+                .thenAccept(selection -> Platform.runLater(() -> {
+                    if (numero == derniereRecherche) {
+                        source.publier(filtre, selection);
+                    }
+                }));
+    }
+
+    /**
+     * Relance immédiatement la recherche courante (sans attendre la pause de frappe)
+     */
+    public void actualiser() {
+        pause.stop();
+        rechercher(champ.getText());
+    }
+
+    /**
+     * Annule la recherche en cours
+     */
+    public void arreter() {
+        pause.stop();
+        if (rechercheEnCours != null) {
+            rechercheEnCours.cancel(false);
+        }
+        derniereRecherche++;
+    }
+}
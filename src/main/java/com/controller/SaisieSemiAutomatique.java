@@ -0,0 +1,116 @@
+package com.controller;
+
+import com.service.IndexRecherche;
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.scene.control.ComboBox;
+import javafx.util.Duration;
+import javafx.util.StringConverter;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Transforme une ComboBox en sélecteur à saisie semi-automatique adossé à un IndexRecherche
+ * - la saisie est regroupée (une recherche après une courte pause de frappe)
+ * - la recherche s'exécute hors du thread JavaFX ; une nouvelle frappe annule la précédente
+ * - la liste déroulante ne contient que les k meilleures suggestions, jamais toute la collection
+ */
+public class SaisieSemiAutomatique<T> {
+
+    private static final Duration DELAI_SAISIE = Duration.millis(150);
+
+    private final ComboBox<T> combo;
+    private final IndexRecherche<T> index;
+    private final Function<T, String> libelle;
+    private final Predicate<? super T> filtre;
+    private final int limite;
+    private final PauseTransition pause = new PauseTransition(DELAI_SAISIE);
+
+    private CompletableFuture<List<T>> rechercheEnCours;
+    // Numéro de la dernière recherche lancée : les réponses plus anciennes sont ignorées
+    private long derniereRecherche;
+
+    private SaisieSemiAutomatique(ComboBox<T> combo, IndexRecherche<T> index, Function<T, String> libelle,
+                                  Predicate<? super T> filtre, int limite) {
+        this.combo = combo;
+        this.index = index;
+        this.libelle = libelle;
+        this.filtre = filtre;
+        this.limite = limite;
+    }
+
+    /**
+     * @param libelle texte affiché dans le champ pour l'élément sélectionné
+     * @param filtre éléments proposables (appliqué aux seuls candidats de l'index)
+     * @param limite nombre maximal de suggestions
+     */
+    public static <T> SaisieSemiAutomatique<T> configurer(ComboBox<T> combo, IndexRecherche<T> index,
+                                                          Function<T, String> libelle, Predicate<? super T> filtre,
+                                                          int limite) {
+        SaisieSemiAutomatique<T> saisie = new SaisieSemiAutomatique<>(combo, index, libelle, filtre, limite);
+        saisie.installer();
+        return saisie;
+    }
+
+    private void installer() {
+        combo.setEditable(true);
+        combo.setConverter(new StringConverter<>() {
+            @Override
+            public String toString(T element) {
+                return element == null ? "" : libelle.apply(element);
+            }
+
+            @Override
+            public T fromString(String texte) {
+                // Seule une suggestion affichée peut être validée au clavier
+                return combo.getItems().stream()
+                        .filter(element -> libelle.apply(element).equals(texte))
+                        .findFirst()
+                        .orElse(null);
+            }
+        });
+
+        pause.setOnFinished(e -> rechercher(combo.getEditor().getText()));
+        combo.getEditor().textProperty().addListener((obs, ancien, texte) -> {
+            T valeur = combo.getValue();
+            if (valeur != null && libelle.apply(valeur).equals(texte)) {
+                // Texte issu d'une sélection : pas de nouvelle recherche
+                return;
+            }
+            pause.playFromStart();
+        });
+
+        // Premières suggestions disponibles dès l'ouverture
+        rechercher("");
+    }
+
+    private void rechercher(String texte) {
+        if (rechercheEnCours != null) {
+            rechercheEnCours.cancel(false);
+        }
+        long numero = ++derniereRecherche;
+        rechercheEnCours = index.rechercherAsync(texte, limite, filtre);
+        rechercheEnCours.thenAccept(resultats -> Platform.runLater(() -> {
+            if (numero != derniereRecherche) {
+                return;
+            }
+            combo.getItems().setAll(resultats);
+            if (combo.getEditor().isFocused() && !resultats.isEmpty()) {
+                combo.show();
+            }
+        }));
+    }
+
+    /**
+     * Annule la recherche en cours (fermeture du dialogue)
+     */
+    public void arreter() {
+        pause.stop();
+        if (rechercheEnCours != null) {
+            rechercheEnCours.cancel(false);
+        }
+        derniereRecherche++;
+    }
+}
@@ -0,0 +1,343 @@
+package com.controller;
+
+import javafx.application.Platform;
+import javafx.collections.MapChangeListener;
+import javafx.collections.ObservableListBase;
+import javafx.collections.ObservableMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Source de données d'un TableView adossée à une Map du service (clé = ID)
+ * - la liste ne contient que les clés : une ligne n'est lue dans la Map que lorsque le TableView
+ *   la demande, c'est-à-dire pour les seules lignes visibles
+ * - les colonnes dérivées lisent un résumé de ligne (L) calculé à la demande et mis en cache,
+ *   actualisé sur place (ou invalidé) quand la ligne est signalée modifiée
+ * - ajouts, retraits et modifications, reçus de n'importe quel thread, sont regroupés en un seul
+ *   changement de liste par impulsion JavaFX : seules les lignes concernées sont mises à jour,
+ *   jamais un refresh() complet
+ */
+public class SourceDonneesPaginee<T, L> extends ObservableListBase<T> {
+
+    // Au-delà, un lot de changements est appliqué par remplacement complet de la liste
+    private static final int SEUIL_REMPLACEMENT = 1024;
+    // Résumés de lignes conservés (les plus récemment affichés)
+    private static final int TAILLE_CACHE = 2048;
+
+    private final ObservableMap<String, T> source;
+    private final Function<T, String> cle;
+    private final Function<T, L> resume;
+    private final BiConsumer<L, T> actualisation;
+
+    // État du thread JavaFX
+    private List<String> cles = new ArrayList<>();
+    private Set<String> presentes = new HashSet<>();
+    private Predicate<? super T> filtre = element -> true;
+    // Clés touchées depuis le début de la recherche en cours (null = aucune recherche)
+    private Set<String> toucheesDepuisRecherche;
+    private final Map<String, L> cacheLignes = new LinkedHashMap<>(256, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, L> plusAncienne) {
+            return size() > TAILLE_CACHE;
+        }
+    };
+
+    // Clés ajoutées, retirées ou modifiées en attente d'application, alimentées depuis n'importe quel thread
+    private final Queue<String> enAttente = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean applicationPlanifiee = new AtomicBoolean();
+    // Éléments retirés de la Map dont le retrait n'est pas encore appliqué (encore affichés)
+    private final Map<String, T> retraitsEnAttente = new ConcurrentHashMap<>();
+    private final MapChangeListener<String, T> ecouteurSource = this::surChangementSource;
+
+    /**
+     * @param cle clé d'un élément dans la Map source
+     * @param resume calcul du résumé d'une ligne (colonnes dérivées)
+     */
+    public SourceDonneesPaginee(ObservableMap<String, T> source, Function<T, String> cle, Function<T, L> resume) {
+        this(source, cle, resume, null);
+    }
+
+    /**
+     * @param actualisation mise à jour sur place d'un résumé en cache quand son élément change
+     *                      (résumé à propriétés liées aux cellules) ; null = résumé recalculé
+     */
+    public SourceDonneesPaginee(ObservableMap<String, T> source, Function<T, String> cle, Function<T, L> resume,
+                                BiConsumer<L, T> actualisation) {
+        this.source = source;
+        this.cle = cle;
+        this.resume = resume;
+        this.actualisation = actualisation;
+        source.addListener(ecouteurSource);
+        recharger();
+    }
+
+    // ============ LECTURE (thread JavaFX) ============
+
+    @Override
+    public T get(int index) {
+        String cleLigne = cles.get(index);
+        T element = source.get(cleLigne);
+        return element != null ? element : retraitsEnAttente.get(cleLigne);
+    }
+
+    @Override
+    public int size() {
+        return cles.size();
+    }
+
+    /**
+     * Résumé de la ligne d'un élément, calculé au premier affichage puis conservé jusqu'à sa modification
+     */
+    public L getLigne(T element) {
+        // get puis put plutôt que computeIfAbsent : pas de lambda capturante allouée à chaque rendu
+        String cleLigne = cle.apply(element);
+        L ligne = cacheLignes.get(cleLigne);
+        if (ligne == null) {
+            ligne = resume.apply(element);
+            cacheLignes.put(cleLigne, ligne);
+        }
+        return ligne;
+    }
+
+    // ============ RECHERCHE ============
+
+    /**
+     * Résultat d'une recherche, préparé hors du thread JavaFX
+     */
+    public record Selection(List<String> cles, Set<String> ensemble) {
+        /**
+         * @param cles liste modifiable, reprise sans copie
+         */
+        public static Selection de(List<String> cles) {
+            return new Selection(cles, new HashSet<>(cles));
+        }
+    }
+
+    /**
+     * Début d'une recherche (thread JavaFX) : les clés touchées jusqu'à la publication de son résultat
+     * seront réévaluées, le résultat ayant été calculé sur un état antérieur
+     */
+    public void demarrerRecherche() {
+        toucheesDepuisRecherche = new HashSet<>();
+    }
+
+    /**
+     * Publie le résultat d'une recherche (thread JavaFX) en un seul changement de liste
+     * @param filtre critère de la recherche, appliqué ensuite aux éléments ajoutés ou modifiés
+     */
+    public void publier(Predicate<? super T> filtre, Selection selection) {
+        appliquerChangements();
+        this.filtre = filtre;
+        List<String> nouvelles = selection.cles();
+        Set<String> ensemble = selection.ensemble();
+
+        if (toucheesDepuisRecherche != null && !toucheesDepuisRecherche.isEmpty()) {
+            Set<String> exclues = new HashSet<>();
+            for (String cleTouchee : toucheesDepuisRecherche) {
+                T element = source.get(cleTouchee);
+                boolean retenue = element != null && filtre.test(element);
+                if (!retenue && ensemble.remove(cleTouchee)) {
+                    exclues.add(cleTouchee);
+                } else if (retenue && ensemble.add(cleTouchee)) {
+                    nouvelles.add(cleTouchee);
+                }
+            }
+            if (!exclues.isEmpty()) {
+                nouvelles.removeIf(exclues::contains);
+            }
+        }
+        toucheesDepuisRecherche = null;
+        remplacer(nouvelles, ensemble);
+    }
+
+    // ============ SIGNALEMENT DES CHANGEMENTS (tout thread) ============
+
+    /**
+     * Signale qu'un élément a changé sans que la Map ne le voie (inscriptions, édition...)
+     */
+    public void signalerModification(String cleModifiee) {
+        planifier(cleModifiee);
+    }
+
+    /**
+     * Signale un lot d'éléments insérés dans la Map sans passer par ses listeners (import en masse)
+     * Le lot entier est appliqué en un seul changement (remplacement complet au-delà du seuil)
+     */
+    public void signalerAjouts(Collection<String> clesAjoutees) {
+        enAttente.addAll(clesAjoutees);
+        if (applicationPlanifiee.compareAndSet(false, true)) {
+            Platform.runLater(this::appliquerChangements);
+        }
+    }
+
+    private void surChangementSource(MapChangeListener.Change<? extends String, ? extends T> change) {
+        if (!change.wasAdded()) {
+            retraitsEnAttente.put(change.getKey(), change.getValueRemoved());
+        }
+        planifier(change.getKey());
+    }
+
+    private void planifier(String cleTouchee) {
+        enAttente.add(cleTouchee);
+        if (applicationPlanifiee.compareAndSet(false, true)) {
+            Platform.runLater(this::appliquerChangements);
+        }
+    }
+
+    // ============ APPLICATION (thread JavaFX) ============
+
+    private void appliquerChangements() {
+        applicationPlanifiee.set(false);
+        // La Map fait foi pour l'état de chaque clé touchée ; l'ordre d'arrivée fixe l'ordre des ajouts
+        Set<String> touchees = new LinkedHashSet<>();
+        String cleTouchee;
+        while ((cleTouchee = enAttente.poll()) != null) {
+            touchees.add(cleTouchee);
+        }
+        if (touchees.isEmpty()) {
+            return;
+        }
+        if (toucheesDepuisRecherche != null) {
+            toucheesDepuisRecherche.addAll(touchees);
+        }
+        if (touchees.size() > SEUIL_REMPLACEMENT) {
+            remplacer(null, null);
+            return;
+        }
+        actualiserLignes(touchees);
+
+        // Lignes déjà affichées parmi les clés touchées : le parcours s'arrête à la dernière
+        int aTrouver = 0;
+        for (String touchee : touchees) {
+            if (presentes.contains(touchee)) {
+                aTrouver++;
+            }
+        }
+        List<String> anciennes = cles;
+        List<String> nouvelles = aTrouver == 0 ? anciennes : new ArrayList<>(anciennes.size() + touchees.size());
+        beginChange();
+        try {
+            // Retraits (et éléments qui ne satisfont plus le filtre) puis mises à jour, dans l'ordre des lignes
+            if (aTrouver > 0) {
+                int i = 0;
+                for (; i < anciennes.size() && aTrouver > 0; i++) {
+                    String cleLigne = anciennes.get(i);
+                    if (!touchees.contains(cleLigne)) {
+                        nouvelles.add(cleLigne);
+                        continue;
+                    }
+                    aTrouver--;
+                    T element = source.get(cleLigne);
+                    if (element == null || !filtre.test(element)) {
+                        presentes.remove(cleLigne);
+                        nextRemove(nouvelles.size(), element != null ? element : retraitsEnAttente.get(cleLigne));
+                        continue;
+                    }
+                    nextUpdate(nouvelles.size());
+                    nouvelles.add(cleLigne);
+                }
+                nouvelles.addAll(anciennes.subList(i, anciennes.size()));
+            }
+
+            // Ajouts (et éléments qui satisfont désormais le filtre), en fin de liste
+            int debut = nouvelles.size();
+            for (String cleAjoutee : touchees) {
+                T element = source.get(cleAjoutee);
+                if (element != null && !presentes.contains(cleAjoutee) && filtre.test(element)) {
+                    nouvelles.add(cleAjoutee);
+                    presentes.add(cleAjoutee);
+                }
+            }
+            cles = nouvelles;
+            if (nouvelles.size() > debut) {
+                nextAdd(debut, nouvelles.size());
+            }
+        } finally {
+            endChange();
+        }
+        oublierRetraitsAppliques();
+    }
+
+    private void actualiserLignes(Set<String> touchees) {
+        if (actualisation == null) {
+            cacheLignes.keySet().removeAll(touchees);
+            return;
+        }
+        for (String touchee : touchees) {
+            L ligne = cacheLignes.get(touchee);
+            T element = source.get(touchee);
+            if (ligne != null && element != null) {
+                actualisation.accept(ligne, element);
+            } else if (ligne != null) {
+                cacheLignes.remove(touchee);
+            }
+        }
+    }
+
+    /**
+     * Remplace toute la liste en un seul changement
+     * @param nouvelles clés affichées, ou null pour les recalculer depuis la Map avec le filtre courant
+     */
+    private void remplacer(List<String> nouvelles, Set<String> ensemble) {
+        List<T> anciens = new ArrayList<>(size());
+        for (int i = 0; i < size(); i++) {
+            anciens.add(get(i));
+        }
+        if (nouvelles == null) {
+            recharger();
+            cacheLignes.clear();
+        } else {
+            cles = nouvelles;
+            presentes = ensemble;
+        }
+        oublierRetraitsAppliques();
+        beginChange();
+        try {
+            if (!anciens.isEmpty()) {
+                nextRemove(0, anciens);
+            }
+            if (!cles.isEmpty()) {
+                nextAdd(0, cles.size());
+            }
+        } finally {
+            endChange();
+        }
+    }
+
+    private void recharger() {
+        List<String> nouvelles = new ArrayList<>(source.size());
+        for (Map.Entry<String, T> entree : source.entrySet()) {
+            if (filtre.test(entree.getValue())) {
+                nouvelles.add(entree.getKey());
+            }
+        }
+        cles = nouvelles;
+        presentes = new HashSet<>(nouvelles);
+    }
+
+    // Un retrait arrivé pendant l'application reste en attente : sa ligne est encore affichée
+    private void oublierRetraitsAppliques() {
+        retraitsEnAttente.keySet().removeIf(cleRetiree -> !presentes.contains(cleRetiree));
+    }
+
+    /**
+     * Détache la source de la Map du service
+     */
+    public void arreter() {
+        source.removeListener(ecouteurSource);
+        enAttente.clear();
+    }
+}
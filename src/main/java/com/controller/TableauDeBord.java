@@ -0,0 +1,180 @@
+package com.controller;
+
+import com.metrics.EchantillonneurMetriques;
+import com.metrics.SerieTemporelle;
+import eu.hansolo.tilesfx.Tile;
+import eu.hansolo.tilesfx.TileBuilder;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.ChoiceBox;
+import javafx.scene.control.Label;
+import javafx.scene.layout.FlowPane;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.VBox;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tableau de bord de l'onglet Statistiques : une tuile TilesFX par série temporelle échantillonnée
+ * - une tuile ne reçoit que les points apparus depuis sa dernière mise à jour
+ * - la mise à jour ne tourne que lorsque le tableau est affiché (rattrapage à l'affichage)
+ * - la fenêtre choisie fixe la résolution lue dans les séries : jamais plus de points que le niveau n'en garde
+ */
+public class TableauDeBord {
+
+    private static final javafx.util.Duration PERIODE_AFFICHAGE = javafx.util.Duration.seconds(1);
+    private static final double LARGEUR_TUILE = 260;
+    private static final double HAUTEUR_TUILE = 200;
+
+    public enum Fenetre {
+        CINQ_MINUTES("5 minutes", Duration.ofMinutes(5)),
+        UNE_HEURE("1 heure", Duration.ofHours(1)),
+        VINGT_QUATRE_HEURES("24 heures", Duration.ofHours(24));
+
+        private final String libelle;
+        private final Duration duree;
+
+        Fenetre(String libelle, Duration duree) {
+            this.libelle = libelle;
+            this.duree = duree;
+        }
+
+        @Override
+        public String toString() {
+            return libelle;
+        }
+    }
+
+    private record Definition(String serie, String titre, String unite) {}
+
+    // Une tuile et la position de sa série déjà affichée
+    private static final class TuileSerie {
+        final SerieTemporelle serie;
+        final Tile tuile;
+        final int niveau;
+        long dernierInstant = Long.MIN_VALUE;
+
+        TuileSerie(SerieTemporelle serie, Tile tuile, int niveau) {
+            this.serie = serie;
+            this.tuile = tuile;
+            this.niveau = niveau;
+        }
+    }
+
+    private final EchantillonneurMetriques echantillonneur;
+    private final List<Definition> definitions = new ArrayList<>();
+    private final List<Definition> groupes = new ArrayList<>();
+    private final List<TuileSerie> tuiles = new ArrayList<>();
+    private final Set<String> seriesAffichees = new HashSet<>();
+    private final FlowPane panneauTuiles = new FlowPane(10, 10);
+    private final ChoiceBox<Fenetre> choixFenetre = new ChoiceBox<>();
+    private final VBox vue;
+    private final Timeline timeline;
+
+    public TableauDeBord(EchantillonneurMetriques echantillonneur) {
+        this.echantillonneur = echantillonneur;
+
+        choixFenetre.getItems().setAll(Fenetre.values());
+        choixFenetre.setValue(Fenetre.CINQ_MINUTES);
+        choixFenetre.valueProperty().addListener((obs, avant, fenetre) -> reconstruire());
+
+        HBox barre = new HBox(10, new Label("Fenêtre:"), choixFenetre);
+        barre.setAlignment(Pos.CENTER_LEFT);
+        vue = new VBox(10, barre, panneauTuiles);
+
+        timeline = new Timeline(new KeyFrame(PERIODE_AFFICHAGE, e -> mettreAJour()));
+        timeline.setCycleCount(Animation.INDEFINITE);
+    }
+
+    // ============ CONFIGURATION ============
+
+    public void ajouterTuile(String serie, String titre, String unite) {
+        definitions.add(new Definition(serie, titre, unite));
+        reconstruire();
+    }
+
+    /**
+     * Une tuile par série du groupe, ajoutée à l'apparition de la série (ex. nouveau type d'événement)
+     */
+    public void ajouterGroupe(String prefixe, String titre, String unite) {
+        groupes.add(new Definition(prefixe, titre, unite));
+        reconstruire();
+    }
+
+    public Node getVue() {
+        return vue;
+    }
+
+    /**
+     * Démarre ou arrête la mise à jour des tuiles (onglet affiché ou non)
+     */
+    public void setAffiche(boolean affiche) {
+        if (affiche) {
+            mettreAJour();
+            timeline.play();
+        } else {
+            timeline.stop();
+        }
+    }
+
+    // ============ TUILES ============
+
+    // Changement de fenêtre : les tuiles sont recréées et remplies depuis le niveau correspondant
+    private void reconstruire() {
+        tuiles.clear();
+        seriesAffichees.clear();
+        panneauTuiles.getChildren().clear();
+        for (Definition definition : definitions) {
+            SerieTemporelle serie = echantillonneur.getSerie(definition.serie());
+            if (serie != null) {
+                ajouter(serie, definition.titre(), definition.unite());
+            }
+        }
+        mettreAJour();
+    }
+
+    private void ajouter(SerieTemporelle serie, String titre, String unite) {
+        Fenetre fenetre = choixFenetre.getValue();
+        int niveau = serie.niveauPour(fenetre.duree);
+        Tile tuile = TileBuilder.create()
+                .skinType(Tile.SkinType.SPARK_LINE)
+                .prefSize(LARGEUR_TUILE, HAUTEUR_TUILE)
+                .title(titre)
+                .unit(unite)
+                .decimals(1)
+                .text(fenetre.libelle)
+                .textVisible(true)
+                .averagingPeriod(serie.getResolutions().get(niveau).points())
+                .averageVisible(true)
+                .animated(false)
+                .build();
+        tuiles.add(new TuileSerie(serie, tuile, niveau));
+        seriesAffichees.add(serie.getNom());
+        panneauTuiles.getChildren().add(tuile);
+    }
+
+    private void mettreAJour() {
+        for (Definition groupe : groupes) {
+            for (SerieTemporelle serie : echantillonneur.getSeries(groupe.serie())) {
+                if (!seriesAffichees.contains(serie.getNom())) {
+                    String cle = serie.getNom().substring(groupe.serie().length() + 1);
+                    ajouter(serie, groupe.titre() + " " + cle, groupe.unite());
+                }
+            }
+        }
+        for (TuileSerie suivie : tuiles) {
+            for (SerieTemporelle.Point point : suivie.serie.depuis(suivie.niveau, suivie.dernierInstant)) {
+                if (!Double.isNaN(point.valeur())) {
+                    suivie.tuile.setValue(point.valeur());
+                }
+                suivie.dernierInstant = point.instant();
+            }
+        }
+    }
+}
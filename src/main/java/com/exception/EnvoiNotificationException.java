@@ -0,0 +1,35 @@
+package com.exception;
+
+/**
+ * Exception levée lorsqu'un canal ne parvient pas à livrer une notification
+ */
+public class EnvoiNotificationException extends GestionEvenementsException {
+
+    private final String canal;
+    private final boolean reessayable;
+
+    public EnvoiNotificationException(String message, String canal, boolean reessayable) {
+        super(message, "ENVOI_NOTIFICATION_ERROR");
+        this.canal = canal;
+        this.reessayable = reessayable;
+    }
+
+    public EnvoiNotificationException(String message, String canal, boolean reessayable, Throwable cause) {
+        super(message, "ENVOI_NOTIFICATION_ERROR", cause);
+        this.canal = canal;
+        this.reessayable = reessayable;
+    }
+
+    // Getters
+    public String getCanal() { return canal; }
+
+    /**
+     * Indique si un nouvel essai a une chance d'aboutir (erreur transitoire)
+     */
+    public boolean estReessayable() { return reessayable; }
+
+    @Override
+    public String getMessageUtilisateur() {
+        return String.format("Échec d'envoi sur le canal '%s': %s", canal, getMessage());
+    }
+}
@@ -0,0 +1,40 @@
+package com.metrics;
+
+import com.observer.HistogrammeLatence;
+
+/**
+ * Mesure de durées (nombre, somme, centiles) adossée à un histogramme de latence
+ */
+public class Chronometre implements Metrique {
+
+    private final String nom;
+    private final String aide;
+    private final HistogrammeLatence histogramme;
+
+    Chronometre(String nom, String aide, HistogrammeLatence histogramme) {
+        this.nom = nom;
+        this.aide = aide;
+        this.histogramme = histogramme;
+    }
+
+    public void enregistrer(long nanos) {
+        histogramme.enregistrer(nanos);
+    }
+
+    /**
+     * Enregistre la durée écoulée depuis {@code debutNanos} (valeur de System.nanoTime())
+     */
+    public void enregistrerDepuis(long debutNanos) {
+        histogramme.enregistrer(System.nanoTime() - debutNanos);
+    }
+
+    public HistogrammeLatence getHistogramme() {
+        return histogramme;
+    }
+
+    @Override
+    public String getNom() { return nom; }
+
+    @Override
+    public String getAide() { return aide; }
+}
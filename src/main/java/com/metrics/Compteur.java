@@ -0,0 +1,47 @@
+package com.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Compteur monotone
+ * Soit incrémenté directement, soit lu depuis une source existante (compteur d'un autre composant)
+ */
+public class Compteur implements Metrique {
+
+    private final String nom;
+    private final String aide;
+    private final LongAdder valeur = new LongAdder();
+    private final LongSupplier source;
+
+    Compteur(String nom, String aide) {
+        this(nom, aide, null);
+    }
+
+    Compteur(String nom, String aide, LongSupplier source) {
+        this.nom = nom;
+        this.aide = aide;
+        this.source = source;
+    }
+
+    public void incrementer() {
+        valeur.increment();
+    }
+
+    public void ajouter(long quantite) {
+        if (quantite < 0) {
+            throw new IllegalArgumentException("Un compteur ne peut pas diminuer");
+        }
+        valeur.add(quantite);
+    }
+
+    public long getValeur() {
+        return source != null ? source.getAsLong() : valeur.sum();
+    }
+
+    @Override
+    public String getNom() { return nom; }
+
+    @Override
+    public String getAide() { return aide; }
+}
@@ -0,0 +1,152 @@
+package com.metrics;
+
+import com.observer.HistogrammeLatence;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Échantillonne des métriques à intervalle fixe dans des séries temporelles bornées (SerieTemporelle)
+ * - jauge : valeur instantanée
+ * - taux : variation par seconde d'un total cumulé (compteur)
+ * - moyenne : durée moyenne (ms) des mesures enregistrées par un histogramme depuis l'échantillon précédent
+ * - groupe : une jauge par clé d'une Map (ex. par type d'événement), séries créées à l'apparition des clés
+ * Un seul thread démon, réveillé une fois par intervalle : la lecture des séries n'échantillonne rien
+ */
+public class EchantillonneurMetriques {
+
+    private final Duration intervalle;
+    private final List<LongConsumer> echantillons = new CopyOnWriteArrayList<>();
+    private final ConcurrentSkipListMap<String, SerieTemporelle> series = new ConcurrentSkipListMap<>();
+    private ScheduledExecutorService executeur;
+
+    /**
+     * @param intervalle doit être le pas de la résolution la plus fine des séries
+     */
+    public EchantillonneurMetriques(Duration intervalle) {
+        this.intervalle = intervalle;
+    }
+
+    public EchantillonneurMetriques() {
+        this(SerieTemporelle.RESOLUTIONS_DEFAUT.get(0).pas());
+    }
+
+    // ============ SÉRIES ============
+
+    public SerieTemporelle jauge(String nom, DoubleSupplier source) {
+        SerieTemporelle serie = creerSerie(nom);
+        echantillons.add(instant -> serie.ajouter(instant, source.getAsDouble()));
+        return serie;
+    }
+
+    public SerieTemporelle taux(String nom, LongSupplier total) {
+        SerieTemporelle serie = creerSerie(nom);
+        long[] precedent = {total.getAsLong(), System.nanoTime()};
+        echantillons.add(instant -> {
+            long valeur = total.getAsLong();
+            long maintenant = System.nanoTime();
+            double secondes = (maintenant - precedent[1]) / 1e9;
+            serie.ajouter(instant, secondes > 0 ? (valeur - precedent[0]) / secondes : 0);
+            precedent[0] = valeur;
+            precedent[1] = maintenant;
+        });
+        return serie;
+    }
+
+    public SerieTemporelle moyenne(String nom, HistogrammeLatence histogramme) {
+        SerieTemporelle serie = creerSerie(nom);
+        long[] precedent = {histogramme.getNombre(), histogramme.getSommeNanos()};
+        echantillons.add(instant -> {
+            long nombre = histogramme.getNombre();
+            long somme = histogramme.getSommeNanos();
+            long mesures = nombre - precedent[0];
+            serie.ajouter(instant, mesures > 0 ? (somme - precedent[1]) / 1e6 / mesures : Double.NaN);
+            precedent[0] = nombre;
+            precedent[1] = somme;
+        });
+        return serie;
+    }
+
+    /**
+     * Séries « prefixe/clé » ; une clé absente d'un échantillon y laisse un trou (NaN)
+     */
+    public void groupe(String prefixe, Supplier<Map<String, Double>> source) {
+        groupe(prefixe, source, () -> true);
+    }
+
+    /**
+     * Groupe à source coûteuse : lue seulement quand actif est vrai (ex. : tableau de bord affiché),
+     * sinon l'échantillon est un trou dans chaque série
+     */
+    public void groupe(String prefixe, Supplier<Map<String, Double>> source, BooleanSupplier actif) {
+        echantillons.add(instant -> {
+            Map<String, Double> valeurs = actif.getAsBoolean() ? source.get() : Map.of();
+            valeurs.forEach((cle, valeur) -> series.computeIfAbsent(prefixe + "/" + cle, SerieTemporelle::new));
+            for (SerieTemporelle serie : getSeries(prefixe)) {
+                String cle = serie.getNom().substring(prefixe.length() + 1);
+                serie.ajouter(instant, valeurs.getOrDefault(cle, Double.NaN));
+            }
+        });
+    }
+
+    private SerieTemporelle creerSerie(String nom) {
+        SerieTemporelle serie = new SerieTemporelle(nom);
+        if (series.putIfAbsent(nom, serie) != null) {
+            throw new IllegalArgumentException("Série déjà échantillonnée: " + nom);
+        }
+        return serie;
+    }
+
+    public SerieTemporelle getSerie(String nom) {
+        return series.get(nom);
+    }
+
+    /**
+     * Séries d'un groupe, triées par clé
+     */
+    public List<SerieTemporelle> getSeries(String prefixe) {
+        return new ArrayList<>(series.subMap(prefixe + "/", prefixe + "/" + Character.MAX_VALUE).values());
+    }
+
+    // ============ CYCLE DE VIE ============
+
+    public synchronized void demarrer() {
+        if (executeur != null) {
+            return;
+        }
+        executeur = Executors.newSingleThreadScheduledExecutor(tache ->
+                Thread.ofPlatform().daemon().name("echantillonneur-metriques").unstarted(tache));
+        executeur.scheduleAtFixedRate(this::echantillonner, intervalle.toMillis(), intervalle.toMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    public synchronized void arreter() {
+        if (executeur != null) {
+            executeur.shutdownNow();
+            executeur = null;
+        }
+    }
+
+    private void echantillonner() {
+        long instant = System.currentTimeMillis();
+        for (LongConsumer echantillon : echantillons) {
+            try {
+                echantillon.accept(instant);
+            } catch (RuntimeException e) {
+                // Une source défaillante ne doit pas arrêter les autres séries
+                System.err.println("⚠️ [MÉTRIQUES] Échantillon ignoré: " + e.getMessage());
+            }
+        }
+    }
+}
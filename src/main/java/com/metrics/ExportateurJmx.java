@@ -0,0 +1,131 @@
+package com.metrics;
+
+import com.observer.HistogrammeLatence;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanOperationInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.ReflectionException;
+
+/**
+ * Expose le registre de métriques comme MBean dynamique (consultable avec JConsole / VisualVM)
+ * Les attributs sont recalculés à chaque lecture : les métriques déclarées après l'enregistrement
+ * apparaissent automatiquement
+ * Les chronomètres sont déclinés en attributs _count, _p50_ms, _p99_ms et _max_ms
+ */
+public class ExportateurJmx implements DynamicMBean {
+
+    public static final String NOM_OBJET = "com.eventmanager:type=Metriques";
+
+    private final RegistreMetriques registre;
+
+    private ExportateurJmx(RegistreMetriques registre) {
+        this.registre = registre;
+    }
+
+    /**
+     * Enregistre le registre de métriques auprès du serveur MBean de la plateforme
+     */
+    public static void enregistrer() throws JMException {
+        enregistrer(RegistreMetriques.getInstance());
+    }
+
+    public static void enregistrer(RegistreMetriques registre) throws JMException {
+        MBeanServer serveur = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nom = new ObjectName(NOM_OBJET);
+        if (!serveur.isRegistered(nom)) {
+            serveur.registerMBean(new ExportateurJmx(registre), nom);
+            System.out.println("📈 [MÉTRIQUES] MBean JMX enregistré: " + NOM_OBJET);
+        }
+    }
+
+    public static void desenregistrer() throws JMException {
+        MBeanServer serveur = ManagementFactory.getPlatformMBeanServer();
+        ObjectName nom = new ObjectName(NOM_OBJET);
+        if (serveur.isRegistered(nom)) {
+            serveur.unregisterMBean(nom);
+        }
+    }
+
+    // Attributs à plat : nom → lecture de la valeur courante
+    private Map<String, Supplier<Number>> attributs() {
+        Map<String, Supplier<Number>> attributs = new LinkedHashMap<>();
+        for (Metrique metrique : registre.getMetriques()) {
+            String nom = metrique.getNom().substring(RegistreMetriques.PREFIXE.length());
+            if (metrique instanceof Compteur) {
+                Compteur compteur = (Compteur) metrique;
+                attributs.put(nom, compteur::getValeur);
+            } else if (metrique instanceof Jauge) {
+                Jauge jauge = (Jauge) metrique;
+                attributs.put(nom, jauge::getValeur);
+            } else if (metrique instanceof Chronometre) {
+                HistogrammeLatence histogramme = ((Chronometre) metrique).getHistogramme();
+                attributs.put(nom + "_count", histogramme::getNombre);
+                attributs.put(nom + "_p50_ms", () -> histogramme.getCentileNanos(50) / 1_000_000.0);
+                attributs.put(nom + "_p99_ms", () -> histogramme.getCentileNanos(99) / 1_000_000.0);
+                attributs.put(nom + "_max_ms", () -> histogramme.getMaxNanos() / 1_000_000.0);
+            }
+        }
+        return attributs;
+    }
+
+    @Override
+    public Object getAttribute(String attribut) throws AttributeNotFoundException {
+        Supplier<Number> lecture = attributs().get(attribut);
+        if (lecture == null) {
+            throw new AttributeNotFoundException("Métrique inconnue: " + attribut);
+        }
+        return lecture.get().doubleValue();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] noms) {
+        Map<String, Supplier<Number>> attributs = attributs();
+        AttributeList liste = new AttributeList();
+        for (String nom : noms) {
+            Supplier<Number> lecture = attributs.get(nom);
+            if (lecture != null) {
+                liste.add(new Attribute(nom, lecture.get().doubleValue()));
+            }
+        }
+        return liste;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+        throw new AttributeNotFoundException("Les métriques sont en lecture seule");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) throws ReflectionException {
+        // Aucune opération déclarée : erreur prévue par le contrat DynamicMBean, transmise au client JMX
+        throw new ReflectionException(new NoSuchMethodException(actionName), "Aucune opération disponible");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> infos = new ArrayList<>();
+        for (String nom : attributs().keySet()) {
+            infos.add(new MBeanAttributeInfo(nom, Double.class.getName(), nom, true, false, false));
+        }
+        return new MBeanInfo(getClass().getName(), "Métriques du système de gestion d'événements",
+                infos.toArray(new MBeanAttributeInfo[0]), null, new MBeanOperationInfo[0], null);
+    }
+}
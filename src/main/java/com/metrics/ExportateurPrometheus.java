@@ -0,0 +1,123 @@
+package com.metrics;
+
+import com.observer.HistogrammeLatence;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+
+/**
+ * Point d'accès HTTP local servant les métriques au format texte Prometheus (version 0.0.4)
+ * N'écoute que sur l'interface de bouclage : GET http://localhost:&lt;port&gt;/metrics
+ */
+public class ExportateurPrometheus {
+
+    private static final String TYPE_CONTENU = "text/plain; version=0.0.4; charset=utf-8";
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+    private static final double NANOS_PAR_SECONDE = 1_000_000_000.0;
+
+    private final RegistreMetriques registre;
+    private HttpServer serveur;
+
+    public ExportateurPrometheus() {
+        this(RegistreMetriques.getInstance());
+    }
+
+    public ExportateurPrometheus(RegistreMetriques registre) {
+        this.registre = registre;
+    }
+
+    /**
+     * Démarre le serveur HTTP
+     * @param port port local (0 = port libre choisi par le système)
+     * @return le port effectivement utilisé
+     */
+    public synchronized int demarrer(int port) throws IOException {
+        if (serveur != null) {
+            throw new IllegalStateException("L'exportateur Prometheus est déjà démarré");
+        }
+        serveur = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        serveur.createContext("/metrics", this::traiter);
+        serveur.setExecutor(Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "exportateur-prometheus");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        serveur.start();
+
+        int portEffectif = serveur.getAddress().getPort();
+        System.out.println("📈 [MÉTRIQUES] Export Prometheus sur http://localhost:" + portEffectif + "/metrics");
+        return portEffectif;
+    }
+
+    public synchronized void arreter() {
+        if (serveur != null) {
+            serveur.stop(0);
+            serveur = null;
+        }
+    }
+
+    private void traiter(HttpExchange echange) throws IOException {
+        try (echange) {
+            if (!"GET".equals(echange.getRequestMethod())) {
+                echange.sendResponseHeaders(405, -1);
+                return;
+            }
+            byte[] corps = genererTexte().getBytes(StandardCharsets.UTF_8);
+            echange.getResponseHeaders().set("Content-Type", TYPE_CONTENU);
+            echange.sendResponseHeaders(200, corps.length);
+            try (OutputStream sortie = echange.getResponseBody()) {
+                sortie.write(corps);
+            }
+        }
+    }
+
+    /**
+     * Rend toutes les métriques du registre au format texte Prometheus
+     * Les chronomètres sont exportés en « summary » (secondes)
+     */
+    public String genererTexte() {
+        StringBuilder texte = new StringBuilder(4096);
+        for (Metrique metrique : registre.getMetriques()) {
+            String nom = metrique.getNom();
+            texte.append("# HELP ").append(nom).append(' ').append(echapperAide(metrique.getAide())).append('\n');
+
+            if (metrique instanceof Compteur) {
+                texte.append("# TYPE ").append(nom).append(" counter\n");
+                texte.append(nom).append(' ').append(((Compteur) metrique).getValeur()).append('\n');
+            } else if (metrique instanceof Jauge) {
+                texte.append("# TYPE ").append(nom).append(" gauge\n");
+                texte.append(nom).append(' ').append(formater(((Jauge) metrique).getValeur())).append('\n');
+            } else if (metrique instanceof Chronometre) {
+                HistogrammeLatence histogramme = ((Chronometre) metrique).getHistogramme();
+                texte.append("# TYPE ").append(nom).append(" summary\n");
+                for (double quantile : QUANTILES) {
+                    texte.append(nom).append("{quantile=\"").append(quantile).append("\"} ")
+                            .append(formater(histogramme.getCentileNanos(quantile * 100) / NANOS_PAR_SECONDE))
+                            .append('\n');
+                }
+                texte.append(nom).append("_sum ")
+                        .append(formater(histogramme.getSommeNanos() / NANOS_PAR_SECONDE)).append('\n');
+                texte.append(nom).append("_count ").append(histogramme.getNombre()).append('\n');
+            }
+        }
+        return texte.toString();
+    }
+
+    private static String formater(double valeur) {
+        if (Double.isNaN(valeur)) return "NaN";
+        if (Double.isInfinite(valeur)) return valeur > 0 ? "+Inf" : "-Inf";
+        if (valeur == Math.rint(valeur) && Math.abs(valeur) < 1e15) {
+            return Long.toString((long) valeur);
+        }
+        return Double.toString(valeur);
+    }
+
+    private static String echapperAide(String aide) {
+        return aide.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,29 @@
+package com.metrics;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Valeur instantanée, lue à chaque export
+ */
+public class Jauge implements Metrique {
+
+    private final String nom;
+    private final String aide;
+    private final DoubleSupplier source;
+
+    Jauge(String nom, String aide, DoubleSupplier source) {
+        this.nom = nom;
+        this.aide = aide;
+        this.source = source;
+    }
+
+    public double getValeur() {
+        return source.getAsDouble();
+    }
+
+    @Override
+    public String getNom() { return nom; }
+
+    @Override
+    public String getAide() { return aide; }
+}
@@ -0,0 +1,17 @@
+package com.metrics;
+
+/**
+ * Métrique nommée exposée par le registre
+ */
+public interface Metrique {
+
+    /**
+     * Nom au format Prometheus (minuscules, chiffres et '_')
+     */
+    String getNom();
+
+    /**
+     * Description courte, reprise dans les exports
+     */
+    String getAide();
+}
@@ -0,0 +1,106 @@
+package com.metrics;
+
+import com.observer.HistogrammeLatence;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.DoubleSupplier;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Registre central des métriques de l'application - Singleton
+ * Les composants y déclarent compteurs, jauges et chronomètres ; les exportateurs (JMX, Prometheus)
+ * les lisent au moment de l'export. Déclarer deux fois le même nom retourne la même métrique
+ */
+public class RegistreMetriques {
+
+    public static final String PREFIXE = "eventmanager_";
+
+    private static final Pattern NOM_VALIDE = Pattern.compile("[a-z_][a-z0-9_]*");
+
+    // Instance unique (Singleton)
+    private static final RegistreMetriques INSTANCE = new RegistreMetriques();
+
+    private final ConcurrentHashMap<String, Metrique> metriques = new ConcurrentHashMap<>();
+
+    private RegistreMetriques() {
+    }
+
+    public static RegistreMetriques getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Compteur incrémenté par l'appelant
+     */
+    public Compteur compteur(String nom, String aide) {
+        return enregistrer(nom, Compteur.class, n -> new Compteur(n, aide));
+    }
+
+    /**
+     * Compteur dont la valeur est lue dans un autre composant
+     */
+    public Compteur compteur(String nom, String aide, LongSupplier source) {
+        return enregistrer(nom, Compteur.class, n -> new Compteur(n, aide, source));
+    }
+
+    public Jauge jauge(String nom, String aide, DoubleSupplier source) {
+        return enregistrer(nom, Jauge.class, n -> new Jauge(n, aide, source));
+    }
+
+    public Chronometre chronometre(String nom, String aide) {
+        return chronometre(nom, aide, new HistogrammeLatence());
+    }
+
+    /**
+     * Chronomètre adossé à un histogramme déjà alimenté par un autre composant
+     */
+    public Chronometre chronometre(String nom, String aide, HistogrammeLatence histogramme) {
+        return enregistrer(nom, Chronometre.class, n -> new Chronometre(n, aide, histogramme));
+    }
+
+    public Metrique getMetrique(String nom) {
+        return metriques.get(nomComplet(nom));
+    }
+
+    /**
+     * Toutes les métriques, triées par nom
+     */
+    public List<Metrique> getMetriques() {
+        List<Metrique> liste = new ArrayList<>(metriques.values());
+        liste.sort(Comparator.comparing(Metrique::getNom));
+        return liste;
+    }
+
+    public boolean retirer(String nom) {
+        return metriques.remove(nomComplet(nom)) != null;
+    }
+
+    /**
+     * Retire la métrique si c'est toujours celle enregistrée sous son nom (pas une remplaçante)
+     */
+    public boolean retirer(Metrique metrique) {
+        return metrique != null && metriques.remove(metrique.getNom(), metrique);
+    }
+
+    private <T extends Metrique> T enregistrer(String nom, Class<T> type,
+                                               Function<String, T> fabrique) {
+        String complet = nomComplet(nom);
+        if (!NOM_VALIDE.matcher(complet).matches()) {
+            throw new IllegalArgumentException("Nom de métrique invalide: " + nom);
+        }
+        Metrique metrique = metriques.computeIfAbsent(complet, fabrique::apply);
+        if (!type.isInstance(metrique)) {
+            throw new IllegalArgumentException(String.format("La métrique '%s' existe déjà avec le type %s",
+                    complet, metrique.getClass().getSimpleName()));
+        }
+        return type.cast(metrique);
+    }
+
+    private static String nomComplet(String nom) {
+        return nom.startsWith(PREFIXE) ? nom : PREFIXE + nom;
+    }
+}
@@ -0,0 +1,183 @@
+package com.metrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Série temporelle bornée en mémoire, conservée à plusieurs résolutions
+ * - le premier niveau reçoit chaque échantillon, sur une fenêtre courte
+ * - chaque niveau suivant reçoit la moyenne d'un nombre fixe de points du précédent,
+ *   couvrant une fenêtre plus longue avec le même nombre de points
+ * Mémoire constante : chaque niveau est un tampon circulaire de taille fixe
+ * Une valeur NaN signifie « aucune mesure sur l'intervalle » et est ignorée dans les moyennes
+ */
+public class SerieTemporelle {
+
+    /**
+     * Une résolution : un point tous les {@code pas}, {@code points} points conservés
+     */
+    public record Resolution(Duration pas, int points) {
+        public Duration fenetre() {
+            return pas.multipliedBy(points);
+        }
+    }
+
+    public record Point(long instant, double valeur) {}
+
+    // 5 minutes à la seconde, 1 heure par 10 secondes, 24 heures par 4 minutes
+    public static final List<Resolution> RESOLUTIONS_DEFAUT = List.of(
+            new Resolution(Duration.ofSeconds(1), 300),
+            new Resolution(Duration.ofSeconds(10), 360),
+            new Resolution(Duration.ofMinutes(4), 360));
+
+    private final String nom;
+    private final List<Resolution> resolutions;
+    private final Niveau[] niveaux;
+    private final ReentrantLock verrou = new ReentrantLock();
+
+    /**
+     * @param resolutions de la plus fine à la plus grossière ; chaque pas est un multiple du précédent
+     */
+    public SerieTemporelle(String nom, List<Resolution> resolutions) {
+        this.nom = nom;
+        this.resolutions = List.copyOf(resolutions);
+        this.niveaux = new Niveau[resolutions.size()];
+        for (int i = 0; i < niveaux.length; i++) {
+            long facteur = 1;
+            if (i > 0) {
+                long pas = resolutions.get(i).pas().toMillis();
+                long precedent = resolutions.get(i - 1).pas().toMillis();
+                if (pas < precedent || pas % precedent != 0) {
+                    throw new IllegalArgumentException("Le pas de chaque résolution doit être un multiple du précédent");
+                }
+                facteur = pas / precedent;
+            }
+            niveaux[i] = new Niveau(resolutions.get(i).points(), (int) facteur);
+        }
+    }
+
+    public SerieTemporelle(String nom) {
+        this(nom, RESOLUTIONS_DEFAUT);
+    }
+
+    // ============ ÉCRITURE ============
+
+    /**
+     * Ajoute un échantillon au premier niveau ; les niveaux suivants sont alimentés par agrégation
+     */
+    public void ajouter(long instant, double valeur) {
+        verrou.lock();
+        try {
+            niveaux[0].ecrire(instant, valeur);
+            for (int i = 1; i < niveaux.length; i++) {
+                Niveau niveau = niveaux[i];
+                if (!niveau.accumuler(valeur)) {
+                    return;
+                }
+                // Point agrégé complet : il devient l'échantillon du niveau suivant
+                valeur = niveau.vider(instant);
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    // ============ LECTURE ============
+
+    /**
+     * Points d'un niveau postérieurs à un instant, du plus ancien au plus récent
+     * (lecture incrémentale : seuls les nouveaux points sont copiés)
+     */
+    public List<Point> depuis(int niveau, long apresInstant) {
+        verrou.lock();
+        try {
+            return niveaux[niveau].depuis(apresInstant);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Niveau le plus fin couvrant la fenêtre demandée (le plus grossier à défaut)
+     */
+    public int niveauPour(Duration fenetre) {
+        for (int i = 0; i < resolutions.size(); i++) {
+            if (resolutions.get(i).fenetre().compareTo(fenetre) >= 0) {
+                return i;
+            }
+        }
+        return resolutions.size() - 1;
+    }
+
+    public List<Resolution> getResolutions() {
+        return resolutions;
+    }
+
+    public String getNom() {
+        return nom;
+    }
+
+    // ============ NIVEAU ============
+
+    private static final class Niveau {
+        final long[] instants;
+        final double[] valeurs;
+        // Position du prochain point écrit et nombre de points présents
+        int prochain;
+        int taille;
+
+        // Agrégation en cours (niveaux > 0)
+        final int facteur;
+        int recus;
+        int mesures;
+        double somme;
+
+        Niveau(int capacite, int facteur) {
+            this.instants = new long[capacite];
+            this.valeurs = new double[capacite];
+            this.facteur = facteur;
+        }
+
+        void ecrire(long instant, double valeur) {
+            instants[prochain] = instant;
+            valeurs[prochain] = valeur;
+            prochain = (prochain + 1) % instants.length;
+            taille = Math.min(taille + 1, instants.length);
+        }
+
+        /**
+         * @return true quand le point agrégé est complet
+         */
+        boolean accumuler(double valeur) {
+            recus++;
+            if (!Double.isNaN(valeur)) {
+                mesures++;
+                somme += valeur;
+            }
+            return recus >= facteur;
+        }
+
+        double vider(long instant) {
+            double moyenne = mesures > 0 ? somme / mesures : Double.NaN;
+            ecrire(instant, moyenne);
+            recus = 0;
+            mesures = 0;
+            somme = 0;
+            return moyenne;
+        }
+
+        List<Point> depuis(long apresInstant) {
+            List<Point> points = new ArrayList<>();
+            int premier = (prochain - taille + instants.length) % instants.length;
+            for (int n = 0; n < taille; n++) {
+                int i = (premier + n) % instants.length;
+                if (instants[i] > apresInstant) {
+                    points.add(new Point(instants[i], valeurs[i]));
+                }
+            }
+            return points;
+        }
+    }
+}
@@ -62,6 +62,14 @@ public class Concert extends Evenement {
         System.out.println("Genre musical: " + getGenreMusical());
     }
 
+    @Override
+    protected Evenement creerCopie() {
+        Concert copie = new Concert();
+        copie.setArtiste(getArtiste());
+        copie.setGenreMusical(getGenreMusical());
+        return copie;
+    }
+
     /**
      * Vérifie si le concert est du genre spécifié
      */
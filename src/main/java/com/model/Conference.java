@@ -107,6 +107,14 @@ public class Conference extends Evenement {
         }
     }
 
+    @Override
+    protected Evenement creerCopie() {
+        Conference copie = new Conference();
+        copie.setTheme(getTheme());
+        copie.setIntervenants(intervenants);
+        return copie;
+    }
+
     @Override
     public String toString() {
         return String.format("Conference{id='%s', nom='%s', theme='%s', intervenants=%d}",
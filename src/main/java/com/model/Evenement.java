@@ -5,12 +5,19 @@ import javafx.beans.property.*;
 import javafx.collections.*;
 import com.fasterxml.jackson.annotation.*;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.ArrayList;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
+import java.util.EnumSet;
+import java.util.concurrent.locks.ReentrantLock;
 import com.exception.CapaciteMaxAtteinteException;
 import com.observer.*;
+import com.util.FormatsDate;
+import com.util.Journal;
 
 /**
  * Classe abstraite Evenement qui implémente EvenementObservable
@@ -39,9 +46,22 @@ public abstract class Evenement implements EvenementObservable {
     @JsonIgnore
     protected BooleanProperty annule;
 
-    // PATTERN OBSERVER - Liste des observers (thread-safe)
+    // PATTERN OBSERVER - Registre des abonnements (thread-safe)
     @JsonIgnore
-    private final List<EvenementObserver> observers;
+    private final RegistreObservers observers;
+
+    // Liste d'attente lorsque l'événement est complet
+    @JsonIgnore
+    private final ListeAttente listeAttente;
+
+    // Verrou protégeant les inscriptions et la liste d'attente
+    @JsonIgnore
+    private final ReentrantLock verrou;
+
+    // Regroupement des notifications de changement (transactions et fenêtre de délai),
+    // créé au premier usage : le constructeur ne livre pas "this" avant la fin de l'initialisation
+    @JsonIgnore
+    private volatile RegroupementNotifications regroupement;
 
     // Constructeur par défaut
     public Evenement() {
@@ -52,7 +72,9 @@ public abstract class Evenement implements EvenementObservable {
         this.capaciteMax = new SimpleIntegerProperty();
         this.participants = FXCollections.observableArrayList();
         this.annule = new SimpleBooleanProperty(false);
-        this.observers = new CopyOnWriteArrayList<>(); // Thread-safe
+        this.observers = new RegistreObservers(); // Thread-safe
+        this.listeAttente = new ListeAttente();
+        this.verrou = new ReentrantLock();
     }
 
     /**
@@ -66,89 +88,165 @@ public abstract class Evenement implements EvenementObservable {
         this.capaciteMax = new SimpleIntegerProperty(capaciteMax);
         this.participants = FXCollections.observableArrayList();
         this.annule = new SimpleBooleanProperty(false);
-        this.observers = new CopyOnWriteArrayList<>();
+        this.observers = new RegistreObservers();
+        this.listeAttente = new ListeAttente();
+        this.verrou = new ReentrantLock();
     }
 
     // ============ IMPLÉMENTATION EVENEMENT OBSERVABLE ============
 
     @Override
     public void ajouterObserver(EvenementObserver observer) {
-        if (observer != null && !observers.contains(observer)) {
-            observers.add(observer);
-            System.out.println(String.format(
+        if (observer != null && !observers.contient(observer)) {
+            observers.ajouter(observer, false, 0, EnumSet.noneOf(TypeNotification.class));
+            Journal.info(String.format(
                     "👁️  [OBSERVER] Observer ajouté à '%s'. Total: %d observers",
-                    getNom(), observers.size()
+                    getNom(), observers.taille()
             ));
         }
     }
 
+    @Override
+    public Abonnement abonner(EvenementObserver observer, boolean referenceFaible, int priorite,
+                              TypeNotification... types) {
+        Objects.requireNonNull(observer, "L'observer ne peut pas être null");
+        Set<TypeNotification> filtre = EnumSet.noneOf(TypeNotification.class);
+        filtre.addAll(Arrays.asList(types));
+
+        Abonnement abonnement = observers.ajouter(observer, referenceFaible, priorite, filtre);
+        Journal.info(String.format(
+                "👁️  [OBSERVER] Abonnement à '%s' (types: %s, priorité: %d%s). Total: %d observers",
+                getNom(), abonnement.getTypes(), abonnement.getPriorite(),
+                abonnement.estFaible() ? ", référence faible" : "", observers.taille()
+        ));
+        return abonnement;
+    }
+
     @Override
     public void retirerObserver(EvenementObserver observer) {
-        if (observers.remove(observer)) {
-            System.out.println(String.format(
+        if (observers.retirer(observer)) {
+            Journal.info(String.format(
                     "👁️  [OBSERVER] Observer retiré de '%s'. Total: %d observers",
-                    getNom(), observers.size()
+                    getNom(), observers.taille()
             ));
         }
     }
 
     @Override
     public void notifierModification(String message) {
-        if (!observers.isEmpty()) {
-            System.out.println(String.format(
+        if (!observers.estVide()) {
+            Journal.info(String.format(
                     "📢 [OBSERVER] Notification modification '%s' → %d observers",
-                    getNom(), observers.size()
+                    getNom(), observers.taille()
             ));
 
-            for (EvenementObserver observer : observers) {
-                try {
-                    observer.onEvenementModifie(getNom(), message);
-                } catch (Exception e) {
-                    System.err.println("❌ Erreur notification observer: " + e.getMessage());
-                }
-            }
+            String nomEvenement = getNom();
+            observers.diffuser(getId(), nomEvenement, TypeNotification.MODIFICATION,
+                    observer -> observer.onEvenementModifie(nomEvenement, message));
         }
     }
 
     @Override
     public void notifierAnnulation(String message) {
-        if (!observers.isEmpty()) {
-            System.out.println(String.format(
+        if (!observers.estVide()) {
+            Journal.info(String.format(
                     "📢 [OBSERVER] Notification annulation '%s' → %d observers",
-                    getNom(), observers.size()
+                    getNom(), observers.taille()
             ));
 
-            for (EvenementObserver observer : observers) {
-                try {
-                    observer.onEvenementAnnule(getNom(), message);
-                } catch (Exception e) {
-                    System.err.println("❌ Erreur notification observer: " + e.getMessage());
-                }
-            }
+            String nomEvenement = getNom();
+            observers.diffuser(getId(), nomEvenement, TypeNotification.ANNULATION,
+                    observer -> observer.onEvenementAnnule(nomEvenement, message));
         }
     }
 
+    /**
+     * Les changements sont regroupés pendant une transaction ou une fenêtre de délai,
+     * sinon diffusés immédiatement
+     */
     @Override
     public void notifierChangementInfo(String message) {
-        if (!observers.isEmpty()) {
-            System.out.println(String.format(
+        if (!regroupement().intercepter(message)) {
+            diffuserChangementInfo(message);
+        }
+    }
+
+    private void diffuserChangementInfo(String message) {
+        if (!observers.estVide()) {
+            Journal.info(String.format(
                     "📢 [OBSERVER] Notification changement '%s' → %d observers",
-                    getNom(), observers.size()
+                    getNom(), observers.taille()
             ));
 
-            for (EvenementObserver observer : observers) {
-                try {
-                    observer.onEvenementInfoModifiee(getNom(), message);
-                } catch (Exception e) {
-                    System.err.println("❌ Erreur notification observer: " + e.getMessage());
+            String nomEvenement = getNom();
+            observers.diffuser(getId(), nomEvenement, TypeNotification.INFO,
+                    observer -> observer.onEvenementInfoModifiee(nomEvenement, message));
+        }
+    }
+
+    @Override
+    public Collection<EvenementObserver> getObservers() {
+        return observers.getObservers();
+    }
+
+    /**
+     * Nombre d'observers abonnés, sans copier la collection
+     */
+    @JsonIgnore
+    public int getNombreObservers() {
+        return observers.taille();
+    }
+
+    @Override
+    public void viderObservers() {
+        observers.vider();
+    }
+
+    // ============ REGROUPEMENT DES NOTIFICATIONS ============
+
+    private RegroupementNotifications regroupement() {
+        RegroupementNotifications courant = regroupement;
+        if (courant == null) {
+            verrou.lock();
+            try {
+                courant = regroupement;
+                if (courant == null) {
+                    courant = new RegroupementNotifications(this::diffuserChangementInfo);
+                    regroupement = courant;
                 }
+            } finally {
+                verrou.unlock();
             }
         }
+        return courant;
     }
 
-    @Override
-    public List<EvenementObserver> getObservers() {
-        return new ArrayList<>(observers);
+    /**
+     * Ouvre une transaction de modification : les changements (nom, date, lieu, capacité)
+     * seront notifiés en une seule fois à l'appel de validerModifications()
+     */
+    public void demarrerModifications() {
+        regroupement().demarrer();
+    }
+
+    /**
+     * Termine la transaction et envoie une notification combinée à chaque observer
+     */
+    public void validerModifications() {
+        regroupement().valider();
+    }
+
+    /**
+     * Délai en millisecondes pendant lequel les changements successifs sont regroupés
+     * (0 = chaque changement est notifié immédiatement)
+     */
+    @JsonIgnore
+    public long getDelaiRegroupement() {
+        return regroupement().getDelaiMs();
+    }
+
+    public void setDelaiRegroupement(long delaiMs) {
+        regroupement().setDelaiMs(delaiMs);
     }
 
     // ============ PROPERTIES JAVAFX ============
@@ -187,10 +285,9 @@ public abstract class Evenement implements EvenementObservable {
 
         // NOTIFICATION AUTOMATIQUE via Observer
         if (ancienneDate != null && !date.equals(ancienneDate)) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
             notifierChangementInfo(String.format("Date modifiée: %s → %s",
-                    ancienneDate.format(formatter),
-                    date.format(formatter)));
+                    ancienneDate.format(FormatsDate.DATE_HEURE),
+                    date.format(FormatsDate.DATE_HEURE)));
         }
     }
 
@@ -209,13 +306,23 @@ public abstract class Evenement implements EvenementObservable {
     @JsonProperty("capaciteMax")
     public int getCapaciteMax() { return capaciteMax.get(); }
     public void setCapaciteMax(int capaciteMax) {
-        int ancienneCapacite = this.capaciteMax.get();
-        this.capaciteMax.set(capaciteMax);
+        verrou.lock();
+        try {
+            int ancienneCapacite = this.capaciteMax.get();
+            this.capaciteMax.set(capaciteMax);
+
+            // NOTIFICATION AUTOMATIQUE via Observer
+            if (capaciteMax != ancienneCapacite) {
+                notifierChangementInfo(String.format("Capacité modifiée: %d → %d places",
+                        ancienneCapacite, capaciteMax));
+            }
 
-        // NOTIFICATION AUTOMATIQUE via Observer
-        if (capaciteMax != ancienneCapacite) {
-            notifierChangementInfo(String.format("Capacité modifiée: %d → %d places",
-                    ancienneCapacite, capaciteMax));
+            // Des places ont pu se libérer : promotion depuis la liste d'attente
+            if (capaciteMax > ancienneCapacite) {
+                promouvoirListeAttente();
+            }
+        } finally {
+            verrou.unlock();
         }
     }
 
@@ -223,9 +330,17 @@ public abstract class Evenement implements EvenementObservable {
     public boolean isAnnule() { return annule.get(); }
     public void setAnnule(boolean annule) { this.annule.set(annule); }
 
+    /**
+     * Copie des inscrits prise sous le verrou : lisible depuis n'importe quel thread
+     */
     @JsonProperty("participants")
     public List<Participant> getParticipants() {
-        return new ArrayList<>(participants);
+        verrou.lock();
+        try {
+            return new ArrayList<>(participants);
+        } finally {
+            verrou.unlock();
+        }
     }
 
     public void setParticipants(List<Participant> participants) {
@@ -253,80 +368,338 @@ public abstract class Evenement implements EvenementObservable {
         return getCapaciteMax() - getNombreParticipants();
     }
 
+    @JsonIgnore
+    public List<Participant> getListeAttente() {
+        verrou.lock();
+        try {
+            return listeAttente.versListe();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Liste d'attente sauvegardée avec l'événement : ordre de promotion et niveau de chacun
+     */
+    @JsonProperty("listeAttente")
+    public List<ListeAttente.Entree> getEntreesListeAttente() {
+        verrou.lock();
+        try {
+            return listeAttente.versEntrees();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @JsonProperty("listeAttente")
+    public void setEntreesListeAttente(List<ListeAttente.Entree> entrees) {
+        verrou.lock();
+        try {
+            listeAttente.vider();
+            for (ListeAttente.Entree entree : entrees) {
+                listeAttente.ajouter(entree.participant(), entree.priorite());
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    @JsonIgnore
+    public int getNombreEnAttente() {
+        verrou.lock();
+        try {
+            return listeAttente.taille();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
     // ============ MÉTHODES MÉTIER AVEC PATTERN OBSERVER ============
 
     /**
      * Ajoute un participant ET l'inscrit automatiquement comme observer
      */
     public void ajouterParticipant(Participant participant) throws CapaciteMaxAtteinteException {
-        if (isAnnule()) {
-            throw new IllegalStateException("Impossible d'ajouter un participant à un événement annulé");
+        verrou.lock();
+        try {
+            verifierInscriptionPossible(participant);
+
+            if (participants.size() >= getCapaciteMax()) {
+                throw new CapaciteMaxAtteinteException(
+                        String.format("Capacité maximale atteinte pour l'événement '%s' (%d/%d)",
+                                getNom(), participants.size(), getCapaciteMax()));
+            }
+
+            inscrire(participant);
+
+            Journal.info(String.format("✅ Participant %s ajouté à '%s' et inscrit comme observer",
+                    participant.getNom(), getNom()));
+
+            // Notifier les autres participants
+            notifierModification(String.format("Nouveau participant: %s (%d/%d places)",
+                    participant.getNom(),
+                    getNombreParticipants(),
+                    getCapaciteMax()));
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Ajoute un groupe de participants en une seule opération atomique
+     * La capacité est vérifiée une seule fois, les observers sont enregistrés en bloc
+     * et une seule notification agrégée est envoyée à chaque observer
+     * @throws CapaciteMaxAtteinteException si le groupe ne tient pas dans les places restantes (rien n'est ajouté)
+     */
+    public void ajouterParticipants(Collection<Participant> nouveaux) throws CapaciteMaxAtteinteException {
+        verrou.lock();
+        try {
+            Set<Participant> groupe = new LinkedHashSet<>(nouveaux);
+            if (groupe.size() != nouveaux.size()) {
+                throw new IllegalArgumentException("Le groupe contient des participants en double");
+            }
+            for (Participant participant : groupe) {
+                verifierInscriptionPossible(participant);
+            }
+
+            if (participants.size() + groupe.size() > getCapaciteMax()) {
+                throw new CapaciteMaxAtteinteException(
+                        String.format("Capacité insuffisante pour l'événement '%s' : %d inscriptions demandées, %d places disponibles",
+                                getNom(), groupe.size(), getPlacesDisponibles()));
+            }
+
+            if (groupe.isEmpty()) {
+                return;
+            }
+
+            participants.addAll(groupe);
+            for (Participant participant : groupe) {
+                listeAttente.retirer(participant);
+            }
+
+            // AUTOMATIQUEMENT ajouter comme observers (une seule copie de la liste)
+            int ajoutes = observers.ajouterTous(groupe);
+            Journal.info(String.format(
+                    "👁️  [OBSERVER] %d observers ajoutés à '%s'. Total: %d observers",
+                    ajoutes, getNom(), observers.taille()
+            ));
+
+            Journal.info(String.format("✅ %d participants ajoutés à '%s' et inscrits comme observers",
+                    groupe.size(), getNom()));
+
+            // Une seule notification pour tout le groupe
+            notifierModification(String.format("%d nouveaux participants (%d/%d places)",
+                    groupe.size(),
+                    getNombreParticipants(),
+                    getCapaciteMax()));
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Inscrit le participant s'il reste de la place, sinon le place en liste d'attente
+     * @return true si le participant est inscrit, false s'il est en liste d'attente
+     */
+    public boolean ajouterParticipantOuListeAttente(Participant participant) {
+        verrou.lock();
+        try {
+            verifierInscriptionPossible(participant);
+
+            if (participants.size() < getCapaciteMax()) {
+                ajouterParticipant(participant);
+                return true;
+            }
+
+            if (!listeAttente.ajouter(participant)) {
+                throw new IllegalArgumentException("Le participant est déjà en liste d'attente pour cet événement");
+            }
+
+            Journal.info(String.format("⏳ Participant %s en liste d'attente pour '%s' (position %d)",
+                    participant.getNom(), getNom(), listeAttente.getPosition(participant)));
+            return false;
+        } catch (CapaciteMaxAtteinteException e) {
+            // Impossible : la capacité est vérifiée sous le verrou
+            throw new IllegalStateException(e);
+        } finally {
+            verrou.unlock();
         }
+    }
 
-        if (participants.size() >= getCapaciteMax()) {
-            throw new CapaciteMaxAtteinteException(
-                    String.format("Capacité maximale atteinte pour l'événement '%s' (%d/%d)",
-                            getNom(), participants.size(), getCapaciteMax()));
+    /**
+     * Retire un participant de la liste d'attente
+     */
+    public boolean retirerDeListeAttente(Participant participant) {
+        verrou.lock();
+        try {
+            return listeAttente.retirer(participant);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Position du participant dans la liste d'attente (1 = prochain promu), -1 s'il n'y figure pas
+     */
+    public int getPositionListeAttente(Participant participant) {
+        verrou.lock();
+        try {
+            return listeAttente.getPosition(participant);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public boolean estEnListeAttente(Participant participant) {
+        verrou.lock();
+        try {
+            return listeAttente.contient(participant);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Retire un participant ET le désabonne automatiquement
+     * La place libérée est attribuée au premier de la liste d'attente
+     */
+    public boolean retirerParticipant(Participant participant) {
+        verrou.lock();
+        try {
+            boolean removed = participants.remove(participant);
+            if (removed) {
+                // AUTOMATIQUEMENT retirer des observers
+                retirerObserver(participant);
+
+                Journal.info(String.format("❌ Participant %s retiré de '%s' et désabonné",
+                        participant.getNom(), getNom()));
+
+                // Notifier les autres participants
+                notifierModification(String.format("Départ participant: %s (%d/%d places)",
+                        participant.getNom(),
+                        getNombreParticipants(),
+                        getCapaciteMax()));
+
+                promouvoirListeAttente();
+            }
+            return removed;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Retire un groupe de participants en une seule opération
+     * Une seule notification agrégée est envoyée, puis les places libérées sont attribuées à la liste d'attente
+     * @return le nombre de participants effectivement retirés
+     */
+    public int retirerParticipants(Collection<Participant> partants) {
+        verrou.lock();
+        try {
+            Set<Participant> groupe = new LinkedHashSet<>(partants);
+            groupe.retainAll(participants);
+            if (groupe.isEmpty()) {
+                return 0;
+            }
+
+            participants.removeAll(groupe);
+
+            // AUTOMATIQUEMENT retirer des observers (une seule copie de la liste)
+            observers.retirerTous(groupe);
+            Journal.info(String.format(
+                    "👁️  [OBSERVER] %d observers retirés de '%s'. Total: %d observers",
+                    groupe.size(), getNom(), observers.taille()
+            ));
+
+            Journal.info(String.format("❌ %d participants retirés de '%s' et désabonnés",
+                    groupe.size(), getNom()));
+
+            notifierModification(String.format("Départ de %d participants (%d/%d places)",
+                    groupe.size(),
+                    getNombreParticipants(),
+                    getCapaciteMax()));
+
+            promouvoirListeAttente();
+            return groupe.size();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void verifierInscriptionPossible(Participant participant) {
+        if (isAnnule()) {
+            throw new IllegalStateException("Impossible d'ajouter un participant à un événement annulé");
         }
 
         if (participants.contains(participant)) {
             throw new IllegalArgumentException("Le participant est déjà inscrit à cet événement");
         }
+    }
 
+    private void inscrire(Participant participant) {
         participants.add(participant);
+        listeAttente.retirer(participant);
 
         // AUTOMATIQUEMENT ajouter comme observer
         ajouterObserver(participant);
-
-        System.out.println(String.format("✅ Participant %s ajouté à '%s' et inscrit comme observer",
-                participant.getNom(), getNom()));
-
-        // Notifier les autres participants
-        notifierModification(String.format("Nouveau participant: %s (%d/%d places)",
-                participant.getNom(),
-                getNombreParticipants(),
-                getCapaciteMax()));
     }
 
     /**
-     * Retire un participant ET le désabonne automatiquement
+     * Attribue les places libres aux participants en tête de liste d'attente
+     * Appelée sous le verrou
      */
-    public boolean retirerParticipant(Participant participant) {
-        boolean removed = participants.remove(participant);
-        if (removed) {
-            // AUTOMATIQUEMENT retirer des observers
-            retirerObserver(participant);
-
-            System.out.println(String.format("❌ Participant %s retiré de '%s' et désabonné",
-                    participant.getNom(), getNom()));
+    private void promouvoirListeAttente() {
+        while (!isAnnule() && participants.size() < getCapaciteMax() && !listeAttente.estVide()) {
+            Participant promu = listeAttente.extraireTete();
+            inscrire(promu);
+
+            Journal.info(String.format("🎟️ Participant %s promu depuis la liste d'attente de '%s'",
+                    promu.getNom(), getNom()));
+
+            try {
+                promu.onPromotionListeAttente(getNom(), String.format(
+                        "Une place s'est libérée : vous êtes inscrit(e) (%d/%d places)",
+                        getNombreParticipants(), getCapaciteMax()));
+            } catch (Exception e) {
+                Journal.erreur("❌ Erreur notification observer: " + e.getMessage());
+            }
 
-            // Notifier les autres participants
-            notifierModification(String.format("Départ participant: %s (%d/%d places)",
-                    participant.getNom(),
+            notifierModification(String.format("Nouveau participant (liste d'attente): %s (%d/%d places)",
+                    promu.getNom(),
                     getNombreParticipants(),
                     getCapaciteMax()));
         }
-        return removed;
     }
 
     /**
      * Annule l'événement et notifie AUTOMATIQUEMENT tous les observers
      */
     public void annuler() {
-        setAnnule(true);
+        // Les changements encore en attente partent avant l'annulation
+        regroupement().vider();
+
+        // Sous le verrou : aucune inscription ne peut s'intercaler entre l'annulation et le vidage
+        // de la liste d'attente (les personnes en attente n'obtiendront plus de place)
+        verrou.lock();
+        try {
+            setAnnule(true);
+            listeAttente.vider();
+        } finally {
+            verrou.unlock();
+        }
 
         String messageAnnulation = String.format(
                 "L'événement '%s' prévu le %s à %s a été annulé. Nous nous excusons pour la gêne occasionnée.",
                 getNom(),
-                getDate().format(DateTimeFormatter.ofPattern("dd/MM/yyyy à HH:mm")),
+                getDate().format(FormatsDate.DATE_A_HEURE),
                 getLieu()
         );
 
         // NOTIFICATION AUTOMATIQUE à tous les observers
         notifierAnnulation(messageAnnulation);
 
-        System.out.println(String.format("🚫 Événement '%s' annulé. %d observers notifiés automatiquement.",
-                getNom(), observers.size()));
+        Journal.info(String.format("🚫 Événement '%s' annulé. %d observers notifiés automatiquement.",
+                getNom(), observers.taille()));
     }
 
     public boolean estInscrit(Participant participant) {
@@ -337,26 +710,55 @@ public abstract class Evenement implements EvenementObservable {
 
     public abstract void afficherDetails();
 
+    /**
+     * Nouvelle instance du même type, avec les attributs propres à la sous-classe
+     */
+    protected abstract Evenement creerCopie();
+
     public void afficherInfosGenerales() {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
         System.out.println("=== INFORMATIONS GÉNÉRALES ===");
         System.out.println("ID: " + getId());
         System.out.println("Nom: " + getNom());
-        System.out.println("Date: " + getDate().format(formatter));
+        System.out.println("Date: " + getDate().format(FormatsDate.DATE_HEURE));
         System.out.println("Lieu: " + getLieu());
         System.out.println("Capacité: " + getNombreParticipants() + "/" + getCapaciteMax());
         System.out.println("Statut: " + (isAnnule() ? "ANNULÉ" : "ACTIF"));
         System.out.println("Places disponibles: " + getPlacesDisponibles());
-        System.out.println("Observers actifs: " + observers.size());
+        System.out.println("En liste d'attente: " + getNombreEnAttente());
+        System.out.println("Observers actifs: " + observers.taille());
     }
 
     // ============ MÉTHODES UTILITAIRES ============
 
+    /**
+     * Copie de l'état sauvegardé (attributs, inscrits, liste d'attente), sans observers :
+     * les participants sont partagés, seules les collections sont dupliquées
+     */
+    public Evenement copier() {
+        Evenement copie = creerCopie();
+        copie.id.set(getId());
+        copie.nom.set(getNom());
+        copie.date.set(getDate());
+        copie.lieu.set(getLieu());
+        copie.capaciteMax.set(getCapaciteMax());
+        verrou.lock();
+        try {
+            copie.annule.set(isAnnule());
+            copie.participants.setAll(participants);
+            for (ListeAttente.Entree entree : listeAttente.versEntrees()) {
+                copie.listeAttente.ajouter(entree.participant(), entree.priorite());
+            }
+        } finally {
+            verrou.unlock();
+        }
+        return copie;
+    }
+
     @Override
     public String toString() {
         return String.format("%s{id='%s', nom='%s', participants=%d/%d, observers=%d}",
                 getClass().getSimpleName(), getId(), getNom(),
-                getNombreParticipants(), getCapaciteMax(), observers.size());
+                getNombreParticipants(), getCapaciteMax(), observers.taille());
     }
 
     @Override
@@ -0,0 +1,25 @@
+package com.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Vue compacte d'un événement pour les listes de l'API (sans la liste des participants)
+ * Instantané immuable : lisible depuis n'importe quel thread
+ */
+public record EvenementResume(String id, String type, String nom, LocalDateTime date, String lieu,
+                              int capaciteMax, int nombreParticipants, int nombreEnAttente, boolean annule) {
+
+    public static EvenementResume de(Evenement evenement) {
+        return new EvenementResume(
+                evenement.getId(),
+                evenement.getClass().getSimpleName().toLowerCase(),
+                evenement.getNom(),
+                evenement.getDate(),
+                evenement.getLieu(),
+                evenement.getCapaciteMax(),
+                evenement.getNombreParticipants(),
+                evenement.getNombreEnAttente(),
+                evenement.isAnnule()
+        );
+    }
+}
@@ -0,0 +1,151 @@
+package com.model;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Liste d'attente d'un événement complet
+ * File FIFO équitable découpée en niveaux de priorité (les organisateurs passent en premier)
+ * Non thread-safe : l'accès est protégé par le verrou de l'événement propriétaire
+ */
+public class ListeAttente {
+
+    /**
+     * Niveaux de priorité, du plus prioritaire au moins prioritaire
+     */
+    public enum Priorite {
+        ORGANISATEUR,
+        STANDARD;
+
+        public static Priorite de(Participant participant) {
+            return participant instanceof Organisateur ? ORGANISATEUR : STANDARD;
+        }
+    }
+
+    /**
+     * Participant en attente et son niveau, dans l'ordre de promotion (forme sauvegardée)
+     */
+    public record Entree(Priorite priorite, Participant participant) {}
+
+    private final Map<Priorite, Deque<Participant>> files;
+    // Niveau de chaque membre : celui de l'inscription, conservé même si le participant est relu sans son type
+    private final Map<Participant, Priorite> membres;
+
+    public ListeAttente() {
+        this.files = new EnumMap<>(Priorite.class);
+        for (Priorite priorite : Priorite.values()) {
+            files.put(priorite, new ArrayDeque<>());
+        }
+        this.membres = new HashMap<>();
+    }
+
+    /**
+     * Ajoute un participant en fin de file de son niveau de priorité
+     * @return false si le participant est déjà en attente
+     */
+    public boolean ajouter(Participant participant) {
+        return ajouter(participant, Priorite.de(participant));
+    }
+
+    /**
+     * Ajoute un participant en fin de file du niveau donné (rechargement d'une sauvegarde)
+     */
+    public boolean ajouter(Participant participant, Priorite priorite) {
+        if (membres.putIfAbsent(participant, priorite) != null) {
+            return false;
+        }
+        files.get(priorite).addLast(participant);
+        return true;
+    }
+
+    /**
+     * Retire et retourne le participant en tête de file (le plus prioritaire, puis le plus ancien)
+     * @return null si la liste est vide
+     */
+    public Participant extraireTete() {
+        for (Priorite priorite : Priorite.values()) {
+            Participant tete = files.get(priorite).pollFirst();
+            if (tete != null) {
+                membres.remove(tete);
+                return tete;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Retire un participant de la liste d'attente
+     */
+    public boolean retirer(Participant participant) {
+        Priorite priorite = membres.remove(participant);
+        if (priorite == null) {
+            return false;
+        }
+        return files.get(priorite).remove(participant);
+    }
+
+    public boolean contient(Participant participant) {
+        return membres.containsKey(participant);
+    }
+
+    /**
+     * Position (1 = prochain promu) du participant, ou -1 s'il n'est pas en attente
+     */
+    public int getPosition(Participant participant) {
+        if (!membres.containsKey(participant)) {
+            return -1;
+        }
+        int position = 1;
+        for (Priorite priorite : Priorite.values()) {
+            for (Participant enAttente : files.get(priorite)) {
+                if (enAttente.equals(participant)) {
+                    return position;
+                }
+                position++;
+            }
+        }
+        return -1;
+    }
+
+    public int taille() {
+        return membres.size();
+    }
+
+    public boolean estVide() {
+        return membres.isEmpty();
+    }
+
+    public void vider() {
+        files.values().forEach(Deque::clear);
+        membres.clear();
+    }
+
+    /**
+     * Copie de la liste dans l'ordre de promotion
+     */
+    public List<Participant> versListe() {
+        List<Participant> liste = new ArrayList<>(membres.size());
+        for (Priorite priorite : Priorite.values()) {
+            liste.addAll(files.get(priorite));
+        }
+        return liste;
+    }
+
+    /**
+     * Copie de la liste dans l'ordre de promotion, avec le niveau de chacun
+     */
+    public List<Entree> versEntrees() {
+        List<Entree> entrees = new ArrayList<>(membres.size());
+        for (Priorite priorite : Priorite.values()) {
+            for (Participant participant : files.get(priorite)) {
+                entrees.add(new Entree(priorite, participant));
+            }
+        }
+        return entrees;
+    }
+}
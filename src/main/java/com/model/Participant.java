@@ -4,6 +4,10 @@ import javafx.beans.property.*;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.observer.EvenementObserver;
+import com.notification.BoiteEnvoi;
+import com.notification.ModeleMessage;
+import com.notification.NotificationSortante;
+import com.util.Journal;
 
 
 /**
@@ -11,6 +15,16 @@ import com.observer.EvenementObserver;
  */
 public class Participant implements EvenementObserver {
 
+    // Modèles compilés une fois, partagés par tous les participants d'une même diffusion
+    private static final ModeleMessage MODELE_MODIFICATION = ModeleMessage.compiler(
+            "🔔 [{destinataire}] ÉVÉNEMENT MODIFIÉ: {evenement}\n   📝 {message}");
+    private static final ModeleMessage MODELE_ANNULATION = ModeleMessage.compiler(
+            "❌ [{destinataire}] ÉVÉNEMENT ANNULÉ: {evenement}\n   📝 {message}\n   ⚠️  Vous étiez inscrit(e) à cet événement!");
+    private static final ModeleMessage MODELE_INFO = ModeleMessage.compiler(
+            "ℹ️  [{destinataire}] CHANGEMENT: {evenement}\n   📝 {message}");
+    private static final ModeleMessage MODELE_PROMOTION = ModeleMessage.compiler(
+            "🎟️ [{destinataire}] PLACE OBTENUE: {evenement}\n   📝 {message}");
+
     // Properties JavaFX pour le binding avec l'interface
     @JsonIgnore
     private StringProperty id;
@@ -39,29 +53,30 @@ public class Participant implements EvenementObserver {
     }
 
     // ============ IMPLÉMENTATION EVENEMENT OBSERVER ============
+    // Chaque notification est affichée puis déposée dans la boîte d'envoi (si démarrée) pour livraison
 
     @Override
     public void onEvenementModifie(String evenementNom, String message) {
-        System.out.println(String.format(
-                "🔔 [%s] ÉVÉNEMENT MODIFIÉ: %s\n   📝 %s",
-                getNom(), evenementNom, message
-        ));
+        Journal.info(MODELE_MODIFICATION.rendre(evenementNom, message, getNom()));
+        BoiteEnvoi.deposerSiActive(this, NotificationSortante.Nature.MODIFICATION, evenementNom, message);
     }
 
     @Override
     public void onEvenementAnnule(String evenementNom, String message) {
-        System.out.println(String.format(
-                "❌ [%s] ÉVÉNEMENT ANNULÉ: %s\n   📝 %s\n   ⚠️  Vous étiez inscrit(e) à cet événement!",
-                getNom(), evenementNom, message
-        ));
+        Journal.info(MODELE_ANNULATION.rendre(evenementNom, message, getNom()));
+        BoiteEnvoi.deposerSiActive(this, NotificationSortante.Nature.ANNULATION, evenementNom, message);
     }
 
     @Override
     public void onEvenementInfoModifiee(String evenementNom, String message) {
-        System.out.println(String.format(
-                "ℹ️  [%s] CHANGEMENT: %s\n   📝 %s",
-                getNom(), evenementNom, message
-        ));
+        Journal.info(MODELE_INFO.rendre(evenementNom, message, getNom()));
+        BoiteEnvoi.deposerSiActive(this, NotificationSortante.Nature.INFO, evenementNom, message);
+    }
+
+    @Override
+    public void onPromotionListeAttente(String evenementNom, String message) {
+        Journal.info(MODELE_PROMOTION.rendre(evenementNom, message, getNom()));
+        BoiteEnvoi.deposerSiActive(this, NotificationSortante.Nature.PROMOTION, evenementNom, message);
     }
 
     // ============ PROPERTIES JAVAFX ============
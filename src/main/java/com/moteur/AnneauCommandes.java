@@ -0,0 +1,145 @@
+package com.moteur;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Anneau de commandes à emplacements préalloués : plusieurs producteurs, un seul consommateur
+ * - un producteur réserve une séquence (compteur atomique), remplit l'emplacement puis le publie
+ * - le consommateur lit les séquences publiées contiguës par lots, puis libère les emplacements
+ * - un producteur attend si l'anneau est plein (le consommateur a un tour de retard)
+ * Aucune file chaînée ni verrou : seul l'objet Commande et son futur sont alloués par soumission
+ */
+final class AnneauCommandes {
+
+    private static final int ATTENTE_ACTIVE = 100;
+    private static final int ATTENTE_CEDEE = 100;
+    private static final long ATTENTE_PARQUEE_NANOS = 50_000;
+    // Anneau plein : les producteurs espacent leurs vérifications pour laisser le processeur au consommateur
+    private static final long ATTENTE_PRODUCTEUR_MAX_NANOS = 1_000_000;
+
+    /**
+     * Emplacement de l'anneau, réutilisé à chaque tour
+     */
+    static final class Emplacement {
+        Commande commande;
+        CompletableFuture<Object> resultat;
+        long soumisNanos;
+        Object valeur;
+        Throwable erreur;
+
+        void vider() {
+            commande = null;
+            resultat = null;
+            valeur = null;
+            erreur = null;
+        }
+    }
+
+    private final Emplacement[] emplacements;
+    private final int masque;
+
+    // Prochaine séquence à réserver par un producteur
+    private final AtomicLong prochaine = new AtomicLong();
+    // Séquence publiée dans chaque emplacement (-1 = jamais publiée)
+    private final AtomicLongArray publiees;
+    // Dernière séquence libérée par le consommateur
+    private volatile long liberee = -1;
+
+    AnneauCommandes(int taille) {
+        if (taille <= 0 || Integer.bitCount(taille) != 1) {
+            throw new IllegalArgumentException("La taille de l'anneau doit être une puissance de 2: " + taille);
+        }
+        this.emplacements = new Emplacement[taille];
+        this.masque = taille - 1;
+        this.publiees = new AtomicLongArray(taille);
+        for (int i = 0; i < taille; i++) {
+            emplacements[i] = new Emplacement();
+            publiees.set(i, -1);
+        }
+    }
+
+    // ============ PRODUCTEURS ============
+
+    /**
+     * Réserve la prochaine séquence, en attendant qu'un emplacement se libère si l'anneau est plein
+     */
+    long reserver() {
+        long sequence = prochaine.getAndIncrement();
+        long attente = ATTENTE_PARQUEE_NANOS;
+        while (sequence - emplacements.length > liberee) {
+            LockSupport.parkNanos(attente);
+            attente = Math.min(attente * 2, ATTENTE_PRODUCTEUR_MAX_NANOS);
+        }
+        return sequence;
+    }
+
+    Emplacement get(long sequence) {
+        return emplacements[(int) sequence & masque];
+    }
+
+    void publier(long sequence) {
+        publiees.setRelease((int) sequence & masque, sequence);
+    }
+
+    // ============ CONSOMMATEUR ============
+
+    /**
+     * Dernière séquence publiée contiguë à partir de debut (debut - 1 si aucune)
+     */
+    long dernierePubliee(long debut) {
+        long sequence = debut;
+        long limite = debut + emplacements.length;
+        while (sequence < limite && publiees.getAcquire((int) sequence & masque) == sequence) {
+            sequence++;
+        }
+        return sequence - 1;
+    }
+
+    /**
+     * Attend qu'au moins la séquence debut soit publiée
+     * @return la dernière séquence publiée contiguë, ou debut - 1 si le délai est écoulé
+     */
+    long attendrePubliee(long debut, long delaiNanos) {
+        long echeance = System.nanoTime() + delaiNanos;
+        int tentatives = 0;
+        long disponible;
+        while ((disponible = dernierePubliee(debut)) < debut) {
+            if (System.nanoTime() >= echeance) {
+                return debut - 1;
+            }
+            tentatives = attendre(tentatives);
+        }
+        return disponible;
+    }
+
+    void liberer(long sequence) {
+        liberee = sequence;
+    }
+
+    long getProchaine() {
+        return prochaine.get();
+    }
+
+    long getLiberee() {
+        return liberee;
+    }
+
+    int getTaille() {
+        return emplacements.length;
+    }
+
+    // Attente progressive : active, puis cédée, puis parquée
+    private static int attendre(int tentatives) {
+        if (tentatives < ATTENTE_ACTIVE) {
+            Thread.onSpinWait();
+        } else if (tentatives < ATTENTE_ACTIVE + ATTENTE_CEDEE) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(ATTENTE_PARQUEE_NANOS);
+        }
+        return tentatives + 1;
+    }
+}
@@ -0,0 +1,58 @@
+package com.moteur;
+
+import com.exception.GestionEvenementsException;
+import com.model.Evenement;
+import com.service.GestionEvenements;
+
+/**
+ * Traduction d'une Commande en appel à GestionEvenements
+ * Partagée par le moteur mono-écrivain (et le rejeu de son journal) et les répliques suiveuses :
+ * une même suite de commandes appliquée au même état produit le même état
+ */
+public final class ApplicateurCommandes {
+
+    private ApplicateurCommandes() {
+    }
+
+    /**
+     * Applique une commande
+     * @return le résultat de la commande (null si elle n'en produit pas)
+     */
+    public static Object appliquer(GestionEvenements gestion, Commande commande) throws GestionEvenementsException {
+        if (commande instanceof Commande.AjouterEvenement c) {
+            gestion.ajouterEvenement(c.evenement());
+            return null;
+        }
+        if (commande instanceof Commande.AjouterParticipant c) {
+            if (gestion.existeParticipant(c.participant().getId())) {
+                throw new IllegalArgumentException("Un participant avec l'ID '" + c.participant().getId() + "' existe déjà");
+            }
+            gestion.ajouterParticipant(c.participant());
+            return null;
+        }
+        if (commande instanceof Commande.InscrireParticipant c) {
+            if (c.listeAttente()) {
+                return gestion.inscrireParticipantOuListeAttente(c.participantId(), c.evenementId());
+            }
+            gestion.inscrireParticipant(c.participantId(), c.evenementId());
+            return true;
+        }
+        if (commande instanceof Commande.DesinscrireParticipant c) {
+            Evenement evenement = gestion.rechercherEvenement(c.evenementId());
+            if (evenement.estInscrit(gestion.rechercherParticipant(c.participantId()))) {
+                gestion.desinscrireParticipant(c.participantId(), c.evenementId());
+                return true;
+            }
+            return gestion.retirerDeListeAttente(c.participantId(), c.evenementId());
+        }
+        if (commande instanceof Commande.ModifierEvenement c) {
+            gestion.modifierEvenement(c.evenementId(), c.nom(), c.date(), c.lieu());
+            return null;
+        }
+        if (commande instanceof Commande.SupprimerEvenement c) {
+            gestion.supprimerEvenement(c.evenementId());
+            return null;
+        }
+        throw new IllegalArgumentException("Commande inconnue: " + commande);
+    }
+}
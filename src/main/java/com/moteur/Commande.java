@@ -0,0 +1,62 @@
+package com.moteur;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.model.Evenement;
+import com.model.Participant;
+import java.time.LocalDateTime;
+
+/**
+ * Mutation de l'état du moteur, soumise au moteur mono-écrivain
+ * Les commandes sont immuables, journalisées telles quelles et rejouées dans le même ordre
+ * pour reconstruire l'état
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "commande")
+@JsonSubTypes({
+        @JsonSubTypes.Type(value = Commande.AjouterEvenement.class, name = "ajouterEvenement"),
+        @JsonSubTypes.Type(value = Commande.AjouterParticipant.class, name = "ajouterParticipant"),
+        @JsonSubTypes.Type(value = Commande.InscrireParticipant.class, name = "inscrireParticipant"),
+        @JsonSubTypes.Type(value = Commande.DesinscrireParticipant.class, name = "desinscrireParticipant"),
+        @JsonSubTypes.Type(value = Commande.ModifierEvenement.class, name = "modifierEvenement"),
+        @JsonSubTypes.Type(value = Commande.SupprimerEvenement.class, name = "supprimerEvenement")
+})
+public sealed interface Commande {
+
+    /**
+     * Événement concerné (null si la commande ne porte sur aucun événement)
+     */
+    String evenementId();
+
+    record AjouterEvenement(Evenement evenement) implements Commande {
+        @Override
+        public String evenementId() {
+            return evenement.getId();
+        }
+    }
+
+    record AjouterParticipant(Participant participant) implements Commande {
+        @Override
+        public String evenementId() {
+            return null;
+        }
+    }
+
+    /**
+     * Résultat : true si inscrit, false si placé en liste d'attente (listeAttente = true)
+     */
+    record InscrireParticipant(String participantId, String evenementId, boolean listeAttente) implements Commande {
+    }
+
+    /**
+     * Désinscrit le participant, ou le retire de la liste d'attente
+     * Résultat : true si le participant était inscrit ou en attente
+     */
+    record DesinscrireParticipant(String participantId, String evenementId) implements Commande {
+    }
+
+    record ModifierEvenement(String evenementId, String nom, LocalDateTime date, String lieu) implements Commande {
+    }
+
+    record SupprimerEvenement(String evenementId) implements Commande {
+    }
+}
@@ -0,0 +1,18 @@
+package com.moteur;
+
+/**
+ * Reçoit les commandes appliquées par le moteur mono-écrivain, dans l'ordre des séquences
+ * Appelé sur le thread écrivain : l'état du moteur peut y être lu sans verrou, mais l'écouteur
+ * ne doit jamais bloquer ni soumettre de commande
+ */
+@FunctionalInterface
+public interface EcouteurCommandes {
+
+    /**
+     * @param sequence séquence de la commande
+     * @param commande commande appliquée
+     * @param succes false si la commande a été rejetée (état inchangé)
+     * @param finDeLot true pour la dernière commande du lot courant
+     */
+    void commandeAppliquee(long sequence, Commande commande, boolean succes, boolean finDeLot);
+}
@@ -0,0 +1,197 @@
+package com.moteur;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.exception.SerializationException;
+import com.util.SerializationUtil;
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.function.BiConsumer;
+
+/**
+ * Journal des commandes du moteur mono-écrivain (une ligne JSON par commande : {"seq":n,"commande":{...}})
+ * Écrit uniquement par le thread écrivain, par lots : une écriture et au plus une synchronisation disque
+ * par lot de commandes, quel que soit le nombre de commandes du lot
+ */
+public class JournalCommandes {
+
+    private static final byte[] FIN_LIGNE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    private final Path fichier;
+    private final boolean synchroniserDisque;
+    private final ObjectMapper mapper;
+    private final ObjectWriter writerJson;
+    // Lot en cours, réutilisé d'un lot à l'autre
+    private final ByteArrayOutputStream tampon = new ByteArrayOutputStream(64 * 1024);
+    private FileChannel canal;
+    private OutputStream sortie;
+
+    /**
+     * @param synchroniserDisque force l'écriture sur disque (fsync) à chaque lot
+     */
+    public JournalCommandes(Path fichier, boolean synchroniserDisque) {
+        this.fichier = fichier;
+        this.synchroniserDisque = synchroniserDisque;
+        this.mapper = SerializationUtil.getMapper();
+        this.writerJson = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Relit le journal dans l'ordre et transmet chaque commande avec sa séquence
+     * Une dernière ligne sans fin de ligne (arrêt brutal pendant l'écriture d'un lot, jamais acquitté)
+     * est ignorée ; toute autre ligne illisible rend le journal inexploitable
+     * @return la dernière séquence lue (-1 si le journal est vide ou absent)
+     */
+    public long rejouer(BiConsumer<Long, Commande> application) throws SerializationException {
+        if (!Files.exists(fichier)) {
+            return -1;
+        }
+        long derniere = -1;
+        int numeroLigne = 0;
+        try (FileChannel lecture = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            long finComplete = finDerniereLigne(lecture);
+            boolean finTronquee = finComplete < lecture.size();
+            BufferedReader reader = new BufferedReader(Channels.newReader(lecture, StandardCharsets.UTF_8));
+            String ligne = reader.readLine();
+            while (ligne != null) {
+                String suivante = reader.readLine();
+                numeroLigne++;
+                if (suivante == null && finTronquee) {
+                    // Sans fin de ligne : le lot n'a pas été écrit en entier, ni donc acquitté
+                    break;
+                }
+                if (!ligne.isBlank()) {
+                    Enregistrement enregistrement;
+                    try {
+                        enregistrement = mapper.readValue(ligne, Enregistrement.class);
+                    } catch (IOException e) {
+                        throw new SerializationException("Journal corrompu à la ligne " + numeroLigne + ": "
+                                + e.getMessage(), "CHARGEMENT", fichier.toString(), e);
+                    }
+                    application.accept(enregistrement.seq, enregistrement.commande);
+                    derniere = enregistrement.seq;
+                }
+                ligne = suivante;
+            }
+            if (finTronquee) {
+                System.err.println("⚠️ [MOTEUR] Dernière ligne tronquée ignorée dans " + fichier);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Lecture du journal impossible à la ligne " + numeroLigne + ": "
+                    + e.getMessage(), "CHARGEMENT", fichier.toString(), e);
+        }
+        return derniere;
+    }
+
+    /**
+     * Prépare une commande dans le lot courant (rien n'est écrit avant ecrireLot)
+     */
+    void ajouter(long sequence, Commande commande) throws SerializationException {
+        try {
+            // Sérialisée à part : une commande non sérialisable ne corrompt pas le lot
+            tampon.write(writerJson.writeValueAsBytes(new Enregistrement(sequence, commande)));
+            tampon.write(FIN_LIGNE);
+        } catch (IOException e) {
+            throw new SerializationException("Sérialisation de la commande impossible: " + e.getMessage(),
+                    "SAUVEGARDE", fichier.toString(), e);
+        }
+    }
+
+    /**
+     * Écrit le lot courant en une seule opération
+     */
+    void ecrireLot() throws SerializationException {
+        if (tampon.size() == 0) {
+            return;
+        }
+        try {
+            if (sortie == null) {
+                if (fichier.getParent() != null) {
+                    Files.createDirectories(fichier.getParent());
+                }
+                canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                        StandardOpenOption.WRITE);
+                // Fin tronquée par un arrêt brutal : coupée avant d'y ajouter le premier lot
+                canal.truncate(finDerniereLigne(canal));
+                canal.position(canal.size());
+                sortie = Channels.newOutputStream(canal);
+            }
+            tampon.writeTo(sortie);
+            if (synchroniserDisque) {
+                canal.force(false);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Écriture du journal impossible: " + e.getMessage(),
+                    "SAUVEGARDE", fichier.toString(), e);
+        } finally {
+            tampon.reset();
+        }
+    }
+
+    public void fermer() {
+        if (sortie != null) {
+            try {
+                sortie.close();
+            } catch (IOException e) {
+                System.err.println("⚠️ [MOTEUR] Fermeture du journal: " + e.getMessage());
+            }
+            sortie = null;
+            canal = null;
+        }
+    }
+
+    /**
+     * Position qui suit la dernière fin de ligne du fichier (0 s'il n'en contient aucune)
+     */
+    private static long finDerniereLigne(FileChannel canal) throws IOException {
+        ByteBuffer bloc = ByteBuffer.allocate(8192);
+        long fin = canal.size();
+        while (fin > 0) {
+            long debut = Math.max(0, fin - bloc.capacity());
+            bloc.clear().limit((int) (fin - debut));
+            while (bloc.hasRemaining()) {
+                if (canal.read(bloc, debut + bloc.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = bloc.position() - 1; i >= 0; i--) {
+                if (bloc.get(i) == '\n') {
+                    return debut + i + 1;
+                }
+            }
+            fin = debut;
+        }
+        return 0;
+    }
+
+    public Path getFichier() {
+        return fichier;
+    }
+
+    /**
+     * Ligne du journal
+     */
+    static class Enregistrement {
+        public long seq;
+        public Commande commande;
+
+        // Constructeur par défaut pour Jackson
+        public Enregistrement() {
+        }
+
+        Enregistrement(long seq, Commande commande) {
+            this.seq = seq;
+            this.commande = commande;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.moteur;
+
+import com.model.Evenement;
+import com.model.EvenementResume;
+import com.service.GestionEvenements;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Modèle de lecture alimenté par le moteur mono-écrivain
+ * Après chaque commande, le thread écrivain publie un résumé immuable de l'événement touché :
+ * les lecteurs de n'importe quel thread consultent ces instantanés sans jamais toucher à l'état mutable
+ */
+public class ModeleLectureEvenements implements EcouteurCommandes {
+
+    private final GestionEvenements gestion;
+    private final Map<String, EvenementResume> resumes = new ConcurrentHashMap<>();
+    private volatile long derniereSequence = -1;
+
+    public ModeleLectureEvenements(GestionEvenements gestion) {
+        this.gestion = gestion;
+    }
+
+    /**
+     * Initialise le modèle avec l'état courant (à appeler avant le démarrage du moteur)
+     */
+    public void initialiser() {
+        resumes.clear();
+        for (Evenement evenement : gestion.getEvenements()) {
+            resumes.put(evenement.getId(), EvenementResume.de(evenement));
+        }
+    }
+
+    @Override
+    public void commandeAppliquee(long sequence, Commande commande, boolean succes, boolean finDeLot) {
+        String evenementId = commande.evenementId();
+        if (succes && evenementId != null) {
+            if (commande instanceof Commande.SupprimerEvenement) {
+                resumes.remove(evenementId);
+            } else {
+                Evenement evenement = gestion.getEvenementsMap().get(evenementId);
+                if (evenement != null) {
+                    resumes.put(evenementId, EvenementResume.de(evenement));
+                }
+            }
+        }
+        derniereSequence = sequence;
+    }
+
+    public EvenementResume get(String evenementId) {
+        return resumes.get(evenementId);
+    }
+
+    /**
+     * Résumés triés par date, filtrés sur le nom (null = tous)
+     */
+    public List<EvenementResume> rechercher(String nom, int limite) {
+        String filtre = nom != null ? nom.toLowerCase() : null;
+        return resumes.values().stream()
+                .filter(resume -> filtre == null || resume.nom().toLowerCase().contains(filtre))
+                .sorted(Comparator.comparing(EvenementResume::date))
+                .limit(limite)
+                .collect(Collectors.toList());
+    }
+
+    public List<EvenementResume> getResumes() {
+        return new ArrayList<>(resumes.values());
+    }
+
+    /**
+     * Séquence de la dernière commande prise en compte
+     */
+    public long getDerniereSequence() {
+        return derniereSequence;
+    }
+}
@@ -0,0 +1,347 @@
+package com.moteur;
+
+import com.exception.*;
+import com.metrics.Chronometre;
+import com.metrics.Compteur;
+import com.metrics.Jauge;
+import com.metrics.RegistreMetriques;
+import com.service.GestionEvenements;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
+
+/**
+ * Moteur mono-écrivain : mode d'exécution alternatif de GestionEvenements
+ * Toutes les mutations sont soumises sous forme de Commande dans un anneau préalloué.
+ * Un unique thread écrivain les consomme par lots :
+ * 1. le lot est journalisé en une seule écriture (journal optionnel)
+ * 2. les commandes sont appliquées une à une, dans l'ordre des séquences
+ * 3. les écouteurs (modèles de lecture) reçoivent chaque commande appliquée
+ * 4. les soumetteurs sont notifiés
+ * Entre deux lots, le thread écrivain exécute les lectures cohérentes demandées via lireEntreLots.
+ * L'état n'étant modifié que par ce thread, les verrous du modèle ne sont jamais disputés.
+ * À réserver au mode sans interface : les collections observables sont modifiées hors du thread JavaFX.
+ */
+public class MoteurMonoEcrivain {
+
+    public static final int TAILLE_DEFAUT = 8192;
+
+    // Attente maximale du thread écrivain avant de revérifier l'arrêt et les lectures en attente
+    private static final long ATTENTE_ECRIVAIN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final GestionEvenements gestion;
+    private final AnneauCommandes anneau;
+    private final JournalCommandes journal;
+    private final List<EcouteurCommandes> ecouteurs = new CopyOnWriteArrayList<>();
+    private final Queue<LectureEntreLots<?>> lectures = new ConcurrentLinkedQueue<>();
+
+    private final Compteur appliquees;
+    private final Compteur rejetees;
+    private final Compteur lots;
+    private final Chronometre latence;
+
+    // Séquence journalisée = décalage + séquence de l'anneau (le journal reprend après la dernière rejouée)
+    private long decalageSequence;
+    private boolean rejoue;
+    private volatile boolean actif;
+    // Soumissions et lectures entre leur vérification d'actif et leur publication : attendues par arreter()
+    private final AtomicInteger depotsEnCours = new AtomicInteger();
+    // Plus aucun dépôt possible : le thread écrivain termine les séquences réservées puis s'arrête
+    private volatile boolean fermeture;
+    private Thread ecrivain;
+    private Jauge jaugeEnAttente;
+
+    /**
+     * @param taille nombre d'emplacements de l'anneau (puissance de 2)
+     * @param journal journal des commandes (null = pas de journalisation)
+     */
+    public MoteurMonoEcrivain(GestionEvenements gestion, int taille, JournalCommandes journal) {
+        this.gestion = Objects.requireNonNull(gestion);
+        this.anneau = new AnneauCommandes(taille);
+        this.journal = journal;
+
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.appliquees = metriques.compteur("moteur_commandes_appliquees_total", "Commandes appliquées par le moteur mono-écrivain");
+        this.rejetees = metriques.compteur("moteur_commandes_rejetees_total", "Commandes rejetées par le moteur mono-écrivain");
+        this.lots = metriques.compteur("moteur_lots_total", "Lots de commandes traités par le thread écrivain");
+        this.latence = metriques.chronometre("moteur_commande_latence_secondes", "Délai entre soumission et application d'une commande");
+    }
+
+    public void ajouterEcouteur(EcouteurCommandes ecouteur) {
+        ecouteurs.add(ecouteur);
+    }
+
+    // ============ CYCLE DE VIE ============
+
+    /**
+     * Réapplique le journal sur l'état courant (à appeler avant demarrer)
+     * @return le nombre de commandes rejouées
+     */
+    public synchronized int rejouer() throws SerializationException {
+        if (actif) {
+            throw new IllegalStateException("Le moteur est déjà démarré");
+        }
+        if (journal == null) {
+            return 0;
+        }
+        int[] nombre = {0};
+        long derniere = journal.rejouer((sequence, commande) -> {
+            try {
+                appliquer(commande);
+            } catch (GestionEvenementsException | RuntimeException e) {
+                // Déjà rejetée lors de l'exécution d'origine
+            }
+            nombre[0]++;
+        });
+        decalageSequence = derniere + 1;
+        rejoue = true;
+        System.out.println(String.format("⚙️ [MOTEUR] %d commande(s) rejouée(s) depuis %s", nombre[0], journal.getFichier()));
+        return nombre[0];
+    }
+
+    /**
+     * Démarre le thread écrivain ; avec un journal, rejouer() doit avoir été appelé au préalable
+     */
+    public synchronized void demarrer() {
+        if (actif) {
+            throw new IllegalStateException("Le moteur est déjà démarré");
+        }
+        if (journal != null && !rejoue) {
+            throw new IllegalStateException("Le journal doit être rejoué avant le démarrage");
+        }
+        fermeture = false;
+        actif = true;
+        // Jauge du moteur démarré (elle remplace celle d'un moteur précédent)
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        metriques.retirer("moteur_commandes_en_attente");
+        jaugeEnAttente = metriques.jauge("moteur_commandes_en_attente", "Commandes soumises non encore appliquées",
+                this::getNombreEnAttente);
+        ecrivain = new Thread(this::boucleEcrivain, "moteur-ecrivain");
+        ecrivain.setDaemon(true);
+        ecrivain.start();
+        System.out.println(String.format("⚙️ [MOTEUR] Moteur mono-écrivain démarré (anneau de %d emplacements%s)",
+                anneau.getTaille(), journal != null ? ", journal " + journal.getFichier() : ""));
+    }
+
+    /**
+     * Arrête le moteur après avoir appliqué toutes les commandes déjà soumises
+     */
+    public synchronized void arreter() {
+        if (!actif) {
+            return;
+        }
+        actif = false;
+        // Un dépôt ayant vu le moteur actif publie sa commande avant que le thread écrivain ne s'arrête
+        while (depotsEnCours.get() > 0) {
+            Thread.onSpinWait();
+        }
+        fermeture = true;
+        try {
+            ecrivain.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (journal != null) {
+            journal.fermer();
+        }
+        RegistreMetriques.getInstance().retirer(jaugeEnAttente);
+        jaugeEnAttente = null;
+        System.out.println(String.format("⚙️ [MOTEUR] Arrêté: %d commande(s) appliquée(s), %d rejetée(s), %d lot(s)",
+                appliquees.getValeur(), rejetees.getValeur(), lots.getValeur()));
+    }
+
+    public boolean estActif() {
+        return actif;
+    }
+
+    // ============ SOUMISSION ============
+
+    /**
+     * Soumet une commande ; le futur est complété une fois la commande journalisée et appliquée
+     * (résultat de la commande, ou exception métier si elle est rejetée)
+     */
+    public CompletableFuture<Object> soumettre(Commande commande) {
+        Objects.requireNonNull(commande, "La commande ne peut pas être null");
+        entrerDepot();
+        try {
+            CompletableFuture<Object> resultat = new CompletableFuture<>();
+            long sequence = anneau.reserver();
+            AnneauCommandes.Emplacement emplacement = anneau.get(sequence);
+            emplacement.commande = commande;
+            emplacement.resultat = resultat;
+            emplacement.soumisNanos = System.nanoTime();
+            anneau.publier(sequence);
+            return resultat;
+        } finally {
+            depotsEnCours.decrementAndGet();
+        }
+    }
+
+    /**
+     * Exécute une lecture sur le thread écrivain, entre deux lots : l'état lu correspond exactement
+     * aux commandes appliquées jusqu'à la séquence transmise (-1 si aucune), sans commande partielle.
+     * La lecture bloque le thread écrivain : elle doit rester courte.
+     * @param lecture reçoit la séquence de la dernière commande appliquée
+     */
+    public <T> CompletableFuture<T> lireEntreLots(LongFunction<T> lecture) {
+        Objects.requireNonNull(lecture, "La lecture ne peut pas être null");
+        entrerDepot();
+        try {
+            LectureEntreLots<T> demande = new LectureEntreLots<>(lecture);
+            lectures.add(demande);
+            return demande.resultat;
+        } finally {
+            depotsEnCours.decrementAndGet();
+        }
+    }
+
+    // Compté avant de vérifier actif : arreter() voit soit le refus, soit le dépôt en cours
+    private void entrerDepot() {
+        depotsEnCours.incrementAndGet();
+        if (!actif) {
+            depotsEnCours.decrementAndGet();
+            throw new IllegalStateException("Le moteur n'est pas démarré");
+        }
+    }
+
+    // ============ THREAD ÉCRIVAIN ============
+
+    private void boucleEcrivain() {
+        long suivante = 0;
+        // Après l'arrêt, termine les commandes déjà réservées
+        while (!fermeture || suivante < anneau.getProchaine()) {
+            long derniere = anneau.attendrePubliee(suivante, ATTENTE_ECRIVAIN_NANOS);
+            if (derniere >= suivante) {
+                traiterLot(suivante, derniere);
+                anneau.liberer(derniere);
+                suivante = derniere + 1;
+            }
+            executerLectures(decalageSequence + suivante - 1);
+        }
+        // Lectures soumises pendant l'arrêt
+        LectureEntreLots<?> demande;
+        while ((demande = lectures.poll()) != null) {
+            demande.resultat.completeExceptionally(new IllegalStateException("Le moteur est arrêté"));
+        }
+    }
+
+    private void executerLectures(long derniereSequence) {
+        LectureEntreLots<?> demande;
+        while ((demande = lectures.poll()) != null) {
+            demande.executer(derniereSequence);
+        }
+    }
+
+    private void traiterLot(long debut, long fin) {
+        lots.incrementer();
+
+        // 1. Journalisation du lot entier avant toute application
+        SerializationException erreurJournal = null;
+        if (journal != null) {
+            for (long sequence = debut; sequence <= fin; sequence++) {
+                AnneauCommandes.Emplacement emplacement = anneau.get(sequence);
+                try {
+                    journal.ajouter(decalageSequence + sequence, emplacement.commande);
+                } catch (SerializationException e) {
+                    emplacement.erreur = e;
+                }
+            }
+            try {
+                journal.ecrireLot();
+            } catch (SerializationException e) {
+                erreurJournal = e;
+                System.err.println("❌ [MOTEUR] Lot " + debut + ".." + fin + " non journalisé: " + e.getMessageDetaille());
+            }
+        }
+
+        for (long sequence = debut; sequence <= fin; sequence++) {
+            AnneauCommandes.Emplacement emplacement = anneau.get(sequence);
+
+            // 2. Application (une commande non journalisée n'est pas appliquée)
+            if (erreurJournal != null) {
+                emplacement.erreur = erreurJournal;
+            } else if (emplacement.erreur == null) {
+                try {
+                    emplacement.valeur = appliquer(emplacement.commande);
+                } catch (GestionEvenementsException | RuntimeException e) {
+                    emplacement.erreur = e;
+                }
+            }
+            boolean succes = emplacement.erreur == null;
+            (succes ? appliquees : rejetees).incrementer();
+
+            // 3. Modèles de lecture
+            for (EcouteurCommandes ecouteur : ecouteurs) {
+                try {
+                    ecouteur.commandeAppliquee(decalageSequence + sequence, emplacement.commande, succes, sequence == fin);
+                } catch (RuntimeException e) {
+                    System.err.println("⚠️ [MOTEUR] Écouteur en erreur: " + e);
+                }
+            }
+
+            // 4. Réponse au soumetteur, puis l'emplacement peut être réutilisé
+            latence.enregistrerDepuis(emplacement.soumisNanos);
+            if (succes) {
+                emplacement.resultat.complete(emplacement.valeur);
+            } else {
+                emplacement.resultat.completeExceptionally(emplacement.erreur);
+            }
+            emplacement.vider();
+        }
+    }
+
+    private Object appliquer(Commande commande) throws GestionEvenementsException {
+        return ApplicateurCommandes.appliquer(gestion, commande);
+    }
+
+    // ============ ÉTAT ============
+
+    /**
+     * Commandes réservées et pas encore appliquées
+     */
+    public long getNombreEnAttente() {
+        return anneau.getProchaine() - 1 - anneau.getLiberee();
+    }
+
+    public long getNombreAppliquees() {
+        return appliquees.getValeur();
+    }
+
+    public long getNombreRejetees() {
+        return rejetees.getValeur();
+    }
+
+    /**
+     * Taille moyenne des lots traités par le thread écrivain
+     */
+    public double getTailleMoyenneLot() {
+        long nombreLots = lots.getValeur();
+        return nombreLots > 0 ? (appliquees.getValeur() + rejetees.getValeur()) / (double) nombreLots : 0;
+    }
+
+    /**
+     * Lecture en attente du prochain intervalle entre deux lots
+     */
+    private static final class LectureEntreLots<T> {
+        final LongFunction<T> lecture;
+        final CompletableFuture<T> resultat = new CompletableFuture<>();
+
+        LectureEntreLots(LongFunction<T> lecture) {
+            this.lecture = lecture;
+        }
+
+        void executer(long derniereSequence) {
+            try {
+                resultat.complete(lecture.apply(derniereSequence));
+            } catch (RuntimeException e) {
+                resultat.completeExceptionally(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.notification;
+
+import com.exception.EnvoiNotificationException;
+import com.exception.SerializationException;
+import com.metrics.RegistreMetriques;
+import com.model.Participant;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boîte d'envoi (outbox) des notifications sortantes - Singleton
+ * Les callbacks des observers se contentent de déposer un enregistrement, journalisé par lots
+ * par le thread écrivain du journal ; un pool de workers le livre ensuite aux canaux, hors de la boucle de diffusion :
+ * - reprise avec attente exponentielle sur les erreurs transitoires
+ * - limitation de débit commune à tous les workers
+ * - métriques de débit et d'échecs
+ */
+public class BoiteEnvoi {
+
+    private static final int TENTATIVES_MAX_DEFAUT = 5;
+    private static final long ATTENTE_INITIALE_MS = 500;
+    private static final long ATTENTE_MAX_MS = 30_000;
+
+    // Instance unique (Singleton)
+    private static volatile BoiteEnvoi instance;
+
+    private final List<CanalNotification> canaux = new CopyOnWriteArrayList<>();
+    private final Map<String, NotificationSortante> enAttente = new ConcurrentHashMap<>();
+    private final LinkedBlockingQueue<NotificationSortante> file = new LinkedBlockingQueue<>();
+    private final ScheduledExecutorService planificateurReprises = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "boite-envoi-reprises");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final LongAdder deposees = new LongAdder();
+    private final LongAdder livrees = new LongAdder();
+    private final LongAdder reprises = new LongAdder();
+    private final LongAdder abandonnees = new LongAdder();
+
+    private volatile JournalBoiteEnvoi journal;
+    private volatile LimiteurDebit limiteur;
+    private volatile int tentativesMax = TENTATIVES_MAX_DEFAUT;
+    private volatile boolean active;
+    private volatile long debutNanos;
+    private final List<Thread> workers = new ArrayList<>();
+    private final AtomicInteger workersOccupes = new AtomicInteger();
+
+    // Constructeur privé (Singleton)
+    private BoiteEnvoi() {
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        metriques.compteur("boite_envoi_deposees_total", "Notifications déposées dans la boîte d'envoi", deposees::sum);
+        metriques.compteur("boite_envoi_livrees_total", "Notifications livrées", livrees::sum);
+        metriques.compteur("boite_envoi_reprises_total", "Nouvelles tentatives de livraison", reprises::sum);
+        metriques.compteur("boite_envoi_abandonnees_total", "Notifications abandonnées", abandonnees::sum);
+        metriques.jauge("boite_envoi_en_attente", "Notifications en attente de livraison", enAttente::size);
+    }
+
+    /**
+     * Obtient l'instance unique (thread-safe)
+     */
+    public static BoiteEnvoi getInstance() {
+        if (instance == null) {
+            synchronized (BoiteEnvoi.class) {
+                if (instance == null) {
+                    instance = new BoiteEnvoi();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Dépose une notification pour un participant si la boîte d'envoi est démarrée
+     * Point d'entrée des callbacks de l'observer : ne bloque jamais sur la livraison
+     */
+    public static void deposerSiActive(Participant destinataire, NotificationSortante.Nature nature,
+                                       String evenementNom, String message) {
+        BoiteEnvoi boite = instance;
+        if (boite != null && boite.active) {
+            boite.deposer(new NotificationSortante(null, nature, destinataire.getId(), destinataire.getNom(),
+                    destinataire.getEmail(), evenementNom, message));
+        }
+    }
+
+    // ============ CYCLE DE VIE ============
+
+    /**
+     * Démarre la boîte d'envoi : rejoue le journal puis lance les workers de livraison
+     * @param fichierJournal journal persistant (créé si absent)
+     * @param nombreWorkers nombre de workers de livraison
+     */
+    public void demarrer(Path fichierJournal, int nombreWorkers) throws SerializationException {
+        demarrer(new JournalBoiteEnvoi(fichierJournal), nombreWorkers);
+    }
+
+    synchronized void demarrer(JournalBoiteEnvoi journal, int nombreWorkers) throws SerializationException {
+        if (active) {
+            throw new IllegalStateException("La boîte d'envoi est déjà démarrée");
+        }
+        if (nombreWorkers <= 0) {
+            throw new IllegalArgumentException("Le nombre de workers doit être positif");
+        }
+
+        this.journal = journal;
+        List<NotificationSortante> aRejouer = journal.rejouer();
+        for (NotificationSortante notification : aRejouer) {
+            enAttente.put(notification.getId(), notification);
+            file.offer(notification);
+        }
+        journal.compacter(aRejouer);
+
+        debutNanos = System.nanoTime();
+        active = true;
+        for (int i = 0; i < nombreWorkers; i++) {
+            Thread worker = new Thread(this::boucleLivraison, "boite-envoi-" + (i + 1));
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+
+        System.out.println(String.format(
+                "📮 [BOÎTE D'ENVOI] Démarrée: %d worker(s), %d canal(aux), %d notification(s) rejouée(s)",
+                nombreWorkers, canaux.size(), aRejouer.size()
+        ));
+    }
+
+    /**
+     * Arrête les workers ; les notifications non livrées restent dans le journal
+     * et seront rejouées au prochain démarrage
+     */
+    public synchronized void arreter() {
+        if (!active) {
+            return;
+        }
+        active = false;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        workers.clear();
+        file.clear();
+        enAttente.clear();
+        journal.fermer();
+        System.out.println("📮 [BOÎTE D'ENVOI] Arrêtée. " + getStatistiques());
+    }
+
+    public boolean estActive() {
+        return active;
+    }
+
+    // ============ CONFIGURATION ============
+
+    public void ajouterCanal(CanalNotification canal) {
+        for (CanalNotification existant : canaux) {
+            if (existant.getNom().equals(canal.getNom())) {
+                throw new IllegalArgumentException("Un canal nommé '" + canal.getNom() + "' existe déjà");
+            }
+        }
+        canaux.add(canal);
+    }
+
+    public boolean retirerCanal(String nom) {
+        return canaux.removeIf(canal -> canal.getNom().equals(nom));
+    }
+
+    /**
+     * Limite le débit total de livraison (null = pas de limite)
+     */
+    public void setLimiteur(LimiteurDebit limiteur) {
+        this.limiteur = limiteur;
+    }
+
+    public void setTentativesMax(int tentativesMax) {
+        if (tentativesMax <= 0) {
+            throw new IllegalArgumentException("Le nombre de tentatives doit être positif");
+        }
+        this.tentativesMax = tentativesMax;
+    }
+
+    // ============ DÉPÔT ============
+
+    /**
+     * Confie au journal puis met en file une copie de la notification pour chaque canal concerné
+     * (sérialisation seulement : l'écriture disque se fait par lots sur le thread du journal)
+     * @return le nombre d'envois mis en file
+     */
+    public int deposer(NotificationSortante modele) {
+        if (!active) {
+            throw new IllegalStateException("La boîte d'envoi n'est pas démarrée");
+        }
+        int deposes = 0;
+        for (CanalNotification canal : canaux) {
+            NotificationSortante notification = modele.pourCanal(canal.getNom());
+            if (!canal.accepte(notification)) {
+                continue;
+            }
+            // En attente avant d'être journalisée : un compactage concurrent la recopie donc toujours
+            enAttente.put(notification.getId(), notification);
+            try {
+                journal.enregistrerDepot(notification);
+            } catch (SerializationException e) {
+                enAttente.remove(notification.getId());
+                System.err.println("❌ [BOÎTE D'ENVOI] Dépôt non journalisé: " + e.getMessageDetaille());
+                continue;
+            }
+            file.offer(notification);
+            deposees.increment();
+            deposes++;
+        }
+        return deposes;
+    }
+
+    // ============ LIVRAISON ============
+
+    private void boucleLivraison() {
+        while (active) {
+            NotificationSortante notification = null;
+            try {
+                notification = file.take();
+                LimiteurDebit limiteurCourant = limiteur;
+                if (limiteurCourant != null) {
+                    limiteurCourant.acquerir();
+                }
+            } catch (InterruptedException e) {
+                // Retirée de la file mais pas livrée : elle y retourne (et reste dans le journal)
+                if (notification != null) {
+                    file.offer(notification);
+                }
+                return;
+            }
+            workersOccupes.incrementAndGet();
+            try {
+                livrer(notification);
+            } finally {
+                workersOccupes.decrementAndGet();
+            }
+        }
+    }
+
+    private void livrer(NotificationSortante notification) {
+        CanalNotification canal = trouverCanal(notification.getCanal());
+        if (canal == null) {
+            abandonner(notification, "Canal inconnu: " + notification.getCanal());
+            return;
+        }
+
+        int tentative = notification.incrementerTentatives();
+        try {
+            canal.envoyer(notification);
+            livrees.increment();
+            terminer(notification, JournalBoiteEnvoi.LIVRAISON, null);
+        } catch (EnvoiNotificationException e) {
+            if (e.estReessayable() && tentative < tentativesMax) {
+                reprises.increment();
+                long attente = Math.min(ATTENTE_MAX_MS, ATTENTE_INITIALE_MS << Math.min(tentative - 1, 16));
+                planificateurReprises.schedule(() -> {
+                    if (active) {
+                        file.offer(notification);
+                    }
+                }, attente, TimeUnit.MILLISECONDS);
+            } else {
+                abandonner(notification, e.getMessage());
+            }
+        } catch (RuntimeException e) {
+            abandonner(notification, "Erreur inattendue du canal: " + e);
+        }
+    }
+
+    private void abandonner(NotificationSortante notification, String motif) {
+        abandonnees.increment();
+        System.err.println(String.format("❌ [BOÎTE D'ENVOI] Abandon après %d tentative(s) de %s: %s",
+                notification.getTentatives(), notification, motif));
+        terminer(notification, JournalBoiteEnvoi.ABANDON, motif);
+    }
+
+    private void terminer(NotificationSortante notification, String op, String motif) {
+        enAttente.remove(notification.getId());
+        try {
+            if (JournalBoiteEnvoi.LIVRAISON.equals(op)) {
+                journal.enregistrerLivraison(notification.getId());
+            } else {
+                journal.enregistrerAbandon(notification.getId(), motif);
+            }
+            journal.compacterSiNecessaire(enAttente.values());
+        } catch (SerializationException e) {
+            // La notification sera éventuellement relivrée au redémarrage
+            System.err.println("⚠️ [BOÎTE D'ENVOI] Journal non mis à jour: " + e.getMessageDetaille());
+        }
+    }
+
+    private CanalNotification trouverCanal(String nom) {
+        for (CanalNotification canal : canaux) {
+            if (canal.getNom().equals(nom)) {
+                return canal;
+            }
+        }
+        return null;
+    }
+
+    // ============ MÉTRIQUES ============
+
+    public long getNombreDeposees() { return deposees.sum(); }
+    public long getNombreLivrees() { return livrees.sum(); }
+    public long getNombreReprises() { return reprises.sum(); }
+    public long getNombreAbandonnees() { return abandonnees.sum(); }
+
+    /**
+     * Notifications déposées et pas encore livrées ni abandonnées
+     */
+    public int getNombreEnAttente() { return enAttente.size(); }
+
+    public int getWorkersOccupes() { return workersOccupes.get(); }
+
+    /**
+     * Débit moyen de livraison depuis le démarrage
+     */
+    public double getDebitParSeconde() {
+        double secondes = (System.nanoTime() - debutNanos) / 1_000_000_000.0;
+        return secondes > 0 ? getNombreLivrees() / secondes : 0;
+    }
+
+    public String getStatistiques() {
+        return String.format("Déposées: %d | Livrées: %d | Reprises: %d | Abandonnées: %d | En attente: %d | Débit: %.1f/s",
+                getNombreDeposees(), getNombreLivrees(), getNombreReprises(), getNombreAbandonnees(),
+                getNombreEnAttente(), getDebitParSeconde());
+    }
+}
@@ -0,0 +1,61 @@
+package com.notification;
+
+import com.exception.EnvoiNotificationException;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Canal local : ajoute chaque notification livrée à un fichier texte
+ * Remplace un vrai canal (email, webhook) en développement et en démonstration
+ */
+public class CanalFichier implements CanalNotification {
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+
+    private final String nom;
+    private final Path fichier;
+    private final ReentrantLock verrou = new ReentrantLock();
+
+    public CanalFichier(Path fichier) {
+        this("fichier", fichier);
+    }
+
+    public CanalFichier(String nom, Path fichier) {
+        this.nom = nom;
+        this.fichier = fichier;
+    }
+
+    @Override
+    public String getNom() {
+        return nom;
+    }
+
+    @Override
+    public void envoyer(NotificationSortante notification) throws EnvoiNotificationException {
+        String ligne = String.format("[%s] À: %s <%s> | %s | %s%n",
+                notification.getDateCreation().format(FORMATTER),
+                notification.getDestinataireNom(), notification.getAdresse(),
+                notification.getObjet(), notification.getMessage());
+
+        verrou.lock();
+        try (BufferedWriter writer = Files.newBufferedWriter(fichier, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            writer.write(ligne);
+        } catch (IOException e) {
+            throw new EnvoiNotificationException("Écriture impossible dans " + fichier + ": " + e.getMessage(),
+                    nom, true, e);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public Path getFichier() {
+        return fichier;
+    }
+}
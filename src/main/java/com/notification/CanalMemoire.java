@@ -0,0 +1,79 @@
+package com.notification;
+
+import com.exception.EnvoiNotificationException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Canal en mémoire : conserve les notifications livrées
+ * Peut simuler une latence et un taux d'échec transitoire pour éprouver les reprises
+ */
+public class CanalMemoire implements CanalNotification {
+
+    private final String nom;
+    private final List<NotificationSortante> livrees = Collections.synchronizedList(new ArrayList<>());
+    private volatile double tauxEchec;
+    private volatile long latenceMs;
+
+    public CanalMemoire() {
+        this("memoire");
+    }
+
+    public CanalMemoire(String nom) {
+        this.nom = nom;
+    }
+
+    @Override
+    public String getNom() {
+        return nom;
+    }
+
+    @Override
+    public void envoyer(NotificationSortante notification) throws EnvoiNotificationException {
+        if (latenceMs > 0) {
+            try {
+                Thread.sleep(latenceMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new EnvoiNotificationException("Envoi interrompu", nom, true, e);
+            }
+        }
+        if (tauxEchec > 0 && ThreadLocalRandom.current().nextDouble() < tauxEchec) {
+            throw new EnvoiNotificationException("Échec simulé", nom, true);
+        }
+        livrees.add(notification);
+    }
+
+    /**
+     * Copie des notifications livrées, dans l'ordre de livraison
+     */
+    public List<NotificationSortante> getLivrees() {
+        synchronized (livrees) {
+            return new ArrayList<>(livrees);
+        }
+    }
+
+    public int getNombreLivrees() {
+        return livrees.size();
+    }
+
+    public void vider() {
+        livrees.clear();
+    }
+
+    /**
+     * Proportion d'envois en échec simulé (entre 0 et 1)
+     */
+    public void setTauxEchec(double tauxEchec) {
+        if (tauxEchec < 0 || tauxEchec > 1) {
+            throw new IllegalArgumentException("Le taux d'échec doit être compris entre 0 et 1");
+        }
+        this.tauxEchec = tauxEchec;
+    }
+
+    public void setLatenceMs(long latenceMs) {
+        this.latenceMs = Math.max(0, latenceMs);
+    }
+}
@@ -0,0 +1,28 @@
+package com.notification;
+
+import com.exception.EnvoiNotificationException;
+
+/**
+ * Adaptateur de livraison (email, webhook, fichier...)
+ * Les implémentations sont appelées depuis plusieurs workers à la fois et doivent être thread-safe
+ */
+public interface CanalNotification {
+
+    /**
+     * Nom unique du canal, reporté dans le journal de la boîte d'envoi
+     */
+    String getNom();
+
+    /**
+     * Livre la notification
+     * @throws EnvoiNotificationException si la livraison échoue (réessayée si l'erreur est transitoire)
+     */
+    void envoyer(NotificationSortante notification) throws EnvoiNotificationException;
+
+    /**
+     * Indique si le canal doit recevoir cette notification (par défaut : toutes)
+     */
+    default boolean accepte(NotificationSortante notification) {
+        return true;
+    }
+}
@@ -0,0 +1,385 @@
+package com.notification;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.exception.SerializationException;
+import com.util.SerializationUtil;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Journal persistant de la boîte d'envoi (une ligne JSON par enregistrement)
+ * - ENQ : notification déposée
+ * - ACK : notification livrée
+ * - ECHEC : notification abandonnée après épuisement des tentatives
+ * Au redémarrage, les ENQ sans ACK ni ECHEC sont rejouées ; le journal est compacté
+ * lorsque les enregistrements terminés dominent
+ * Les enregistrements sont sérialisés par l'appelant puis écrits par un thread écrivain, par lots :
+ * une écriture et un flush par lot, sans accès disque dans les callbacks des observers
+ */
+public class JournalBoiteEnvoi {
+
+    static final String DEPOT = "ENQ";
+    static final String LIVRAISON = "ACK";
+    static final String ABANDON = "ECHEC";
+
+    // Nombre minimal d'enregistrements terminés avant d'envisager un compactage
+    private static final int SEUIL_COMPACTAGE = 10_000;
+    private static final int TAILLE_LOT = 512;
+    private static final Ligne ARRET = new Ligne("", false);
+
+    private final Path fichier;
+    private final ObjectWriter writerJson;
+    private final int seuilCompactage;
+    // Protège le fichier : écriture d'un lot ou compactage
+    private final ReentrantLock verrou = new ReentrantLock();
+    private FileChannel canal;
+    private OutputStream sortie;
+    private int enregistrementsTermines;
+
+    // Lignes sérialisées en attente du thread écrivain (démarré à la première ligne)
+    private final LinkedBlockingQueue<Ligne> aEcrire = new LinkedBlockingQueue<>();
+    private final ReentrantLock verrouEcrivain = new ReentrantLock();
+    private final Condition lotEcrit = verrouEcrivain.newCondition();
+    private Thread ecrivain;
+    private long lignesSoumises;
+    private long lignesTraitees;
+
+    private record Ligne(String texte, boolean terminee) {}
+
+    public JournalBoiteEnvoi(Path fichier) {
+        this(fichier, SEUIL_COMPACTAGE);
+    }
+
+    JournalBoiteEnvoi(Path fichier, int seuilCompactage) {
+        this.fichier = fichier;
+        this.seuilCompactage = seuilCompactage;
+        this.writerJson = SerializationUtil.getMapper().writer().without(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    /**
+     * Relit le journal et retourne les notifications non terminées, dans l'ordre de dépôt
+     * Une dernière ligne sans fin de ligne (arrêt brutal pendant l'écriture d'un lot) est ignorée ;
+     * toute autre ligne illisible rend le journal inexploitable (un dépôt serait perdu sans bruit)
+     */
+    public List<NotificationSortante> rejouer() throws SerializationException {
+        Map<String, NotificationSortante> enAttente = new LinkedHashMap<>();
+        if (!Files.exists(fichier)) {
+            return new ArrayList<>();
+        }
+
+        int numeroLigne = 0;
+        try (FileChannel lecture = FileChannel.open(fichier, StandardOpenOption.READ)) {
+            boolean finTronquee = finDerniereLigne(lecture) < lecture.size();
+            BufferedReader reader = new BufferedReader(Channels.newReader(lecture, StandardCharsets.UTF_8));
+            String ligne = reader.readLine();
+            while (ligne != null) {
+                String suivante = reader.readLine();
+                numeroLigne++;
+                if (suivante == null && finTronquee) {
+                    System.err.println("⚠️ [BOÎTE D'ENVOI] Dernière ligne tronquée ignorée dans " + fichier);
+                    break;
+                }
+                if (!ligne.isBlank()) {
+                    Enregistrement enregistrement;
+                    try {
+                        enregistrement = SerializationUtil.getMapper().readValue(ligne, Enregistrement.class);
+                    } catch (IOException e) {
+                        throw new SerializationException("Journal corrompu à la ligne " + numeroLigne + ": "
+                                + e.getMessage(), "CHARGEMENT", fichier.toString(), e);
+                    }
+                    if (DEPOT.equals(enregistrement.op) && enregistrement.notification != null) {
+                        enAttente.put(enregistrement.notification.getId(), enregistrement.notification);
+                    } else if (enregistrement.id != null) {
+                        enAttente.remove(enregistrement.id);
+                        enregistrementsTermines++;
+                    }
+                }
+                ligne = suivante;
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Lecture du journal impossible à la ligne " + numeroLigne + ": "
+                    + e.getMessage(), "CHARGEMENT", fichier.toString(), e);
+        }
+        return new ArrayList<>(enAttente.values());
+    }
+
+    /**
+     * Sérialise le dépôt et le confie au thread écrivain (aucune écriture disque ici)
+     */
+    public void enregistrerDepot(NotificationSortante notification) throws SerializationException {
+        soumettre(new Enregistrement(DEPOT, notification.getId(), notification, null));
+    }
+
+    public void enregistrerLivraison(String id) throws SerializationException {
+        soumettre(new Enregistrement(LIVRAISON, id, null, null));
+    }
+
+    public void enregistrerAbandon(String id, String motif) throws SerializationException {
+        soumettre(new Enregistrement(ABANDON, id, null, motif));
+    }
+
+    /**
+     * Attend l'écriture de toutes les lignes soumises avant l'appel
+     */
+    public void synchroniser() throws InterruptedException {
+        verrouEcrivain.lock();
+        try {
+            long cible = lignesSoumises;
+            while (lignesTraitees < cible && ecrivain != null) {
+                lotEcrit.await();
+            }
+        } finally {
+            verrouEcrivain.unlock();
+        }
+    }
+
+    /**
+     * Réécrit le journal avec uniquement les notifications encore en attente
+     * si les enregistrements terminés sont suffisamment nombreux
+     * @return true si le journal a été compacté
+     */
+    public boolean compacterSiNecessaire(Collection<NotificationSortante> enAttente) throws SerializationException {
+        verrou.lock();
+        try {
+            if (enregistrementsTermines < seuilCompactage || enregistrementsTermines < 2 * enAttente.size()) {
+                return false;
+            }
+            compacter(enAttente);
+            return true;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Réécrit atomiquement le journal avec les notifications fournies
+     */
+    public void compacter(Collection<NotificationSortante> enAttente) throws SerializationException {
+        verrou.lock();
+        try {
+            fermerWriter();
+            Path temporaire = fichier.resolveSibling(fichier.getFileName() + ".tmp");
+            try (BufferedWriter sortie = Files.newBufferedWriter(temporaire, StandardCharsets.UTF_8)) {
+                for (NotificationSortante notification : enAttente) {
+                    sortie.write(writerJson.writeValueAsString(
+                            new Enregistrement(DEPOT, notification.getId(), notification, null)));
+                    sortie.newLine();
+                }
+            }
+            Files.move(temporaire, fichier, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            enregistrementsTermines = 0;
+        } catch (IOException e) {
+            throw new SerializationException("Compactage du journal impossible: " + e.getMessage(),
+                    "SAUVEGARDE", fichier.toString(), e);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Écrit les lignes encore en attente, arrête le thread écrivain et ferme le fichier
+     */
+    public void fermer() {
+        Thread courant;
+        verrouEcrivain.lock();
+        try {
+            courant = ecrivain;
+            if (courant != null) {
+                aEcrire.add(ARRET);
+            }
+        } finally {
+            verrouEcrivain.unlock();
+        }
+        if (courant != null) {
+            try {
+                courant.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        verrou.lock();
+        try {
+            fermerWriter();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public Path getFichier() {
+        return fichier;
+    }
+
+    // ============ ÉCRITURE PAR LOTS ============
+
+    private void soumettre(Enregistrement enregistrement) throws SerializationException {
+        String texte;
+        try {
+            texte = writerJson.writeValueAsString(enregistrement);
+        } catch (IOException e) {
+            throw new SerializationException("Sérialisation de l'enregistrement impossible: " + e.getMessage(),
+                    "SAUVEGARDE", fichier.toString(), e);
+        }
+        verrouEcrivain.lock();
+        try {
+            if (ecrivain == null) {
+                ecrivain = new Thread(this::boucleEcriture, "boite-envoi-journal");
+                ecrivain.setDaemon(true);
+                ecrivain.start();
+            }
+            lignesSoumises++;
+            aEcrire.add(new Ligne(texte, !DEPOT.equals(enregistrement.op)));
+        } finally {
+            verrouEcrivain.unlock();
+        }
+    }
+
+    private void boucleEcriture() {
+        List<Ligne> lot = new ArrayList<>(TAILLE_LOT);
+        boolean arret = false;
+        try {
+            while (!arret) {
+                lot.add(aEcrire.take());
+                aEcrire.drainTo(lot, TAILLE_LOT - 1);
+                arret = lot.remove(ARRET);
+                ecrireLot(lot);
+                lot.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            verrouEcrivain.lock();
+            try {
+                ecrivain = null;
+                lotEcrit.signalAll();
+            } finally {
+                verrouEcrivain.unlock();
+            }
+        }
+    }
+
+    /**
+     * Écrit un lot en une opération, sous le verrou du fichier (exclusion avec le compactage)
+     */
+    private void ecrireLot(List<Ligne> lot) {
+        if (!lot.isEmpty()) {
+            StringBuilder texte = new StringBuilder(lot.size() * 256);
+            int termines = 0;
+            for (Ligne ligne : lot) {
+                texte.append(ligne.texte()).append('\n');
+                if (ligne.terminee()) {
+                    termines++;
+                }
+            }
+            verrou.lock();
+            try {
+                if (sortie == null) {
+                    ouvrirWriter();
+                }
+                sortie.write(texte.toString().getBytes(StandardCharsets.UTF_8));
+                sortie.flush();
+                enregistrementsTermines += termines;
+            } catch (IOException e) {
+                // Les notifications restent en mémoire et seront livrées ; seule la reprise est compromise
+                System.err.println("⚠️ [BOÎTE D'ENVOI] Lot de " + lot.size() + " ligne(s) non journalisé: "
+                        + e.getMessage());
+            } finally {
+                verrou.unlock();
+            }
+        }
+        verrouEcrivain.lock();
+        try {
+            lignesTraitees += lot.size();
+            lotEcrit.signalAll();
+        } finally {
+            verrouEcrivain.unlock();
+        }
+    }
+
+    private void ouvrirWriter() throws IOException {
+        if (fichier.getParent() != null) {
+            Files.createDirectories(fichier.getParent());
+        }
+        canal = FileChannel.open(fichier, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Fin tronquée par un arrêt brutal : coupée avant d'y ajouter le premier lot
+        canal.truncate(finDerniereLigne(canal));
+        canal.position(canal.size());
+        sortie = Channels.newOutputStream(canal);
+    }
+
+    private void fermerWriter() {
+        if (sortie != null) {
+            try {
+                sortie.close();
+            } catch (IOException e) {
+                System.err.println("⚠️ [BOÎTE D'ENVOI] Fermeture du journal: " + e.getMessage());
+            }
+            sortie = null;
+            canal = null;
+        }
+    }
+
+    /**
+     * Position qui suit la dernière fin de ligne du fichier (0 s'il n'en contient aucune)
+     */
+    private static long finDerniereLigne(FileChannel canal) throws IOException {
+        ByteBuffer bloc = ByteBuffer.allocate(8192);
+        long fin = canal.size();
+        while (fin > 0) {
+            long debut = Math.max(0, fin - bloc.capacity());
+            bloc.clear().limit((int) (fin - debut));
+            while (bloc.hasRemaining()) {
+                if (canal.read(bloc, debut + bloc.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = bloc.position() - 1; i >= 0; i--) {
+                if (bloc.get(i) == '\n') {
+                    return debut + i + 1;
+                }
+            }
+            fin = debut;
+        }
+        return 0;
+    }
+
+    /**
+     * Ligne du journal
+     */
+    static class Enregistrement {
+        public String op;
+        public String id;
+        public NotificationSortante notification;
+        public String motif;
+
+        // Constructeur par défaut pour Jackson
+        public Enregistrement() {
+        }
+
+        Enregistrement(String op, String id, NotificationSortante notification, String motif) {
+            this.op = op;
+            this.id = id;
+            this.notification = notification;
+            this.motif = motif;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.notification;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limiteur de débit à seau de jetons
+ * Le seau se remplit à raison de {@code parSeconde} jetons par seconde, jusqu'à {@code rafale} jetons
+ */
+public class LimiteurDebit {
+
+    private final ReentrantLock verrou = new ReentrantLock();
+    private final double jetonsParNano;
+    private final double rafale;
+    private double jetons;
+    private long dernierRemplissage;
+
+    /**
+     * @param parSeconde débit soutenu autorisé
+     * @param rafale nombre maximal d'envois consécutifs sans attente
+     */
+    public LimiteurDebit(double parSeconde, int rafale) {
+        if (parSeconde <= 0 || rafale <= 0) {
+            throw new IllegalArgumentException("Le débit et la rafale doivent être positifs");
+        }
+        this.jetonsParNano = parSeconde / TimeUnit.SECONDS.toNanos(1);
+        this.rafale = rafale;
+        this.jetons = rafale;
+        this.dernierRemplissage = System.nanoTime();
+    }
+
+    /**
+     * Prend un jeton, en attendant si le seau est vide
+     */
+    public void acquerir() throws InterruptedException {
+        while (true) {
+            long attenteNanos;
+            verrou.lock();
+            try {
+                remplir();
+                if (jetons >= 1) {
+                    jetons -= 1;
+                    return;
+                }
+                attenteNanos = (long) Math.ceil((1 - jetons) / jetonsParNano);
+            } finally {
+                verrou.unlock();
+            }
+            TimeUnit.NANOSECONDS.sleep(attenteNanos);
+        }
+    }
+
+    /**
+     * Prend un jeton s'il y en a un disponible, sans attendre
+     */
+    public boolean essayerAcquerir() {
+        verrou.lock();
+        try {
+            remplir();
+            if (jetons >= 1) {
+                jetons -= 1;
+                return true;
+            }
+            return false;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void remplir() {
+        long maintenant = System.nanoTime();
+        jetons = Math.min(rafale, jetons + (maintenant - dernierRemplissage) * jetonsParNano);
+        dernierRemplissage = maintenant;
+    }
+}
@@ -0,0 +1,163 @@
+package com.notification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Modèle de message pré-compilé
+ * Marqueurs reconnus : {evenement} et {message} (communs à tous les destinataires d'une notification)
+ * et {destinataire} (propre à chaque destinataire)
+ *
+ * Le modèle est découpé une seule fois à la compilation. Lors d'une diffusion, la partie commune
+ * est rendue une seule fois par notification (reconnue à l'identité des chaînes reçues) ;
+ * chaque destinataire ne coûte ensuite qu'une concaténation de fragments déjà prêts
+ */
+public final class ModeleMessage {
+
+    public static final String EVENEMENT = "evenement";
+    public static final String MESSAGE = "message";
+    public static final String DESTINATAIRE = "destinataire";
+
+    private static final int LITTERAL = 0;
+    private static final int MARQUEUR_EVENEMENT = 1;
+    private static final int MARQUEUR_MESSAGE = 2;
+    private static final int MARQUEUR_DESTINATAIRE = 3;
+
+    private final String modele;
+    private final int[] natures;
+    private final String[] litteraux;
+
+    // Dernière notification rendue, partagée par tous les destinataires de la même diffusion
+    private volatile Prepare dernier;
+
+    private ModeleMessage(String modele, int[] natures, String[] litteraux) {
+        this.modele = modele;
+        this.natures = natures;
+        this.litteraux = litteraux;
+    }
+
+    /**
+     * Compile un modèle
+     * @throws IllegalArgumentException si un marqueur est inconnu ou non fermé
+     */
+    public static ModeleMessage compiler(String modele) {
+        List<Integer> natures = new ArrayList<>();
+        List<String> litteraux = new ArrayList<>();
+        int position = 0;
+
+        while (position < modele.length()) {
+            int ouverture = modele.indexOf('{', position);
+            if (ouverture < 0) {
+                natures.add(LITTERAL);
+                litteraux.add(modele.substring(position));
+                break;
+            }
+            if (ouverture > position) {
+                natures.add(LITTERAL);
+                litteraux.add(modele.substring(position, ouverture));
+            }
+            int fermeture = modele.indexOf('}', ouverture);
+            if (fermeture < 0) {
+                throw new IllegalArgumentException("Marqueur non fermé à la position " + ouverture + ": " + modele);
+            }
+            natures.add(natureMarqueur(modele.substring(ouverture + 1, fermeture)));
+            litteraux.add(null);
+            position = fermeture + 1;
+        }
+
+        return new ModeleMessage(modele,
+                natures.stream().mapToInt(Integer::intValue).toArray(),
+                litteraux.toArray(new String[0]));
+    }
+
+    /**
+     * Rend le message pour un destinataire
+     */
+    public String rendre(String evenementNom, String message, String destinataire) {
+        return preparer(evenementNom, message).pour(destinataire);
+    }
+
+    /**
+     * Rend la partie commune d'une notification, réutilisée pour tous ses destinataires
+     */
+    public Prepare preparer(String evenementNom, String message) {
+        Prepare prepare = dernier;
+        if (prepare != null && prepare.evenementNom == evenementNom && prepare.message == message) {
+            return prepare;
+        }
+        prepare = new Prepare(evenementNom, message);
+        dernier = prepare;
+        return prepare;
+    }
+
+    public String getModele() {
+        return modele;
+    }
+
+    @Override
+    public String toString() {
+        return "ModeleMessage{" + modele + "}";
+    }
+
+    private static int natureMarqueur(String nom) {
+        switch (nom) {
+            case EVENEMENT: return MARQUEUR_EVENEMENT;
+            case MESSAGE: return MARQUEUR_MESSAGE;
+            case DESTINATAIRE: return MARQUEUR_DESTINATAIRE;
+            default: throw new IllegalArgumentException("Marqueur inconnu: {" + nom + "}");
+        }
+    }
+
+    /**
+     * Message dont la partie commune est déjà rendue : fragments fixes entrecoupés du destinataire
+     */
+    public final class Prepare {
+        private final String evenementNom;
+        private final String message;
+        private final String[] fragments;
+        private final int longueurFixe;
+
+        private Prepare(String evenementNom, String message) {
+            this.evenementNom = evenementNom;
+            this.message = message;
+
+            List<String> morceaux = new ArrayList<>();
+            StringBuilder courant = new StringBuilder();
+            for (int i = 0; i < natures.length; i++) {
+                switch (natures[i]) {
+                    case MARQUEUR_EVENEMENT: courant.append(evenementNom); break;
+                    case MARQUEUR_MESSAGE: courant.append(message); break;
+                    case MARQUEUR_DESTINATAIRE:
+                        morceaux.add(courant.toString());
+                        courant.setLength(0);
+                        break;
+                    default: courant.append(litteraux[i]);
+                }
+            }
+            morceaux.add(courant.toString());
+
+            this.fragments = morceaux.toArray(new String[0]);
+            int longueur = 0;
+            for (String fragment : fragments) {
+                longueur += fragment.length();
+            }
+            this.longueurFixe = longueur;
+        }
+
+        /**
+         * Complète le message pour un destinataire
+         */
+        public String pour(String destinataire) {
+            if (fragments.length == 1) {
+                return fragments[0];
+            }
+            String valeur = String.valueOf(destinataire);
+            StringBuilder sb = new StringBuilder(longueurFixe + valeur.length() * (fragments.length - 1));
+            sb.append(fragments[0]);
+            for (int i = 1; i < fragments.length; i++) {
+                sb.append(valeur).append(fragments[i]);
+            }
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.notification;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Notification en attente de livraison sur un canal
+ * Enregistrement sérialisé tel quel dans le journal de la boîte d'envoi
+ */
+public class NotificationSortante {
+
+    /**
+     * Nature de la notification (reprend les callbacks de l'observer)
+     */
+    public enum Nature {
+        MODIFICATION,
+        ANNULATION,
+        INFO,
+        PROMOTION
+    }
+
+    private String id;
+    private String canal;
+    private Nature nature;
+    private String destinataireId;
+    private String destinataireNom;
+    private String adresse;
+    private String evenementNom;
+    private String message;
+    private LocalDateTime dateCreation;
+    private int tentatives;
+
+    // Constructeur par défaut pour Jackson
+    public NotificationSortante() {
+    }
+
+    public NotificationSortante(String canal, Nature nature, String destinataireId, String destinataireNom,
+                                String adresse, String evenementNom, String message) {
+        this.id = UUID.randomUUID().toString();
+        this.canal = canal;
+        this.nature = nature;
+        this.destinataireId = destinataireId;
+        this.destinataireNom = destinataireNom;
+        this.adresse = adresse;
+        this.evenementNom = evenementNom;
+        this.message = message;
+        this.dateCreation = LocalDateTime.now();
+    }
+
+    /**
+     * Copie de la notification destinée à un autre canal (nouvel identifiant)
+     */
+    public NotificationSortante pourCanal(String autreCanal) {
+        NotificationSortante copie = new NotificationSortante(autreCanal, nature, destinataireId,
+                destinataireNom, adresse, evenementNom, message);
+        copie.dateCreation = dateCreation;
+        return copie;
+    }
+
+    /**
+     * Objet du message tel qu'affiché par les canaux
+     */
+    @JsonIgnore
+    public String getObjet() {
+        switch (nature) {
+            case ANNULATION: return "Événement annulé : " + evenementNom;
+            case PROMOTION: return "Place obtenue : " + evenementNom;
+            case MODIFICATION: return "Événement modifié : " + evenementNom;
+            default: return "Changement : " + evenementNom;
+        }
+    }
+
+    int incrementerTentatives() {
+        return ++tentatives;
+    }
+
+    // Getters et setters
+    public String getId() { return id; }
+    public void setId(String id) { this.id = id; }
+
+    public String getCanal() { return canal; }
+    public void setCanal(String canal) { this.canal = canal; }
+
+    public Nature getNature() { return nature; }
+    public void setNature(Nature nature) { this.nature = nature; }
+
+    public String getDestinataireId() { return destinataireId; }
+    public void setDestinataireId(String destinataireId) { this.destinataireId = destinataireId; }
+
+    public String getDestinataireNom() { return destinataireNom; }
+    public void setDestinataireNom(String destinataireNom) { this.destinataireNom = destinataireNom; }
+
+    public String getAdresse() { return adresse; }
+    public void setAdresse(String adresse) { this.adresse = adresse; }
+
+    public String getEvenementNom() { return evenementNom; }
+    public void setEvenementNom(String evenementNom) { this.evenementNom = evenementNom; }
+
+    public String getMessage() { return message; }
+    public void setMessage(String message) { this.message = message; }
+
+    public LocalDateTime getDateCreation() { return dateCreation; }
+    public void setDateCreation(LocalDateTime dateCreation) { this.dateCreation = dateCreation; }
+
+    public int getTentatives() { return tentatives; }
+    public void setTentatives(int tentatives) { this.tentatives = tentatives; }
+
+    @Override
+    public String toString() {
+        return String.format("NotificationSortante{id='%s', canal='%s', nature=%s, destinataire='%s', evenement='%s', tentatives=%d}",
+                id, canal, nature, destinataireNom, evenementNom, tentatives);
+    }
+}
@@ -0,0 +1,93 @@
+package com.observer;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Poignée d'abonnement d'un observer à un événement
+ * Porte le filtre de types, la priorité de diffusion et, optionnellement,
+ * une référence faible : l'abonnement disparaît quand l'observer n'est plus référencé ailleurs
+ */
+public class Abonnement {
+
+    private final EvenementObserver observerFort;
+    private final WeakReference<EvenementObserver> observerFaible;
+    private final Set<TypeNotification> types;
+    private final int priorite;
+    private final RegistreObservers registre;
+    private volatile boolean actif = true;
+    private RegistreObservers.Cle cle;
+
+    Abonnement(EvenementObserver observer, boolean referenceFaible, int priorite,
+               Set<TypeNotification> types, RegistreObservers registre) {
+        this.observerFort = referenceFaible ? null : observer;
+        this.observerFaible = referenceFaible ? new WeakReference<>(observer) : null;
+        this.types = types.isEmpty() ? EnumSet.allOf(TypeNotification.class) : EnumSet.copyOf(types);
+        this.priorite = priorite;
+        this.registre = registre;
+    }
+
+    /**
+     * Retourne l'observer, ou null s'il a été collecté (abonnement faible)
+     */
+    public EvenementObserver getObserver() {
+        return observerFort != null ? observerFort : observerFaible.get();
+    }
+
+    public boolean accepte(TypeNotification type) {
+        return types.contains(type);
+    }
+
+    public Set<TypeNotification> getTypes() {
+        return Collections.unmodifiableSet(types);
+    }
+
+    public int getPriorite() {
+        return priorite;
+    }
+
+    public boolean estFaible() {
+        return observerFaible != null;
+    }
+
+    /**
+     * Un abonnement est actif tant qu'il n'a pas été annulé et que son observer existe encore
+     */
+    public boolean estActif() {
+        return actif && getObserver() != null;
+    }
+
+    /**
+     * Résilie l'abonnement
+     */
+    public void annuler() {
+        if (actif) {
+            actif = false;
+            registre.retirer(this);
+        }
+    }
+
+    void desactiver() {
+        actif = false;
+    }
+
+    boolean estResilie() {
+        return !actif;
+    }
+
+    RegistreObservers.Cle getCle() {
+        return cle;
+    }
+
+    void setCle(RegistreObservers.Cle cle) {
+        this.cle = cle;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Abonnement{observer=%s, types=%s, priorite=%d, faible=%b}",
+                getObserver(), types, priorite, estFaible());
+    }
+}
@@ -1,6 +1,6 @@
 package com.observer;
 
-import java.util.List;
+import java.util.Collection;
 
 /**
  * Interface Observable - Les événements implémentent cette interface
@@ -13,6 +13,15 @@ public interface EvenementObservable {
      */
     void ajouterObserver(EvenementObserver observer);
 
+    /**
+     * Abonne un observer avec options
+     * @param referenceFaible l'abonnement disparaît automatiquement quand l'observer n'est plus référencé
+     * @param priorite les priorités les plus hautes sont notifiées en premier
+     * @param types types de notifications reçues (aucun = tous)
+     * @return la poignée permettant de résilier l'abonnement
+     */
+    Abonnement abonner(EvenementObserver observer, boolean referenceFaible, int priorite, TypeNotification... types);
+
     /**
      * Retire un observer
      */
@@ -34,7 +43,12 @@ public interface EvenementObservable {
     void notifierChangementInfo(String message);
 
     /**
-     * Obtient la liste des observers actuels
+     * Obtient une vue non modifiable et à jour des observers actuels
+     */
+    Collection<EvenementObserver> getObservers();
+
+    /**
+     * Retire tous les observers
      */
-    List<EvenementObserver> getObservers();
+    void viderObservers();
 }
\ No newline at end of file
@@ -20,4 +20,11 @@ public interface EvenementObserver {
      * Appelée automatiquement quand des informations changent
      */
     void onEvenementInfoModifiee(String evenementNom, String message);
+
+    /**
+     * Appelée quand l'observer quitte la liste d'attente et obtient une place
+     */
+    default void onPromotionListeAttente(String evenementNom, String message) {
+        onEvenementInfoModifiee(evenementNom, message);
+    }
 }
\ No newline at end of file
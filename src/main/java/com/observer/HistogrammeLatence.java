@@ -0,0 +1,109 @@
+package com.observer;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogramme de latences à classes log-linéaires (principe de HdrHistogram)
+ * Chaque puissance de deux est découpée en {@value #SOUS_CLASSES} classes de même largeur :
+ * erreur relative bornée (~6 %) sur toute la plage, mémoire fixe, enregistrement sans verrou
+ */
+public class HistogrammeLatence {
+
+    private static final int BITS_SOUS_CLASSE = 4;
+    private static final int SOUS_CLASSES = 1 << BITS_SOUS_CLASSE;
+    private static final int NOMBRE_CLASSES = (64 - BITS_SOUS_CLASSE + 1) * SOUS_CLASSES;
+
+    private final AtomicLongArray comptes = new AtomicLongArray(NOMBRE_CLASSES);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder somme = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Enregistre une latence en nanosecondes
+     */
+    public void enregistrer(long nanos) {
+        long valeur = Math.max(0, nanos);
+        comptes.incrementAndGet(classe(valeur));
+        total.increment();
+        somme.add(valeur);
+        max.accumulateAndGet(valeur, Math::max);
+    }
+
+    public long getNombre() {
+        return total.sum();
+    }
+
+    public long getMaxNanos() {
+        return max.get();
+    }
+
+    public long getSommeNanos() {
+        return somme.sum();
+    }
+
+    public double getMoyenneNanos() {
+        long nombre = total.sum();
+        return nombre == 0 ? 0 : (double) somme.sum() / nombre;
+    }
+
+    /**
+     * Valeur (borne haute de classe) sous laquelle se trouvent {@code centile} % des mesures
+     */
+    public long getCentileNanos(double centile) {
+        long nombre = total.sum();
+        if (nombre == 0) {
+            return 0;
+        }
+        long rang = Math.max(1, (long) Math.ceil(nombre * centile / 100.0));
+        long cumul = 0;
+        for (int i = 0; i < NOMBRE_CLASSES; i++) {
+            cumul += comptes.get(i);
+            if (cumul >= rang) {
+                return Math.min(borneHaute(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    public void reinitialiser() {
+        for (int i = 0; i < NOMBRE_CLASSES; i++) {
+            comptes.set(i, 0);
+        }
+        total.reset();
+        somme.reset();
+        max.set(0);
+    }
+
+    /**
+     * Résumé lisible : nombre, moyenne, p50, p99, max (en microsecondes)
+     */
+    public String resume() {
+        return String.format("n=%d, moy=%.1fµs, p50=%dµs, p99=%dµs, max=%dµs",
+                getNombre(), getMoyenneNanos() / 1000.0,
+                TimeUnit.NANOSECONDS.toMicros(getCentileNanos(50)),
+                TimeUnit.NANOSECONDS.toMicros(getCentileNanos(99)),
+                TimeUnit.NANOSECONDS.toMicros(getMaxNanos()));
+    }
+
+    private static int classe(long valeur) {
+        if (valeur < SOUS_CLASSES) {
+            return (int) valeur;
+        }
+        int exposant = 63 - Long.numberOfLeadingZeros(valeur);
+        int sousClasse = (int) (valeur >>> (exposant - BITS_SOUS_CLASSE)) & (SOUS_CLASSES - 1);
+        return (exposant - BITS_SOUS_CLASSE + 1) * SOUS_CLASSES + sousClasse;
+    }
+
+    private static long borneHaute(int classe) {
+        if (classe < SOUS_CLASSES) {
+            return classe;
+        }
+        int exposant = classe / SOUS_CLASSES + BITS_SOUS_CLASSE - 1;
+        long sousClasse = classe % SOUS_CLASSES;
+        long largeur = 1L << (exposant - BITS_SOUS_CLASSE);
+        return (1L << exposant) + (sousClasse + 1) * largeur - 1;
+    }
+}
@@ -0,0 +1,306 @@
+package com.observer;
+
+import com.metrics.RegistreMetriques;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Métriques de la boucle de diffusion des observers - Singleton
+ * - par événement (clé = ID, oubliée à sa suppression) : nombre de diffusions, observers notifiés (fan-out), échecs
+ * - par type d'observer : histogramme de latence et échecs
+ * - observers lents : ceux dont un appel dépasse le seuil de lenteur
+ * Lu par l'onglet Statistiques et par les exportateurs de métriques
+ */
+public class MetriquesDiffusion {
+
+    private static final long SEUIL_LENTEUR_DEFAUT_MS = 10;
+    private static final int OBSERVERS_LENTS_MAX = 1000;
+
+    // Instance unique (Singleton)
+    private static final MetriquesDiffusion INSTANCE = new MetriquesDiffusion();
+
+    private final HistogrammeLatence latenceGlobale = new HistogrammeLatence();
+    private final HistogrammeLatence dureeDiffusion = new HistogrammeLatence();
+    private final Map<TypeNotification, LongAdder> diffusionsParType = new EnumMap<>(TypeNotification.class);
+    private final ConcurrentHashMap<String, StatistiquesEvenement> parEvenement = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StatistiquesObserver> parTypeObserver = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, ObserverLent> observersLents = new ConcurrentHashMap<>();
+    private final LongAdder echecs = new LongAdder();
+
+    private volatile boolean active = true;
+    private volatile long seuilLenteurNanos = TimeUnit.MILLISECONDS.toNanos(SEUIL_LENTEUR_DEFAUT_MS);
+
+    private MetriquesDiffusion() {
+        for (TypeNotification type : TypeNotification.values()) {
+            diffusionsParType.put(type, new LongAdder());
+        }
+
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        metriques.compteur("diffusions_total", "Notifications diffusées aux observers", this::getNombreDiffusions);
+        metriques.compteur("appels_observers_total", "Appels d'observers", this::getNombreAppels);
+        metriques.compteur("echecs_observers_total", "Appels d'observers en erreur", this::getNombreEchecs);
+        metriques.chronometre("latence_observer_secondes", "Durée d'un appel d'observer", latenceGlobale);
+        metriques.chronometre("diffusion_duree_secondes", "Durée d'une diffusion complète", dureeDiffusion);
+        metriques.jauge("observers_lents", "Observers ayant dépassé le seuil de lenteur", observersLents::size);
+    }
+
+    public static MetriquesDiffusion getInstance() {
+        return INSTANCE;
+    }
+
+    // ============ ENREGISTREMENT (appelé par RegistreObservers) ============
+
+    /**
+     * Appel d'un observer, réussi ou non
+     */
+    void enregistrerAppel(String evenementId, String evenementNom, EvenementObserver observer, long nanos, boolean succes) {
+        latenceGlobale.enregistrer(nanos);
+        StatistiquesObserver statistiques = parTypeObserver.computeIfAbsent(
+                typeObserver(observer), StatistiquesObserver::new);
+        statistiques.latence.enregistrer(nanos);
+
+        if (!succes) {
+            echecs.increment();
+            statistiques.echecs.increment();
+            statistiquesEvenement(evenementId, evenementNom).echecs.increment();
+        }
+
+        if (nanos >= seuilLenteurNanos) {
+            String cle = observer.toString();
+            ObserverLent lent = observersLents.get(cle);
+            if (lent == null && observersLents.size() < OBSERVERS_LENTS_MAX) {
+                lent = observersLents.computeIfAbsent(cle, ObserverLent::new);
+            }
+            if (lent != null) {
+                lent.enregistrer(evenementNom, nanos);
+            }
+        }
+    }
+
+    /**
+     * Fin d'une diffusion complète
+     */
+    void enregistrerDiffusion(String evenementId, String evenementNom, TypeNotification type, int notifies, long nanos) {
+        dureeDiffusion.enregistrer(nanos);
+        diffusionsParType.get(type).increment();
+        StatistiquesEvenement statistiques = statistiquesEvenement(evenementId, evenementNom);
+        statistiques.diffusions.increment();
+        statistiques.observersNotifies.add(notifies);
+        statistiques.dernierFanOut = notifies;
+        statistiques.fanOutMax.accumulateAndGet(notifies, Math::max);
+    }
+
+    // Les classes anonymes n'ont pas de nom simple
+    private static String typeObserver(EvenementObserver observer) {
+        String nom = observer.getClass().getSimpleName();
+        return nom.isEmpty() ? observer.getClass().getName() : nom;
+    }
+
+    private StatistiquesEvenement statistiquesEvenement(String evenementId, String evenementNom) {
+        StatistiquesEvenement statistiques = parEvenement.computeIfAbsent(evenementId == null ? "?" : evenementId,
+                StatistiquesEvenement::new);
+        // Nom courant : un événement renommé garde ses statistiques
+        statistiques.evenementNom = evenementNom;
+        return statistiques;
+    }
+
+    /**
+     * Oublie les statistiques d'un événement supprimé
+     */
+    public void oublierEvenement(String evenementId) {
+        parEvenement.remove(evenementId);
+    }
+
+    // ============ CONFIGURATION ============
+
+    /**
+     * Active ou coupe l'instrumentation (les mesures coûtent deux lectures d'horloge par observer)
+     */
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+
+    public boolean estActive() {
+        return active;
+    }
+
+    public void setSeuilLenteurMs(long seuilMs) {
+        if (seuilMs <= 0) {
+            throw new IllegalArgumentException("Le seuil de lenteur doit être positif");
+        }
+        this.seuilLenteurNanos = TimeUnit.MILLISECONDS.toNanos(seuilMs);
+    }
+
+    public long getSeuilLenteurMs() {
+        return TimeUnit.NANOSECONDS.toMillis(seuilLenteurNanos);
+    }
+
+    public void reinitialiser() {
+        latenceGlobale.reinitialiser();
+        dureeDiffusion.reinitialiser();
+        diffusionsParType.values().forEach(LongAdder::reset);
+        parEvenement.clear();
+        parTypeObserver.clear();
+        observersLents.clear();
+        echecs.reset();
+    }
+
+    // ============ LECTURE ============
+
+    /**
+     * Latence d'un appel d'observer, tous observers confondus
+     */
+    public HistogrammeLatence getLatenceObservers() {
+        return latenceGlobale;
+    }
+
+    /**
+     * Durée d'une diffusion complète (tous les observers d'une notification)
+     */
+    public HistogrammeLatence getDureeDiffusion() {
+        return dureeDiffusion;
+    }
+
+    public long getNombreDiffusions() {
+        return diffusionsParType.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public long getNombreDiffusions(TypeNotification type) {
+        return diffusionsParType.get(type).sum();
+    }
+
+    public long getNombreAppels() {
+        return latenceGlobale.getNombre();
+    }
+
+    public long getNombreEchecs() {
+        return echecs.sum();
+    }
+
+    public List<StatistiquesEvenement> getStatistiquesEvenements() {
+        return new ArrayList<>(parEvenement.values());
+    }
+
+    public List<StatistiquesObserver> getStatistiquesObservers() {
+        return new ArrayList<>(parTypeObserver.values());
+    }
+
+    /**
+     * Observers les plus lents (par latence maximale décroissante)
+     */
+    public List<ObserverLent> getObserversLents(int limite) {
+        List<ObserverLent> lents = new ArrayList<>(observersLents.values());
+        lents.sort(Comparator.comparingLong(ObserverLent::getMaxNanos).reversed());
+        return lents.subList(0, Math.min(limite, lents.size()));
+    }
+
+    /**
+     * Rapport texte : latences, fan-out par événement, échecs et observers lents
+     */
+    public String genererRapport() {
+        StringBuilder rapport = new StringBuilder();
+        rapport.append("DIFFUSION DES NOTIFICATIONS:\n");
+        rapport.append("- Diffusions: ").append(getNombreDiffusions())
+                .append(" (").append(getNombreAppels()).append(" appels d'observers, ")
+                .append(getNombreEchecs()).append(" échecs)\n");
+        rapport.append("- Latence par observer: ").append(latenceGlobale.resume()).append("\n");
+        rapport.append("- Durée par diffusion: ").append(dureeDiffusion.resume()).append("\n");
+
+        rapport.append("\nPAR TYPE D'OBSERVER:\n");
+        for (StatistiquesObserver statistiques : getStatistiquesObservers()) {
+            rapport.append(String.format("- %s: %s, %d échecs\n",
+                    statistiques.getTypeObserver(), statistiques.getLatence().resume(), statistiques.getNombreEchecs()));
+        }
+
+        rapport.append("\nFAN-OUT PAR ÉVÉNEMENT:\n");
+        for (StatistiquesEvenement statistiques : getStatistiquesEvenements()) {
+            rapport.append(String.format("- %s (%s): %d diffusions, fan-out moyen %.1f, max %d, %d échecs\n",
+                    statistiques.getEvenementNom(), statistiques.getEvenementId(), statistiques.getNombreDiffusions(),
+                    statistiques.getFanOutMoyen(), statistiques.getFanOutMax(), statistiques.getNombreEchecs()));
+        }
+
+        List<ObserverLent> lents = getObserversLents(10);
+        rapport.append("\nOBSERVERS LENTS (> ").append(getSeuilLenteurMs()).append(" ms):\n");
+        if (lents.isEmpty()) {
+            rapport.append("- Aucun\n");
+        }
+        for (ObserverLent lent : lents) {
+            rapport.append(String.format("- %s: %d appels lents, max %d ms (dernier: %s)\n",
+                    lent.getObserver(), lent.getNombre(),
+                    TimeUnit.NANOSECONDS.toMillis(lent.getMaxNanos()), lent.getDernierEvenement()));
+        }
+        return rapport.toString();
+    }
+
+    // ============ STATISTIQUES DÉTAILLÉES ============
+
+    public static class StatistiquesEvenement {
+        private final String evenementId;
+        private volatile String evenementNom;
+        private final LongAdder diffusions = new LongAdder();
+        private final LongAdder observersNotifies = new LongAdder();
+        private final LongAdder echecs = new LongAdder();
+        private final AtomicLong fanOutMax = new AtomicLong();
+        private volatile int dernierFanOut;
+
+        StatistiquesEvenement(String evenementId) {
+            this.evenementId = evenementId;
+        }
+
+        public String getEvenementId() { return evenementId; }
+        public String getEvenementNom() { return evenementNom; }
+        public long getNombreDiffusions() { return diffusions.sum(); }
+        public long getObserversNotifies() { return observersNotifies.sum(); }
+        public long getNombreEchecs() { return echecs.sum(); }
+        public long getFanOutMax() { return fanOutMax.get(); }
+        public int getDernierFanOut() { return dernierFanOut; }
+
+        public double getFanOutMoyen() {
+            long nombre = diffusions.sum();
+            return nombre == 0 ? 0 : (double) observersNotifies.sum() / nombre;
+        }
+    }
+
+    public static class StatistiquesObserver {
+        private final String typeObserver;
+        private final HistogrammeLatence latence = new HistogrammeLatence();
+        private final LongAdder echecs = new LongAdder();
+
+        StatistiquesObserver(String typeObserver) {
+            this.typeObserver = typeObserver;
+        }
+
+        public String getTypeObserver() { return typeObserver; }
+        public HistogrammeLatence getLatence() { return latence; }
+        public long getNombreEchecs() { return echecs.sum(); }
+    }
+
+    public static class ObserverLent {
+        private final String observer;
+        private final LongAdder nombre = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private volatile String dernierEvenement;
+
+        ObserverLent(String observer) {
+            this.observer = observer;
+        }
+
+        void enregistrer(String evenementNom, long nanos) {
+            nombre.increment();
+            maxNanos.accumulateAndGet(nanos, Math::max);
+            dernierEvenement = evenementNom;
+        }
+
+        public String getObserver() { return observer; }
+        public long getNombre() { return nombre.sum(); }
+        public long getMaxNanos() { return maxNanos.get(); }
+        public String getDernierEvenement() { return dernierEvenement; }
+    }
+}
@@ -0,0 +1,296 @@
+package com.observer;
+
+import com.util.Journal;
+import java.lang.ref.WeakReference;
+import java.util.AbstractCollection;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Registre des abonnements d'un événement, sans copie à l'écriture
+ * - un index concurrent (observer → abonnement) rend l'ajout, le retrait et le test d'appartenance en O(1)
+ * - les abonnements sont rangés par tranche de priorité (une file concurrente par priorité, dans l'ordre
+ *   d'abonnement), parcourues de la priorité la plus haute à la plus basse
+ * - la diffusion itère directement sur les tranches (itération faiblement cohérente) :
+ *   aucune copie du tableau, ni à l'inscription ni à la notification
+ * - un retrait désactive l'abonnement, ignoré dès lors par la diffusion ; les files sont nettoyées en une passe
+ *   lorsque les abonnements retirés dépassent les actifs (retrait en O(1) amorti)
+ * À priorité égale, les observers sont notifiés dans leur ordre d'abonnement
+ */
+public class RegistreObservers {
+
+    private static final int NETTOYAGE_MIN = 16;
+
+    private final ConcurrentHashMap<Cle, Abonnement> index = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Integer, Queue<Abonnement>> tranches =
+            new ConcurrentSkipListMap<>(Comparator.reverseOrder());
+    // Abonnements retirés de l'index mais encore présents dans leur file
+    private final AtomicInteger retiresEnFile = new AtomicInteger();
+    private final Collection<EvenementObserver> vueObservers = new VueObservers();
+
+    /**
+     * Abonne un observer
+     * @param types types acceptés (vide = tous)
+     * @return la poignée d'abonnement, ou l'abonnement existant si l'observer est déjà abonné
+     */
+    public Abonnement ajouter(EvenementObserver observer, boolean referenceFaible,
+                              int priorite, Set<TypeNotification> types) {
+        Abonnement abonnement = new Abonnement(observer, referenceFaible, priorite, types, this);
+        Cle cle = new Cle(observer, referenceFaible);
+        abonnement.setCle(cle);
+
+        Abonnement existant = index.putIfAbsent(cle, abonnement);
+        if (existant != null) {
+            return existant;
+        }
+
+        // Résilié entre l'indexation et le rangement : ignoré par la diffusion, puis retiré au nettoyage
+        tranches.computeIfAbsent(priorite, p -> new ConcurrentLinkedQueue<>()).add(abonnement);
+        return abonnement;
+    }
+
+    /**
+     * Abonne un groupe d'observers (abonnement fort, tous types, priorité 0)
+     * @return le nombre d'observers effectivement ajoutés
+     */
+    public int ajouterTous(Collection<? extends EvenementObserver> observers) {
+        int ajoutes = 0;
+        for (EvenementObserver observer : observers) {
+            if (observer != null && !contient(observer)) {
+                ajouter(observer, false, 0, Set.of());
+                ajoutes++;
+            }
+        }
+        return ajoutes;
+    }
+
+    public boolean retirer(EvenementObserver observer) {
+        if (observer == null) {
+            return false;
+        }
+        Abonnement abonnement = index.get(new Cle(observer, false));
+        return abonnement != null && retirer(abonnement);
+    }
+
+    boolean retirer(Abonnement abonnement) {
+        abonnement.desactiver();
+        if (!index.remove(abonnement.getCle(), abonnement)) {
+            return false;
+        }
+        if (retiresEnFile.incrementAndGet() > Math.max(index.size(), NETTOYAGE_MIN)) {
+            nettoyerTranches();
+        }
+        return true;
+    }
+
+    /**
+     * Retire des files les abonnements résiliés (une passe, l'ordre des autres est conservé)
+     */
+    private void nettoyerTranches() {
+        retiresEnFile.set(0);
+        for (Queue<Abonnement> tranche : tranches.values()) {
+            tranche.removeIf(Abonnement::estResilie);
+        }
+    }
+
+    /**
+     * Retire un groupe d'observers
+     * @return le nombre d'observers effectivement retirés
+     */
+    public int retirerTous(Collection<? extends EvenementObserver> observers) {
+        int retires = 0;
+        for (EvenementObserver observer : observers) {
+            if (retirer(observer)) {
+                retires++;
+            }
+        }
+        return retires;
+    }
+
+    public void vider() {
+        retirerSi(abonnement -> true);
+    }
+
+    public boolean contient(EvenementObserver observer) {
+        return observer != null && index.containsKey(new Cle(observer, false));
+    }
+
+    public int taille() {
+        return index.size();
+    }
+
+    public boolean estVide() {
+        return index.isEmpty();
+    }
+
+    /**
+     * Vue non modifiable et toujours à jour des observers abonnés (aucune copie)
+     */
+    public Collection<EvenementObserver> getObservers() {
+        return vueObservers;
+    }
+
+    /**
+     * Boucle de diffusion : par priorité décroissante, uniquement aux abonnements acceptant ce type
+     * Les erreurs d'un observer n'interrompent pas la diffusion aux suivants
+     * Chaque appel est mesuré dans {@link MetriquesDiffusion} lorsque l'instrumentation est active
+     * @return le nombre d'observers notifiés
+     */
+    public int diffuser(String evenementId, String evenementNom, TypeNotification type,
+                        Consumer<EvenementObserver> notification) {
+        MetriquesDiffusion metriques = MetriquesDiffusion.getInstance();
+        boolean mesurer = metriques.estActive();
+        long debutDiffusion = mesurer ? System.nanoTime() : 0;
+        int notifies = 0;
+        boolean purgeNecessaire = false;
+
+        for (Queue<Abonnement> tranche : tranches.values()) {
+            for (Abonnement abonnement : tranche) {
+                if (abonnement.estResilie() || !abonnement.accepte(type)) {
+                    continue;
+                }
+                EvenementObserver observer = abonnement.getObserver();
+                if (observer == null) {
+                    purgeNecessaire = true;
+                    continue;
+                }
+                long debut = mesurer ? System.nanoTime() : 0;
+                boolean succes = true;
+                try {
+                    notification.accept(observer);
+                    notifies++;
+                } catch (Exception e) {
+                    succes = false;
+                    Journal.erreur("❌ Erreur notification observer: " + e.getMessage());
+                }
+                if (mesurer) {
+                    metriques.enregistrerAppel(evenementId, evenementNom, observer, System.nanoTime() - debut, succes);
+                }
+            }
+        }
+
+        if (mesurer) {
+            metriques.enregistrerDiffusion(evenementId, evenementNom, type, notifies, System.nanoTime() - debutDiffusion);
+        }
+        if (purgeNecessaire) {
+            purgerObserversCollectes();
+        }
+        return notifies;
+    }
+
+    /**
+     * Retire les abonnements faibles dont l'observer a été collecté
+     */
+    public int purgerObserversCollectes() {
+        return retirerSi(abonnement -> abonnement.getObserver() == null);
+    }
+
+    private int retirerSi(Predicate<Abonnement> condition) {
+        int retires = 0;
+        for (Abonnement abonnement : index.values()) {
+            if (condition.test(abonnement) && retirer(abonnement)) {
+                retires++;
+            }
+        }
+        return retires;
+    }
+
+    /**
+     * Clé d'index : référence forte ou faible vers l'observer, égalité selon equals() de l'observer
+     * Le hash est mémorisé pour rester stable après la collecte d'un observer faible
+     */
+    static final class Cle {
+        private final EvenementObserver forte;
+        private final WeakReference<EvenementObserver> faible;
+        private final int hash;
+
+        Cle(EvenementObserver observer, boolean referenceFaible) {
+            this.forte = referenceFaible ? null : observer;
+            this.faible = referenceFaible ? new WeakReference<>(observer) : null;
+            this.hash = observer.hashCode();
+        }
+
+        private EvenementObserver get() {
+            return forte != null ? forte : faible.get();
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof Cle)) return false;
+            Cle autre = (Cle) obj;
+            if (hash != autre.hash) return false;
+            EvenementObserver observer = get();
+            return observer != null && observer.equals(autre.get());
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * Vue des observers adossée à l'index ; les observers faibles collectés sont ignorés
+     */
+    private final class VueObservers extends AbstractCollection<EvenementObserver> {
+
+        @Override
+        public int size() {
+            return index.size();
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return index.isEmpty();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof EvenementObserver && contient((EvenementObserver) o);
+        }
+
+        @Override
+        public Iterator<EvenementObserver> iterator() {
+            Iterator<Abonnement> abonnements = index.values().iterator();
+            return new Iterator<>() {
+                private EvenementObserver suivant = avancer();
+
+                private EvenementObserver avancer() {
+                    while (abonnements.hasNext()) {
+                        EvenementObserver observer = abonnements.next().getObserver();
+                        if (observer != null) {
+                            return observer;
+                        }
+                    }
+                    return null;
+                }
+
+                @Override
+                public boolean hasNext() {
+                    return suivant != null;
+                }
+
+                @Override
+                public EvenementObserver next() {
+                    if (suivant == null) {
+                        throw new NoSuchElementException();
+                    }
+                    EvenementObserver courant = suivant;
+                    suivant = avancer();
+                    return courant;
+                }
+            };
+        }
+    }
+}
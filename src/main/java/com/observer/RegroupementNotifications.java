@@ -0,0 +1,153 @@
+package com.observer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Regroupe les notifications de changement d'information d'un événement
+ * - pendant une transaction (demarrer / valider), les messages sont mis de côté
+ *   puis diffusés en une seule notification à la validation
+ * - avec un délai de regroupement, les messages arrivant dans la fenêtre sont
+ *   diffusés ensemble à l'expiration de la fenêtre
+ */
+public class RegroupementNotifications {
+
+    private static final String SEPARATEUR = " | ";
+
+    // Planificateur partagé par tous les événements pour les fenêtres de regroupement
+    private static final ScheduledExecutorService PLANIFICATEUR = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "regroupement-notifications");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Consumer<String> diffusion;
+    private final ReentrantLock verrou = new ReentrantLock();
+    private final List<String> enAttente = new ArrayList<>();
+    private int profondeurTransaction;
+    private long delaiMs;
+    private ScheduledFuture<?> vidageProgramme;
+
+    /**
+     * @param diffusion envoie réellement un message (éventuellement combiné) aux observers
+     */
+    public RegroupementNotifications(Consumer<String> diffusion) {
+        this.diffusion = diffusion;
+    }
+
+    /**
+     * Met le message de côté si une transaction ou une fenêtre de regroupement est active
+     * @return false si le message doit être diffusé immédiatement par l'appelant
+     */
+    public boolean intercepter(String message) {
+        verrou.lock();
+        try {
+            if (profondeurTransaction > 0) {
+                enAttente.add(message);
+                return true;
+            }
+            if (delaiMs > 0) {
+                enAttente.add(message);
+                if (vidageProgramme == null) {
+                    vidageProgramme = PLANIFICATEUR.schedule(this::vider, delaiMs, TimeUnit.MILLISECONDS);
+                }
+                return true;
+            }
+            return false;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Ouvre une transaction (les transactions peuvent être imbriquées)
+     */
+    public void demarrer() {
+        verrou.lock();
+        try {
+            profondeurTransaction++;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    /**
+     * Ferme une transaction ; à la fermeture de la plus externe, une seule notification est diffusée
+     */
+    public void valider() {
+        verrou.lock();
+        try {
+            if (profondeurTransaction == 0) {
+                throw new IllegalStateException("Aucune transaction de modification en cours");
+            }
+            profondeurTransaction--;
+            if (profondeurTransaction > 0 || vidageProgramme != null) {
+                // Une fenêtre de regroupement en cours emportera ces messages
+                return;
+            }
+        } finally {
+            verrou.unlock();
+        }
+        vider();
+    }
+
+    /**
+     * Diffuse immédiatement les messages en attente, combinés en une seule notification
+     */
+    public void vider() {
+        String combine;
+        verrou.lock();
+        try {
+            if (vidageProgramme != null) {
+                vidageProgramme.cancel(false);
+                vidageProgramme = null;
+            }
+            if (enAttente.isEmpty() || profondeurTransaction > 0) {
+                return;
+            }
+            combine = String.join(SEPARATEUR, enAttente);
+            enAttente.clear();
+        } finally {
+            verrou.unlock();
+        }
+        // Diffusion hors verrou pour ne pas bloquer les modifications concurrentes
+        diffusion.accept(combine);
+    }
+
+    public long getDelaiMs() {
+        return delaiMs;
+    }
+
+    /**
+     * Délai de la fenêtre de regroupement (0 = diffusion immédiate hors transaction)
+     */
+    public void setDelaiMs(long delaiMs) {
+        if (delaiMs < 0) {
+            throw new IllegalArgumentException("Le délai de regroupement ne peut pas être négatif");
+        }
+        verrou.lock();
+        try {
+            this.delaiMs = delaiMs;
+        } finally {
+            verrou.unlock();
+        }
+        if (delaiMs == 0) {
+            vider();
+        }
+    }
+
+    public int getNombreEnAttente() {
+        verrou.lock();
+        try {
+            return enAttente.size();
+        } finally {
+            verrou.unlock();
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.observer;
+
+/**
+ * Types de notifications diffusées par un événement
+ * Permet aux observers de ne s'abonner qu'aux notifications qui les intéressent
+ */
+public enum TypeNotification {
+    MODIFICATION,
+    ANNULATION,
+    INFO
+}
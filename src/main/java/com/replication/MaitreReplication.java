@@ -0,0 +1,425 @@
+package com.replication;
+
+import com.exception.SerializationException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.metrics.Compteur;
+import com.metrics.Jauge;
+import com.metrics.RegistreMetriques;
+import com.model.Evenement;
+import com.model.Participant;
+import com.moteur.Commande;
+import com.moteur.EcouteurCommandes;
+import com.moteur.MoteurMonoEcrivain;
+import com.service.GestionEvenements;
+import com.util.SerializationUtil;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Maître de réplication : diffuse le flux de commandes du moteur mono-écrivain aux répliques suiveuses
+ * - écouteur du moteur : chaque commande appliquée avec succès est sérialisée une fois, conservée dans
+ *   un historique borné et déposée dans la file de chaque suiveur connecté (jamais d'attente)
+ * - un thread virtuel par suiveur vide sa file sur la socket
+ * - à la connexion, un suiveur reprend depuis l'historique s'il y couvre sa séquence, sinon il reçoit
+ *   un instantané de l'état copié entre deux lots du moteur (sérialisé hors du thread écrivain),
+ *   suivi des commandes postérieures
+ * - un suiveur trop lent (file pleine) est déconnecté : il se resynchronisera à sa reconnexion
+ */
+public class MaitreReplication implements EcouteurCommandes {
+
+    public static final int HISTORIQUE_DEFAUT = 100_000;
+    public static final int FILE_SUIVEUR_DEFAUT = 16_384;
+
+    // Délai sans commande au-delà duquel un PING est envoyé (détection des suiveurs déconnectés)
+    private static final long INTERVALLE_PING_MS = 1000;
+    private static final int DELAI_SYNCHRONISATION_MS = 10_000;
+    private static final int TAILLE_TAMPON_SOCKET = 64 * 1024;
+    private static final byte[] FIN_LIGNE = "\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Message prêt à l'envoi
+     */
+    private record Ligne(long seq, byte[] octets) {
+    }
+
+    /**
+     * État copié entre deux lots, sérialisé ensuite hors du thread écrivain
+     */
+    private record Copie(long sequence, List<Evenement> evenements, List<Participant> participants) {
+    }
+
+    private final MoteurMonoEcrivain moteur;
+    private final GestionEvenements gestion;
+    private final int capaciteHistorique;
+    private final int capaciteFile;
+    private final ObjectMapper mapper;
+    private final ObjectWriter writerJson;
+    // Identifiant de cette instance : un suiveur ne reprend par historique qu'auprès du même maître
+    private final String identifiant = UUID.randomUUID().toString();
+
+    private final ReentrantLock verrou = new ReentrantLock();
+    private final ArrayDeque<Ligne> historique = new ArrayDeque<>();
+    private final List<Suiveur> suiveurs = new ArrayList<>();
+    // L'historique contient toutes les commandes répliquées de séquence > historiqueDepuis
+    private long historiqueDepuis;
+    private volatile long derniereSequence;
+
+    private final Compteur diffusees;
+    private final Compteur instantanes;
+    private final Compteur decroches;
+
+    private ServerSocket socketServeur;
+    private ExecutorService executeur;
+    private Jauge jaugeSuiveurs;
+    private volatile boolean actif;
+
+    public MaitreReplication(MoteurMonoEcrivain moteur, GestionEvenements gestion) {
+        this(moteur, gestion, HISTORIQUE_DEFAUT, FILE_SUIVEUR_DEFAUT);
+    }
+
+    /**
+     * @param capaciteHistorique commandes conservées pour la reprise des suiveurs reconnectés
+     * @param capaciteFile commandes en attente d'envoi tolérées par suiveur avant déconnexion
+     */
+    public MaitreReplication(MoteurMonoEcrivain moteur, GestionEvenements gestion, int capaciteHistorique, int capaciteFile) {
+        if (capaciteHistorique <= 0 || capaciteFile <= 0) {
+            throw new IllegalArgumentException("Les capacités doivent être positives");
+        }
+        this.moteur = moteur;
+        this.gestion = gestion;
+        this.capaciteHistorique = capaciteHistorique;
+        this.capaciteFile = capaciteFile;
+        this.mapper = SerializationUtil.getMapper();
+        this.writerJson = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.diffusees = metriques.compteur("replication_commandes_diffusees_total", "Commandes diffusées aux suiveurs");
+        this.instantanes = metriques.compteur("replication_instantanes_envoyes_total", "Instantanés envoyés aux suiveurs");
+        this.decroches = metriques.compteur("replication_suiveurs_decroches_total", "Suiveurs déconnectés pour retard");
+    }
+
+    // ============ CYCLE DE VIE ============
+
+    /**
+     * S'abonne au moteur (démarré) et accepte les suiveurs
+     * @param adresse adresse d'écoute (port 0 = port libre)
+     * @return le port effectivement utilisé
+     */
+    public synchronized int demarrer(InetSocketAddress adresse) throws IOException {
+        if (actif) {
+            throw new IllegalStateException("La réplication est déjà démarrée");
+        }
+        // Abonnement entre deux lots : l'historique démarre exactement après la dernière commande appliquée
+        moteur.lireEntreLots(sequence -> {
+            historiqueDepuis = sequence;
+            derniereSequence = sequence;
+            moteur.ajouterEcouteur(this);
+            return null;
+        }).join();
+
+        socketServeur = new ServerSocket();
+        socketServeur.bind(adresse);
+        executeur = Executors.newVirtualThreadPerTaskExecutor();
+        // Jauge du maître démarré (elle remplace celle d'un maître précédent)
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        metriques.retirer("replication_suiveurs_connectes");
+        jaugeSuiveurs = metriques.jauge("replication_suiveurs_connectes", "Suiveurs connectés", this::getNombreSuiveurs);
+        actif = true;
+        executeur.submit(this::accepter);
+        System.out.println(String.format("🔁 [RÉPLICATION] Maître en écoute sur le port %d (historique de %d commandes)",
+                socketServeur.getLocalPort(), capaciteHistorique));
+        return socketServeur.getLocalPort();
+    }
+
+    public synchronized void arreter() {
+        if (!actif) {
+            return;
+        }
+        actif = false;
+        try {
+            socketServeur.close();
+        } catch (IOException e) {
+            // Déjà fermée
+        }
+        verrou.lock();
+        try {
+            for (Suiveur suiveur : new ArrayList<>(suiveurs)) {
+                suiveur.fermer();
+            }
+        } finally {
+            verrou.unlock();
+        }
+        executeur.close();
+        RegistreMetriques.getInstance().retirer(jaugeSuiveurs);
+        jaugeSuiveurs = null;
+        System.out.println("🔁 [RÉPLICATION] Maître arrêté");
+    }
+
+    // ============ FLUX DE COMMANDES (thread écrivain) ============
+
+    @Override
+    public void commandeAppliquee(long sequence, Commande commande, boolean succes, boolean finDeLot) {
+        if (!succes) {
+            // Une commande rejetée n'a pas modifié l'état : rien à répliquer
+            return;
+        }
+        byte[] octets;
+        try {
+            octets = ligne(MessageReplication.commande(sequence, commande));
+        } catch (JsonProcessingException e) {
+            System.err.println("❌ [RÉPLICATION] Commande " + sequence + " non sérialisable, suiveurs resynchronisés: " + e.getMessage());
+            verrou.lock();
+            try {
+                // L'historique ne couvre plus cette séquence : les suiveurs repartiront d'un instantané
+                historique.clear();
+                historiqueDepuis = sequence;
+                derniereSequence = sequence;
+                for (Suiveur suiveur : new ArrayList<>(suiveurs)) {
+                    suiveur.fermer();
+                }
+            } finally {
+                verrou.unlock();
+            }
+            return;
+        }
+
+        Ligne ligne = new Ligne(sequence, octets);
+        verrou.lock();
+        try {
+            historique.addLast(ligne);
+            if (historique.size() > capaciteHistorique) {
+                historiqueDepuis = historique.removeFirst().seq();
+            }
+            derniereSequence = sequence;
+            for (Suiveur suiveur : suiveurs) {
+                if (!suiveur.ferme && !suiveur.file.offer(ligne)) {
+                    decroches.incrementer();
+                    System.err.println("⚠️ [RÉPLICATION] Suiveur " + suiveur.adresse + " trop lent, déconnecté");
+                    suiveur.fermer();
+                }
+            }
+        } finally {
+            verrou.unlock();
+        }
+        diffusees.incrementer();
+    }
+
+    // ============ CONNEXIONS ============
+
+    private void accepter() {
+        while (actif) {
+            try {
+                Socket socket = socketServeur.accept();
+                executeur.submit(() -> servir(socket));
+            } catch (IOException e) {
+                if (actif) {
+                    System.err.println("⚠️ [RÉPLICATION] Connexion refusée: " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void servir(Socket socket) {
+        Suiveur suiveur = null;
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            socket.setSoTimeout(DELAI_SYNCHRONISATION_MS);
+            BufferedReader lecteur = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+            String premiere = lecteur.readLine();
+            if (premiere == null) {
+                return;
+            }
+            MessageReplication synchronisation = mapper.readValue(premiere, MessageReplication.class);
+            if (!MessageReplication.SYNC.equals(synchronisation.type)) {
+                System.err.println("⚠️ [RÉPLICATION] Message inattendu de " + socket.getRemoteSocketAddress() + ": " + synchronisation.type);
+                return;
+            }
+            suiveur = new Suiveur(socket);
+            if (!reprendreDepuisHistorique(suiveur, synchronisation)) {
+                envoyerInstantane(suiveur);
+            }
+            suiveur.envoyer();
+        } catch (IOException | CompletionException e) {
+            if (actif && (suiveur == null || !suiveur.ferme)) {
+                System.err.println("⚠️ [RÉPLICATION] Suiveur " + socket.getRemoteSocketAddress() + " perdu: " + e.getMessage());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (suiveur != null) {
+                retirer(suiveur);
+            }
+        }
+    }
+
+    /**
+     * Reprise incrémentale si le suiveur connaît ce maître et que l'historique couvre sa séquence
+     */
+    private boolean reprendreDepuisHistorique(Suiveur suiveur, MessageReplication synchronisation) {
+        if (!identifiant.equals(synchronisation.maitre) || synchronisation.depuis == null) {
+            return false;
+        }
+        long depuis = synchronisation.depuis;
+        if (!abonnerDepuis(suiveur, depuis)) {
+            return false;
+        }
+        System.out.println(String.format("🔁 [RÉPLICATION] Suiveur %s repris après la séquence %d (%d commande(s) à rattraper)",
+                suiveur.adresse, depuis, suiveur.rattrapage.size()));
+        return true;
+    }
+
+    /**
+     * Instantané en deux temps :
+     * - sur le thread écrivain, entre deux lots : copie des collections de l'état (pas de sérialisation)
+     * - sur le thread du suiveur : sérialisation de la copie, puis abonnement avec les commandes
+     *   appliquées entre-temps, reprises de l'historique
+     * @throws IOException si l'historique ne couvre plus la séquence de la copie (le suiveur se reconnectera)
+     */
+    private void envoyerInstantane(Suiveur suiveur) throws IOException {
+        Copie copie = moteur.lireEntreLots(derniere -> {
+            List<Evenement> evenements = new ArrayList<>();
+            for (Evenement evenement : gestion.getEvenements()) {
+                evenements.add(evenement.copier());
+            }
+            return new Copie(derniere, evenements, gestion.getParticipants());
+        }).join();
+
+        try {
+            suiveur.rattrapage.add(ligne(MessageReplication.instantane(identifiant, copie.sequence())));
+            suiveur.rattrapage.add(SerializationUtil.exporterInstantane(copie.evenements(), copie.participants()));
+        } catch (JsonProcessingException | SerializationException e) {
+            throw new IOException("Instantané non sérialisable: " + e.getMessage(), e);
+        }
+        if (!abonnerDepuis(suiveur, copie.sequence())) {
+            throw new IOException("Historique dépassé pendant la sérialisation de l'instantané");
+        }
+        instantanes.incrementer();
+        System.out.println(String.format("🔁 [RÉPLICATION] Instantané à la séquence %d envoyé au suiveur %s",
+                copie.sequence(), suiveur.adresse));
+    }
+
+    /**
+     * Abonne le suiveur après avoir mis en rattrapage les commandes de l'historique postérieures à depuis
+     * @return false si l'historique ne couvre pas cette séquence
+     */
+    private boolean abonnerDepuis(Suiveur suiveur, long depuis) {
+        verrou.lock();
+        try {
+            if (depuis < historiqueDepuis || depuis > derniereSequence) {
+                return false;
+            }
+            for (Ligne ligne : historique) {
+                if (ligne.seq() > depuis) {
+                    suiveur.rattrapage.add(ligne.octets());
+                }
+            }
+            suiveurs.add(suiveur);
+            return true;
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void retirer(Suiveur suiveur) {
+        verrou.lock();
+        try {
+            suiveurs.remove(suiveur);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private byte[] ligne(MessageReplication message) throws JsonProcessingException {
+        return writerJson.writeValueAsBytes(message);
+    }
+
+    // ============ ÉTAT ============
+
+    public int getNombreSuiveurs() {
+        verrou.lock();
+        try {
+            return suiveurs.size();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public long getDerniereSequence() {
+        return derniereSequence;
+    }
+
+    /**
+     * Suiveur connecté : file bornée vidée sur la socket par son thread virtuel
+     */
+    private class Suiveur {
+        final Socket socket;
+        final String adresse;
+        final BlockingQueue<Ligne> file = new ArrayBlockingQueue<>(capaciteFile);
+        // Lignes à envoyer avant la file (historique ou instantané)
+        final List<byte[]> rattrapage = new ArrayList<>();
+        volatile boolean ferme;
+
+        Suiveur(Socket socket) {
+            this.socket = socket;
+            this.adresse = String.valueOf(socket.getRemoteSocketAddress());
+        }
+
+        void envoyer() throws IOException, InterruptedException {
+            OutputStream sortie = new BufferedOutputStream(socket.getOutputStream(), TAILLE_TAMPON_SOCKET);
+            for (byte[] octets : rattrapage) {
+                sortie.write(octets);
+                sortie.write(FIN_LIGNE);
+            }
+            rattrapage.clear();
+            sortie.flush();
+
+            List<Ligne> lot = new ArrayList<>();
+            while (actif && !ferme) {
+                Ligne premiere = file.poll(INTERVALLE_PING_MS, TimeUnit.MILLISECONDS);
+                if (premiere == null) {
+                    sortie.write(ligne(new MessageReplication(MessageReplication.PING, derniereSequence)));
+                    sortie.write(FIN_LIGNE);
+                } else {
+                    lot.add(premiere);
+                    file.drainTo(lot);
+                    for (Ligne ligne : lot) {
+                        sortie.write(ligne.octets());
+                        sortie.write(FIN_LIGNE);
+                    }
+                    lot.clear();
+                }
+                sortie.flush();
+            }
+        }
+
+        void fermer() {
+            ferme = true;
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Déjà fermée
+            }
+        }
+    }
+}
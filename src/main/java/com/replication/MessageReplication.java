@@ -0,0 +1,53 @@
+package com.replication;
+
+import com.moteur.Commande;
+
+/**
+ * Ligne du protocole de réplication (une ligne JSON par message, sur TCP)
+ *
+ * suiveur -> maître : {"type":"SYNC","maitre":id,"depuis":n}    reprise après la séquence n (id/n absents = pas d'état)
+ * maître -> suiveur : {"type":"INSTANTANE","maitre":id,"seq":s}  suivi d'une ligne : l'état complet à la séquence s
+ *                     {"type":"CMD","seq":n,"commande":{...}}     commande appliquée avec succès par le maître
+ *                     {"type":"PING","seq":n}                     maître inactif, dernière séquence répliquée
+ */
+class MessageReplication {
+
+    static final String SYNC = "SYNC";
+    static final String INSTANTANE = "INSTANTANE";
+    static final String COMMANDE = "CMD";
+    static final String PING = "PING";
+
+    public String type;
+    public long seq;
+    public Long depuis;
+    public String maitre;
+    public Commande commande;
+
+    // Constructeur par défaut pour Jackson
+    public MessageReplication() {
+    }
+
+    MessageReplication(String type, long seq) {
+        this.type = type;
+        this.seq = seq;
+    }
+
+    static MessageReplication commande(long seq, Commande commande) {
+        MessageReplication message = new MessageReplication(COMMANDE, seq);
+        message.commande = commande;
+        return message;
+    }
+
+    static MessageReplication synchronisation(String maitre, Long depuis) {
+        MessageReplication message = new MessageReplication(SYNC, 0);
+        message.maitre = maitre;
+        message.depuis = depuis;
+        return message;
+    }
+
+    static MessageReplication instantane(String maitre, long seq) {
+        MessageReplication message = new MessageReplication(INSTANTANE, seq);
+        message.maitre = maitre;
+        return message;
+    }
+}
@@ -0,0 +1,256 @@
+package com.replication;
+
+import com.exception.GestionEvenementsException;
+import com.exception.SerializationException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.metrics.Compteur;
+import com.metrics.Jauge;
+import com.metrics.RegistreMetriques;
+import com.model.Participant;
+import com.moteur.ApplicateurCommandes;
+import com.moteur.ModeleLectureEvenements;
+import com.service.GestionEvenements;
+import com.util.SerializationUtil;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Réplique suiveuse : reçoit le flux de commandes d'un MaitreReplication et l'applique à une
+ * GestionEvenements locale en lecture seule, dont le modèle de lecture sert les requêtes
+ * - à la connexion, reprend après sa dernière séquence (ou reçoit un instantané complet)
+ * - les commandes sont appliquées dans l'ordre par un unique thread, comme sur le maître
+ * - en cas de coupure, se reconnecte avec un délai croissant
+ * - une commande acceptée par le maître mais rejetée ici signale une divergence : l'état est
+ *   abandonné et resynchronisé par instantané
+ */
+public class SuiveurReplication {
+
+    private static final int DELAI_CONNEXION_MS = 5000;
+    // Sans message (commande ou PING) pendant ce délai, le maître est considéré perdu
+    private static final int DELAI_SILENCE_MS = 5000;
+    private static final long RECONNEXION_MIN_MS = 100;
+    private static final long RECONNEXION_MAX_MS = 5000;
+
+    private final InetSocketAddress maitre;
+    private final GestionEvenements gestion;
+    private final ModeleLectureEvenements modele;
+    private final ObjectMapper mapper;
+
+    private final Compteur appliquees;
+    private final Compteur instantanes;
+    private final Compteur reconnexions;
+
+    // Maître et séquence de l'état local (null = aucun état synchronisé)
+    private String identifiantMaitre;
+    private volatile long derniereSequence = -1;
+    private volatile long sequenceMaitre = -1;
+    private volatile boolean synchronise;
+    private volatile boolean actif;
+    private volatile Socket socket;
+    private Thread thread;
+    private Jauge jaugeRetard;
+
+    public SuiveurReplication(InetSocketAddress maitre, GestionEvenements gestion) {
+        this.maitre = maitre;
+        this.gestion = gestion;
+        this.modele = new ModeleLectureEvenements(gestion);
+        this.mapper = SerializationUtil.getMapper();
+
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.appliquees = metriques.compteur("replication_commandes_appliquees_total", "Commandes répliquées appliquées par ce suiveur");
+        this.instantanes = metriques.compteur("replication_instantanes_recus_total", "Instantanés reçus du maître");
+        this.reconnexions = metriques.compteur("replication_reconnexions_total", "Reconnexions au maître");
+    }
+
+    // ============ CYCLE DE VIE ============
+
+    public synchronized void demarrer() {
+        if (actif) {
+            throw new IllegalStateException("Le suiveur est déjà démarré");
+        }
+        // Jauge du suiveur démarré (elle remplace celle d'un suiveur précédent)
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        metriques.retirer("replication_retard_commandes");
+        jaugeRetard = metriques.jauge("replication_retard_commandes",
+                "Commandes répliquées par le maître et pas encore appliquées", this::getRetard);
+        actif = true;
+        thread = Thread.ofVirtual().name("replication-suiveur").start(this::boucle);
+        System.out.println("🔁 [RÉPLICATION] Suiveur du maître " + maitre);
+    }
+
+    public synchronized void arreter() {
+        if (!actif) {
+            return;
+        }
+        actif = false;
+        fermerSocket();
+        thread.interrupt();
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        RegistreMetriques.getInstance().retirer(jaugeRetard);
+        jaugeRetard = null;
+        System.out.println(String.format("🔁 [RÉPLICATION] Suiveur arrêté à la séquence %d", derniereSequence));
+    }
+
+    private void boucle() {
+        long attente = RECONNEXION_MIN_MS;
+        while (actif) {
+            try {
+                if (suivre()) {
+                    attente = RECONNEXION_MIN_MS;
+                }
+            } catch (IOException e) {
+                if (actif) {
+                    System.err.println("⚠️ [RÉPLICATION] Maître " + maitre + " injoignable: " + e.getMessage());
+                }
+            } catch (SerializationException e) {
+                System.err.println("❌ [RÉPLICATION] Instantané rejeté: " + e.getMessageDetaille());
+                abandonnerEtat();
+            } finally {
+                fermerSocket();
+            }
+            if (!actif) {
+                return;
+            }
+            reconnexions.incrementer();
+            try {
+                Thread.sleep(attente);
+            } catch (InterruptedException e) {
+                return;
+            }
+            attente = Math.min(attente * 2, RECONNEXION_MAX_MS);
+        }
+    }
+
+    /**
+     * Une connexion : synchronisation puis application du flux jusqu'à la coupure
+     * @return true si au moins un message a été reçu
+     */
+    private boolean suivre() throws IOException, SerializationException {
+        Socket connexion = new Socket();
+        socket = connexion;
+        connexion.connect(maitre, DELAI_CONNEXION_MS);
+        connexion.setTcpNoDelay(true);
+        connexion.setSoTimeout(DELAI_SILENCE_MS);
+
+        MessageReplication synchronisation = MessageReplication.synchronisation(identifiantMaitre,
+                identifiantMaitre != null ? derniereSequence : null);
+        OutputStream sortie = connexion.getOutputStream();
+        sortie.write(mapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(synchronisation));
+        sortie.write('\n');
+        sortie.flush();
+
+        BufferedReader lecteur = new BufferedReader(new InputStreamReader(connexion.getInputStream(), StandardCharsets.UTF_8), 64 * 1024);
+        boolean recu = false;
+        String ligne;
+        while (actif && (ligne = lecteur.readLine()) != null) {
+            recu = true;
+            MessageReplication message = mapper.readValue(ligne, MessageReplication.class);
+            switch (message.type) {
+                case MessageReplication.INSTANTANE -> {
+                    String donnees = lecteur.readLine();
+                    if (donnees == null) {
+                        throw new IOException("Instantané tronqué");
+                    }
+                    installerInstantane(message.maitre, message.seq, donnees);
+                }
+                case MessageReplication.COMMANDE -> {
+                    if (!appliquer(message)) {
+                        return true;
+                    }
+                }
+                case MessageReplication.PING -> sequenceMaitre = Math.max(sequenceMaitre, message.seq);
+                default -> System.err.println("⚠️ [RÉPLICATION] Message inconnu ignoré: " + message.type);
+            }
+        }
+        return recu;
+    }
+
+    private void installerInstantane(String identifiant, long sequence, String donnees) throws SerializationException {
+        synchronise = false;
+        var sauvegarde = SerializationUtil.importerInstantane(donnees);
+        gestion.viderTout();
+        for (Participant participant : sauvegarde.getParticipants()) {
+            gestion.ajouterParticipant(participant);
+        }
+        gestion.ajouterEvenements(sauvegarde.getEvenements());
+        modele.initialiser();
+
+        identifiantMaitre = identifiant;
+        derniereSequence = sequence;
+        sequenceMaitre = Math.max(sequenceMaitre, sequence);
+        synchronise = true;
+        instantanes.incrementer();
+        System.out.println(String.format("🔁 [RÉPLICATION] Instantané installé à la séquence %d: %d événements, %d participants",
+                sequence, sauvegarde.getEvenements().size(), sauvegarde.getParticipants().size()));
+    }
+
+    /**
+     * @return false si la commande a divergé (l'état local est abandonné)
+     */
+    private boolean appliquer(MessageReplication message) {
+        try {
+            ApplicateurCommandes.appliquer(gestion, message.commande);
+        } catch (GestionEvenementsException | RuntimeException e) {
+            System.err.println("❌ [RÉPLICATION] Divergence à la séquence " + message.seq + " (" + e.getMessage()
+                    + "), resynchronisation par instantané");
+            abandonnerEtat();
+            return false;
+        }
+        modele.commandeAppliquee(message.seq, message.commande, true, true);
+        derniereSequence = message.seq;
+        sequenceMaitre = Math.max(sequenceMaitre, message.seq);
+        appliquees.incrementer();
+        return true;
+    }
+
+    // La prochaine connexion demandera un instantané
+    private void abandonnerEtat() {
+        identifiantMaitre = null;
+        synchronise = false;
+    }
+
+    private void fermerSocket() {
+        Socket connexion = socket;
+        if (connexion != null) {
+            try {
+                connexion.close();
+            } catch (IOException e) {
+                // Déjà fermée
+            }
+        }
+    }
+
+    // ============ ÉTAT ============
+
+    public ModeleLectureEvenements getModele() {
+        return modele;
+    }
+
+    /**
+     * true une fois un instantané installé, tant qu'aucune divergence n'a été détectée
+     */
+    public boolean estSynchronise() {
+        return synchronise;
+    }
+
+    public long getDerniereSequence() {
+        return derniereSequence;
+    }
+
+    /**
+     * Commandes connues du maître (d'après ses derniers messages) et pas encore appliquées
+     */
+    public long getRetard() {
+        return Math.max(0, sequenceMaitre - derniereSequence);
+    }
+}
@@ -0,0 +1,556 @@
+package com.serveur;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.exception.*;
+import com.metrics.Chronometre;
+import com.metrics.Compteur;
+import com.metrics.ExportateurPrometheus;
+import com.metrics.RegistreMetriques;
+import com.model.*;
+import com.moteur.Commande;
+import com.moteur.ModeleLectureEvenements;
+import com.moteur.MoteurMonoEcrivain;
+import com.replication.SuiveurReplication;
+import com.service.ExecuteurCommandes;
+import com.service.GestionEvenements;
+import com.service.StockagePartitionne;
+import com.util.SerializationUtil;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * API HTTP/JSON du moteur de gestion d'événements (mode sans interface)
+ * Serveur HTTP du JDK, un thread virtuel par requête
+ *
+ * GET    /api/evenements?nom=&lieu=&type=&limite=       recherche (résumés)
+ * POST   /api/evenements                                création (JSON avec "type")
+ * GET    /api/evenements/{id}                           détail
+ * PUT    /api/evenements/{id}                           modification {nom, date, lieu}
+ * DELETE /api/evenements/{id}                           suppression (annulation notifiée)
+ * GET    /api/evenements/{id}/participants              inscrits
+ * POST   /api/evenements/{id}/inscriptions              {participantId, listeAttente}
+ * DELETE /api/evenements/{id}/inscriptions/{pid}        désinscription / sortie de liste d'attente
+ *                                                       (inscriptions sérialisées par événement via ExecuteurCommandes)
+ * GET    /api/participants                              participants
+ * POST   /api/participants                              création {id, nom, email}
+ * GET    /api/statistiques                              statistiques globales
+ * GET    /metrics                                       métriques au format Prometheus
+ * GET    /sante                                         sonde de disponibilité
+ *
+ * Avec utiliserMoteur(), les mutations sont soumises au moteur mono-écrivain et les lectures
+ * d'événements servies par son modèle de lecture
+ * Avec utiliserReplique(), le nœud est une réplique en lecture seule : les mutations sont refusées (405
+ * LECTURE_SEULE, à adresser au maître) et /sante répond 503 tant que la réplique n'est pas synchronisée
+ */
+public class ServeurApi {
+
+    private static final int LIMITE_DEFAUT = 100;
+    private static final int TAILLE_CORPS_MAX = 1 << 20;
+
+    private final GestionEvenements gestion;
+    private final ExecuteurCommandes commandes = ExecuteurCommandes.getInstance();
+    private final ObjectMapper mapper;
+    private final ObjectWriter writer;
+    private final ExportateurPrometheus exportateur = new ExportateurPrometheus();
+    private final Chronometre dureeRequetes;
+    private final Compteur requetes;
+    private final Compteur erreursServeur;
+    // Mode mono-écrivain (null = appels directs à GestionEvenements)
+    private MoteurMonoEcrivain moteur;
+    private ModeleLectureEvenements modeleLecture;
+    // Mode réplique (null = nœud autonome ou maître)
+    private SuiveurReplication replique;
+    private HttpServer serveur;
+    private ExecutorService executeur;
+
+    public ServeurApi() {
+        this(GestionEvenements.getInstance());
+    }
+
+    public ServeurApi(GestionEvenements gestion) {
+        this.gestion = gestion;
+        this.mapper = SerializationUtil.getMapper();
+        this.writer = mapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.dureeRequetes = metriques.chronometre("http_requete_duree_secondes", "Durée de traitement d'une requête HTTP");
+        this.requetes = metriques.compteur("http_requetes_total", "Requêtes HTTP traitées");
+        this.erreursServeur = metriques.compteur("http_erreurs_serveur_total", "Requêtes HTTP terminées en erreur 5xx");
+    }
+
+    /**
+     * Fait passer toutes les mutations par le moteur mono-écrivain et les lectures d'événements
+     * par son modèle de lecture (à appeler avant demarrer)
+     */
+    public void utiliserMoteur(MoteurMonoEcrivain moteur, ModeleLectureEvenements modeleLecture) {
+        if (serveur != null) {
+            throw new IllegalStateException("Le serveur est déjà démarré");
+        }
+        this.moteur = Objects.requireNonNull(moteur);
+        this.modeleLecture = Objects.requireNonNull(modeleLecture);
+    }
+
+    /**
+     * Sert les lectures depuis une réplique suiveuse et refuse les mutations (à appeler avant demarrer)
+     */
+    public void utiliserReplique(SuiveurReplication replique) {
+        if (serveur != null) {
+            throw new IllegalStateException("Le serveur est déjà démarré");
+        }
+        this.replique = Objects.requireNonNull(replique);
+        this.modeleLecture = replique.getModele();
+    }
+
+    /**
+     * Démarre le serveur
+     * @param adresse adresse d'écoute (port 0 = port libre)
+     * @return le port effectivement utilisé
+     */
+    public synchronized int demarrer(InetSocketAddress adresse) throws IOException {
+        if (serveur != null) {
+            throw new IllegalStateException("Le serveur est déjà démarré");
+        }
+        serveur = HttpServer.create(adresse, 1024);
+        executeur = Executors.newVirtualThreadPerTaskExecutor();
+        serveur.setExecutor(executeur);
+        serveur.createContext("/", this::traiter);
+        serveur.start();
+        return serveur.getAddress().getPort();
+    }
+
+    public synchronized void arreter(int delaiSecondes) {
+        if (serveur != null) {
+            serveur.stop(delaiSecondes);
+            executeur.close();
+            serveur = null;
+        }
+    }
+
+    // ============ AIGUILLAGE ============
+
+    private void traiter(HttpExchange echange) {
+        long debut = System.nanoTime();
+        int statut;
+        try (echange) {
+            statut = aiguiller(echange);
+        } catch (Exception e) {
+            statut = 500;
+        }
+        requetes.incrementer();
+        if (statut >= 500) {
+            erreursServeur.incrementer();
+        }
+        dureeRequetes.enregistrerDepuis(debut);
+    }
+
+    private int aiguiller(HttpExchange echange) throws IOException {
+        String methode = echange.getRequestMethod();
+        String[] segments = segments(echange.getRequestURI().getPath());
+        Map<String, String> parametres = parametres(echange.getRequestURI().getRawQuery());
+
+        try {
+            if (segments.length == 1 && segments[0].equals("sante")) {
+                if (replique != null) {
+                    boolean synchronise = replique.estSynchronise();
+                    return repondre(echange, synchronise ? 200 : 503, Map.of(
+                            "statut", synchronise ? "OK" : "SYNCHRONISATION",
+                            "sequence", replique.getDerniereSequence(),
+                            "retard", replique.getRetard()));
+                }
+                return repondre(echange, 200, Map.of("statut", "OK"));
+            }
+            if (segments.length == 1 && segments[0].equals("metrics") && methode.equals("GET")) {
+                return repondreTexte(echange, 200, exportateur.genererTexte());
+            }
+            if (segments.length < 2 || !segments[0].equals("api")) {
+                return erreur(echange, 404, "RESSOURCE_INTROUVABLE", "Chemin inconnu");
+            }
+            if (replique != null && !methode.equals("GET")) {
+                return erreur(echange, 405, "LECTURE_SEULE", "Réplique en lecture seule : adresser les modifications au maître");
+            }
+
+            switch (segments[1]) {
+                case "evenements":
+                    return routerEvenements(echange, methode, segments, parametres);
+                case "participants":
+                    return routerParticipants(echange, methode, segments);
+                case "statistiques":
+                    if (segments.length == 2 && methode.equals("GET")) {
+                        return repondre(echange, 200, statistiques());
+                    }
+                    break;
+                default:
+                    break;
+            }
+            return erreur(echange, 404, "RESSOURCE_INTROUVABLE", "Chemin inconnu");
+
+        } catch (EvenementIntrouvableException | ParticipantIntrouvableException e) {
+            return erreur(echange, 404, e.getCodeErreur(), e.getMessage());
+        } catch (EvenementDejaExistantException | CapaciteMaxAtteinteException e) {
+            return erreur(echange, 409, e.getCodeErreur(), e.getMessage());
+        } catch (ValidationException e) {
+            return erreur(echange, 400, e.getCodeErreur(), String.join("; ", e.getErreursValidation()));
+        } catch (JsonProcessingException | DateTimeParseException | IllegalArgumentException e) {
+            return erreur(echange, 400, "REQUETE_INVALIDE", e.getMessage());
+        } catch (GestionEvenementsException e) {
+            return erreur(echange, 422, e.getCodeErreur(), e.getMessage());
+        } catch (RuntimeException e) {
+            System.err.println("❌ [SERVEUR] " + methode + " " + echange.getRequestURI() + ": " + e);
+            return erreur(echange, 500, "ERREUR_INTERNE", e.getMessage());
+        }
+    }
+
+    private int routerEvenements(HttpExchange echange, String methode, String[] segments,
+                                 Map<String, String> parametres) throws IOException, GestionEvenementsException {
+        if (segments.length == 2) {
+            switch (methode) {
+                case "GET": return repondre(echange, 200, rechercher(parametres));
+                case "POST": return creerEvenement(echange);
+                default: return methodeNonAutorisee(echange);
+            }
+        }
+
+        String evenementId = segments[2];
+        if (segments.length == 3) {
+            switch (methode) {
+                case "GET":
+                    if (modeleLecture != null) {
+                        EvenementResume resume = modeleLecture.get(evenementId);
+                        if (resume == null) {
+                            throw new EvenementIntrouvableException(
+                                    "Aucun événement trouvé avec l'ID: " + evenementId, evenementId);
+                        }
+                        return repondre(echange, 200, resume);
+                    }
+                    // Instantané pris sous le verrou de l'événement : sérialisé sans croiser les inscriptions
+                    return repondre(echange, 200, gestion.rechercherEvenement(evenementId).copier());
+                case "PUT":
+                    return modifierEvenement(echange, evenementId);
+                case "DELETE":
+                    if (moteur != null) {
+                        soumettre(new Commande.SupprimerEvenement(evenementId));
+                    } else {
+                        gestion.supprimerEvenement(evenementId);
+                    }
+                    return repondreVide(echange, 204);
+                default:
+                    return methodeNonAutorisee(echange);
+            }
+        }
+
+        if (segments.length == 4 && segments[3].equals("participants") && methode.equals("GET")) {
+            return repondre(echange, 200, gestion.rechercherEvenement(evenementId).getParticipants());
+        }
+        if (segments.length == 4 && segments[3].equals("inscriptions") && methode.equals("POST")) {
+            return inscrire(echange, evenementId);
+        }
+        if (segments.length == 5 && segments[3].equals("inscriptions") && methode.equals("DELETE")) {
+            return desinscrire(echange, evenementId, segments[4]);
+        }
+        return erreur(echange, 404, "RESSOURCE_INTROUVABLE", "Chemin inconnu");
+    }
+
+    private int routerParticipants(HttpExchange echange, String methode, String[] segments)
+            throws IOException, GestionEvenementsException {
+        if (segments.length == 2 && methode.equals("GET")) {
+            return repondre(echange, 200, gestion.getParticipants());
+        }
+        if (segments.length == 2 && methode.equals("POST")) {
+            Participant participant = lireObjet(echange, Participant.class);
+            validerParticipant(participant);
+            if (gestion.existeParticipant(participant.getId())) {
+                return erreur(echange, 409, "PARTICIPANT_EXISTANT",
+                        "Un participant avec l'ID '" + participant.getId() + "' existe déjà");
+            }
+            if (moteur != null) {
+                soumettre(new Commande.AjouterParticipant(participant));
+            } else {
+                gestion.ajouterParticipant(participant);
+            }
+            return repondre(echange, 201, participant);
+        }
+        if (segments.length == 3 && methode.equals("GET")) {
+            return repondre(echange, 200, gestion.rechercherParticipant(segments[2]));
+        }
+        return erreur(echange, 404, "RESSOURCE_INTROUVABLE", "Chemin inconnu");
+    }
+
+    // ============ OPÉRATIONS ============
+
+    private List<EvenementResume> rechercher(Map<String, String> parametres) {
+        String nom = parametres.get("nom");
+        String lieu = parametres.get("lieu");
+        String type = parametres.get("type");
+        int limite = parametres.containsKey("limite") ? Integer.parseInt(parametres.get("limite")) : LIMITE_DEFAUT;
+
+        // Mode mono-écrivain : lecture des instantanés publiés, sans toucher à l'état mutable
+        Stream<EvenementResume> resumes = modeleLecture != null
+                ? modeleLecture.getResumes().stream()
+                : (nom != null ? gestion.rechercherEvenementsParNom(nom) : gestion.getEvenements()).stream()
+                        .map(EvenementResume::de);
+        if (nom != null) {
+            String nomMinuscule = nom.toLowerCase();
+            resumes = resumes.filter(r -> r.nom().toLowerCase().contains(nomMinuscule));
+        }
+        if (lieu != null) {
+            String lieuMinuscule = lieu.toLowerCase();
+            resumes = resumes.filter(r -> r.lieu().toLowerCase().contains(lieuMinuscule));
+        }
+        if (type != null) {
+            resumes = resumes.filter(r -> r.type().equalsIgnoreCase(type));
+        }
+        return resumes
+                .sorted(Comparator.comparing(EvenementResume::date))
+                .limit(Math.max(0, limite))
+                .collect(Collectors.toList());
+    }
+
+    private int creerEvenement(HttpExchange echange) throws IOException, GestionEvenementsException {
+        Evenement evenement = lireObjet(echange, Evenement.class);
+        validerEvenement(evenement);
+        if (moteur != null) {
+            soumettre(new Commande.AjouterEvenement(evenement));
+            return repondre(echange, 201, modeleLecture.get(evenement.getId()));
+        }
+        gestion.ajouterEvenement(evenement);
+        return repondre(echange, 201, EvenementResume.de(evenement));
+    }
+
+    private int modifierEvenement(HttpExchange echange, String evenementId) throws IOException, GestionEvenementsException {
+        JsonNode corps = mapper.readTree(lireCorps(echange));
+        String nom = texte(corps, "nom");
+        String lieu = texte(corps, "lieu");
+        String date = texte(corps, "date");
+        LocalDateTime nouvelleDate = date != null ? LocalDateTime.parse(date) : null;
+        if (moteur != null) {
+            soumettre(new Commande.ModifierEvenement(evenementId, nom, nouvelleDate, lieu));
+            return repondre(echange, 200, modeleLecture.get(evenementId));
+        }
+        gestion.modifierEvenement(evenementId, nom, nouvelleDate, lieu);
+        return repondre(echange, 200, EvenementResume.de(gestion.rechercherEvenement(evenementId)));
+    }
+
+    private int inscrire(HttpExchange echange, String evenementId) throws IOException, GestionEvenementsException {
+        JsonNode corps = mapper.readTree(lireCorps(echange));
+        String participantId = texte(corps, "participantId");
+        if (participantId == null) {
+            throw new ValidationException("Le champ participantId est obligatoire", "participantId");
+        }
+
+        boolean listeAttente = corps.path("listeAttente").asBoolean(false);
+        try {
+            if (moteur != null) {
+                if (!(Boolean) soumettre(new Commande.InscrireParticipant(participantId, evenementId, listeAttente))) {
+                    return repondre(echange, 202, Map.of("statut", "LISTE_ATTENTE", "position",
+                            gestion.rechercherEvenement(evenementId)
+                                    .getPositionListeAttente(gestion.rechercherParticipant(participantId))));
+                }
+                return repondre(echange, 201, Map.of("statut", "INSCRIT"));
+            }
+
+            // Commande sérialisée avec les autres commandes de l'événement
+            Integer position = ExecuteurCommandes.attendre(commandes.soumettre(evenementId, () -> {
+                if (!listeAttente) {
+                    gestion.inscrireParticipant(participantId, evenementId);
+                    return null;
+                }
+                if (gestion.inscrireParticipantOuListeAttente(participantId, evenementId)) {
+                    return null;
+                }
+                return gestion.rechercherEvenement(evenementId)
+                        .getPositionListeAttente(gestion.rechercherParticipant(participantId));
+            }));
+            if (position != null) {
+                return repondre(echange, 202, Map.of("statut", "LISTE_ATTENTE", "position", position));
+            }
+        } catch (IllegalArgumentException e) {
+            // Déjà inscrit ou déjà en liste d'attente : conflit, pas requête invalide
+            return erreur(echange, 409, "DEJA_INSCRIT", e.getMessage());
+        } catch (IllegalStateException e) {
+            // Événement annulé (par son corps, une sauvegarde ou une suppression concurrente) : conflit d'état
+            if (!gestion.rechercherEvenement(evenementId).isAnnule()) {
+                throw e;
+            }
+            return erreur(echange, 409, "EVENEMENT_ANNULE", e.getMessage());
+        }
+        return repondre(echange, 201, Map.of("statut", "INSCRIT"));
+    }
+
+    private int desinscrire(HttpExchange echange, String evenementId, String participantId)
+            throws IOException, GestionEvenementsException {
+        boolean retire = moteur != null
+                ? (Boolean) soumettre(new Commande.DesinscrireParticipant(participantId, evenementId))
+                : ExecuteurCommandes.attendre(commandes.soumettre(evenementId, () -> {
+                    Evenement evenement = gestion.rechercherEvenement(evenementId);
+                    if (evenement.estInscrit(gestion.rechercherParticipant(participantId))) {
+                        gestion.desinscrireParticipant(participantId, evenementId);
+                        return true;
+                    }
+                    return gestion.retirerDeListeAttente(participantId, evenementId);
+                }));
+        if (!retire) {
+            return erreur(echange, 404, "INSCRIPTION_INTROUVABLE",
+                    "Le participant n'est ni inscrit ni en liste d'attente");
+        }
+        return repondreVide(echange, 204);
+    }
+
+    private Map<String, Object> statistiques() {
+        Map<String, Object> statistiques = new LinkedHashMap<>();
+        // Une passe parallèle par partition, fusionnée
+        List<StockagePartitionne.Statistiques> partitions = gestion.getStatistiquesPartitions();
+        StockagePartitionne.Statistiques globales = StockagePartitionne.Statistiques.total(partitions);
+        statistiques.put("evenements", globales.evenements());
+        statistiques.put("participants", gestion.getParticipants().size());
+        statistiques.put("inscriptions", globales.inscriptions());
+        statistiques.put("observers", globales.observers());
+        statistiques.put("tauxOccupationMoyen", globales.tauxOccupationMoyen());
+        statistiques.put("parType", globales.parType());
+        statistiques.put("tauxOccupationParType", globales.tauxOccupationParType());
+        statistiques.put("evenementsParPartition", partitions.stream()
+                .map(StockagePartitionne.Statistiques::evenements)
+                .collect(Collectors.toList()));
+        return statistiques;
+    }
+
+    private Object soumettre(Commande commande) throws GestionEvenementsException {
+        return ExecuteurCommandes.attendre(moteur.soumettre(commande));
+    }
+
+    // ============ VALIDATION ============
+
+    private static void validerEvenement(Evenement evenement) throws ValidationException {
+        List<String> erreurs = new ArrayList<>();
+        if (estVide(evenement.getId())) erreurs.add("L'ID est obligatoire");
+        if (estVide(evenement.getNom())) erreurs.add("Le nom est obligatoire");
+        if (estVide(evenement.getLieu())) erreurs.add("Le lieu est obligatoire");
+        if (evenement.getDate() == null) erreurs.add("La date est obligatoire");
+        if (evenement.getCapaciteMax() <= 0) erreurs.add("La capacité doit être positive");
+        if (!erreurs.isEmpty()) {
+            throw new ValidationException(erreurs);
+        }
+    }
+
+    private static void validerParticipant(Participant participant) throws ValidationException {
+        List<String> erreurs = new ArrayList<>();
+        if (estVide(participant.getId())) erreurs.add("L'ID est obligatoire");
+        if (estVide(participant.getNom())) erreurs.add("Le nom est obligatoire");
+        if (estVide(participant.getEmail()) || !participant.getEmail().contains("@")) erreurs.add("L'email est invalide");
+        if (!erreurs.isEmpty()) {
+            throw new ValidationException(erreurs);
+        }
+    }
+
+    private static boolean estVide(String valeur) {
+        return valeur == null || valeur.isBlank();
+    }
+
+    private static String texte(JsonNode corps, String champ) {
+        JsonNode valeur = corps.get(champ);
+        return valeur == null || valeur.isNull() ? null : valeur.asText();
+    }
+
+    // ============ HTTP ============
+
+    private byte[] lireCorps(HttpExchange echange) throws IOException {
+        try (InputStream entree = echange.getRequestBody()) {
+            byte[] corps = entree.readNBytes(TAILLE_CORPS_MAX + 1);
+            if (corps.length > TAILLE_CORPS_MAX) {
+                throw new IllegalArgumentException("Corps de requête trop volumineux");
+            }
+            return corps;
+        }
+    }
+
+    /**
+     * Corps JSON d'une création : un corps « null » est refusé ici plutôt que de laisser la validation
+     * échouer sur une NullPointerException (réservée aux erreurs internes, renvoyées en 500)
+     */
+    private <T> T lireObjet(HttpExchange echange, Class<T> type) throws IOException, ValidationException {
+        T objet = mapper.readValue(lireCorps(echange), type);
+        if (objet == null) {
+            throw new ValidationException("Le corps de la requête est obligatoire", "corps");
+        }
+        return objet;
+    }
+
+    private int repondre(HttpExchange echange, int statut, Object corps) throws IOException {
+        byte[] octets = writer.writeValueAsBytes(corps);
+        echange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        echange.sendResponseHeaders(statut, octets.length);
+        try (OutputStream sortie = echange.getResponseBody()) {
+            sortie.write(octets);
+        }
+        return statut;
+    }
+
+    private int repondreTexte(HttpExchange echange, int statut, String texte) throws IOException {
+        byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+        echange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+        echange.sendResponseHeaders(statut, octets.length);
+        try (OutputStream sortie = echange.getResponseBody()) {
+            sortie.write(octets);
+        }
+        return statut;
+    }
+
+    private int repondreVide(HttpExchange echange, int statut) throws IOException {
+        echange.sendResponseHeaders(statut, -1);
+        return statut;
+    }
+
+    private int erreur(HttpExchange echange, int statut, String code, String message) throws IOException {
+        Map<String, String> corps = new HashMap<>();
+        corps.put("erreur", code);
+        corps.put("message", message);
+        return repondre(echange, statut, corps);
+    }
+
+    private int methodeNonAutorisee(HttpExchange echange) throws IOException {
+        return erreur(echange, 405, "METHODE_NON_AUTORISEE", echange.getRequestMethod() + " non supporté");
+    }
+
+    private static String[] segments(String chemin) {
+        return Stream.of(chemin.split("/"))
+                .filter(segment -> !segment.isEmpty())
+                .map(segment -> URLDecoder.decode(segment, StandardCharsets.UTF_8))
+                .toArray(String[]::new);
+    }
+
+    private static Map<String, String> parametres(String requete) {
+        Map<String, String> parametres = new HashMap<>();
+        if (requete == null || requete.isEmpty()) {
+            return parametres;
+        }
+        for (String paire : requete.split("&")) {
+            int egal = paire.indexOf('=');
+            String cle = URLDecoder.decode(egal < 0 ? paire : paire.substring(0, egal), StandardCharsets.UTF_8);
+            String valeur = egal < 0 ? "" : URLDecoder.decode(paire.substring(egal + 1), StandardCharsets.UTF_8);
+            parametres.put(cle, valeur);
+        }
+        return parametres;
+    }
+}
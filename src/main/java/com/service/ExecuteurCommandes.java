@@ -0,0 +1,167 @@
+package com.service;
+
+import com.exception.*;
+import com.metrics.Chronometre;
+import com.metrics.Compteur;
+import com.metrics.RegistreMetriques;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Exécution des commandes du service sur threads virtuels - Singleton
+ * Chaque commande s'exécute sur son propre thread virtuel : les appels bloquants qu'elle contient
+ * (journalisation, persistance, livraison) ne mobilisent pas de thread système.
+ * Les commandes visant un même événement sont chaînées et s'exécutent une par une dans leur ordre
+ * de soumission ; les commandes de deux événements différents s'exécutent en parallèle.
+ */
+public class ExecuteurCommandes {
+
+    /**
+     * Commande du service, exécutée sur un thread virtuel
+     */
+    @FunctionalInterface
+    public interface Commande<T> {
+        T executer() throws GestionEvenementsException;
+    }
+
+    private static final CompletableFuture<Void> TERMINE = CompletableFuture.completedFuture(null);
+
+    // Instance unique (Singleton)
+    private static volatile ExecuteurCommandes instance;
+
+    private final GestionEvenements gestion;
+    private final ExecutorService executeur = Executors.newVirtualThreadPerTaskExecutor();
+
+    // Dernière commande soumise par événement : la suivante s'exécute après elle
+    private final ConcurrentHashMap<String, CompletableFuture<Void>> files = new ConcurrentHashMap<>();
+
+    private final Compteur soumises;
+    private final Compteur echouees;
+    private final Chronometre duree;
+
+    // Constructeur privé (Singleton)
+    private ExecuteurCommandes(GestionEvenements gestion) {
+        this.gestion = gestion;
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.soumises = metriques.compteur("commandes_soumises_total", "Commandes soumises à l'exécuteur");
+        this.echouees = metriques.compteur("commandes_echouees_total", "Commandes terminées en erreur");
+        this.duree = metriques.chronometre("commande_duree_secondes", "Durée d'exécution d'une commande (hors attente)");
+        metriques.jauge("commandes_evenements_actifs", "Événements ayant des commandes en cours ou en attente", files::size);
+    }
+
+    /**
+     * Obtient l'instance unique (thread-safe)
+     */
+    public static ExecuteurCommandes getInstance() {
+        if (instance == null) {
+            synchronized (ExecuteurCommandes.class) {
+                if (instance == null) {
+                    instance = new ExecuteurCommandes(GestionEvenements.getInstance());
+                }
+            }
+        }
+        return instance;
+    }
+
+    // ============ SOUMISSION ============
+
+    /**
+     * Soumet une commande portant sur un événement
+     * Elle s'exécutera après toutes les commandes déjà soumises pour ce même événement
+     */
+    public <T> CompletableFuture<T> soumettre(String evenementId, Commande<T> commande) {
+        Objects.requireNonNull(evenementId, "L'ID de l'événement ne peut pas être null");
+        Objects.requireNonNull(commande, "La commande ne peut pas être null");
+
+        CompletableFuture<T> resultat = new CompletableFuture<>();
+        soumises.incrementer();
+
+        // La tâche chaînée ne lève jamais : une commande en échec ne bloque pas les suivantes
+        CompletableFuture<Void> fin = files.compute(evenementId, (id, precedente) ->
+                (precedente != null ? precedente : TERMINE)
+                        .thenRunAsync(() -> executer(commande, resultat), executeur));
+
+        // Dernière de la chaîne terminée : l'événement n'a plus de commande en attente
+        fin.whenComplete((ignore, erreur) -> files.remove(evenementId, fin));
+        return resultat;
+    }
+
+    private <T> void executer(Commande<T> commande, CompletableFuture<T> resultat) {
+        long debut = System.nanoTime();
+        try {
+            resultat.complete(commande.executer());
+        } catch (GestionEvenementsException | RuntimeException e) {
+            echouees.incrementer();
+            resultat.completeExceptionally(e);
+        } finally {
+            duree.enregistrerDepuis(debut);
+        }
+    }
+
+    // ============ COMMANDES D'INSCRIPTION ============
+
+    public CompletableFuture<Void> inscrire(String participantId, String evenementId) {
+        return soumettre(evenementId, () -> {
+            gestion.inscrireParticipant(participantId, evenementId);
+            return null;
+        });
+    }
+
+    /**
+     * @return true si le participant est inscrit, false s'il est placé en liste d'attente
+     */
+    public CompletableFuture<Boolean> inscrireOuListeAttente(String participantId, String evenementId) {
+        return soumettre(evenementId, () -> gestion.inscrireParticipantOuListeAttente(participantId, evenementId));
+    }
+
+    public CompletableFuture<Void> desinscrire(String participantId, String evenementId) {
+        return soumettre(evenementId, () -> {
+            gestion.desinscrireParticipant(participantId, evenementId);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Boolean> retirerDeListeAttente(String participantId, String evenementId) {
+        return soumettre(evenementId, () -> gestion.retirerDeListeAttente(participantId, evenementId));
+    }
+
+    /**
+     * Attend le résultat d'une commande en restituant l'exception métier d'origine
+     * (à appeler depuis un thread virtuel : l'attente ne bloque pas de thread système)
+     */
+    public static <T> T attendre(CompletableFuture<T> resultat) throws GestionEvenementsException {
+        try {
+            return resultat.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof GestionEvenementsException) {
+                throw (GestionEvenementsException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    // ============ ÉTAT ============
+
+    public long getNombreSoumises() {
+        return soumises.getValeur();
+    }
+
+    public long getNombreEchouees() {
+        return echouees.getValeur();
+    }
+
+    /**
+     * Nombre d'événements ayant au moins une commande en cours ou en attente
+     */
+    public int getNombreEvenementsActifs() {
+        return files.size();
+    }
+}
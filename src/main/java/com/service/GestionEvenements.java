@@ -4,9 +4,16 @@ import javafx.collections.*;
 import javafx.beans.property.*;
 import com.model.*;
 import com.exception.*;
+import com.metrics.Compteur;
+import com.metrics.RegistreMetriques;
+import com.observer.MetriquesDiffusion;
+import com.util.Journal;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 import java.time.LocalDateTime;
 
 /**
@@ -19,7 +26,12 @@ public class GestionEvenements {
     // Instance unique (Singleton)
     private static volatile GestionEvenements instance;
 
-    // Collections thread-safe pour les événements
+    // Nombre de partitions du stockage des événements (-Deventmanager.partitions=N)
+    private static final int NOMBRE_PARTITIONS = Integer.getInteger("eventmanager.partitions",
+            Runtime.getRuntime().availableProcessors());
+
+    // Collections thread-safe pour les événements (stockage partitionné par ID)
+    private final StockagePartitionne evenementsStockage;
     private final ObservableMap<String, Evenement> evenementsMap;
     private final ObservableList<Evenement> evenementsList;
 
@@ -27,34 +39,101 @@ public class GestionEvenements {
     private final ObservableMap<String, Participant> participantsMap;
     private final ObservableList<Participant> participantsList;
 
+    // Index de recherche (sélecteurs et champs de recherche de l'interface)
+    private final IndexRecherche<Participant> indexParticipants =
+            new IndexRecherche<>(Participant::getId, p -> p.getNom() + " " + p.getId() + " " + p.getEmail());
+    private final IndexRecherche<Evenement> indexEvenements =
+            new IndexRecherche<>(Evenement::getId,
+                    e -> e.getNom() + " " + e.getId() + " " + e.getLieu() + " " + e.getClass().getSimpleName());
+
+    // Sérialise les écritures sur les collections observables (leurs listeners ne sont pas thread-safe)
+    // Les lectures passent par les Map concurrentes sous-jacentes
+    private final ReentrantLock verrouEcriture = new ReentrantLock();
+
+    // Exécute les mises à jour des listes observables, liées aux contrôles de l'interface :
+    // directement par défaut (mode serveur), sur le thread JavaFX une fois l'interface branchée
+    // Appelé sous verrouEcriture : les mises à jour gardent l'ordre des écritures
+    private volatile Executor publicationListes = Runnable::run;
+
+    // Notifiés (avec l'ID de l'événement) des modifications qui ne changent pas la Map des événements :
+    // inscriptions, liste d'attente, édition. Appelés sur le thread qui a modifié l'événement
+    private final List<Consumer<String>> ecouteursModification = new CopyOnWriteArrayList<>();
+
+    // Notifiés (avec leurs IDs) des lots insérés par ajouterEvenements, qui ne passent pas par la Map
+    // observable. Appelés une fois par lot, sur le thread de l'import
+    private final List<Consumer<List<String>>> ecouteursAjoutsEnMasse = new CopyOnWriteArrayList<>();
+
+    // Fenêtre de regroupement des notifications appliquée à chaque événement (0 = désactivée)
+    private volatile long delaiRegroupementNotifications;
+
+    // Compteurs des opérations (exportés par le registre de métriques)
+    private final Compteur evenementsAjoutes;
+    private final Compteur evenementsSupprimes;
+    private final Compteur evenementsModifies;
+    private final Compteur participantsAjoutes;
+    private final Compteur inscriptions;
+    private final Compteur inscriptionsRefusees;
+    private final Compteur misesEnAttente;
+    private final Compteur desinscriptions;
+
     // Constructeur privé (Singleton)
     private GestionEvenements() {
-        this.evenementsMap = FXCollections.observableMap(new ConcurrentHashMap<>());
+        this.evenementsStockage = new StockagePartitionne(NOMBRE_PARTITIONS);
+        this.evenementsMap = FXCollections.observableMap(evenementsStockage);
         this.evenementsList = FXCollections.observableArrayList();
         this.participantsMap = FXCollections.observableMap(new ConcurrentHashMap<>());
         this.participantsList = FXCollections.observableArrayList();
 
+        RegistreMetriques metriques = RegistreMetriques.getInstance();
+        this.evenementsAjoutes = metriques.compteur("evenements_ajoutes_total", "Événements ajoutés");
+        this.evenementsSupprimes = metriques.compteur("evenements_supprimes_total", "Événements supprimés");
+        this.evenementsModifies = metriques.compteur("evenements_modifies_total", "Modifications d'événements");
+        this.participantsAjoutes = metriques.compteur("participants_ajoutes_total", "Participants ajoutés au système");
+        this.inscriptions = metriques.compteur("inscriptions_total", "Inscriptions à un événement");
+        this.inscriptionsRefusees = metriques.compteur("inscriptions_refusees_total", "Inscriptions refusées (capacité atteinte)");
+        this.misesEnAttente = metriques.compteur("mises_en_attente_total", "Placements en liste d'attente");
+        this.desinscriptions = metriques.compteur("desinscriptions_total", "Désinscriptions d'un événement");
+        // Lues dans le stockage concurrent : l'export peut se faire depuis n'importe quel thread
+        metriques.jauge("evenements", "Événements en mémoire", evenementsStockage::size);
+        metriques.jauge("participants", "Participants en mémoire", participantsMap::size);
+        metriques.jauge("inscriptions_actives", "Inscriptions en cours, tous événements confondus",
+                () -> evenementsStockage.getStatistiques().inscriptions());
+        metriques.jauge("observers", "Observers abonnés, tous événements confondus",
+                () -> evenementsStockage.getStatistiques().observers());
+
         // Synchronisation entre Map et List pour les événements
         evenementsMap.addListener((MapChangeListener<String, Evenement>) change -> {
             if (change.wasAdded()) {
-                if (!evenementsList.contains(change.getValueAdded())) {
-                    evenementsList.add(change.getValueAdded());
-                }
+                Evenement ajoute = change.getValueAdded();
+                appliquerDelaiRegroupement(ajoute);
+                publicationListes.execute(() -> {
+                    if (!evenementsList.contains(ajoute)) {
+                        evenementsList.add(ajoute);
+                    }
+                });
             }
             if (change.wasRemoved()) {
-                evenementsList.remove(change.getValueRemoved());
+                Evenement retire = change.getValueRemoved();
+                publicationListes.execute(() -> evenementsList.remove(retire));
+                if (!change.wasAdded()) {
+                    MetriquesDiffusion.getInstance().oublierEvenement(change.getKey());
+                }
             }
         });
 
         // Synchronisation entre Map et List pour les participants
         participantsMap.addListener((MapChangeListener<String, Participant>) change -> {
             if (change.wasAdded()) {
-                if (!participantsList.contains(change.getValueAdded())) {
-                    participantsList.add(change.getValueAdded());
-                }
+                Participant ajoute = change.getValueAdded();
+                publicationListes.execute(() -> {
+                    if (!participantsList.contains(ajoute)) {
+                        participantsList.add(ajoute);
+                    }
+                });
             }
             if (change.wasRemoved()) {
-                participantsList.remove(change.getValueRemoved());
+                Participant retire = change.getValueRemoved();
+                publicationListes.execute(() -> participantsList.remove(retire));
             }
         });
     }
@@ -76,6 +155,14 @@ public class GestionEvenements {
 
     // ============ GETTERS POUR JAVAFX ============
 
+    /**
+     * Exécuteur des mises à jour des listes observables (ex. : thread JavaFX)
+     * Les écritures faites depuis un autre thread (import, moteur) y sont alors reportées
+     */
+    public void setPublicationListes(Executor publication) {
+        this.publicationListes = Objects.requireNonNull(publication);
+    }
+
     /**
      * Retourne la liste observable des événements pour JavaFX
      */
@@ -90,6 +177,45 @@ public class GestionEvenements {
         return participantsList;
     }
 
+    /**
+     * Copie des événements, utilisable depuis n'importe quel thread (mode serveur)
+     */
+    public List<Evenement> getEvenements() {
+        return new ArrayList<>(evenementsStockage.values());
+    }
+
+    /**
+     * Copie des participants, utilisable depuis n'importe quel thread (mode serveur)
+     */
+    public List<Participant> getParticipants() {
+        return new ArrayList<>(participantsMap.values());
+    }
+
+    /**
+     * Événements non annulés, tenus à jour par le stockage (copie)
+     */
+    public List<Evenement> getEvenementsActifs() {
+        return evenementsStockage.getEvenementsActifs();
+    }
+
+    public int getNombreEvenementsActifs() {
+        return evenementsStockage.getNombreEvenementsActifs();
+    }
+
+    /**
+     * Index de recherche des participants (nom, ID, email)
+     */
+    public IndexRecherche<Participant> getIndexParticipants() {
+        return indexParticipants;
+    }
+
+    /**
+     * Index de recherche des événements (nom, ID)
+     */
+    public IndexRecherche<Evenement> getIndexEvenements() {
+        return indexEvenements;
+    }
+
     /**
      * Retourne la map observable des événements
      */
@@ -97,6 +223,13 @@ public class GestionEvenements {
         return evenementsMap;
     }
 
+    /**
+     * Retourne la map observable des participants
+     */
+    public ObservableMap<String, Participant> getParticipantsMap() {
+        return participantsMap;
+    }
+
     // ============ GESTION DES ÉVÉNEMENTS ============
 
     /**
@@ -108,17 +241,79 @@ public class GestionEvenements {
         Objects.requireNonNull(evenement, "L'événement ne peut pas être null");
         Objects.requireNonNull(evenement.getId(), "L'ID de l'événement ne peut pas être null");
 
-        if (evenementsMap.containsKey(evenement.getId())) {
-            throw new EvenementDejaExistantException(
-                    "Un événement avec l'ID '" + evenement.getId() + "' existe déjà",
-                    evenement.getId());
+        verrouEcriture.lock();
+        try {
+            if (evenementsMap.containsKey(evenement.getId())) {
+                throw new EvenementDejaExistantException(
+                        "Un événement avec l'ID '" + evenement.getId() + "' existe déjà",
+                        evenement.getId());
+            }
+            evenementsMap.put(evenement.getId(), evenement);
+        } finally {
+            verrouEcriture.unlock();
         }
-
-        evenementsMap.put(evenement.getId(), evenement);
-        System.out.println("📅 [GESTION] Événement ajouté: " + evenement.getNom());
+        indexEvenements.ajouter(evenement);
+        evenementsAjoutes.incrementer();
+        Journal.info("📅 [GESTION] Événement ajouté: " + evenement.getNom());
 
         // Notification globale via console (remplace NotificationService)
-        System.out.println("🔔 [NOTIFICATION] Nouvel événement créé: " + evenement.getNom());
+        Journal.info("🔔 [NOTIFICATION] Nouvel événement créé: " + evenement.getNom());
+    }
+
+    /**
+     * Ajoute un lot d'événements en une seule opération (import en masse)
+     * Les événements sont insérés directement dans le stockage puis publiés en un seul
+     * ajout dans la liste observable : les MapChangeListener ne sont pas déclenchés ligne par ligne,
+     * les écouteurs d'ajouts en masse reçoivent le lot entier
+     * @return les événements refusés car leur ID existe déjà
+     */
+    public List<Evenement> ajouterEvenements(Collection<? extends Evenement> evenements) {
+        List<Evenement> ajoutes = new ArrayList<>(evenements.size());
+        List<Evenement> refuses = new ArrayList<>();
+
+        for (Evenement evenement : evenements) {
+            Objects.requireNonNull(evenement, "L'événement ne peut pas être null");
+            Objects.requireNonNull(evenement.getId(), "L'ID de l'événement ne peut pas être null");
+        }
+
+        verrouEcriture.lock();
+        try {
+            for (Evenement evenement : evenements) {
+                if (evenementsStockage.putIfAbsent(evenement.getId(), evenement) == null) {
+                    appliquerDelaiRegroupement(evenement);
+                    ajoutes.add(evenement);
+                } else {
+                    refuses.add(evenement);
+                }
+            }
+            if (!ajoutes.isEmpty()) {
+                publicationListes.execute(() -> evenementsList.addAll(ajoutes));
+            }
+        } finally {
+            verrouEcriture.unlock();
+        }
+
+        if (!ajoutes.isEmpty()) {
+            indexEvenements.ajouterTous(ajoutes);
+            List<String> ids = new ArrayList<>(ajoutes.size());
+            for (Evenement evenement : ajoutes) {
+                ids.add(evenement.getId());
+            }
+            for (Consumer<List<String>> ecouteur : ecouteursAjoutsEnMasse) {
+                ecouteur.accept(ids);
+            }
+            evenementsAjoutes.ajouter(ajoutes.size());
+            Journal.info(String.format("📅 [GESTION] Lot de %d événements ajouté (%d refusés)",
+                    ajoutes.size(), refuses.size()));
+        }
+        return refuses;
+    }
+
+    /**
+     * Indique si un événement avec cet ID existe déjà
+     */
+    public boolean existeEvenement(String evenementId) {
+        return evenementsStockage.containsKey(evenementId);
     }
 
     /**
@@ -135,7 +330,7 @@ public class GestionEvenements {
 
         // PATTERN OBSERVER : Annuler l'événement notifie automatiquement tous les participants
         if (!evenement.getParticipants().isEmpty()) {
-            System.out.println(String.format(
+            Journal.info(String.format(
                     "🔔 [OBSERVER] Annulation de l'événement '%s' - %d participants seront notifiés automatiquement",
                     evenement.getNom(), evenement.getNombreParticipants()
             ));
@@ -145,8 +340,18 @@ public class GestionEvenements {
         }
 
         // Supprimer de la collection
-        evenementsMap.remove(evenementId);
-        System.out.println("🗑️ [GESTION] Événement supprimé: " + evenement.getNom());
+        verrouEcriture.lock();
+        try {
+            if (evenementsMap.remove(evenementId) == null) {
+                // Supprimé entre-temps par un autre thread
+                return;
+            }
+        } finally {
+            verrouEcriture.unlock();
+        }
+        indexEvenements.retirer(evenementId);
+        evenementsSupprimes.incrementer();
+        Journal.info("🗑️ [GESTION] Événement supprimé: " + evenement.getNom());
     }
 
     /**
@@ -165,30 +370,23 @@ public class GestionEvenements {
     }
 
     /**
-     * Recherche des événements par critères
+     * Recherche des événements par critères (en parallèle sur les partitions du stockage)
      */
     public List<Evenement> rechercherEvenementsParNom(String nom) {
-        return evenementsList.stream()
-                .filter(e -> e.getNom().toLowerCase().contains(nom.toLowerCase()))
-                .collect(Collectors.toList());
+        String nomMinuscule = nom.toLowerCase();
+        return evenementsStockage.rechercher(e -> e.getNom().toLowerCase().contains(nomMinuscule));
     }
 
     public List<Evenement> rechercherEvenementsParLieu(String lieu) {
-        return evenementsList.stream()
-                .filter(e -> e.getLieu().toLowerCase().contains(lieu.toLowerCase()))
-                .collect(Collectors.toList());
+        return evenementsStockage.rechercherParLieu(lieu);
     }
 
     public List<Evenement> rechercherEvenementsParType(Class<? extends Evenement> type) {
-        return evenementsList.stream()
-                .filter(type::isInstance)
-                .collect(Collectors.toList());
+        return evenementsStockage.rechercherParType(type);
     }
 
     public List<Evenement> rechercherEvenementsParDate(LocalDateTime dateDebut, LocalDateTime dateFin) {
-        return evenementsList.stream()
-                .filter(e -> !e.getDate().isBefore(dateDebut) && !e.getDate().isAfter(dateFin))
-                .collect(Collectors.toList());
+        return evenementsStockage.rechercher(e -> !e.getDate().isBefore(dateDebut) && !e.getDate().isAfter(dateFin));
     }
 
     // ============ GESTION DES PARTICIPANTS ============
@@ -200,8 +398,22 @@ public class GestionEvenements {
         Objects.requireNonNull(participant, "Le participant ne peut pas être null");
         Objects.requireNonNull(participant.getId(), "L'ID du participant ne peut pas être null");
 
-        participantsMap.put(participant.getId(), participant);
-        System.out.println("👤 [GESTION] Participant ajouté: " + participant.getNom());
+        verrouEcriture.lock();
+        try {
+            participantsMap.put(participant.getId(), participant);
+        } finally {
+            verrouEcriture.unlock();
+        }
+        indexParticipants.ajouter(participant);
+        participantsAjoutes.incrementer();
+        Journal.info("👤 [GESTION] Participant ajouté: " + participant.getNom());
+    }
+
+    /**
+     * Indique si un participant avec cet ID existe déjà
+     */
+    public boolean existeParticipant(String participantId) {
+        return participantsMap.containsKey(participantId);
     }
 
     /**
@@ -227,14 +439,131 @@ public class GestionEvenements {
         Evenement evenement = rechercherEvenement(evenementId);
 
         // L'ajout du participant à l'événement le rend automatiquement observer
-        evenement.ajouterParticipant(participant);
+        try {
+            evenement.ajouterParticipant(participant);
+        } catch (CapaciteMaxAtteinteException e) {
+            inscriptionsRefusees.incrementer();
+            throw e;
+        }
+        inscriptions.incrementer();
+        signalerModification(evenementId);
 
-        System.out.println(String.format(
+        Journal.info(String.format(
                 "✅ [INSCRIPTION] %s inscrit à '%s' et devient observer automatiquement",
                 participant.getNom(), evenement.getNom()
         ));
     }
 
+    /**
+     * Inscrit un groupe de participants à un événement en une seule opération
+     * Tous les participants sont résolus et la capacité vérifiée avant toute modification :
+     * soit le groupe entier est inscrit, soit aucun ne l'est
+     * Chaque observer reçoit une seule notification agrégée
+     */
+    public void inscrireParticipants(String evenementId, Collection<String> participantIds)
+            throws ParticipantIntrouvableException, EvenementIntrouvableException, CapaciteMaxAtteinteException {
+
+        Evenement evenement = rechercherEvenement(evenementId);
+        List<Participant> groupe = rechercherParticipants(participantIds);
+
+        try {
+            evenement.ajouterParticipants(groupe);
+        } catch (CapaciteMaxAtteinteException e) {
+            inscriptionsRefusees.ajouter(groupe.size());
+            throw e;
+        }
+        inscriptions.ajouter(groupe.size());
+        signalerModification(evenementId);
+
+        Journal.info(String.format(
+                "✅ [INSCRIPTION] %d participants inscrits à '%s' et devenus observers automatiquement",
+                groupe.size(), evenement.getNom()
+        ));
+    }
+
+    /**
+     * Désinscrit un groupe de participants d'un événement en une seule opération
+     * @return le nombre de participants effectivement désinscrits
+     */
+    public int desinscrireParticipants(String evenementId, Collection<String> participantIds)
+            throws ParticipantIntrouvableException, EvenementIntrouvableException {
+
+        Evenement evenement = rechercherEvenement(evenementId);
+        List<Participant> groupe = rechercherParticipants(participantIds);
+
+        int retires = evenement.retirerParticipants(groupe);
+        desinscriptions.ajouter(retires);
+
+        if (retires > 0) {
+            signalerModification(evenementId);
+            Journal.info(String.format(
+                    "❌ [DÉSINSCRIPTION] %d participants désinscrits de '%s' et retirés des observers",
+                    retires, evenement.getNom()
+            ));
+        }
+        return retires;
+    }
+
+    private List<Participant> rechercherParticipants(Collection<String> participantIds)
+            throws ParticipantIntrouvableException {
+        List<Participant> groupe = new ArrayList<>(participantIds.size());
+        for (String participantId : participantIds) {
+            groupe.add(rechercherParticipant(participantId));
+        }
+        return groupe;
+    }
+
+    /**
+     * Inscrit un participant, ou le place en liste d'attente si l'événement est complet
+     * Le premier de la liste d'attente est promu automatiquement dès qu'une place se libère
+     * @return true si le participant est inscrit, false s'il est en liste d'attente
+     */
+    public boolean inscrireParticipantOuListeAttente(String participantId, String evenementId)
+            throws ParticipantIntrouvableException, EvenementIntrouvableException {
+
+        Participant participant = rechercherParticipant(participantId);
+        Evenement evenement = rechercherEvenement(evenementId);
+
+        boolean inscrit = evenement.ajouterParticipantOuListeAttente(participant);
+        signalerModification(evenementId);
+
+        if (inscrit) {
+            inscriptions.incrementer();
+            Journal.info(String.format(
+                    "✅ [INSCRIPTION] %s inscrit à '%s' et devient observer automatiquement",
+                    participant.getNom(), evenement.getNom()
+            ));
+        } else {
+            misesEnAttente.incrementer();
+            Journal.info(String.format(
+                    "⏳ [LISTE D'ATTENTE] %s en attente pour '%s' (position %d/%d)",
+                    participant.getNom(), evenement.getNom(),
+                    evenement.getPositionListeAttente(participant), evenement.getNombreEnAttente()
+            ));
+        }
+        return inscrit;
+    }
+
+    /**
+     * Retire un participant de la liste d'attente d'un événement
+     */
+    public boolean retirerDeListeAttente(String participantId, String evenementId)
+            throws ParticipantIntrouvableException, EvenementIntrouvableException {
+
+        Participant participant = rechercherParticipant(participantId);
+        Evenement evenement = rechercherEvenement(evenementId);
+
+        boolean retire = evenement.retirerDeListeAttente(participant);
+        if (retire) {
+            signalerModification(evenementId);
+            Journal.info(String.format(
+                    "⏳ [LISTE D'ATTENTE] %s retiré de la liste d'attente de '%s'",
+                    participant.getNom(), evenement.getNom()
+            ));
+        }
+        return retire;
+    }
+
     /**
      * Désinscrit un participant d'un événement
      * Le participant est automatiquement retiré des observers
@@ -249,7 +578,9 @@ public class GestionEvenements {
         boolean removed = evenement.retirerParticipant(participant);
 
         if (removed) {
-            System.out.println(String.format(
+            desinscriptions.incrementer();
+            signalerModification(evenementId);
+            Journal.info(String.format(
                     "❌ [DÉSINSCRIPTION] %s désinscrit de '%s' et retiré des observers",
                     participant.getNom(), evenement.getNom()
             ));
@@ -265,59 +596,123 @@ public class GestionEvenements {
         Evenement evenement = rechercherEvenement(evenementId);
         boolean modification = false;
 
-        // Modifications avec notifications automatiques via Observer
-        if (nouveauNom != null && !nouveauNom.equals(evenement.getNom())) {
-            evenement.setNom(nouveauNom);
-            modification = true;
-        }
+        // Modifications regroupées : une seule notification Observer pour l'ensemble
+        evenement.demarrerModifications();
+        try {
+            if (nouveauNom != null && !nouveauNom.equals(evenement.getNom())) {
+                evenement.setNom(nouveauNom);
+                modification = true;
+            }
 
-        if (nouvelleDate != null && !nouvelleDate.equals(evenement.getDate())) {
-            evenement.setDate(nouvelleDate);
-            modification = true;
-        }
+            if (nouvelleDate != null && !nouvelleDate.equals(evenement.getDate())) {
+                evenement.setDate(nouvelleDate);
+                modification = true;
+            }
 
-        if (nouveauLieu != null && !nouveauLieu.equals(evenement.getLieu())) {
-            evenement.setLieu(nouveauLieu);
-            modification = true;
+            if (nouveauLieu != null && !nouveauLieu.equals(evenement.getLieu())) {
+                evenement.setLieu(nouveauLieu);
+                modification = true;
+            }
+        } finally {
+            evenement.validerModifications();
         }
 
         if (modification) {
-            System.out.println(String.format(
+            indexEvenements.ajouter(evenement);
+            evenementsModifies.incrementer();
+            signalerModification(evenementId);
+            Journal.info(String.format(
                     "📝 [MODIFICATION] Événement '%s' modifié - Participants notifiés automatiquement via Observer",
                     evenement.getNom()
             ));
         }
     }
 
+    // ============ ÉCOUTEURS DE MODIFICATION ============
+
+    public void ajouterEcouteurModification(Consumer<String> ecouteur) {
+        ecouteursModification.add(ecouteur);
+    }
+
+    public void retirerEcouteurModification(Consumer<String> ecouteur) {
+        ecouteursModification.remove(ecouteur);
+    }
+
+    public void ajouterEcouteurAjoutsEnMasse(Consumer<List<String>> ecouteur) {
+        ecouteursAjoutsEnMasse.add(ecouteur);
+    }
+
+    public void retirerEcouteurAjoutsEnMasse(Consumer<List<String>> ecouteur) {
+        ecouteursAjoutsEnMasse.remove(ecouteur);
+    }
+
+    /**
+     * Signale qu'un événement a changé sans passer par ce service (modification directe du modèle)
+     */
+    public void signalerModification(String evenementId) {
+        for (Consumer<String> ecouteur : ecouteursModification) {
+            ecouteur.accept(evenementId);
+        }
+    }
+
+    /**
+     * Regroupe les modifications successives d'un même événement arrivant dans la fenêtre donnée
+     * en une seule notification par observer (0 = notification immédiate)
+     */
+    public void setDelaiRegroupementNotifications(long delaiMs) {
+        if (delaiMs < 0) {
+            throw new IllegalArgumentException("Le délai de regroupement ne peut pas être négatif");
+        }
+        this.delaiRegroupementNotifications = delaiMs;
+        for (Evenement evenement : evenementsStockage.values()) {
+            evenement.setDelaiRegroupement(delaiMs);
+        }
+    }
+
+    public long getDelaiRegroupementNotifications() {
+        return delaiRegroupementNotifications;
+    }
+
+    private void appliquerDelaiRegroupement(Evenement evenement) {
+        if (delaiRegroupementNotifications > 0) {
+            evenement.setDelaiRegroupement(delaiRegroupementNotifications);
+        }
+    }
+
     // ============ STATISTIQUES ============
 
+    /**
+     * Statistiques globales, calculées en une passe parallèle sur les partitions
+     */
+    public StockagePartitionne.Statistiques getStatistiques() {
+        return evenementsStockage.getStatistiques();
+    }
+
+    /**
+     * Statistiques de chaque partition du stockage
+     */
+    public List<StockagePartitionne.Statistiques> getStatistiquesPartitions() {
+        return evenementsStockage.getStatistiquesPartitions();
+    }
+
     /**
      * Obtient des statistiques sur les événements
      */
     public Map<String, Long> getStatistiquesParType() {
-        return evenementsList.stream()
-                .collect(Collectors.groupingBy(
-                        e -> e.getClass().getSimpleName(),
-                        Collectors.counting()
-                ));
+        return getStatistiques().parType();
     }
 
     public int getTotalParticipants() {
-        return evenementsList.stream()
-                .mapToInt(Evenement::getNombreParticipants)
-                .sum();
+        return (int) getStatistiques().inscriptions();
     }
 
     public int getTotalObservers() {
-        return evenementsList.stream()
-                .mapToInt(e -> e.getObservers().size())
-                .sum();
+        return (int) getStatistiques().observers();
     }
 
     public OptionalDouble getTauxOccupationMoyen() {
-        return evenementsList.stream()
-                .mapToDouble(e -> (double) e.getNombreParticipants() / e.getCapaciteMax() * 100)
-                .average();
+        StockagePartitionne.Statistiques statistiques = getStatistiques();
+        return statistiques.evenements() > 0 ? OptionalDouble.of(statistiques.tauxOccupationMoyen()) : OptionalDouble.empty();
     }
 
     /**
@@ -326,8 +721,8 @@ public class GestionEvenements {
     public Map<String, Integer> getStatistiquesObserver() {
         Map<String, Integer> stats = new HashMap<>();
 
-        for (Evenement evenement : evenementsList) {
-            stats.put(evenement.getNom(), evenement.getObservers().size());
+        for (Evenement evenement : evenementsStockage.values()) {
+            stats.put(evenement.getNom(), evenement.getNombreObservers());
         }
 
         return stats;
@@ -339,9 +734,16 @@ public class GestionEvenements {
      * Vide tous les événements et participants (pour les tests)
      */
     public void viderTout() {
-        evenementsMap.clear();
-        participantsMap.clear();
-        System.out.println("🧹 [GESTION] Toutes les données ont été effacées");
+        verrouEcriture.lock();
+        try {
+            evenementsMap.clear();
+            participantsMap.clear();
+        } finally {
+            verrouEcriture.unlock();
+        }
+        indexEvenements.vider();
+        indexParticipants.vider();
+        Journal.info("🧹 [GESTION] Toutes les données ont été effacées");
     }
 
     /**
@@ -351,8 +753,8 @@ public class GestionEvenements {
         System.out.println("=".repeat(50));
         System.out.println("📊 RÉSUMÉ DES ÉVÉNEMENTS (Pattern Observer)");
         System.out.println("=".repeat(50));
-        System.out.println("Nombre total d'événements: " + evenementsList.size());
-        System.out.println("Nombre total de participants: " + participantsList.size());
+        System.out.println("Nombre total d'événements: " + evenementsStockage.size());
+        System.out.println("Nombre total de participants: " + participantsMap.size());
         System.out.println("Total des inscrits: " + getTotalParticipants());
         System.out.println("Total des observers: " + getTotalObservers());
 
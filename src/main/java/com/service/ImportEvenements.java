@@ -0,0 +1,395 @@
+package com.service;
+
+import com.exception.*;
+import com.model.*;
+import com.util.SerializationUtil;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Pipeline d'import en masse de conférences et concerts depuis un fichier CSV ou JSON lignes
+ * Lecture en flux → analyse et validation en parallèle par lots → dédoublonnage → insertion par lots
+ *
+ * Format CSV : une ligne d'en-tête, colonnes reconnues
+ * type,id,nom,date,lieu,capaciteMax,theme,artiste,genreMusical (les champs entre guillemets sont acceptés)
+ * Format JSON lignes : un événement par ligne, tel que produit par la sauvegarde ({"type":"concert", ...})
+ */
+public class ImportEvenements {
+
+    private static final DateTimeFormatter FORMAT_DATE_FR = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    private static final int TAILLE_LOT_DEFAUT = 1000;
+
+    public enum Format {
+        CSV,
+        JSON_LIGNES;
+
+        /**
+         * Déduit le format de l'extension du fichier (.csv, sinon JSON lignes)
+         */
+        public static Format detecter(File fichier) {
+            return fichier.getName().toLowerCase().endsWith(".csv") ? CSV : JSON_LIGNES;
+        }
+    }
+
+    /**
+     * Ligne du fichier refusée par le pipeline
+     */
+    public static class LigneRejetee {
+        private final long numeroLigne;
+        private final String motif;
+
+        public LigneRejetee(long numeroLigne, String motif) {
+            this.numeroLigne = numeroLigne;
+            this.motif = motif;
+        }
+
+        public long getNumeroLigne() { return numeroLigne; }
+        public String getMotif() { return motif; }
+
+        @Override
+        public String toString() {
+            return String.format("Ligne %d: %s", numeroLigne, motif);
+        }
+    }
+
+    /**
+     * Rapport de fin d'import : volumes, débit et lignes rejetées
+     */
+    public static class RapportImport {
+        private final String nomFichier;
+        private final long lignesLues;
+        private final long evenementsImportes;
+        private final List<LigneRejetee> lignesRejetees;
+        private final long dureeMs;
+
+        public RapportImport(String nomFichier, long lignesLues, long evenementsImportes,
+                             List<LigneRejetee> lignesRejetees, long dureeMs) {
+            this.nomFichier = nomFichier;
+            this.lignesLues = lignesLues;
+            this.evenementsImportes = evenementsImportes;
+            this.lignesRejetees = lignesRejetees;
+            this.dureeMs = dureeMs;
+        }
+
+        public String getNomFichier() { return nomFichier; }
+        public long getLignesLues() { return lignesLues; }
+        public long getEvenementsImportes() { return evenementsImportes; }
+        public List<LigneRejetee> getLignesRejetees() { return Collections.unmodifiableList(lignesRejetees); }
+        public long getDureeMs() { return dureeMs; }
+
+        /**
+         * Nombre de lignes traitées par seconde
+         */
+        public double getDebitParSeconde() {
+            return dureeMs == 0 ? lignesLues : lignesLues * 1000.0 / dureeMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Import %s: %d lignes lues, %d événements importés, %d rejetées en %d ms (%.0f lignes/s)",
+                    nomFichier, lignesLues, evenementsImportes, lignesRejetees.size(), dureeMs, getDebitParSeconde());
+        }
+    }
+
+    // Ligne brute numérotée, puis résultat d'analyse d'un lot
+    private record Ligne(long numero, String contenu) {}
+    private record EvenementLu(long numeroLigne, Evenement evenement) {}
+    private record ResultatLot(List<EvenementLu> valides, List<LigneRejetee> rejetees) {}
+
+    private final GestionEvenements gestionEvenements;
+    private final int tailleLot;
+    private final int parallelisme;
+
+    public ImportEvenements() {
+        this(GestionEvenements.getInstance(), TAILLE_LOT_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    public ImportEvenements(GestionEvenements gestionEvenements, int tailleLot, int parallelisme) {
+        if (tailleLot <= 0 || parallelisme <= 0) {
+            throw new IllegalArgumentException("La taille de lot et le parallélisme doivent être positifs");
+        }
+        this.gestionEvenements = gestionEvenements;
+        this.tailleLot = tailleLot;
+        this.parallelisme = parallelisme;
+    }
+
+    // ============ PIPELINE ============
+
+    public RapportImport importer(File fichier) throws SerializationException {
+        return importer(fichier, Format.detecter(fichier));
+    }
+
+    /**
+     * Importe le fichier en flux : la mémoire utilisée est bornée par le nombre de lots en cours
+     */
+    public RapportImport importer(File fichier, Format format) throws SerializationException {
+        long debut = System.nanoTime();
+        List<LigneRejetee> rejetees = new ArrayList<>();
+        Set<String> idsVus = new HashSet<>();
+        long lignesLues = 0;
+        long importes = 0;
+
+        ExecutorService executeur = Executors.newFixedThreadPool(parallelisme, r -> {
+            Thread thread = new Thread(r, "import-evenements");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<ResultatLot>> lotsEnCours = new ArrayDeque<>();
+
+        try (BufferedReader lecteur = Files.newBufferedReader(fichier.toPath(), StandardCharsets.UTF_8)) {
+            Map<String, Integer> colonnes = null;
+            if (format == Format.CSV) {
+                String entete = lecteur.readLine();
+                if (entete == null) {
+                    throw new SerializationException("Le fichier est vide", "IMPORT", fichier.getName());
+                }
+                colonnes = indexerColonnes(entete);
+                lignesLues++;
+            }
+            final Map<String, Integer> colonnesCsv = colonnes;
+
+            List<Ligne> lot = new ArrayList<>(tailleLot);
+            String contenu;
+            while ((contenu = lecteur.readLine()) != null) {
+                lignesLues++;
+                if (contenu.isBlank()) {
+                    continue;
+                }
+                lot.add(new Ligne(lignesLues, contenu));
+
+                if (lot.size() == tailleLot) {
+                    List<Ligne> aAnalyser = lot;
+                    lotsEnCours.addLast(executeur.submit(() -> analyserLot(aAnalyser, format, colonnesCsv)));
+                    lot = new ArrayList<>(tailleLot);
+
+                    // Fenêtre bornée : on insère le plus ancien lot avant d'en lire davantage
+                    if (lotsEnCours.size() >= parallelisme * 2) {
+                        importes += inserer(lotsEnCours.removeFirst().get(), idsVus, rejetees);
+                    }
+                }
+            }
+            if (!lot.isEmpty()) {
+                List<Ligne> aAnalyser = lot;
+                lotsEnCours.addLast(executeur.submit(() -> analyserLot(aAnalyser, format, colonnesCsv)));
+            }
+            while (!lotsEnCours.isEmpty()) {
+                importes += inserer(lotsEnCours.removeFirst().get(), idsVus, rejetees);
+            }
+
+        } catch (IOException e) {
+            throw new SerializationException("Erreur de lecture fichier", "IMPORT", fichier.getName(), e);
+        } catch (ExecutionException e) {
+            throw new SerializationException("Erreur inattendue lors de l'analyse", "IMPORT", fichier.getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Import interrompu", "IMPORT", fichier.getName(), e);
+        } finally {
+            executeur.shutdownNow();
+        }
+
+        RapportImport rapport = new RapportImport(fichier.getName(), lignesLues, importes, rejetees,
+                (System.nanoTime() - debut) / 1_000_000);
+        System.out.println("📥 [IMPORT] " + rapport);
+        return rapport;
+    }
+
+    /**
+     * Étapes parallèles : analyse et validation d'un lot de lignes
+     */
+    private ResultatLot analyserLot(List<Ligne> lignes, Format format, Map<String, Integer> colonnes) {
+        List<EvenementLu> valides = new ArrayList<>(lignes.size());
+        List<LigneRejetee> rejetees = new ArrayList<>();
+
+        for (Ligne ligne : lignes) {
+            try {
+                Evenement evenement = format == Format.CSV
+                        ? lireCsv(ligne.contenu(), colonnes)
+                        : SerializationUtil.getMapper().readValue(ligne.contenu(), Evenement.class);
+                valider(evenement);
+                valides.add(new EvenementLu(ligne.numero(), evenement));
+            } catch (ValidationException e) {
+                rejetees.add(new LigneRejetee(ligne.numero(), e.getMessageUtilisateur()));
+            } catch (Exception e) {
+                rejetees.add(new LigneRejetee(ligne.numero(), "Ligne illisible: " + e.getMessage()));
+            }
+        }
+        return new ResultatLot(valides, rejetees);
+    }
+
+    /**
+     * Étape séquentielle : dédoublonnage puis insertion du lot en une seule opération
+     */
+    private long inserer(ResultatLot resultat, Set<String> idsVus, List<LigneRejetee> rejetees) {
+        rejetees.addAll(resultat.rejetees());
+
+        List<Evenement> aInserer = new ArrayList<>(resultat.valides().size());
+        Map<String, Long> lignesParId = new HashMap<>();
+        for (EvenementLu lu : resultat.valides()) {
+            String id = lu.evenement().getId();
+            if (!idsVus.add(id)) {
+                rejetees.add(new LigneRejetee(lu.numeroLigne(), "ID dupliqué dans le fichier: " + id));
+            } else if (gestionEvenements.existeEvenement(id)) {
+                rejetees.add(new LigneRejetee(lu.numeroLigne(), doublon(id).getMessageUtilisateur()));
+            } else {
+                aInserer.add(lu.evenement());
+                lignesParId.put(id, lu.numeroLigne());
+            }
+        }
+
+        // Un autre thread a pu créer le même ID entre-temps
+        List<Evenement> refuses = gestionEvenements.ajouterEvenements(aInserer);
+        for (Evenement refuse : refuses) {
+            rejetees.add(new LigneRejetee(lignesParId.get(refuse.getId()), doublon(refuse.getId()).getMessageUtilisateur()));
+        }
+        return aInserer.size() - refuses.size();
+    }
+
+    private EvenementDejaExistantException doublon(String id) {
+        return new EvenementDejaExistantException("Un événement avec l'ID '" + id + "' existe déjà", id);
+    }
+
+    // ============ VALIDATION ============
+
+    /**
+     * Règles d'un événement importé (aussi appliquées par les opérations par lots sur les sauvegardes)
+     */
+    public static void valider(Evenement evenement) throws ValidationException {
+        List<String> erreurs = new ArrayList<>();
+
+        if (evenement.getId() == null || evenement.getId().trim().isEmpty()) {
+            erreurs.add("ID manquant");
+        }
+        if (evenement.getNom() == null || evenement.getNom().trim().isEmpty()) {
+            erreurs.add("Nom manquant");
+        }
+        if (evenement.getDate() == null) {
+            erreurs.add("Date manquante");
+        }
+        if (evenement.getLieu() == null || evenement.getLieu().trim().isEmpty()) {
+            erreurs.add("Lieu manquant");
+        }
+        if (evenement.getCapaciteMax() <= 0) {
+            erreurs.add("Capacité invalide: " + evenement.getCapaciteMax());
+        }
+
+        if (!erreurs.isEmpty()) {
+            throw new ValidationException(String.join(", ", erreurs));
+        }
+    }
+
+    // ============ LECTURE CSV ============
+
+    /**
+     * Position de chaque colonne reconnue, d'après la ligne d'en-tête
+     */
+    public static Map<String, Integer> indexerColonnes(String entete) {
+        List<String> noms = decouperCsv(entete.startsWith("\uFEFF") ? entete.substring(1) : entete);
+        Map<String, Integer> colonnes = new HashMap<>();
+        for (int i = 0; i < noms.size(); i++) {
+            colonnes.put(noms.get(i).trim().toLowerCase(), i);
+        }
+        return colonnes;
+    }
+
+    public static Evenement lireCsv(String contenu, Map<String, Integer> colonnes) throws ValidationException {
+        List<String> champs = decouperCsv(contenu);
+
+        String type = champ(champs, colonnes, "type");
+        String id = champ(champs, colonnes, "id");
+        String nom = champ(champs, colonnes, "nom");
+        String lieu = champ(champs, colonnes, "lieu");
+        LocalDateTime date = lireDate(champ(champs, colonnes, "date"));
+        int capacite = lireEntier(champ(champs, colonnes, "capacitemax"));
+
+        if ("conference".equalsIgnoreCase(type) || "conférence".equalsIgnoreCase(type)) {
+            return new Conference(id, nom, date, lieu, capacite, valeurOuVide(champ(champs, colonnes, "theme")));
+        }
+        if ("concert".equalsIgnoreCase(type)) {
+            return new Concert(id, nom, date, lieu, capacite,
+                    valeurOuVide(champ(champs, colonnes, "artiste")),
+                    valeurOuVide(champ(champs, colonnes, "genremusical")));
+        }
+        throw new ValidationException("Type d'événement inconnu: " + type, "type");
+    }
+
+    private static String champ(List<String> champs, Map<String, Integer> colonnes, String nom) {
+        Integer index = colonnes.get(nom);
+        if (index == null || index >= champs.size()) {
+            return null;
+        }
+        String valeur = champs.get(index).trim();
+        return valeur.isEmpty() ? null : valeur;
+    }
+
+    private static String valeurOuVide(String valeur) {
+        return valeur == null ? "" : valeur;
+    }
+
+    private static LocalDateTime lireDate(String valeur) throws ValidationException {
+        if (valeur == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(valeur);
+        } catch (DateTimeParseException e) {
+            try {
+                return LocalDateTime.parse(valeur, FORMAT_DATE_FR);
+            } catch (DateTimeParseException e2) {
+                throw new ValidationException("Date invalide: " + valeur, "date");
+            }
+        }
+    }
+
+    private static int lireEntier(String valeur) throws ValidationException {
+        if (valeur == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(valeur);
+        } catch (NumberFormatException e) {
+            throw new ValidationException("Capacité invalide: " + valeur, "capaciteMax");
+        }
+    }
+
+    /**
+     * Découpe une ligne CSV (séparateur virgule, guillemets doublés pour échapper)
+     */
+    static List<String> decouperCsv(String ligne) {
+        List<String> champs = new ArrayList<>();
+        StringBuilder courant = new StringBuilder();
+        boolean entreGuillemets = false;
+
+        for (int i = 0; i < ligne.length(); i++) {
+            char c = ligne.charAt(i);
+            if (entreGuillemets) {
+                if (c == '"') {
+                    if (i + 1 < ligne.length() && ligne.charAt(i + 1) == '"') {
+                        courant.append('"');
+                        i++;
+                    } else {
+                        entreGuillemets = false;
+                    }
+                } else {
+                    courant.append(c);
+                }
+            } else if (c == '"') {
+                entreGuillemets = true;
+            } else if (c == ',') {
+                champs.add(courant.toString());
+                courant.setLength(0);
+            } else {
+                courant.append(c);
+            }
+        }
+        champs.add(courant.toString());
+        return champs;
+    }
+}
@@ -0,0 +1,240 @@
+package com.service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Index de recherche par préfixe de mots, pour la saisie semi-automatique
+ * - le texte de chaque élément est découpé en mots normalisés (minuscules, sans accents)
+ * - les mots sont rangés dans une Map triée : les mots commençant par un préfixe forment une plage
+ *   contiguë, parcourue dans l'ordre jusqu'à obtenir k résultats (mot exact en premier)
+ * - une requête de plusieurs mots retient les éléments dont chaque mot de la requête préfixe un de leurs mots
+ * Lectures sans verrou ; écritures sérialisées par un verrou propre à l'index
+ */
+public class IndexRecherche<T> {
+
+    public static final int RESULTATS_DEFAUT = 50;
+
+    private static final Pattern SEPARATEURS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITIQUES = Pattern.compile("\\p{M}+");
+    // Recherches asynchrones : une requête par frappe, rapidement annulée par la suivante
+    private static final ExecutorService EXECUTEUR = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Function<T, String> cle;
+    private final Function<T, String> texte;
+    private final ConcurrentHashMap<String, T> elements = new ConcurrentHashMap<>();
+    // Mots indexés de chaque élément (pour la réindexation et la vérification des requêtes multi-mots)
+    private final ConcurrentHashMap<String, String[]> motsParCle = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<String, Set<String>> clesParMot = new ConcurrentSkipListMap<>();
+    private final ReentrantLock verrou = new ReentrantLock();
+
+    /**
+     * @param cle identifiant unique d'un élément
+     * @param texte texte indexé d'un élément (nom, identifiant, email...)
+     */
+    public IndexRecherche(Function<T, String> cle, Function<T, String> texte) {
+        this.cle = cle;
+        this.texte = texte;
+    }
+
+    // ============ MISE À JOUR ============
+
+    /**
+     * Indexe un élément, ou le réindexe s'il l'est déjà (texte modifié)
+     */
+    public void ajouter(T element) {
+        String id = cle.apply(element);
+        String[] mots = mots(texte.apply(element));
+        verrou.lock();
+        try {
+            String[] anciens = motsParCle.put(id, mots);
+            if (anciens != null) {
+                retirerMots(id, anciens);
+            }
+            for (String mot : mots) {
+                clesParMot.computeIfAbsent(mot, m -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+            elements.put(id, element);
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public void ajouterTous(Collection<? extends T> nouveaux) {
+        for (T element : nouveaux) {
+            ajouter(element);
+        }
+    }
+
+    public void retirer(String id) {
+        verrou.lock();
+        try {
+            elements.remove(id);
+            String[] mots = motsParCle.remove(id);
+            if (mots != null) {
+                retirerMots(id, mots);
+            }
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    public void vider() {
+        verrou.lock();
+        try {
+            elements.clear();
+            motsParCle.clear();
+            clesParMot.clear();
+        } finally {
+            verrou.unlock();
+        }
+    }
+
+    private void retirerMots(String id, String[] mots) {
+        for (String mot : mots) {
+            Set<String> cles = clesParMot.get(mot);
+            if (cles != null) {
+                cles.remove(id);
+                if (cles.isEmpty()) {
+                    clesParMot.remove(mot);
+                }
+            }
+        }
+    }
+
+    public int getTaille() {
+        return elements.size();
+    }
+
+    // ============ RECHERCHE ============
+
+    /**
+     * Les k premiers éléments correspondant à la requête et au filtre
+     * Requête vide : k éléments quelconques satisfaisant le filtre
+     */
+    public List<T> rechercher(String requete, int limite, Predicate<? super T> filtre) {
+        return rechercher(requete, limite, filtre, () -> false);
+    }
+
+    /**
+     * Recherche exécutée hors du thread appelant ; annuler le futur interrompt le parcours
+     */
+    public CompletableFuture<List<T>> rechercherAsync(String requete, int limite, Predicate<? super T> filtre) {
+        CompletableFuture<List<T>> resultat = new CompletableFuture<>();
+        EXECUTEUR.execute(() -> {
+            if (resultat.isCancelled()) {
+                return;
+            }
+            try {
+                resultat.complete(rechercher(requete, limite, filtre, resultat::isCancelled));
+            } catch (RuntimeException e) {
+                resultat.completeExceptionally(e);
+            }
+        });
+        return resultat;
+    }
+
+    private List<T> rechercher(String requete, int limite, Predicate<? super T> filtre, BooleanSupplier annule) {
+        List<T> resultats = new ArrayList<>(Math.min(limite, 64));
+        String[] motsRequete = mots(requete);
+        if (motsRequete.length == 0) {
+            for (T element : elements.values()) {
+                if (resultats.size() >= limite || annule.getAsBoolean()) {
+                    break;
+                }
+                if (filtre.test(element)) {
+                    resultats.add(element);
+                }
+            }
+            return resultats;
+        }
+
+        // Le mot le plus long est le plus sélectif : sa plage de préfixes est parcourue, les autres mots vérifiés
+        String principal = Arrays.stream(motsRequete).max((a, b) -> Integer.compare(a.length(), b.length())).get();
+        Set<String> vus = new HashSet<>();
+        for (Map.Entry<String, Set<String>> entree
+                : clesParMot.subMap(principal, true, principal + Character.MAX_VALUE, true).entrySet()) {
+            if (annule.getAsBoolean()) {
+                break;
+            }
+            for (String id : entree.getValue()) {
+                if (!vus.add(id)) {
+                    continue;
+                }
+                T element = elements.get(id);
+                String[] mots = motsParCle.get(id);
+                if (element != null && mots != null && correspond(mots, motsRequete) && filtre.test(element)) {
+                    resultats.add(element);
+                    if (resultats.size() >= limite) {
+                        return resultats;
+                    }
+                }
+            }
+        }
+        return resultats;
+    }
+
+    /**
+     * Critère équivalent à la requête, pour tester un élément isolé (ajouté ou modifié après la recherche)
+     */
+    public Predicate<T> correspondance(String requete) {
+        String[] motsRequete = mots(requete);
+        if (motsRequete.length == 0) {
+            return element -> true;
+        }
+        return element -> {
+            String[] mots = motsParCle.get(cle.apply(element));
+            return correspond(mots != null ? mots : mots(texte.apply(element)), motsRequete);
+        };
+    }
+
+    // Chaque mot de la requête doit préfixer un mot de l'élément
+    private static boolean correspond(String[] mots, String[] motsRequete) {
+        for (String motRequete : motsRequete) {
+            boolean trouve = false;
+            for (String mot : mots) {
+                if (mot.startsWith(motRequete)) {
+                    trouve = true;
+                    break;
+                }
+            }
+            if (!trouve) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Découpe un texte en mots normalisés (minuscules, sans accents), sans doublon
+     */
+    static String[] mots(String texte) {
+        if (texte == null || texte.isBlank()) {
+            return new String[0];
+        }
+        String normalise = DIACRITIQUES.matcher(Normalizer.normalize(texte, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return SEPARATEURS.splitAsStream(normalise)
+                .filter(mot -> !mot.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+    }
+}
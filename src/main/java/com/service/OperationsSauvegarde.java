@@ -0,0 +1,721 @@
+package com.service;
+
+import com.exception.SerializationException;
+import com.exception.ValidationException;
+import com.model.Evenement;
+import com.model.Participant;
+import com.util.EcrivainSauvegarde;
+import com.util.FormatsDate;
+import com.util.LecteurSauvegarde;
+import com.util.LecteurSauvegarde.Element;
+import com.util.LecteurSauvegarde.Format;
+import com.util.SerializationUtil;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Opérations par lots sur les fichiers de sauvegarde, sans interface graphique (outil en ligne de commande)
+ * - lecture et écriture en flux : la mémoire ne dépend pas de la taille des fichiers, hormis les ensembles
+ *   d'identifiants tenus pour le dédoublonnage (fusion, compactage) et les vérifications de références
+ * - désérialisation, validation et mise en forme des événements réparties par lots sur tous les cœurs ;
+ *   les résultats sont consommés dans l'ordre du fichier, avec la même fenêtre bornée que l'import
+ */
+public class OperationsSauvegarde {
+
+    private static final int TAILLE_LOT_DEFAUT = 500;
+
+    /**
+     * Découpage par date : une sauvegarde par période
+     */
+    public enum Periode {
+        JOUR("yyyy-MM-dd"), MOIS("yyyy-MM"), ANNEE("yyyy");
+
+        private final DateTimeFormatter format;
+
+        Periode(String motif) {
+            this.format = FormatsDate.motif(motif);
+        }
+
+        public String cle(LocalDateTime date) {
+            return date.format(format);
+        }
+    }
+
+    /**
+     * Élément écarté : fichier, position (rang dans le tableau ou numéro de ligne) et motif
+     */
+    public record Anomalie(String fichier, long numero, String motif) {
+        @Override
+        public String toString() {
+            return fichier + " #" + numero + ": " + motif;
+        }
+    }
+
+    /**
+     * Rapport de fin d'opération : volumes, anomalies (les premières conservées) et débit
+     */
+    public static class Rapport {
+        private static final int ANOMALIES_CONSERVEES = 100;
+
+        private final String operation;
+        private final long debut = System.nanoTime();
+        private final List<Anomalie> anomalies = new ArrayList<>();
+        private long nombreAnomalies;
+        private long evenementsLus;
+        private long evenementsEcrits;
+        private long evenementsRetires;
+        private long participantsEcrits;
+        private long dureeMs;
+
+        Rapport(String operation) {
+            this.operation = operation;
+        }
+
+        void anomalie(String fichier, long numero, String motif) {
+            nombreAnomalies++;
+            if (anomalies.size() < ANOMALIES_CONSERVEES) {
+                anomalies.add(new Anomalie(fichier, numero, motif));
+            }
+        }
+
+        void terminer() {
+            dureeMs = (System.nanoTime() - debut) / 1_000_000;
+            System.out.println("🗂️ [LOTS] " + this);
+        }
+
+        public String getOperation() { return operation; }
+        public List<Anomalie> getAnomalies() { return Collections.unmodifiableList(anomalies); }
+        public long getNombreAnomalies() { return nombreAnomalies; }
+        public long getEvenementsLus() { return evenementsLus; }
+        public long getEvenementsEcrits() { return evenementsEcrits; }
+        public long getEvenementsRetires() { return evenementsRetires; }
+        public long getParticipantsEcrits() { return participantsEcrits; }
+        public long getDureeMs() { return dureeMs; }
+
+        public double getDebitParSeconde() {
+            return dureeMs == 0 ? evenementsLus : evenementsLus * 1000.0 / dureeMs;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s: %d événements lus, %d écrits, %d retirés, %d participants écrits, "
+                            + "%d anomalie(s) en %d ms (%.0f événements/s)",
+                    operation, evenementsLus, evenementsEcrits, evenementsRetires, participantsEcrits,
+                    nombreAnomalies, dureeMs, getDebitParSeconde());
+        }
+    }
+
+    /**
+     * Statistiques d'un fichier, calculées en un parcours
+     */
+    public record StatistiquesFichier(StockagePartitionne.Statistiques statistiques, long participants,
+                                      LocalDateTime premiereDate, LocalDateTime derniereDate, Rapport rapport) {}
+
+    // Résultats des étapes parallèles
+    private record EvenementFormate(String id, String texte, int inscrits, List<String> participants) {}
+    private record ResumeEvenement(String type, int inscrits, int capacite, LocalDateTime date) {}
+    private record ParticipantLu(String id, String texte) {}
+    private record EvenementDePeriode(String cle, EvenementFormate evenement) {}
+    private record Resultat<R>(long numero, R valeur, String erreur) {}
+
+    @FunctionalInterface
+    private interface Source {
+        void parcourir(LecteurSauvegarde.Traitement traitement) throws SerializationException;
+    }
+
+    @FunctionalInterface
+    private interface Analyse<R> {
+        R analyser(Element element) throws Exception;
+    }
+
+    @FunctionalInterface
+    private interface Consommateur<R> {
+        void accepter(long numero, R resultat) throws Exception;
+    }
+
+    private final int tailleLot;
+    private final int parallelisme;
+
+    public OperationsSauvegarde() {
+        this(TAILLE_LOT_DEFAUT, Runtime.getRuntime().availableProcessors());
+    }
+
+    public OperationsSauvegarde(int tailleLot, int parallelisme) {
+        if (tailleLot <= 0 || parallelisme <= 0) {
+            throw new IllegalArgumentException("La taille de lot et le parallélisme doivent être positifs");
+        }
+        this.tailleLot = tailleLot;
+        this.parallelisme = parallelisme;
+    }
+
+    // ============ OPÉRATIONS ============
+
+    /**
+     * Vérifie chaque événement (règles de l'import, capacité), l'unicité des IDs et, pour une sauvegarde,
+     * que chaque participant inscrit figure dans la liste des participants
+     */
+    public Rapport valider(File fichier) throws SerializationException {
+        Rapport rapport = new Rapport("Validation " + fichier.getName());
+        LecteurSauvegarde lecteur = new LecteurSauvegarde(fichier);
+
+        // Participants d'abord : les inscriptions des événements y sont ensuite recherchées
+        Set<String> participants = new HashSet<>();
+        traiter(fichier, lecteur::participants, false, this::lireParticipant, (numero, participant) -> {
+            if (participant.id() == null || participant.id().isBlank()) {
+                rapport.anomalie(fichier.getName(), numero, "Participant sans ID");
+            } else if (!participants.add(participant.id())) {
+                rapport.anomalie(fichier.getName(), numero, "ID de participant dupliqué: " + participant.id());
+            }
+        }, rapport);
+        boolean verifierInscrits = lecteur.getFormat() == Format.SAUVEGARDE;
+
+        Set<String> evenements = new HashSet<>();
+        LectureEvenements lecture = new LectureEvenements(lecteur);
+        traiter(fichier, lecteur::evenements, true, element -> {
+            Evenement evenement = lecture.lire(element);
+            ImportEvenements.valider(evenement);
+            if (evenement.getNombreParticipants() > evenement.getCapaciteMax()) {
+                throw new ValidationException(String.format("Capacité dépassée: %d inscrits pour %d places",
+                        evenement.getNombreParticipants(), evenement.getCapaciteMax()), "capaciteMax");
+            }
+            return new EvenementFormate(evenement.getId(), null, evenement.getNombreParticipants(),
+                    idsParticipants(evenement));
+        }, (numero, evenement) -> {
+            if (!evenements.add(evenement.id())) {
+                rapport.anomalie(fichier.getName(), numero, "ID d'événement dupliqué: " + evenement.id());
+            }
+            if (verifierInscrits) {
+                for (String inscrit : evenement.participants()) {
+                    if (!participants.contains(inscrit)) {
+                        rapport.anomalie(fichier.getName(), numero, "Participant inscrit absent de la liste: " + inscrit);
+                    }
+                }
+            }
+        }, rapport);
+
+        rapport.terminer();
+        return rapport;
+    }
+
+    public StatistiquesFichier statistiques(File fichier) throws SerializationException {
+        Rapport rapport = new Rapport("Statistiques " + fichier.getName());
+        LecteurSauvegarde lecteur = new LecteurSauvegarde(fichier);
+        LectureEvenements lecture = new LectureEvenements(lecteur);
+
+        long[] totaux = new long[2]; // événements, inscriptions
+        double[] sommeTaux = new double[1];
+        LocalDateTime[] bornes = new LocalDateTime[2];
+        Map<String, Long> parType = new HashMap<>();
+        Map<String, Double> sommeTauxParType = new HashMap<>();
+
+        traiter(fichier, lecteur::evenements, true, element -> {
+            Evenement evenement = lecture.lire(element);
+            return new ResumeEvenement(evenement.getClass().getSimpleName(), evenement.getNombreParticipants(),
+                    evenement.getCapaciteMax(), evenement.getDate());
+        }, (numero, resume) -> {
+            double taux = resume.capacite() > 0 ? (double) resume.inscrits() / resume.capacite() * 100 : 0;
+            totaux[0]++;
+            totaux[1] += resume.inscrits();
+            sommeTaux[0] += taux;
+            parType.merge(resume.type(), 1L, Long::sum);
+            sommeTauxParType.merge(resume.type(), taux, Double::sum);
+            if (resume.date() != null) {
+                if (bornes[0] == null || resume.date().isBefore(bornes[0])) {
+                    bornes[0] = resume.date();
+                }
+                if (bornes[1] == null || resume.date().isAfter(bornes[1])) {
+                    bornes[1] = resume.date();
+                }
+            }
+        }, rapport);
+
+        // Participants seulement comptés : aucun besoin de les désérialiser
+        long[] participants = new long[1];
+        lecteur.participants(element -> participants[0]++);
+
+        rapport.terminer();
+        // Chaque inscrit est un observer de l'événement (relations reconstruites au chargement)
+        StockagePartitionne.Statistiques statistiques = new StockagePartitionne.Statistiques((int) totaux[0],
+                totaux[1], totaux[1], sommeTaux[0], parType, sommeTauxParType);
+        return new StatistiquesFichier(statistiques, participants[0], bornes[0], bornes[1], rapport);
+    }
+
+    /**
+     * Fusionne plusieurs fichiers en une sauvegarde ; pour un même ID, le premier fichier l'emporte
+     */
+    public Rapport fusionner(List<File> entrees, File sortie) throws SerializationException {
+        Rapport rapport = new Rapport("Fusion vers " + sortie.getName());
+        Set<String> evenements = new HashSet<>();
+        Set<String> participants = new HashSet<>();
+
+        try (EcrivainSauvegarde ecrivain = new EcrivainSauvegarde(sortie, Format.SAUVEGARDE, true)) {
+            for (File entree : entrees) {
+                LecteurSauvegarde lecteur = new LecteurSauvegarde(entree);
+                traiter(entree, lecteur::evenements, true, formatage(lecteur, Format.SAUVEGARDE), (numero, evenement) -> {
+                    if (evenements.add(evenement.id())) {
+                        ecrivain.ecrireEvenement(evenement.texte(), evenement.inscrits());
+                        rapport.evenementsEcrits++;
+                    } else {
+                        rapport.evenementsRetires++;
+                        rapport.anomalie(entree.getName(), numero, "Événement déjà présent, ignoré: " + evenement.id());
+                    }
+                }, rapport);
+            }
+            for (File entree : entrees) {
+                parcourirParticipants(new LecteurSauvegarde(entree), (numero, participant) -> {
+                    if (participants.add(participant.id())) {
+                        ecrivain.ecrireParticipant(participant.texte());
+                        rapport.participantsEcrits++;
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "FUSION", sortie.getName(), e);
+        }
+
+        rapport.terminer();
+        return rapport;
+    }
+
+    /**
+     * Une sauvegarde par période (nom_periode.json) ; chacune reçoit les participants de ses événements
+     * Les éléments sont d'abord répartis par période dans des fichiers temporaires (peu de fichiers ouverts à la fois),
+     * puis chaque partie est écrite d'un trait : un découpage par jour d'une archive pluriannuelle reste sous la
+     * limite de descripteurs
+     */
+    public Rapport decouper(File entree, File dossier, Periode periode) throws SerializationException {
+        Rapport rapport = new Rapport("Découpage de " + entree.getName() + " par " + periode.name().toLowerCase());
+        String base = entree.getName().replaceFirst("\\.[^.]*$", "");
+        LecteurSauvegarde lecteur = new LecteurSauvegarde(entree);
+        LectureEvenements lecture = new LectureEvenements(lecteur);
+
+        // Périodes où chaque participant doit figurer (retiré une fois réparti)
+        Map<String, Set<String>> periodesParParticipant = new HashMap<>();
+        Set<String> periodes = new TreeSet<>();
+        Path temporaire;
+        try {
+            Files.createDirectories(dossier.toPath());
+            temporaire = Files.createTempDirectory(dossier.toPath(), ".decoupage");
+        } catch (IOException e) {
+            throw new SerializationException("Impossible de créer le dossier de sortie", "DECOUPAGE", dossier.getName(), e);
+        }
+
+        try (Deversement evenements = new Deversement(temporaire, "evenements");
+             Deversement participants = new Deversement(temporaire, "participants")) {
+            traiter(entree, lecteur::evenements, true, element -> {
+                Evenement evenement = lecture.lire(element);
+                if (evenement.getDate() == null) {
+                    throw new ValidationException("Date manquante", "date");
+                }
+                return new EvenementDePeriode(periode.cle(evenement.getDate()), new EvenementFormate(evenement.getId(),
+                        EcrivainSauvegarde.formater(evenement, Format.SAUVEGARDE), evenement.getNombreParticipants(),
+                        idsParticipants(evenement)));
+            }, (numero, lu) -> {
+                String cle = lu.cle();
+                EvenementFormate evenement = lu.evenement();
+                evenements.ecrire(cle, evenement.inscrits(), evenement.texte());
+                periodes.add(cle);
+                for (String participant : evenement.participants()) {
+                    periodesParParticipant.computeIfAbsent(participant, id -> new HashSet<>()).add(cle);
+                }
+                rapport.evenementsEcrits++;
+            }, rapport);
+
+            parcourirParticipants(lecteur, (numero, participant) -> {
+                // Retiré une fois réparti : un participant n'apparaît qu'une fois par partie
+                Set<String> cles = periodesParParticipant.remove(participant.id());
+                if (cles != null) {
+                    for (String cle : cles) {
+                        participants.ecrire(cle, 0, participant.texte());
+                        rapport.participantsEcrits++;
+                    }
+                }
+            });
+            evenements.terminer();
+            participants.terminer();
+
+            for (String cle : periodes) {
+                File fichier = new File(dossier, base + "_" + cle + ".json");
+                try (EcrivainSauvegarde partie = new EcrivainSauvegarde(fichier, Format.SAUVEGARDE, true)) {
+                    evenements.relire(cle, (inscrits, texte) -> partie.ecrireEvenement(texte, inscrits));
+                    participants.relire(cle, (inscrits, texte) -> partie.ecrireParticipant(texte));
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "DECOUPAGE", dossier.getName(), e);
+        } finally {
+            supprimer(temporaire);
+        }
+
+        System.out.println("🗂️ [LOTS] " + periodes.size() + " fichier(s) écrits dans " + dossier);
+        rapport.terminer();
+        return rapport;
+    }
+
+    /**
+     * Change de format (d'après l'extension de la sortie : .json, .jsonl, .csv)
+     * Vers JSON lignes ou CSV, seuls les événements sont écrits
+     */
+    public Rapport convertir(File entree, File sortie) throws SerializationException {
+        if (entree.getAbsoluteFile().equals(sortie.getAbsoluteFile())) {
+            throw new IllegalArgumentException("Le fichier de sortie doit différer du fichier d'entrée");
+        }
+        Format format = Format.detecter(sortie);
+        Rapport rapport = new Rapport("Conversion de " + entree.getName() + " vers " + sortie.getName());
+        LecteurSauvegarde lecteur = new LecteurSauvegarde(entree);
+
+        try (EcrivainSauvegarde ecrivain = new EcrivainSauvegarde(sortie, format, true)) {
+            traiter(entree, lecteur::evenements, true, formatage(lecteur, format), (numero, evenement) -> {
+                ecrivain.ecrireEvenement(evenement.texte(), evenement.inscrits());
+                rapport.evenementsEcrits++;
+            }, rapport);
+            if (format == Format.SAUVEGARDE) {
+                Set<String> participants = new HashSet<>();
+                parcourirParticipants(lecteur, (numero, participant) -> {
+                    if (participants.add(participant.id())) {
+                        ecrivain.ecrireParticipant(participant.texte());
+                        rapport.participantsEcrits++;
+                    }
+                });
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "CONVERSION", sortie.getName(), e);
+        }
+
+        rapport.terminer();
+        return rapport;
+    }
+
+    /**
+     * Réécrit une sauvegarde sans mise en page, sans événements annulés ni doublons d'ID
+     * Le résultat est toujours une sauvegarde JSON : la sortie (ou l'entrée remplacée) doit en porter l'extension
+     * @param sortie fichier produit, ou null pour remplacer l'entrée (remplacement atomique une fois écrit)
+     */
+    public Rapport compacter(File entree, File sortie) throws SerializationException {
+        if (Format.detecter(sortie != null ? sortie : entree) != Format.SAUVEGARDE) {
+            throw new IllegalArgumentException(sortie != null
+                    ? "Le compactage produit une sauvegarde JSON : indiquer une sortie .json"
+                    : "Compactage sur place réservé aux sauvegardes JSON : indiquer une sortie .json");
+        }
+        Rapport rapport = new Rapport("Compactage de " + entree.getName());
+        LecteurSauvegarde lecteur = new LecteurSauvegarde(entree);
+        LectureEvenements lecture = new LectureEvenements(lecteur);
+        Set<String> evenements = new HashSet<>();
+        Set<String> participants = new HashSet<>();
+        long tailleAvant = entree.length();
+
+        File cible;
+        try {
+            File dossier = entree.getAbsoluteFile().getParentFile();
+            cible = sortie != null ? sortie : File.createTempFile(entree.getName(), ".tmp", dossier);
+        } catch (IOException e) {
+            throw new SerializationException("Impossible de créer le fichier temporaire", "COMPACTAGE", entree.getName(), e);
+        }
+
+        try {
+            try (EcrivainSauvegarde ecrivain = new EcrivainSauvegarde(cible, Format.SAUVEGARDE, false)) {
+                traiter(entree, lecteur::evenements, true, element -> {
+                    Evenement evenement = lecture.lire(element);
+                    return evenement.isAnnule() ? null : new EvenementFormate(evenement.getId(),
+                            EcrivainSauvegarde.formater(evenement, Format.SAUVEGARDE), evenement.getNombreParticipants(), null);
+                }, (numero, evenement) -> {
+                    if (evenement != null && evenements.add(evenement.id())) {
+                        ecrivain.ecrireEvenement(evenement.texte(), evenement.inscrits());
+                        rapport.evenementsEcrits++;
+                    } else {
+                        rapport.evenementsRetires++;
+                    }
+                }, rapport);
+                parcourirParticipants(lecteur, (numero, participant) -> {
+                    if (participants.add(participant.id())) {
+                        ecrivain.ecrireParticipant(participant.texte());
+                        rapport.participantsEcrits++;
+                    }
+                });
+            }
+            if (sortie == null) {
+                Files.move(cible.toPath(), entree.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "COMPACTAGE", cible.getName(), e);
+        } finally {
+            if (sortie == null) {
+                cible.delete();
+            }
+        }
+
+        long tailleApres = (sortie != null ? sortie : entree).length();
+        System.out.println(String.format("🗂️ [LOTS] Taille: %d → %d octets", tailleAvant, tailleApres));
+        rapport.terminer();
+        return rapport;
+    }
+
+    // ============ LECTURE ============
+
+    /**
+     * Désérialisation d'un événement selon le format du fichier (appelée depuis les threads d'analyse)
+     */
+    private static final class LectureEvenements {
+        private final LecteurSauvegarde lecteur;
+        // Colonnes du CSV, connues dès que l'en-tête a été lu (avant le premier lot)
+        private volatile Map<String, Integer> colonnes;
+
+        LectureEvenements(LecteurSauvegarde lecteur) {
+            this.lecteur = lecteur;
+        }
+
+        Evenement lire(Element element) throws Exception {
+            if (lecteur.getFormat() != Format.CSV) {
+                return SerializationUtil.getMapper().readValue(element.contenu(), Evenement.class);
+            }
+            Map<String, Integer> index = colonnes;
+            if (index == null) {
+                index = ImportEvenements.indexerColonnes(lecteur.getEnteteCsv());
+                colonnes = index;
+            }
+            return ImportEvenements.lireCsv(element.contenu(), index);
+        }
+    }
+
+    private Analyse<EvenementFormate> formatage(LecteurSauvegarde lecteur, Format format) {
+        LectureEvenements lecture = new LectureEvenements(lecteur);
+        return element -> {
+            Evenement evenement = lecture.lire(element);
+            return new EvenementFormate(evenement.getId(), EcrivainSauvegarde.formater(evenement, format),
+                    evenement.getNombreParticipants(), null);
+        };
+    }
+
+    private ParticipantLu lireParticipant(Element element) throws IOException {
+        Participant participant = SerializationUtil.getMapper().readValue(element.contenu(), Participant.class);
+        return new ParticipantLu(participant.getId(), element.contenu());
+    }
+
+    private static List<String> idsParticipants(Evenement evenement) {
+        List<String> ids = new ArrayList<>(evenement.getNombreParticipants());
+        for (Participant participant : evenement.getParticipants()) {
+            ids.add(participant.getId());
+        }
+        for (Participant participant : evenement.getListeAttente()) {
+            ids.add(participant.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Participants d'un fichier : liste de la sauvegarde, ou à défaut participants inscrits aux événements
+     * (JSON lignes, avec répétitions) ; aucun en CSV
+     */
+    private void parcourirParticipants(LecteurSauvegarde lecteur, Consommateur<ParticipantLu> consommateur)
+            throws SerializationException {
+        switch (lecteur.getFormat()) {
+            case SAUVEGARDE -> traiter(lecteur.getFichier(), lecteur::participants, false, this::lireParticipant,
+                    consommateur, null);
+            case JSON_LIGNES -> {
+                LectureEvenements lecture = new LectureEvenements(lecteur);
+                // Rapport absent : les lignes illisibles ont déjà été relevées au parcours des événements
+                traiter(lecteur.getFichier(), lecteur::evenements, false, element -> {
+                    List<ParticipantLu> inscrits = new ArrayList<>();
+                    for (Participant participant : lecture.lire(element).getParticipants()) {
+                        inscrits.add(new ParticipantLu(participant.getId(),
+                                EcrivainSauvegarde.formaterParticipant(participant)));
+                    }
+                    return inscrits;
+                }, (numero, inscrits) -> {
+                    for (ParticipantLu participant : inscrits) {
+                        consommateur.accepter(numero, participant);
+                    }
+                }, null);
+            }
+            case CSV -> { }
+        }
+    }
+
+    // ============ PIPELINE ============
+
+    /**
+     * Analyse les éléments de la source par lots sur le pool, et les remet au consommateur dans l'ordre du fichier
+     * Un élément dont l'analyse échoue devient une anomalie du rapport (ignorée si le rapport est null)
+     */
+    private <R> void traiter(File fichier, Source source, boolean compterLus, Analyse<R> analyse,
+                             Consommateur<R> consommateur, Rapport rapport) throws SerializationException {
+        ExecutorService executeur = Executors.newFixedThreadPool(parallelisme, r -> {
+            Thread thread = new Thread(r, "operations-sauvegarde");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Deque<Future<List<Resultat<R>>>> lotsEnCours = new ArrayDeque<>();
+
+        try {
+            List<Element> dernierLot = new ArrayList<>(tailleLot);
+            List<List<Element>> courant = new ArrayList<>(List.of(dernierLot));
+            source.parcourir(element -> {
+                if (compterLus && rapport != null) {
+                    rapport.evenementsLus++;
+                }
+                List<Element> lot = courant.get(0);
+                lot.add(element);
+                if (lot.size() == tailleLot) {
+                    lotsEnCours.addLast(executeur.submit(() -> analyserLot(lot, analyse)));
+                    courant.set(0, new ArrayList<>(tailleLot));
+
+                    // Fenêtre bornée : on consomme le plus ancien lot avant d'en lire davantage
+                    if (lotsEnCours.size() >= parallelisme * 2) {
+                        consommer(fichier, lotsEnCours.removeFirst().get(), consommateur, rapport);
+                    }
+                }
+            });
+            List<Element> reste = courant.get(0);
+            if (!reste.isEmpty()) {
+                lotsEnCours.addLast(executeur.submit(() -> analyserLot(reste, analyse)));
+            }
+            while (!lotsEnCours.isEmpty()) {
+                consommer(fichier, lotsEnCours.removeFirst().get(), consommateur, rapport);
+            }
+        } catch (SerializationException e) {
+            throw e;
+        } catch (ExecutionException e) {
+            throw new SerializationException("Erreur inattendue lors de l'analyse", "LOTS", fichier.getName(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Traitement interrompu", "LOTS", fichier.getName(), e);
+        } catch (Exception e) {
+            throw new SerializationException("Erreur de traitement: " + e.getMessage(), "LOTS", fichier.getName(), e);
+        } finally {
+            executeur.shutdownNow();
+        }
+    }
+
+    /**
+     * Étape parallèle : analyse d'un lot, chaque échec étant conservé avec sa position
+     */
+    private static <R> List<Resultat<R>> analyserLot(List<Element> lot, Analyse<R> analyse) {
+        List<Resultat<R>> resultats = new ArrayList<>(lot.size());
+        for (Element element : lot) {
+            try {
+                resultats.add(new Resultat<>(element.numero(), analyse.analyser(element), null));
+            } catch (ValidationException e) {
+                resultats.add(new Resultat<>(element.numero(), null, e.getMessageUtilisateur()));
+            } catch (Exception e) {
+                resultats.add(new Resultat<>(element.numero(), null, "Élément illisible: " + e.getMessage()));
+            }
+        }
+        return resultats;
+    }
+
+    private static <R> void consommer(File fichier, List<Resultat<R>> resultats, Consommateur<R> consommateur,
+                                      Rapport rapport) throws Exception {
+        for (Resultat<R> resultat : resultats) {
+            if (resultat.erreur() == null) {
+                consommateur.accepter(resultat.numero(), resultat.valeur());
+            } else if (rapport != null) {
+                rapport.anomalie(fichier.getName(), resultat.numero(), resultat.erreur());
+            }
+        }
+    }
+
+    // ============ DÉVERSEMENT ============
+
+    @FunctionalInterface
+    private interface Relecture {
+        void accepter(int inscrits, String texte) throws IOException, SerializationException;
+    }
+
+    /**
+     * Éléments répartis par clé dans des fichiers temporaires, relus ensuite clé par clé dans l'ordre d'écriture
+     * Au plus FICHIERS_OUVERTS_MAX fichiers ouverts : le moins récemment utilisé est fermé, puis rouvert en ajout
+     * Chaque enregistrement : nombre d'inscrits, longueur et texte UTF-8 (les textes indentés tiennent sur plusieurs lignes)
+     */
+    private static final class Deversement implements AutoCloseable {
+        private static final int FICHIERS_OUVERTS_MAX = 32;
+
+        private final Path dossier;
+        private final String prefixe;
+        private final Map<String, Path> fichiers = new HashMap<>();
+        private final LinkedHashMap<String, DataOutputStream> ouverts = new LinkedHashMap<>(16, 0.75f, true);
+
+        Deversement(Path dossier, String prefixe) {
+            this.dossier = dossier;
+            this.prefixe = prefixe;
+        }
+
+        void ecrire(String cle, int inscrits, String texte) throws IOException {
+            DataOutputStream sortie = ouverts.get(cle);
+            if (sortie == null) {
+                if (ouverts.size() >= FICHIERS_OUVERTS_MAX) {
+                    Iterator<DataOutputStream> plusAncien = ouverts.values().iterator();
+                    plusAncien.next().close();
+                    plusAncien.remove();
+                }
+                Path fichier = fichiers.computeIfAbsent(cle, c -> dossier.resolve(prefixe + "_" + fichiers.size()));
+                sortie = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(fichier,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND)));
+                ouverts.put(cle, sortie);
+            }
+            byte[] octets = texte.getBytes(StandardCharsets.UTF_8);
+            sortie.writeInt(inscrits);
+            sortie.writeInt(octets.length);
+            sortie.write(octets);
+        }
+
+        /**
+         * Ferme les fichiers encore ouverts, avant la relecture
+         */
+        void terminer() throws IOException {
+            IOException erreur = null;
+            for (DataOutputStream sortie : ouverts.values()) {
+                try {
+                    sortie.close();
+                } catch (IOException e) {
+                    erreur = e;
+                }
+            }
+            ouverts.clear();
+            if (erreur != null) {
+                throw erreur;
+            }
+        }
+
+        void relire(String cle, Relecture relecture) throws IOException, SerializationException {
+            Path fichier = fichiers.get(cle);
+            if (fichier == null) {
+                return;
+            }
+            try (DataInputStream entree = new DataInputStream(new BufferedInputStream(Files.newInputStream(fichier)))) {
+                while (true) {
+                    int inscrits;
+                    try {
+                        inscrits = entree.readInt();
+                    } catch (EOFException fin) {
+                        return;
+                    }
+                    byte[] octets = new byte[entree.readInt()];
+                    entree.readFully(octets);
+                    relecture.accepter(inscrits, new String(octets, StandardCharsets.UTF_8));
+                }
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            terminer();
+        }
+    }
+
+    private static void supprimer(Path dossier) {
+        try (var contenu = Files.list(dossier)) {
+            contenu.forEach(fichier -> fichier.toFile().delete());
+        } catch (IOException e) {
+            System.err.println("⚠️ [LOTS] Fichiers temporaires non supprimés: " + dossier);
+        }
+        dossier.toFile().delete();
+    }
+}
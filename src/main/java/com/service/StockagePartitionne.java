@@ -0,0 +1,504 @@
+package com.service;
+
+import com.model.Evenement;
+import javafx.beans.value.ChangeListener;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Stockage des événements partitionné par hachage de l'ID
+ * - chaque partition a sa propre Map, ses index (type, lieu, non annulés) et son verrou d'écriture :
+ *   deux ajouts / suppressions dans des partitions différentes ne se disputent rien
+ * - les accès par ID ne touchent qu'une partition
+ * - les recherches et statistiques transverses sont calculées en parallèle sur les partitions
+ *   puis fusionnées
+ * Se présente comme une ConcurrentMap : GestionEvenements l'enveloppe dans sa Map observable
+ */
+public class StockagePartitionne extends AbstractMap<String, Evenement> implements ConcurrentMap<String, Evenement> {
+
+    private final Partition[] partitions;
+
+    /**
+     * @param nombrePartitions nombre de partitions (au moins 1)
+     */
+    public StockagePartitionne(int nombrePartitions) {
+        if (nombrePartitions <= 0) {
+            throw new IllegalArgumentException("Le nombre de partitions doit être positif: " + nombrePartitions);
+        }
+        this.partitions = new Partition[nombrePartitions];
+        for (int i = 0; i < nombrePartitions; i++) {
+            partitions[i] = new Partition(i);
+        }
+    }
+
+    public int getNombrePartitions() {
+        return partitions.length;
+    }
+
+    private Partition partition(Object evenementId) {
+        int hachage = evenementId.hashCode();
+        // Mélange des bits de poids fort, comme HashMap
+        return partitions[Math.floorMod(hachage ^ (hachage >>> 16), partitions.length)];
+    }
+
+    // ============ ACCÈS PAR ID (une seule partition) ============
+
+    @Override
+    public Evenement get(Object evenementId) {
+        return evenementId == null ? null : partition(evenementId).evenements.get(evenementId);
+    }
+
+    @Override
+    public boolean containsKey(Object evenementId) {
+        return evenementId != null && partition(evenementId).evenements.containsKey(evenementId);
+    }
+
+    @Override
+    public Evenement put(String evenementId, Evenement evenement) {
+        return partition(evenementId).placer(evenementId, evenement, false);
+    }
+
+    @Override
+    public Evenement putIfAbsent(String evenementId, Evenement evenement) {
+        return partition(evenementId).placer(evenementId, evenement, true);
+    }
+
+    @Override
+    public Evenement remove(Object evenementId) {
+        return evenementId == null ? null : partition(evenementId).retirer(evenementId, null);
+    }
+
+    @Override
+    public boolean remove(Object evenementId, Object evenement) {
+        return evenementId != null && evenement != null && partition(evenementId).retirer(evenementId, evenement) != null;
+    }
+
+    @Override
+    public boolean replace(String evenementId, Evenement ancien, Evenement nouveau) {
+        Partition partition = partition(evenementId);
+        partition.verrou.lock();
+        try {
+            if (!Objects.equals(partition.evenements.get(evenementId), ancien)) {
+                return false;
+            }
+            partition.placer(evenementId, nouveau, false);
+            return true;
+        } finally {
+            partition.verrou.unlock();
+        }
+    }
+
+    @Override
+    public Evenement replace(String evenementId, Evenement evenement) {
+        Partition partition = partition(evenementId);
+        partition.verrou.lock();
+        try {
+            return partition.evenements.containsKey(evenementId) ? partition.placer(evenementId, evenement, false) : null;
+        } finally {
+            partition.verrou.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (Partition partition : partitions) {
+            partition.vider();
+        }
+    }
+
+    @Override
+    public int size() {
+        int taille = 0;
+        for (Partition partition : partitions) {
+            taille += partition.evenements.size();
+        }
+        return taille;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (Partition partition : partitions) {
+            if (!partition.evenements.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ============ VUES (parcours de toutes les partitions) ============
+
+    @Override
+    public Set<Entry<String, Evenement>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, Evenement>> iterator() {
+                return new IterateurPartitions<>(p -> p.evenements.entrySet().iterator(), Entry::getKey);
+            }
+
+            @Override
+            public int size() {
+                return StockagePartitionne.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Collection<Evenement> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public Iterator<Evenement> iterator() {
+                return new IterateurPartitions<>(p -> p.evenements.values().iterator(), Evenement::getId);
+            }
+
+            @Override
+            public int size() {
+                return StockagePartitionne.this.size();
+            }
+        };
+    }
+
+    /**
+     * Parcourt les partitions l'une après l'autre ; la suppression passe par le stockage
+     * pour garder les index à jour
+     */
+    private class IterateurPartitions<T> implements Iterator<T> {
+        private final Function<Partition, Iterator<T>> source;
+        private final Function<T, String> cle;
+        private int index;
+        private Iterator<T> courant;
+        private T dernier;
+
+        IterateurPartitions(Function<Partition, Iterator<T>> source, Function<T, String> cle) {
+            this.source = source;
+            this.cle = cle;
+            this.courant = source.apply(partitions[0]);
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (!courant.hasNext() && index < partitions.length - 1) {
+                courant = source.apply(partitions[++index]);
+            }
+            return courant.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            dernier = courant.next();
+            return dernier;
+        }
+
+        @Override
+        public void remove() {
+            if (dernier == null) {
+                throw new IllegalStateException();
+            }
+            StockagePartitionne.this.remove(cle.apply(dernier));
+            dernier = null;
+        }
+    }
+
+    // ============ REQUÊTES TRANSVERSES (parallèles) ============
+
+    /**
+     * Événements satisfaisant le prédicat, filtrés en parallèle sur toutes les partitions
+     */
+    public List<Evenement> rechercher(Predicate<Evenement> predicat) {
+        return Arrays.stream(partitions).parallel()
+                .flatMap(partition -> partition.evenements.values().stream().filter(predicat))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recherche par lieu (sous-chaîne, sans casse) : seuls les lieux distincts de chaque partition
+     * sont comparés, puis les événements de l'index sont revérifiés
+     */
+    public List<Evenement> rechercherParLieu(String lieu) {
+        String filtre = lieu.toLowerCase();
+        Predicate<Evenement> verification = e -> e.getLieu() != null && e.getLieu().toLowerCase().contains(filtre);
+        return Arrays.stream(partitions).parallel()
+                .flatMap(partition -> partition.parLieu.entrySet().stream()
+                        .filter(entree -> entree.getKey().contains(filtre))
+                        .flatMap(entree -> entree.getValue().stream()))
+                .filter(verification)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Recherche par type (sous-classes comprises) via l'index des types
+     */
+    public List<Evenement> rechercherParType(Class<? extends Evenement> type) {
+        return Arrays.stream(partitions).parallel()
+                .flatMap(partition -> partition.parType.entrySet().stream()
+                        .filter(entree -> type.isAssignableFrom(entree.getKey()))
+                        .flatMap(entree -> entree.getValue().stream()))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Événements non annulés, tenus à jour par partition (aucun filtrage à la lecture)
+     */
+    public List<Evenement> getEvenementsActifs() {
+        return Arrays.stream(partitions).parallel()
+                .flatMap(partition -> partition.actifs.stream())
+                .collect(Collectors.toList());
+    }
+
+    public int getNombreEvenementsActifs() {
+        int nombre = 0;
+        for (Partition partition : partitions) {
+            nombre += partition.actifs.size();
+        }
+        return nombre;
+    }
+
+    /**
+     * Statistiques globales : une passe parallèle par partition, puis fusion
+     */
+    public Statistiques getStatistiques() {
+        return Statistiques.total(getStatistiquesPartitions());
+    }
+
+    /**
+     * Statistiques de chaque partition (répartition des événements entre partitions)
+     */
+    public List<Statistiques> getStatistiquesPartitions() {
+        return Arrays.stream(partitions).parallel()
+                .map(Partition::statistiques)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Statistiques d'un ensemble d'événements (une partition, ou la fusion de plusieurs)
+     */
+    public record Statistiques(int evenements, long inscriptions, long observers, double sommeTauxOccupation,
+                               Map<String, Long> parType, Map<String, Double> sommeTauxParType) {
+
+        static final Statistiques VIDE = new Statistiques(0, 0, 0, 0, Map.of(), Map.of());
+
+        /**
+         * Fusion des statistiques de plusieurs partitions
+         */
+        public static Statistiques total(List<Statistiques> partitions) {
+            return partitions.stream().reduce(VIDE, Statistiques::fusionner);
+        }
+
+        /**
+         * Taux d'occupation moyen des événements, en pourcentage
+         */
+        public double tauxOccupationMoyen() {
+            return evenements > 0 ? sommeTauxOccupation / evenements : 0;
+        }
+
+        /**
+         * Taux d'occupation moyen de chaque type d'événement, en pourcentage
+         */
+        public Map<String, Double> tauxOccupationParType() {
+            Map<String, Double> taux = new HashMap<>();
+            sommeTauxParType.forEach((type, somme) -> taux.put(type, somme / parType.getOrDefault(type, 1L)));
+            return taux;
+        }
+
+        Statistiques fusionner(Statistiques autre) {
+            Map<String, Long> types = new HashMap<>(parType);
+            autre.parType.forEach((type, nombre) -> types.merge(type, nombre, Long::sum));
+            Map<String, Double> tauxTypes = new HashMap<>(sommeTauxParType);
+            autre.sommeTauxParType.forEach((type, somme) -> tauxTypes.merge(type, somme, Double::sum));
+            return new Statistiques(evenements + autre.evenements, inscriptions + autre.inscriptions,
+                    observers + autre.observers, sommeTauxOccupation + autre.sommeTauxOccupation, types, tauxTypes);
+        }
+    }
+
+    // ============ PARTITION ============
+
+    /**
+     * Une partition : ses événements, ses index et son verrou d'écriture
+     * Les lectures passent par les Map concurrentes sans verrou
+     */
+    private static final class Partition {
+        final int index;
+        final ReentrantLock verrou = new ReentrantLock();
+        final ConcurrentHashMap<String, Evenement> evenements = new ConcurrentHashMap<>();
+        // Lieu en minuscules -> événements
+        final ConcurrentHashMap<String, Set<Evenement>> parLieu = new ConcurrentHashMap<>();
+        final ConcurrentHashMap<Class<?>, Set<Evenement>> parType = new ConcurrentHashMap<>();
+        final Set<Evenement> actifs = ConcurrentHashMap.newKeySet();
+        // Suivi des changements de lieu et d'annulation, retiré quand l'événement quitte la partition
+        final Map<Evenement, Runnable> desabonnements = new HashMap<>();
+
+        Partition(int index) {
+            this.index = index;
+        }
+
+        Evenement placer(String evenementId, Evenement evenement, boolean siAbsent) {
+            Objects.requireNonNull(evenementId, "L'ID de l'événement ne peut pas être null");
+            Objects.requireNonNull(evenement, "L'événement ne peut pas être null");
+            verrou.lock();
+            try {
+                Evenement precedent = evenements.get(evenementId);
+                if (precedent != null && siAbsent) {
+                    return precedent;
+                }
+                if (precedent != null) {
+                    desindexer(precedent);
+                }
+                // Indexé avant d'être visible par ID
+                indexer(evenement);
+                evenements.put(evenementId, evenement);
+                return precedent;
+            } finally {
+                verrou.unlock();
+            }
+        }
+
+        Evenement retirer(Object evenementId, Object attendu) {
+            verrou.lock();
+            try {
+                Evenement evenement = evenements.get(evenementId);
+                if (evenement == null || (attendu != null && !attendu.equals(evenement))) {
+                    return null;
+                }
+                evenements.remove(evenementId);
+                desindexer(evenement);
+                return evenement;
+            } finally {
+                verrou.unlock();
+            }
+        }
+
+        void vider() {
+            verrou.lock();
+            try {
+                for (Evenement evenement : new ArrayList<>(evenements.values())) {
+                    desindexer(evenement);
+                }
+                evenements.clear();
+            } finally {
+                verrou.unlock();
+            }
+        }
+
+        private void indexer(Evenement evenement) {
+            parType.computeIfAbsent(evenement.getClass(), type -> ConcurrentHashMap.newKeySet()).add(evenement);
+            ajouterLieu(evenement, evenement.getLieu());
+            if (!evenement.isAnnule()) {
+                actifs.add(evenement);
+            }
+            ChangeListener<String> suiviLieu = (observable, ancien, nouveau) -> changerLieu(evenement, ancien, nouveau);
+            ChangeListener<Boolean> suiviAnnulation = (observable, ancien, annule) -> changerAnnulation(evenement, annule);
+            evenement.lieuProperty().addListener(suiviLieu);
+            evenement.annuleProperty().addListener(suiviAnnulation);
+            desabonnements.put(evenement, () -> {
+                evenement.lieuProperty().removeListener(suiviLieu);
+                evenement.annuleProperty().removeListener(suiviAnnulation);
+            });
+        }
+
+        private void desindexer(Evenement evenement) {
+            retirerDe(parType, evenement.getClass(), evenement);
+            retirerLieu(evenement, evenement.getLieu());
+            actifs.remove(evenement);
+            Runnable desabonnement = desabonnements.remove(evenement);
+            if (desabonnement != null) {
+                desabonnement.run();
+            }
+        }
+
+        private void changerLieu(Evenement evenement, String ancien, String nouveau) {
+            verrou.lock();
+            try {
+                if (evenements.get(evenement.getId()) != evenement) {
+                    return;
+                }
+                retirerLieu(evenement, ancien);
+                ajouterLieu(evenement, nouveau);
+            } finally {
+                verrou.unlock();
+            }
+        }
+
+        private void changerAnnulation(Evenement evenement, boolean annule) {
+            verrou.lock();
+            try {
+                if (evenements.get(evenement.getId()) != evenement) {
+                    return;
+                }
+                if (annule) {
+                    actifs.remove(evenement);
+                } else {
+                    actifs.add(evenement);
+                }
+            } finally {
+                verrou.unlock();
+            }
+        }
+
+        private void ajouterLieu(Evenement evenement, String lieu) {
+            if (lieu != null) {
+                parLieu.computeIfAbsent(lieu.toLowerCase(), cle -> ConcurrentHashMap.newKeySet()).add(evenement);
+            }
+        }
+
+        private void retirerLieu(Evenement evenement, String lieu) {
+            if (lieu != null) {
+                retirerDe(parLieu, lieu.toLowerCase(), evenement);
+            }
+        }
+
+        private static <K> void retirerDe(ConcurrentHashMap<K, Set<Evenement>> index, K cle, Evenement evenement) {
+            Set<Evenement> ensemble = index.get(cle);
+            if (ensemble != null) {
+                ensemble.remove(evenement);
+                if (ensemble.isEmpty()) {
+                    index.remove(cle);
+                }
+            }
+        }
+
+        Statistiques statistiques() {
+            int nombre = 0;
+            long inscriptions = 0;
+            long observers = 0;
+            double sommeTaux = 0;
+            Map<Class<?>, double[]> tauxParClasse = new HashMap<>();
+            for (Evenement evenement : evenements.values()) {
+                nombre++;
+                int inscrits = evenement.getNombreParticipants();
+                inscriptions += inscrits;
+                observers += evenement.getNombreObservers();
+                double taux = (double) inscrits / evenement.getCapaciteMax() * 100;
+                sommeTaux += taux;
+                tauxParClasse.computeIfAbsent(evenement.getClass(), type -> new double[1])[0] += taux;
+            }
+            Map<String, Long> types = new HashMap<>();
+            parType.forEach((type, ensemble) -> {
+                if (!ensemble.isEmpty()) {
+                    types.merge(type.getSimpleName(), (long) ensemble.size(), Long::sum);
+                }
+            });
+            Map<String, Double> tauxTypes = new HashMap<>();
+            tauxParClasse.forEach((type, somme) -> tauxTypes.merge(type.getSimpleName(), somme[0], Double::sum));
+            return new Statistiques(nombre, inscriptions, observers, sommeTaux, types, tauxTypes);
+        }
+    }
+}
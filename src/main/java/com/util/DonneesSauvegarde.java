@@ -5,7 +5,6 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.model.*;
 import com.exception.ValidationException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -161,7 +160,7 @@ public class DonneesSauvegarde {
 
     private int calculerNombreObservers() {
         return evenements.stream()
-                .mapToInt(e -> e.getObservers().size())
+                .mapToInt(Evenement::getNombreObservers)
                 .sum();
     }
 
@@ -323,7 +322,7 @@ public class DonneesSauvegarde {
 
         for (Evenement evenement : evenements) {
             // Nettoyer les observers existants (au cas où)
-            evenement.getObservers().clear();
+            evenement.viderObservers();
 
             // Ajouter chaque participant inscrit comme observer
             for (Participant participant : evenement.getParticipants()) {
@@ -348,7 +347,7 @@ public class DonneesSauvegarde {
         StringBuilder resume = new StringBuilder();
 
         resume.append("=== RÉSUMÉ DE LA SAUVEGARDE ===\n");
-        resume.append("Date: ").append(dateSauvegarde.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss"))).append("\n");
+        resume.append("Date: ").append(dateSauvegarde.format(FormatsDate.DATE_HEURE_SECONDES)).append("\n");
         resume.append("Version: ").append(versionApplication).append("\n");
         resume.append("Commentaire: ").append(commentaireSauvegarde).append("\n\n");
 
@@ -429,7 +428,7 @@ public class DonneesSauvegarde {
     @Override
     public String toString() {
         return String.format("DonneesSauvegarde{date=%s, evenements=%d, participants=%d, observers=%d}",
-                dateSauvegarde.format(DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")),
+                dateSauvegarde.format(FormatsDate.DATE_HEURE),
                 evenements.size(), participants.size(), nombreObserversTotal);
     }
 }
@@ -0,0 +1,178 @@
+package com.util;
+
+import com.exception.SerializationException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.DefaultIndenter;
+import com.fasterxml.jackson.core.util.DefaultPrettyPrinter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.model.Concert;
+import com.model.Conference;
+import com.model.Evenement;
+import com.model.Participant;
+import com.util.LecteurSauvegarde.Format;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.time.LocalDateTime;
+
+/**
+ * Écriture en flux d'un fichier d'événements (formats de LecteurSauvegarde)
+ * - les éléments arrivent déjà mis en forme (formater), ce qui permet de sérialiser sur plusieurs threads
+ * - sauvegarde JSON : événements, puis participants, puis métadonnées (relue par SerializationUtil)
+ * - JSON lignes et CSV ne contiennent que les événements : les inscriptions restent dans chaque
+ *   événement en JSON lignes, le CSV n'en garde aucune
+ */
+public class EcrivainSauvegarde implements Closeable {
+
+    private static final String ENTETE_CSV = "type,id,nom,date,lieu,capaciteMax,theme,artiste,genreMusical";
+    // Une ligne par élément : le writer du mapper indente, celui-ci non
+    private static final ObjectWriter ECRITURE_COMPACTE = SerializationUtil.getMapper()
+            .writer().without(SerializationFeature.INDENT_OUTPUT);
+
+    private final File fichier;
+    private final Format format;
+    private final Writer sortie;
+    private final JsonGenerator generateur;
+    private boolean participantsOuverts;
+    private long nombreObservers;
+
+    /**
+     * @param indente sauvegarde JSON : un élément par ligne plutôt que tout sur une ligne
+     */
+    public EcrivainSauvegarde(File fichier, Format format, boolean indente) throws SerializationException {
+        this.fichier = fichier;
+        this.format = format;
+        try {
+            sortie = new BufferedWriter(Files.newBufferedWriter(fichier.toPath(), StandardCharsets.UTF_8), 1 << 16);
+            if (format == Format.SAUVEGARDE) {
+                generateur = SerializationUtil.getMapper().getFactory().createGenerator(sortie);
+                if (indente) {
+                    generateur.setPrettyPrinter(new DefaultPrettyPrinter()
+                            .withArrayIndenter(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE));
+                }
+                generateur.writeStartObject();
+                generateur.writeArrayFieldStart("evenements");
+            } else {
+                generateur = null;
+                if (format == Format.CSV) {
+                    sortie.write(ENTETE_CSV);
+                    sortie.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Impossible de créer le fichier", "ECRITURE", fichier.getName(), e);
+        }
+    }
+
+    // ============ MISE EN FORME (tout thread) ============
+
+    /**
+     * Texte d'un événement dans le format de sortie (JSON compact, ou ligne CSV)
+     */
+    public static String formater(Evenement evenement, Format format) throws JsonProcessingException {
+        if (format != Format.CSV) {
+            return ECRITURE_COMPACTE.writeValueAsString(evenement);
+        }
+        String theme = evenement instanceof Conference conference ? conference.getTheme() : null;
+        String artiste = evenement instanceof Concert concert ? concert.getArtiste() : null;
+        String genre = evenement instanceof Concert concert ? concert.getGenreMusical() : null;
+        return String.join(",",
+                evenement instanceof Concert ? "concert" : "conference",
+                champCsv(evenement.getId()),
+                champCsv(evenement.getNom()),
+                evenement.getDate() != null ? evenement.getDate().toString() : "",
+                champCsv(evenement.getLieu()),
+                String.valueOf(evenement.getCapaciteMax()),
+                champCsv(theme),
+                champCsv(artiste),
+                champCsv(genre));
+    }
+
+    public static String formaterParticipant(Participant participant) throws JsonProcessingException {
+        return ECRITURE_COMPACTE.writeValueAsString(participant);
+    }
+
+    // Guillemets doublés pour échapper, comme à la lecture (ImportEvenements)
+    private static String champCsv(String valeur) {
+        if (valeur == null) {
+            return "";
+        }
+        if (valeur.indexOf(',') < 0 && valeur.indexOf('"') < 0 && valeur.indexOf('\n') < 0) {
+            return valeur;
+        }
+        return '"' + valeur.replace("\"", "\"\"") + '"';
+    }
+
+    // ============ ÉCRITURE ============
+
+    /**
+     * @param texte événement mis en forme par formater
+     * @param nombreInscrits participants de l'événement (nombre d'observers de la sauvegarde)
+     */
+    public void ecrireEvenement(String texte, int nombreInscrits) throws SerializationException {
+        try {
+            if (generateur == null) {
+                sortie.write(texte);
+                sortie.write('\n');
+            } else {
+                if (participantsOuverts) {
+                    throw new IllegalStateException("Les événements doivent précéder les participants");
+                }
+                generateur.writeRawValue(texte);
+            }
+            nombreObservers += nombreInscrits;
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "ECRITURE", fichier.getName(), e);
+        }
+    }
+
+    /**
+     * @param texte participant en JSON (sans effet hors sauvegarde JSON)
+     */
+    public void ecrireParticipant(String texte) throws SerializationException {
+        if (generateur == null) {
+            return;
+        }
+        try {
+            ouvrirParticipants();
+            generateur.writeRawValue(texte);
+        } catch (IOException e) {
+            throw new SerializationException("Erreur d'écriture", "ECRITURE", fichier.getName(), e);
+        }
+    }
+
+    private void ouvrirParticipants() throws IOException {
+        if (!participantsOuverts) {
+            generateur.writeEndArray();
+            generateur.writeArrayFieldStart("participants");
+            participantsOuverts = true;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (generateur != null) {
+                ouvrirParticipants();
+                generateur.writeEndArray();
+                generateur.writeStringField("dateSauvegarde", LocalDateTime.now().toString());
+                generateur.writeStringField("versionApplication", "1.0");
+                generateur.writeNumberField("nombreObserversTotal", nombreObservers);
+                generateur.writeEndObject();
+                generateur.close();
+            }
+        } finally {
+            sortie.close();
+        }
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+}
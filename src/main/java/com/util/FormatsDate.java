@@ -0,0 +1,28 @@
+package com.util;
+
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formateurs de dates partagés
+ * DateTimeFormatter est immuable et thread-safe : inutile de le recréer à chaque affichage
+ */
+public final class FormatsDate {
+
+    public static final DateTimeFormatter DATE_HEURE = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
+    public static final DateTimeFormatter DATE_HEURE_SECONDES = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm:ss");
+    public static final DateTimeFormatter DATE_A_HEURE = DateTimeFormatter.ofPattern("dd/MM/yyyy à HH:mm");
+    public static final DateTimeFormatter HORODATAGE_FICHIER = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
+
+    private static final ConcurrentHashMap<String, DateTimeFormatter> CACHE = new ConcurrentHashMap<>();
+
+    private FormatsDate() {
+    }
+
+    /**
+     * Formateur pour un motif quelconque, créé une seule fois puis réutilisé
+     */
+    public static DateTimeFormatter motif(String motif) {
+        return CACHE.computeIfAbsent(motif, DateTimeFormatter::ofPattern);
+    }
+}
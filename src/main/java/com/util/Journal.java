@@ -0,0 +1,133 @@
+package com.util;
+
+import com.metrics.RegistreMetriques;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traces console du modèle et du service
+ * Par défaut les lignes sont écrites immédiatement (comportement historique de l'interface).
+ * En mode asynchrone, elles sont déposées dans une file bornée et écrites par lots par un thread dédié :
+ * les commandes ne bloquent plus sur la console, et une file pleine fait perdre la ligne plutôt
+ * que ralentir une inscription
+ */
+public final class Journal {
+
+    private static final int TAILLE_LOT = 512;
+
+    private static final LongAdder perdues = new LongAdder();
+    private static volatile Ecrivain ecrivain;
+
+    static {
+        RegistreMetriques.getInstance().compteur("journal_lignes_perdues_total",
+                "Lignes de journal perdues (file asynchrone pleine)", perdues::sum);
+    }
+
+    private Journal() {
+    }
+
+    /**
+     * Écrit une ligne sur la sortie standard (immédiatement ou via la file asynchrone)
+     */
+    public static void info(String ligne) {
+        Ecrivain courant = ecrivain;
+        if (courant == null) {
+            System.out.println(ligne);
+        } else if (!courant.file.offer(ligne)) {
+            perdues.increment();
+        }
+    }
+
+    /**
+     * Écrit une erreur sur la sortie d'erreur, toujours immédiatement : rares, elles ne doivent pas être perdues
+     */
+    public static void erreur(String ligne) {
+        System.err.println(ligne);
+    }
+
+    /**
+     * Passe en mode asynchrone
+     * @param capacite nombre maximal de lignes en attente d'écriture
+     */
+    public static synchronized void demarrerAsynchrone(int capacite) {
+        if (ecrivain != null) {
+            throw new IllegalStateException("Le journal asynchrone est déjà démarré");
+        }
+        Ecrivain nouveau = new Ecrivain(capacite);
+        nouveau.thread.start();
+        ecrivain = nouveau;
+    }
+
+    /**
+     * Revient au mode synchrone après avoir écrit les lignes en attente
+     */
+    public static synchronized void arreter() {
+        Ecrivain courant = ecrivain;
+        if (courant == null) {
+            return;
+        }
+        ecrivain = null;
+        courant.actif = false;
+        courant.thread.interrupt();
+        try {
+            courant.thread.join(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        courant.vider();
+    }
+
+    public static boolean estAsynchrone() {
+        return ecrivain != null;
+    }
+
+    public static long getNombrePerdues() {
+        return perdues.sum();
+    }
+
+    private static final class Ecrivain implements Runnable {
+        private final ArrayBlockingQueue<String> file;
+        private final Thread thread;
+        private final List<String> lot = new ArrayList<>(TAILLE_LOT);
+        private volatile boolean actif = true;
+
+        Ecrivain(int capacite) {
+            this.file = new ArrayBlockingQueue<>(capacite);
+            this.thread = new Thread(this, "journal-asynchrone");
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            while (actif) {
+                try {
+                    lot.add(file.take());
+                } catch (InterruptedException e) {
+                    return;
+                }
+                file.drainTo(lot, TAILLE_LOT - 1);
+                ecrire();
+            }
+        }
+
+        // Appelé par le thread d'arrêt une fois l'écrivain terminé
+        void vider() {
+            while (file.drainTo(lot, TAILLE_LOT) > 0) {
+                ecrire();
+            }
+        }
+
+        private void ecrire() {
+            StringBuilder texte = new StringBuilder(lot.size() * 80);
+            for (String ligne : lot) {
+                texte.append(ligne).append(System.lineSeparator());
+            }
+            lot.clear();
+            System.out.print(texte);
+            System.out.flush();
+        }
+    }
+}
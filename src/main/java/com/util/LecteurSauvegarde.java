@@ -0,0 +1,168 @@
+package com.util;
+
+import com.exception.SerializationException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Locale;
+
+/**
+ * Lecture en flux d'un fichier d'événements, élément par élément, sans le charger en mémoire
+ * - sauvegarde JSON : tableaux "evenements" et "participants", chaque élément rendu sous forme de texte JSON
+ * - JSON lignes : un événement par ligne (format d'import)
+ * - CSV : une ligne d'en-tête puis un événement par ligne (format d'import)
+ * L'analyse des éléments est laissée à l'appelant, qui peut ainsi la répartir sur plusieurs threads
+ */
+public class LecteurSauvegarde {
+
+    public enum Format {
+        SAUVEGARDE, JSON_LIGNES, CSV;
+
+        public static Format detecter(File fichier) {
+            String nom = fichier.getName().toLowerCase(Locale.ROOT);
+            if (nom.endsWith(".csv")) {
+                return CSV;
+            }
+            if (nom.endsWith(".jsonl") || nom.endsWith(".ndjson")) {
+                return JSON_LIGNES;
+            }
+            return SAUVEGARDE;
+        }
+    }
+
+    /**
+     * Un élément lu : sa position (rang dans le tableau, ou numéro de ligne) et son texte
+     */
+    public record Element(long numero, String contenu) {}
+
+    @FunctionalInterface
+    public interface Traitement {
+        void traiter(Element element) throws Exception;
+    }
+
+    private final File fichier;
+    private final Format format;
+    private String enteteCsv;
+
+    public LecteurSauvegarde(File fichier) {
+        this(fichier, Format.detecter(fichier));
+    }
+
+    public LecteurSauvegarde(File fichier, Format format) {
+        this.fichier = fichier;
+        this.format = format;
+    }
+
+    // ============ PARCOURS ============
+
+    /**
+     * Parcourt les événements du fichier, dans l'ordre
+     */
+    public void evenements(Traitement traitement) throws SerializationException {
+        if (format == Format.SAUVEGARDE) {
+            parcourirTableau("evenements", traitement);
+        } else {
+            parcourirLignes(traitement);
+        }
+    }
+
+    /**
+     * Parcourt la liste des participants (sauvegarde JSON uniquement : les formats par ligne n'en ont pas)
+     */
+    public void participants(Traitement traitement) throws SerializationException {
+        if (format == Format.SAUVEGARDE) {
+            parcourirTableau("participants", traitement);
+        }
+    }
+
+    private void parcourirTableau(String tableau, Traitement traitement) throws SerializationException {
+        JsonFactory fabrique = SerializationUtil.getMapper().getFactory();
+        try (JsonParser parser = fabrique.createParser(fichier)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SerializationException("Sauvegarde invalide: objet JSON attendu", "LECTURE", fichier.getName());
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String champ = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY || !champ.equals(tableau)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                // Chaque élément est recopié tel quel : seul le découpage est fait ici, pas la désérialisation
+                StringWriter tampon = new StringWriter();
+                long numero = 0;
+                JsonToken jeton;
+                while ((jeton = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    if (jeton == null) {
+                        throw new SerializationException("Sauvegarde tronquée", "LECTURE", fichier.getName());
+                    }
+                    tampon.getBuffer().setLength(0);
+                    try (JsonGenerator copie = fabrique.createGenerator(tampon)) {
+                        copie.copyCurrentStructure(parser);
+                    }
+                    traiter(traitement, new Element(++numero, tampon.toString()));
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur de lecture fichier", "LECTURE", fichier.getName(), e);
+        }
+    }
+
+    private void parcourirLignes(Traitement traitement) throws SerializationException {
+        try (BufferedReader lecteur = Files.newBufferedReader(fichier.toPath(), StandardCharsets.UTF_8)) {
+            long numero = 0;
+            if (format == Format.CSV) {
+                enteteCsv = lecteur.readLine();
+                if (enteteCsv == null) {
+                    throw new SerializationException("Le fichier est vide", "LECTURE", fichier.getName());
+                }
+                numero++;
+            }
+            String contenu;
+            while ((contenu = lecteur.readLine()) != null) {
+                numero++;
+                if (!contenu.isBlank()) {
+                    traiter(traitement, new Element(numero, contenu));
+                }
+            }
+        } catch (IOException e) {
+            throw new SerializationException("Erreur de lecture fichier", "LECTURE", fichier.getName(), e);
+        }
+    }
+
+    private void traiter(Traitement traitement, Element element) throws SerializationException {
+        try {
+            traitement.traiter(element);
+        } catch (SerializationException e) {
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SerializationException("Lecture interrompue", "LECTURE", fichier.getName(), e);
+        } catch (Exception e) {
+            throw new SerializationException("Erreur de traitement: " + e.getMessage(), "LECTURE", fichier.getName(), e);
+        }
+    }
+
+    // ============ ACCESSEURS ============
+
+    public File getFichier() {
+        return fichier;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    /**
+     * En-tête du CSV, disponible une fois le parcours des événements commencé
+     */
+    public String getEnteteCsv() {
+        return enteteCsv;
+    }
+}
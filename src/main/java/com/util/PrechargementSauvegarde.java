@@ -0,0 +1,91 @@
+package com.util;
+
+import com.exception.SerializationException;
+import java.io.File;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.prefs.Preferences;
+
+/**
+ * Dernière sauvegarde connue, relue en arrière-plan au démarrage
+ * - le chemin de la dernière sauvegarde (ou du dernier chargement) est conservé dans les préférences utilisateur
+ * - au démarrage, ce fichier est désérialisé sur un thread virtuel, ce qui initialise aussi Jackson
+ *   hors du thread JavaFX
+ * - le chargement de ce même fichier, inchangé depuis, reprend le résultat au lieu de relire le disque
+ */
+public class PrechargementSauvegarde {
+
+    private static final String CLE_DERNIERE_SAUVEGARDE = "derniereSauvegarde";
+
+    private static volatile PrechargementSauvegarde instance;
+
+    private record Prechargement(File fichier, long modification,
+                                 CompletableFuture<SerializationUtil.DonneesSauvegarde> donnees) {}
+
+    private final Preferences preferences = Preferences.userNodeForPackage(PrechargementSauvegarde.class);
+    // Résultat utilisable une seule fois : les objets chargés deviennent ceux du service
+    private volatile Prechargement prechargement;
+
+    private PrechargementSauvegarde() {}
+
+    public static PrechargementSauvegarde getInstance() {
+        if (instance == null) {
+            synchronized (PrechargementSauvegarde.class) {
+                if (instance == null) {
+                    instance = new PrechargementSauvegarde();
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Lance la lecture de la dernière sauvegarde en arrière-plan (sans effet si aucune n'est connue)
+     */
+    public void demarrer() {
+        File fichier = getDerniereSauvegarde();
+        if (fichier == null || !fichier.isFile()) {
+            return;
+        }
+        CompletableFuture<SerializationUtil.DonneesSauvegarde> donnees = new CompletableFuture<>();
+        prechargement = new Prechargement(fichier, fichier.lastModified(), donnees);
+        Thread.ofVirtual().name("prechargement-sauvegarde").start(() -> {
+            try {
+                donnees.complete(SerializationUtil.chargerDonnees(fichier));
+            } catch (SerializationException e) {
+                System.err.println("⚠️ [PRÉCHARGEMENT] " + e.getMessageDetaille());
+                donnees.completeExceptionally(e);
+            }
+        });
+    }
+
+    /**
+     * Charge une sauvegarde, en reprenant la lecture anticipée si elle porte sur ce fichier inchangé
+     * (attend alors la fin de cette lecture)
+     */
+    public SerializationUtil.DonneesSauvegarde charger(File fichier) throws SerializationException {
+        Prechargement anticipe = prechargement;
+        prechargement = null;
+        if (anticipe != null && anticipe.fichier().getAbsoluteFile().equals(fichier.getAbsoluteFile())
+                && anticipe.modification() == fichier.lastModified()) {
+            try {
+                return anticipe.donnees().join();
+            } catch (CompletionException e) {
+                // Échec déjà signalé : nouvelle lecture ci-dessous pour remonter l'erreur à l'appelant
+            }
+        }
+        return SerializationUtil.chargerDonnees(fichier);
+    }
+
+    /**
+     * Retient le fichier comme dernière sauvegarde (relu au prochain démarrage)
+     */
+    public void memoriser(File fichier) {
+        preferences.put(CLE_DERNIERE_SAUVEGARDE, fichier.getAbsolutePath());
+    }
+
+    public File getDerniereSauvegarde() {
+        String chemin = preferences.get(CLE_DERNIERE_SAUVEGARDE, null);
+        return chemin != null ? new File(chemin) : null;
+    }
+}
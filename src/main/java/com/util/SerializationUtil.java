@@ -7,6 +7,9 @@ import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.model.*;
 import com.exception.*;
+import com.metrics.Chronometre;
+import com.metrics.Compteur;
+import com.metrics.RegistreMetriques;
 import java.io.File;
 import java.io.IOException;
 import java.util.List;
@@ -15,7 +18,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 
 /**
  * Utilitaire avancé pour la sérialisation/désérialisation JSON
@@ -31,6 +33,23 @@ public class SerializationUtil {
             .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true)
             .setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
+    // Durées et échecs des sauvegardes / chargements
+    private static final Chronometre DUREE_SAUVEGARDE = RegistreMetriques.getInstance()
+            .chronometre("sauvegarde_duree_secondes", "Durée d'une sauvegarde complète");
+    private static final Chronometre DUREE_CHARGEMENT = RegistreMetriques.getInstance()
+            .chronometre("chargement_duree_secondes", "Durée d'un chargement complet");
+    private static final Compteur ECHECS_SAUVEGARDE = RegistreMetriques.getInstance()
+            .compteur("sauvegardes_echouees_total", "Sauvegardes en échec");
+    private static final Compteur ECHECS_CHARGEMENT = RegistreMetriques.getInstance()
+            .compteur("chargements_echoues_total", "Chargements en échec");
+
+    /**
+     * Retourne le mapper JSON partagé (thread-safe une fois configuré)
+     */
+    public static ObjectMapper getMapper() {
+        return mapper;
+    }
+
     /**
      * Classe conteneur pour sauvegarder toutes les données du système
      */
@@ -54,7 +73,7 @@ public class SerializationUtil {
 
         private int calculerNombreObservers() {
             return evenements.stream()
-                    .mapToInt(e -> e.getObservers().size())
+                    .mapToInt(Evenement::getNombreObservers)
                     .sum();
         }
 
@@ -135,6 +154,8 @@ public class SerializationUtil {
     public static void sauvegarderDonnees(List<Evenement> evenements, List<Participant> participants, File file)
             throws SerializationException {
 
+        long debut = System.nanoTime();
+        boolean succes = false;
         try {
             // Validation préalable
             validerDonneesSauvegarde(evenements, participants);
@@ -158,6 +179,7 @@ public class SerializationUtil {
             System.out.println("   • Événements: " + evenements.size());
             System.out.println("   • Participants: " + participants.size());
             System.out.println("   • Observers totaux: " + donnees.getNombreObserversTotal());
+            succes = true;
 
         } catch (ValidationException e) {
             throw new SerializationException("Données invalides: " + e.getMessageUtilisateur(),
@@ -168,6 +190,11 @@ public class SerializationUtil {
         } catch (Exception e) {
             throw new SerializationException("Erreur inattendue lors de la sauvegarde",
                     "SAUVEGARDE", file.getName(), e);
+        } finally {
+            DUREE_SAUVEGARDE.enregistrerDepuis(debut);
+            if (!succes) {
+                ECHECS_SAUVEGARDE.incrementer();
+            }
         }
     }
 
@@ -176,6 +203,8 @@ public class SerializationUtil {
      */
     public static DonneesSauvegarde chargerDonnees(File file) throws SerializationException {
 
+        long debut = System.nanoTime();
+        boolean succes = false;
         try {
             // Validation du fichier
             validerFichierChargement(file);
@@ -190,13 +219,13 @@ public class SerializationUtil {
             donnees.reconstruireRelationsObserver();
 
             System.out.println("📂 Chargement réussi: " + file.getName());
-            System.out.println("   • Date sauvegarde: " + donnees.getDateSauvegarde().format(
-                    DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm")));
+            System.out.println("   • Date sauvegarde: " + donnees.getDateSauvegarde().format(FormatsDate.DATE_HEURE));
             System.out.println("   • Version: " + donnees.getVersionApplication());
             System.out.println("   • Événements: " + donnees.getEvenements().size());
             System.out.println("   • Participants: " + donnees.getParticipants().size());
             System.out.println("   • Relations Observer reconstruites");
 
+            succes = true;
             return donnees;
 
         } catch (ValidationException e) {
@@ -208,6 +237,11 @@ public class SerializationUtil {
         } catch (Exception e) {
             throw new SerializationException("Erreur inattendue lors du chargement",
                     "CHARGEMENT", file.getName(), e);
+        } finally {
+            DUREE_CHARGEMENT.enregistrerDepuis(debut);
+            if (!succes) {
+                ECHECS_CHARGEMENT.incrementer();
+            }
         }
     }
 
@@ -224,6 +258,35 @@ public class SerializationUtil {
         }
     }
 
+    /**
+     * Instantané compact de l'état (JSON sur une seule ligne), pour la réplication
+     */
+    public static byte[] exporterInstantane(List<Evenement> evenements, List<Participant> participants)
+            throws SerializationException {
+        try {
+            DonneesSauvegarde donnees = new DonneesSauvegarde(evenements, participants);
+            return mapper.writer().without(SerializationFeature.INDENT_OUTPUT).writeValueAsBytes(donnees);
+        } catch (Exception e) {
+            throw new SerializationException("Erreur lors de la création de l'instantané", "EXPORT", e);
+        }
+    }
+
+    /**
+     * Relit un instantané produit par exporterInstantane, avec validation et reconstruction Observer
+     */
+    public static DonneesSauvegarde importerInstantane(String json) throws SerializationException {
+        try {
+            DonneesSauvegarde donnees = mapper.readValue(json, DonneesSauvegarde.class);
+            donnees.valider();
+            donnees.reconstruireRelationsObserver();
+            return donnees;
+        } catch (ValidationException e) {
+            throw new SerializationException("Instantané invalide: " + e.getMessageUtilisateur(), "IMPORT", e);
+        } catch (IOException e) {
+            throw new SerializationException("Instantané illisible", "IMPORT", e);
+        }
+    }
+
     /**
      * Sauvegarde automatique avec nom de fichier horodaté
      */
@@ -236,7 +299,7 @@ public class SerializationUtil {
 
             // Nom de fichier avec timestamp
             String nomFichier = "sauvegarde_auto_" +
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss")) +
+                    LocalDateTime.now().format(FormatsDate.HORODATAGE_FICHIER) +
                     ".json";
 
             File fichier = new File(dossier.toFile(), nomFichier);
@@ -0,0 +1,57 @@
+package com.model;
+
+import com.util.SerializationUtil;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Liste d'attente : conservée par la sauvegarde (ordre et niveau), vidée à l'annulation
+ */
+class ListeAttenteSauvegardeTest {
+
+    @Test
+    void laSauvegardeConserveLOrdreEtLeNiveau() throws Exception {
+        Conference conference = new Conference("CONF1", "Conférence", LocalDateTime.of(2030, 1, 15, 9, 0), "Paris", 1);
+        conference.ajouterParticipantOuListeAttente(new Participant("P1", "Alice", "alice@example.com"));
+        conference.ajouterParticipantOuListeAttente(new Participant("P2", "Bob", "bob@example.com"));
+        conference.ajouterParticipantOuListeAttente(new Participant("P3", "Chloé", "chloe@example.com"));
+        conference.ajouterParticipantOuListeAttente(new Organisateur("O1", "Odile", "odile@example.com"));
+
+        String json = SerializationUtil.getMapper().writeValueAsString(conference);
+        Evenement relu = SerializationUtil.getMapper().readValue(json, Evenement.class);
+
+        assertEquals(List.of("O1", "P2", "P3"), relu.getListeAttente().stream().map(Participant::getId).toList());
+        assertEquals(ListeAttente.Priorite.ORGANISATEUR, relu.getEntreesListeAttente().get(0).priorite());
+
+        // Le premier en attente reste prioritaire après rechargement, même relu sans son type
+        relu.retirerParticipant(relu.getParticipants().get(0));
+        assertEquals("O1", relu.getParticipants().get(0).getId());
+        assertEquals(List.of("P2", "P3"), relu.getListeAttente().stream().map(Participant::getId).toList());
+    }
+
+    @Test
+    void uneSauvegardeSansListeAttenteSeRelit() throws Exception {
+        String json = "{\"type\":\"concert\",\"id\":\"C1\",\"nom\":\"Concert\",\"date\":\"2030-01-15T20:00:00\","
+                + "\"lieu\":\"Lyon\",\"capaciteMax\":10,\"participants\":[]}";
+        Evenement relu = SerializationUtil.getMapper().readValue(json, Evenement.class);
+        assertEquals(0, relu.getNombreEnAttente());
+    }
+
+    @Test
+    void lAnnulationVideLaListeAttente() {
+        Conference conference = new Conference("CONF2", "Conférence", LocalDateTime.of(2030, 1, 15, 9, 0), "Paris", 1);
+        conference.ajouterParticipantOuListeAttente(new Participant("P1", "Alice", "alice@example.com"));
+        conference.ajouterParticipantOuListeAttente(new Participant("P2", "Bob", "bob@example.com"));
+
+        conference.annuler();
+
+        assertTrue(conference.isAnnule());
+        assertEquals(0, conference.getNombreEnAttente());
+        assertThrows(IllegalStateException.class,
+                () -> conference.ajouterParticipantOuListeAttente(new Participant("P3", "Chloé", "chloe@example.com")));
+    }
+}
@@ -0,0 +1,66 @@
+package com.moteur;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Anneau de commandes : réutilisation des emplacements et attente des producteurs quand il est plein
+ */
+class AnneauCommandesTest {
+
+    @Test
+    void refuseUneTailleQuiNEstPasUnePuissanceDeDeux() {
+        assertThrows(IllegalArgumentException.class, () -> new AnneauCommandes(6));
+        assertThrows(IllegalArgumentException.class, () -> new AnneauCommandes(0));
+    }
+
+    @Test
+    void reutiliseLesEmplacementsApresUnTourComplet() {
+        AnneauCommandes anneau = new AnneauCommandes(4);
+        for (long attendue = 0; attendue < 10; attendue++) {
+            long sequence = anneau.reserver();
+            assertEquals(attendue, sequence);
+            anneau.get(sequence).commande = new Commande.SupprimerEvenement("E" + sequence);
+            anneau.publier(sequence);
+
+            assertEquals(sequence, anneau.dernierePubliee(sequence));
+            assertEquals("E" + sequence, anneau.get(sequence).commande.evenementId());
+            anneau.get(sequence).vider();
+            anneau.liberer(sequence);
+        }
+        // Même emplacement qu'au premier tour, mais l'ancienne séquence n'est plus vue comme publiée
+        assertSame(anneau.get(1), anneau.get(9));
+        assertEquals(9, anneau.dernierePubliee(10));
+    }
+
+    @Test
+    void lesSequencesPublieesNonContiguesAttendentLeTrou() {
+        AnneauCommandes anneau = new AnneauCommandes(8);
+        long premiere = anneau.reserver();
+        long seconde = anneau.reserver();
+        anneau.publier(seconde);
+
+        assertEquals(premiere - 1, anneau.attendrePubliee(premiere, TimeUnit.MILLISECONDS.toNanos(5)));
+        anneau.publier(premiere);
+        assertEquals(seconde, anneau.attendrePubliee(premiere, TimeUnit.MILLISECONDS.toNanos(5)));
+    }
+
+    @Test
+    void unProducteurAttendQuandLAnneauEstPlein() throws Exception {
+        AnneauCommandes anneau = new AnneauCommandes(4);
+        for (int i = 0; i < 4; i++) {
+            anneau.publier(anneau.reserver());
+        }
+
+        CompletableFuture<Long> cinquieme = CompletableFuture.supplyAsync(anneau::reserver);
+        Thread.sleep(100);
+        assertFalse(cinquieme.isDone(), "La réservation doit attendre un emplacement libre");
+
+        anneau.liberer(0);
+        assertEquals(4, cinquieme.get(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,76 @@
+package com.moteur;
+
+import com.exception.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Journal des commandes : relecture, fin tronquée par un arrêt brutal, corruption
+ */
+class JournalCommandesTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void rejoueLesCommandesDansLOrdre() throws Exception {
+        Path fichier = dossier.resolve("commandes.jsonl");
+        ecrire(fichier, 0, 3);
+        ecrire(fichier, 3, 2);
+
+        List<Long> sequences = new ArrayList<>();
+        List<Commande> commandes = new ArrayList<>();
+        long derniere = new JournalCommandes(fichier, false).rejouer((sequence, commande) -> {
+            sequences.add(sequence);
+            commandes.add(commande);
+        });
+
+        assertEquals(4, derniere);
+        assertEquals(List.of(0L, 1L, 2L, 3L, 4L), sequences);
+        assertEquals(new Commande.SupprimerEvenement("E3"), commandes.get(3));
+    }
+
+    @Test
+    void ignoreLaDerniereLigneTronqueeEtLaCoupeAvantDAjouter() throws Exception {
+        Path fichier = dossier.resolve("commandes.jsonl");
+        ecrire(fichier, 0, 2);
+        Files.writeString(fichier, "{\"seq\":2,\"commande\":{\"comm", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(1, new JournalCommandes(fichier, false).rejouer((sequence, commande) -> { }));
+
+        // Session suivante : le premier lot ne doit pas être collé à la ligne tronquée
+        ecrire(fichier, 2, 2);
+        List<Long> sequences = new ArrayList<>();
+        new JournalCommandes(fichier, false).rejouer((sequence, commande) -> sequences.add(sequence));
+        assertEquals(List.of(0L, 1L, 2L, 3L), sequences);
+    }
+
+    @Test
+    void uneLigneCorrompueAvantLaFinEstFatale() throws Exception {
+        Path fichier = dossier.resolve("commandes.jsonl");
+        ecrire(fichier, 0, 1);
+        Files.writeString(fichier, "pas du json\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        ecrire(fichier, 1, 1);
+
+        JournalCommandes journal = new JournalCommandes(fichier, false);
+        assertThrows(SerializationException.class, () -> journal.rejouer((sequence, commande) -> { }));
+    }
+
+    private static void ecrire(Path fichier, long debut, int nombre) throws SerializationException {
+        JournalCommandes journal = new JournalCommandes(fichier, false);
+        for (long sequence = debut; sequence < debut + nombre; sequence++) {
+            journal.ajouter(sequence, new Commande.SupprimerEvenement("E" + sequence));
+        }
+        journal.ecrireLot();
+        journal.fermer();
+    }
+}
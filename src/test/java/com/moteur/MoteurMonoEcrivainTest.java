@@ -0,0 +1,152 @@
+package com.moteur;
+
+import com.exception.ParticipantIntrouvableException;
+import com.model.Participant;
+import com.service.GestionEvenements;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Moteur mono-écrivain : application par lots, relecture du journal et arrêt
+ */
+class MoteurMonoEcrivainTest {
+
+    @TempDir
+    Path dossier;
+
+    private final GestionEvenements gestion = GestionEvenements.getInstance();
+    private MoteurMonoEcrivain moteur;
+
+    @BeforeEach
+    void vider() {
+        gestion.viderTout();
+    }
+
+    @AfterEach
+    void arreter() {
+        if (moteur != null) {
+            moteur.arreter();
+        }
+        gestion.viderTout();
+    }
+
+    @Test
+    void appliqueLesCommandesAuDelaDeLaTailleDeLAnneau() throws Exception {
+        moteur = new MoteurMonoEcrivain(gestion, 16, null);
+        moteur.demarrer();
+
+        List<CompletableFuture<Object>> resultats = new CopyOnWriteArrayList<>();
+        List<Thread> producteurs = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int numero = t;
+            Thread producteur = new Thread(() -> {
+                for (int i = 0; i < 250; i++) {
+                    resultats.add(moteur.soumettre(new Commande.AjouterParticipant(participant(numero + "-" + i))));
+                }
+            });
+            producteurs.add(producteur);
+            producteur.start();
+        }
+        for (Thread producteur : producteurs) {
+            producteur.join();
+        }
+        CompletableFuture.allOf(resultats.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+        // Les emplacements sont libérés après la réponse aux soumetteurs : lecture au lot suivant
+        moteur.lireEntreLots(sequence -> sequence).get(5, TimeUnit.SECONDS);
+
+        assertEquals(1000, gestion.getParticipants().size());
+        assertEquals(0, moteur.getNombreEnAttente());
+    }
+
+    @Test
+    void uneCommandeRejeteeCompleteSonFuturEnErreur() throws Exception {
+        moteur = new MoteurMonoEcrivain(gestion, 8, null);
+        moteur.demarrer();
+
+        ExecutionException erreur = assertThrows(ExecutionException.class, () ->
+                moteur.soumettre(new Commande.InscrireParticipant("inconnu", "E1", false)).get(5, TimeUnit.SECONDS));
+        assertInstanceOf(ParticipantIntrouvableException.class, erreur.getCause());
+    }
+
+    @Test
+    void rejoueLeJournalPourReconstruireLEtat() throws Exception {
+        Path fichier = dossier.resolve("commandes.jsonl");
+        moteur = new MoteurMonoEcrivain(gestion, 8, new JournalCommandes(fichier, false));
+        moteur.rejouer();
+        moteur.demarrer();
+        for (int i = 0; i < 20; i++) {
+            moteur.soumettre(new Commande.AjouterParticipant(participant("" + i)));
+        }
+        moteur.lireEntreLots(sequence -> sequence).get(5, TimeUnit.SECONDS);
+        moteur.arreter();
+
+        gestion.viderTout();
+        moteur = new MoteurMonoEcrivain(gestion, 8, new JournalCommandes(fichier, false));
+        assertEquals(20, moteur.rejouer());
+        assertEquals(20, gestion.getParticipants().size());
+
+        // Les séquences reprennent après la dernière rejouée
+        moteur.demarrer();
+        moteur.soumettre(new Commande.AjouterParticipant(participant("20"))).get(5, TimeUnit.SECONDS);
+        assertEquals(20L, moteur.lireEntreLots(sequence -> sequence).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void chaqueSoumissionAccepteeEstTermineeApresLArret() throws Exception {
+        moteur = new MoteurMonoEcrivain(gestion, 64, null);
+        moteur.demarrer();
+
+        List<CompletableFuture<?>> acceptees = new CopyOnWriteArrayList<>();
+        AtomicInteger refusees = new AtomicInteger();
+        List<Thread> producteurs = new ArrayList<>();
+        for (int t = 0; t < 8; t++) {
+            int numero = t;
+            Thread producteur = new Thread(() -> {
+                for (int i = 0; ; i++) {
+                    try {
+                        acceptees.add(moteur.soumettre(new Commande.AjouterParticipant(participant(numero + "-" + i))));
+                        acceptees.add(moteur.lireEntreLots(sequence -> sequence));
+                    } catch (IllegalStateException e) {
+                        refusees.incrementAndGet();
+                        return;
+                    }
+                }
+            });
+            producteurs.add(producteur);
+            producteur.start();
+        }
+        Thread.sleep(50);
+        moteur.arreter();
+        for (Thread producteur : producteurs) {
+            producteur.join();
+        }
+
+        assertEquals(8, refusees.get());
+        for (CompletableFuture<?> resultat : acceptees) {
+            try {
+                resultat.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                // Lecture refusée pendant l'arrêt : terminée quand même
+            }
+        }
+        assertThrows(IllegalStateException.class,
+                () -> moteur.soumettre(new Commande.AjouterParticipant(participant("apres"))));
+    }
+
+    private static Participant participant(String suffixe) {
+        return new Participant("P" + suffixe, "Participant " + suffixe, "p" + suffixe + "@example.com");
+    }
+}
@@ -0,0 +1,160 @@
+package com.notification;
+
+import com.exception.SerializationException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Boîte d'envoi : livraison, journalisation, compactage et reprise au redémarrage
+ */
+class BoiteEnvoiTest {
+
+    @TempDir
+    Path dossier;
+
+    private final BoiteEnvoi boite = BoiteEnvoi.getInstance();
+    private final List<String> canaux = new ArrayList<>();
+
+    @AfterEach
+    void arreter() {
+        boite.arreter();
+        canaux.forEach(boite::retirerCanal);
+        boite.setTentativesMax(5);
+    }
+
+    @Test
+    void livreChaqueDepotEtVideLeJournal() throws Exception {
+        CanalMemoire canal = ajouter(new CanalMemoire("test-livraison"));
+        Path fichier = dossier.resolve("boite.jsonl");
+        boite.demarrer(fichier, 4);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(1, boite.deposer(notification("message-" + i)));
+        }
+
+        attendre(() -> canal.getNombreLivrees() == 100);
+        attendre(() -> boite.getNombreEnAttente() == 0);
+        // L'arrêt écrit les derniers acquittements encore en file
+        boite.arreter();
+        assertTrue(new JournalBoiteEnvoi(fichier).rejouer().isEmpty());
+    }
+
+    @Test
+    void rejoueAuRedemarrageLesNotificationsNonLivrees() throws Exception {
+        CanalMemoire enPanne = ajouter(new CanalMemoire("test-reprise"));
+        enPanne.setTauxEchec(1);
+        boite.setTentativesMax(1000);
+        Path fichier = dossier.resolve("boite.jsonl");
+        boite.demarrer(fichier, 2);
+
+        Set<String> attendus = new HashSet<>();
+        for (int i = 0; i < 10; i++) {
+            attendus.add("message-" + i);
+            boite.deposer(notification("message-" + i));
+        }
+        boite.arreter();
+
+        enPanne.setTauxEchec(0);
+        boite.demarrer(fichier, 2);
+
+        attendre(() -> enPanne.getNombreLivrees() == 10);
+        Set<String> livres = new HashSet<>();
+        enPanne.getLivrees().forEach(notification -> livres.add(notification.getMessage()));
+        assertEquals(attendus, livres);
+    }
+
+    @Test
+    void compactageConcurrentNePerdAucunDepot() throws Exception {
+        // "livrer-*" est livré aussitôt (un compactage par livraison), "garder-*" échoue et reste en attente
+        CanalMemoire rapide = ajouter(new CanalMemoire("test-rapide") {
+            @Override
+            public boolean accepte(NotificationSortante notification) {
+                return notification.getMessage().startsWith("livrer");
+            }
+        });
+        CanalMemoire bloque = ajouter(new CanalMemoire("test-bloque") {
+            @Override
+            public boolean accepte(NotificationSortante notification) {
+                return notification.getMessage().startsWith("garder");
+            }
+        });
+        bloque.setTauxEchec(1);
+        boite.setTentativesMax(1000);
+        Path fichier = dossier.resolve("boite.jsonl");
+        // Compactage dès la première livraison, et dépôt ralenti juste après l'écriture de sa ligne
+        JournalBoiteEnvoi journal = new JournalBoiteEnvoi(fichier, 1) {
+            @Override
+            public void enregistrerDepot(NotificationSortante notification) throws SerializationException {
+                super.enregistrerDepot(notification);
+                try {
+                    Thread.sleep(1);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        boite.demarrer(journal, 4);
+
+        int parThread = 250;
+        List<Thread> deposants = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int numero = t;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < parThread; i++) {
+                    boite.deposer(notification("livrer-" + numero + "-" + i));
+                    boite.deposer(notification("garder-" + numero + "-" + i));
+                }
+            });
+            deposants.add(thread);
+            thread.start();
+        }
+        for (Thread thread : deposants) {
+            thread.join();
+        }
+        attendre(() -> rapide.getNombreLivrees() == 4 * parThread);
+        journal.synchroniser();
+
+        // Relecture du journal comme après un arrêt brutal
+        Set<String> rejoues = new HashSet<>();
+        new JournalBoiteEnvoi(fichier).rejouer().forEach(notification -> rejoues.add(notification.getMessage()));
+        for (int t = 0; t < 4; t++) {
+            for (int i = 0; i < parThread; i++) {
+                assertTrue(rejoues.contains("garder-" + t + "-" + i), "Dépôt perdu: garder-" + t + "-" + i);
+            }
+        }
+        assertEquals(4 * parThread, rejoues.size());
+    }
+
+    // ============ UTILITAIRES ============
+
+    private <C extends CanalNotification> C ajouter(C canal) {
+        boite.ajouterCanal(canal);
+        canaux.add(canal.getNom());
+        return canal;
+    }
+
+    private static NotificationSortante notification(String message) {
+        return new NotificationSortante(null, NotificationSortante.Nature.MODIFICATION, "P001", "Alice",
+                "alice@example.com", "Concert", message);
+    }
+
+    private static void attendre(BooleanSupplier condition) throws InterruptedException {
+        long limite = System.nanoTime() + 10_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > limite) {
+                fail("Condition non atteinte dans le délai");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
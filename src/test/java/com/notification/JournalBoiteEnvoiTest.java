@@ -0,0 +1,81 @@
+package com.notification;
+
+import com.exception.SerializationException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Journal de la boîte d'envoi : écriture par lots, fin tronquée par un arrêt brutal, corruption
+ */
+class JournalBoiteEnvoiTest {
+
+    @TempDir
+    Path dossier;
+
+    @Test
+    void rejoueLesDepotsNonTerminesDansLOrdre() throws Exception {
+        Path fichier = dossier.resolve("boite.jsonl");
+        JournalBoiteEnvoi journal = new JournalBoiteEnvoi(fichier);
+        for (int i = 0; i < 1000; i++) {
+            NotificationSortante notification = notification("message-" + i);
+            journal.enregistrerDepot(notification);
+            if (i % 2 == 0) {
+                journal.enregistrerLivraison(notification.getId());
+            }
+        }
+        journal.fermer();
+
+        List<NotificationSortante> rejouees = new JournalBoiteEnvoi(fichier).rejouer();
+        assertEquals(500, rejouees.size());
+        assertEquals("message-1", rejouees.get(0).getMessage());
+        assertEquals("message-999", rejouees.get(499).getMessage());
+    }
+
+    @Test
+    void ignoreLaDerniereLigneTronqueeEtLaCoupeAvantDAjouter() throws Exception {
+        Path fichier = dossier.resolve("boite.jsonl");
+        JournalBoiteEnvoi journal = new JournalBoiteEnvoi(fichier);
+        journal.enregistrerDepot(notification("complet"));
+        journal.fermer();
+        Files.writeString(fichier, "{\"op\":\"ENQ\",\"id\":\"x\",\"notif", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        JournalBoiteEnvoi suivant = new JournalBoiteEnvoi(fichier);
+        assertEquals(List.of("complet"), messages(suivant.rejouer()));
+
+        // Session suivante : le premier lot ne doit pas être collé à la ligne tronquée
+        suivant.enregistrerDepot(notification("apres"));
+        suivant.fermer();
+        assertEquals(List.of("complet", "apres"), messages(new JournalBoiteEnvoi(fichier).rejouer()));
+    }
+
+    @Test
+    void uneLigneCorrompueAvantLaFinEstFatale() throws Exception {
+        Path fichier = dossier.resolve("boite.jsonl");
+        JournalBoiteEnvoi journal = new JournalBoiteEnvoi(fichier);
+        journal.enregistrerDepot(notification("avant"));
+        journal.fermer();
+        Files.writeString(fichier, "pas du json\n", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        JournalBoiteEnvoi suivant = new JournalBoiteEnvoi(fichier);
+        suivant.enregistrerDepot(notification("apres"));
+        suivant.fermer();
+
+        assertThrows(SerializationException.class, () -> new JournalBoiteEnvoi(fichier).rejouer());
+    }
+
+    private static NotificationSortante notification(String message) {
+        return new NotificationSortante(null, NotificationSortante.Nature.MODIFICATION, "P001", "Alice",
+                "alice@example.com", "Concert", message);
+    }
+
+    private static List<String> messages(List<NotificationSortante> notifications) {
+        return notifications.stream().map(NotificationSortante::getMessage).toList();
+    }
+}
@@ -0,0 +1,126 @@
+package com.observer;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Ordre de diffusion du registre : priorité décroissante, ordre d'abonnement à priorité égale
+ */
+class RegistreObserversTest {
+
+    private final RegistreObservers registre = new RegistreObservers();
+    private final List<String> notifies = new ArrayList<>();
+
+    @Test
+    void aPrioriteEgaleLOrdreDAbonnementEstConserve() {
+        for (int i = 0; i < 50; i++) {
+            abonner("o" + i, 0);
+        }
+
+        diffuser();
+
+        List<String> attendus = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            attendus.add("o" + i);
+        }
+        assertEquals(attendus, notifies);
+    }
+
+    @Test
+    void lesTranchesSontParcouruesParPrioriteDecroissante() {
+        abonner("bas-1", -5);
+        abonner("normal-1", 0);
+        abonner("haut-1", 10);
+        abonner("normal-2", 0);
+        abonner("bas-2", -5);
+        abonner("haut-2", 10);
+
+        diffuser();
+
+        assertEquals(List.of("haut-1", "haut-2", "normal-1", "normal-2", "bas-1", "bas-2"), notifies);
+    }
+
+    @Test
+    void unRetraitPendantLaDiffusionEstRespecte() {
+        Enregistreur suivant = new Enregistreur("suivant");
+        Enregistreur retireur = new Enregistreur("retireur") {
+            @Override
+            public void onEvenementModifie(String evenementNom, String message) {
+                super.onEvenementModifie(evenementNom, message);
+                registre.retirer(suivant);
+                registre.retirer(this);
+            }
+        };
+        abonner(new Enregistreur("premier"), 0);
+        abonner(retireur, 0);
+        abonner(suivant, 0);
+        abonner(new Enregistreur("dernier"), 0);
+
+        assertEquals(3, diffuser());
+        assertEquals(List.of("premier", "retireur", "dernier"), notifies);
+
+        // Retraits définitifs, ordre des restants inchangé
+        notifies.clear();
+        assertEquals(2, diffuser());
+        assertEquals(List.of("premier", "dernier"), notifies);
+        assertEquals(2, registre.taille());
+    }
+
+    @Test
+    void unReabonnementPasseEnFinDeTranche() {
+        Enregistreur premier = abonner("premier", 0);
+        abonner("second", 0);
+        // Assez de retraits pour déclencher le nettoyage des files
+        for (int i = 0; i < 40; i++) {
+            registre.retirer(abonner("passager-" + i, 0));
+        }
+        registre.retirer(premier);
+        abonner(premier, 0);
+
+        diffuser();
+
+        assertEquals(List.of("second", "premier"), notifies);
+    }
+
+    // ============ UTILITAIRES ============
+
+    private Enregistreur abonner(String nom, int priorite) {
+        return abonner(new Enregistreur(nom), priorite);
+    }
+
+    private Enregistreur abonner(Enregistreur observer, int priorite) {
+        registre.ajouter(observer, false, priorite, Set.of());
+        return observer;
+    }
+
+    private int diffuser() {
+        return registre.diffuser("E1", "Événement", TypeNotification.MODIFICATION,
+                observer -> observer.onEvenementModifie("Événement", "message"));
+    }
+
+    private class Enregistreur implements EvenementObserver {
+        private final String nom;
+
+        Enregistreur(String nom) {
+            this.nom = nom;
+        }
+
+        @Override
+        public void onEvenementModifie(String evenementNom, String message) {
+            notifies.add(nom);
+        }
+
+        @Override
+        public void onEvenementAnnule(String evenementNom, String message) {
+        }
+
+        @Override
+        public void onEvenementInfoModifiee(String evenementNom, String message) {
+        }
+    }
+}
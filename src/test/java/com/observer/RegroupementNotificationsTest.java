@@ -0,0 +1,119 @@
+package com.observer;
+
+import com.model.Concert;
+import com.model.Evenement;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regroupement des changements d'un événement : transactions (imbriquées) et fenêtre de délai
+ */
+class RegroupementNotificationsTest {
+
+    private final Evenement evenement = new Concert("C1", "Concert", LocalDateTime.of(2030, 1, 15, 20, 0), "Lyon", 10);
+
+    @Test
+    void uneTransactionDonneUneSeuleNotificationParObserver() {
+        Collecteur premier = abonner();
+        Collecteur second = abonner();
+
+        evenement.demarrerModifications();
+        evenement.setNom("Concert d'hiver");
+        evenement.setLieu("Paris");
+        evenement.setCapaciteMax(20);
+        assertTrue(premier.messages.isEmpty());
+        evenement.validerModifications();
+
+        for (Collecteur collecteur : List.of(premier, second)) {
+            assertEquals(1, collecteur.messages.size());
+            String message = collecteur.messages.get(0);
+            assertTrue(message.contains("Nom modifié"), message);
+            assertTrue(message.contains("Lieu modifié"), message);
+            assertTrue(message.contains("Capacité modifiée"), message);
+        }
+    }
+
+    @Test
+    void uneTransactionImbriqueeNeDiffuseQuALaValidationExterne() {
+        Collecteur collecteur = abonner();
+
+        evenement.demarrerModifications();
+        evenement.demarrerModifications();
+        evenement.setNom("Concert d'hiver");
+        evenement.validerModifications();
+        assertTrue(collecteur.messages.isEmpty());
+
+        evenement.setLieu("Paris");
+        evenement.validerModifications();
+        assertEquals(1, collecteur.messages.size());
+        assertTrue(collecteur.messages.get(0).contains("Nom modifié"));
+        assertTrue(collecteur.messages.get(0).contains("Lieu modifié"));
+
+        assertThrows(IllegalStateException.class, evenement::validerModifications);
+    }
+
+    @Test
+    void laFenetreDeDelaiDiffuseUneSeuleFois() throws InterruptedException {
+        Collecteur collecteur = abonner();
+        evenement.setDelaiRegroupement(100);
+
+        evenement.setNom("Concert d'hiver");
+        evenement.setLieu("Paris");
+        evenement.setCapaciteMax(20);
+        assertTrue(collecteur.messages.isEmpty());
+
+        long limite = System.nanoTime() + 5_000_000_000L;
+        while (collecteur.messages.isEmpty() && System.nanoTime() < limite) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(300);
+        assertEquals(1, collecteur.messages.size());
+        assertTrue(collecteur.messages.get(0).contains("Capacité modifiée"));
+    }
+
+    @Test
+    void unDelaiNulDiffuseImmediatementLesChangementsEnAttente() {
+        Collecteur collecteur = abonner();
+        evenement.setDelaiRegroupement(60_000);
+
+        evenement.setNom("Concert d'hiver");
+        assertTrue(collecteur.messages.isEmpty());
+
+        evenement.setDelaiRegroupement(0);
+        assertEquals(1, collecteur.messages.size());
+
+        // Sans fenêtre, chaque changement part aussitôt
+        evenement.setLieu("Paris");
+        assertEquals(2, collecteur.messages.size());
+    }
+
+    // ============ UTILITAIRES ============
+
+    private Collecteur abonner() {
+        Collecteur collecteur = new Collecteur();
+        evenement.ajouterObserver(collecteur);
+        return collecteur;
+    }
+
+    private static final class Collecteur implements EvenementObserver {
+        private final List<String> messages = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvenementModifie(String evenementNom, String message) {
+        }
+
+        @Override
+        public void onEvenementAnnule(String evenementNom, String message) {
+        }
+
+        @Override
+        public void onEvenementInfoModifiee(String evenementNom, String message) {
+            messages.add(message);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.replication;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.model.Concert;
+import com.model.Evenement;
+import com.model.Participant;
+import com.moteur.Commande;
+import com.moteur.MoteurMonoEcrivain;
+import com.service.GestionEvenements;
+import com.util.SerializationUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Maître de réplication : instantané (liste d'attente comprise) puis flux des commandes postérieures
+ * Le suiveur est simulé par une socket qui parle le protocole et applique les commandes à l'instantané reçu
+ */
+class ReplicationTest {
+
+    private final GestionEvenements gestion = GestionEvenements.getInstance();
+    private final ObjectMapper mapper = SerializationUtil.getMapper();
+    private MoteurMonoEcrivain moteur;
+    private MaitreReplication maitre;
+    private int port;
+
+    @BeforeEach
+    void demarrer() throws Exception {
+        gestion.viderTout();
+        moteur = new MoteurMonoEcrivain(gestion, 64, null);
+        moteur.demarrer();
+        maitre = new MaitreReplication(moteur, gestion, 1000, 1000);
+        port = maitre.demarrer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    @AfterEach
+    void arreter() {
+        maitre.arreter();
+        moteur.arreter();
+        gestion.viderTout();
+    }
+
+    @Test
+    void laPromotionApresInstantaneEstLaMemeSurLaReplique() throws Exception {
+        soumettre(new Commande.AjouterEvenement(new Concert("E1", "Concert", LocalDateTime.now().plusDays(10), "Salle", 1)));
+        for (String id : List.of("A", "B", "C")) {
+            soumettre(new Commande.AjouterParticipant(new Participant(id, "Participant " + id, id + "@example.com")));
+        }
+        soumettre(new Commande.InscrireParticipant("A", "E1", true));
+        soumettre(new Commande.InscrireParticipant("B", "E1", true));
+        soumettre(new Commande.InscrireParticipant("C", "E1", true));
+
+        try (Socket socket = connecter()) {
+            BufferedReader lecteur = lecteur(socket);
+            MessageReplication entete = lire(lecteur);
+            assertEquals(MessageReplication.INSTANTANE, entete.type);
+            var replique = SerializationUtil.importerInstantane(lecteur.readLine());
+            Evenement evenement = replique.getEvenements().get(0);
+            assertEquals(List.of("A"), ids(evenement.getParticipants()));
+            assertEquals(List.of("B", "C"), ids(evenement.getListeAttente()));
+
+            // Le maître promeut B : la réplique doit faire de même en appliquant la commande reçue
+            soumettre(new Commande.DesinscrireParticipant("A", "E1"));
+            MessageReplication message = lireCommande(lecteur);
+            assertTrue(message.seq > entete.seq);
+            Commande.DesinscrireParticipant desinscription = assertInstanceOf(Commande.DesinscrireParticipant.class, message.commande);
+            Participant partant = replique.getParticipants().stream()
+                    .filter(participant -> participant.getId().equals(desinscription.participantId()))
+                    .findFirst().orElseThrow();
+            assertTrue(evenement.retirerParticipant(partant));
+
+            Evenement surMaitre = gestion.rechercherEvenement("E1");
+            assertEquals(List.of("B"), ids(surMaitre.getParticipants()));
+            assertEquals(ids(surMaitre.getParticipants()), ids(evenement.getParticipants()));
+            assertEquals(ids(surMaitre.getListeAttente()), ids(evenement.getListeAttente()));
+        }
+    }
+
+    @Test
+    void lesCommandesAppliqueesPendantLInstantaneSuiventSansTrou() throws Exception {
+        int total = 500;
+        CompletableFuture<?>[] resultats = new CompletableFuture<?>[total];
+        Thread producteur = new Thread(() -> {
+            for (int i = 0; i < total; i++) {
+                resultats[i] = moteur.soumettre(new Commande.AjouterParticipant(
+                        new Participant("P" + i, "Participant " + i, "p" + i + "@example.com")));
+            }
+        });
+        producteur.start();
+
+        try (Socket socket = connecter()) {
+            BufferedReader lecteur = lecteur(socket);
+            MessageReplication entete = lire(lecteur);
+            assertEquals(MessageReplication.INSTANTANE, entete.type);
+            int dansInstantane = SerializationUtil.importerInstantane(lecteur.readLine()).getParticipants().size();
+
+            producteur.join();
+            CompletableFuture.allOf(resultats).get(10, TimeUnit.SECONDS);
+
+            // Chaque commande absente de l'instantané arrive ensuite, dans l'ordre
+            long attendue = entete.seq + 1;
+            for (int i = dansInstantane; i < total; i++) {
+                MessageReplication message = lireCommande(lecteur);
+                assertEquals(attendue++, message.seq);
+            }
+            assertEquals(maitre.getDerniereSequence(), attendue - 1);
+        }
+    }
+
+    // ============ UTILITAIRES ============
+
+    private void soumettre(Commande commande) throws Exception {
+        moteur.soumettre(commande).get(5, TimeUnit.SECONDS);
+    }
+
+    private Socket connecter() throws Exception {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setSoTimeout(10_000);
+        OutputStream sortie = socket.getOutputStream();
+        sortie.write(mapper.writer().without(SerializationFeature.INDENT_OUTPUT)
+                .writeValueAsBytes(MessageReplication.synchronisation(null, null)));
+        sortie.write('\n');
+        sortie.flush();
+        return socket;
+    }
+
+    private static BufferedReader lecteur(Socket socket) throws Exception {
+        return new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private MessageReplication lire(BufferedReader lecteur) throws Exception {
+        String ligne = lecteur.readLine();
+        assertNotNull(ligne, "Connexion fermée par le maître");
+        return mapper.readValue(ligne, MessageReplication.class);
+    }
+
+    // Commande suivante (les PING sont ignorés)
+    private MessageReplication lireCommande(BufferedReader lecteur) throws Exception {
+        MessageReplication message;
+        do {
+            message = lire(lecteur);
+        } while (MessageReplication.PING.equals(message.type));
+        assertEquals(MessageReplication.COMMANDE, message.type);
+        return message;
+    }
+
+    private static List<String> ids(List<Participant> participants) {
+        return participants.stream().map(Participant::getId).toList();
+    }
+}
@@ -0,0 +1,169 @@
+package com.serveur;
+
+import com.observer.HistogrammeLatence;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Générateur de charge pour l'API HTTP (un client par thread virtuel, boucle fermée)
+ * Prépare un jeu de données via l'API puis mesure le débit et la latence d'un mélange
+ * de requêtes : 70 % détail d'événement, 20 % recherche par nom, 10 % inscription
+ *
+ * Livré avec les sources de test, hors du jar de production
+ * Usage : java -cp target/classes:target/test-classes:... com.serveur.TestCharge [--url http://localhost:8080] [--clients 200]
+ *         [--duree 20] [--evenements 500] [--participants 5000]
+ */
+public class TestCharge {
+
+    private static final String[] MOTS = {"Java", "Cloud", "Jazz", "Rock", "Data", "Sécurité", "Web", "Classique"};
+
+    public static void main(String[] args) throws Exception {
+        String url = "http://localhost:8080";
+        int clients = 200;
+        int dureeSecondes = 20;
+        int nombreEvenements = 500;
+        int nombreParticipants = 5000;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--url": url = args[++i]; break;
+                case "--clients": clients = Integer.parseInt(args[++i]); break;
+                case "--duree": dureeSecondes = Integer.parseInt(args[++i]); break;
+                case "--evenements": nombreEvenements = Integer.parseInt(args[++i]); break;
+                case "--participants": nombreParticipants = Integer.parseInt(args[++i]); break;
+                default: throw new IllegalArgumentException("Option inconnue: " + args[i]);
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        System.out.println(String.format("🔧 [CHARGE] Préparation: %d événements, %d participants",
+                nombreEvenements, nombreParticipants));
+        preparer(client, url, nombreEvenements, nombreParticipants);
+
+        // Préchauffage (compilation JIT côté serveur) non comptabilisé
+        executer(client, url, clients, 3, nombreEvenements, nombreParticipants);
+
+        Resultat resultat = executer(client, url, clients, dureeSecondes, nombreEvenements, nombreParticipants);
+        System.out.println(resultat.resume(clients, dureeSecondes));
+    }
+
+    private static void preparer(HttpClient client, String url, int nombreEvenements, int nombreParticipants)
+            throws Exception {
+        try (ExecutorService executeur = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < nombreParticipants; i++) {
+                String corps = String.format("{\"id\":\"P%d\",\"nom\":\"Participant %d\",\"email\":\"p%d@test.com\"}", i, i, i);
+                executeur.submit(() -> envoyer(client, url + "/api/participants", "POST", corps));
+            }
+        }
+        try (ExecutorService executeur = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < nombreEvenements; i++) {
+                String type = i % 2 == 0 ? "conference" : "concert";
+                String mot = MOTS[i % MOTS.length];
+                String corps = String.format("{\"type\":\"%s\",\"id\":\"E%d\",\"nom\":\"%s %d\","
+                                + "\"date\":\"2027-%02d-%02dT19:00:00\",\"lieu\":\"Salle %d\",\"capaciteMax\":%d}",
+                        type, i, mot, i, 1 + i % 12, 1 + i % 28, i % 20, 50 + i % 200);
+                executeur.submit(() -> envoyer(client, url + "/api/evenements", "POST", corps));
+            }
+        }
+    }
+
+    private static Resultat executer(HttpClient client, String url, int clients, int dureeSecondes,
+                                     int nombreEvenements, int nombreParticipants)
+            throws InterruptedException {
+        Resultat resultat = new Resultat();
+        long fin = System.nanoTime() + Duration.ofSeconds(dureeSecondes).toNanos();
+        List<Thread> threads = new ArrayList<>(clients);
+
+        for (int c = 0; c < clients; c++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                ThreadLocalRandom hasard = ThreadLocalRandom.current();
+                while (System.nanoTime() < fin) {
+                    int tirage = hasard.nextInt(100);
+                    String evenementId = "E" + hasard.nextInt(nombreEvenements);
+                    long debut = System.nanoTime();
+                    int statut;
+                    if (tirage < 70) {
+                        statut = envoyer(client, url + "/api/evenements/" + evenementId, "GET", null);
+                    } else if (tirage < 90) {
+                        String mot = MOTS[hasard.nextInt(MOTS.length)].toLowerCase();
+                        statut = envoyer(client, url + "/api/evenements?limite=20&nom="
+                                + URLEncoder.encode(mot, StandardCharsets.UTF_8), "GET", null);
+                    } else {
+                        String corps = String.format("{\"participantId\":\"P%d\",\"listeAttente\":true}",
+                                hasard.nextInt(nombreParticipants));
+                        statut = envoyer(client, url + "/api/evenements/" + evenementId + "/inscriptions", "POST", corps);
+                    }
+                    resultat.enregistrer(statut, System.nanoTime() - debut);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return resultat;
+    }
+
+    private static int envoyer(HttpClient client, String url, String methode, String corps) {
+        HttpRequest.Builder requete = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30));
+        if (corps != null) {
+            requete.header("Content-Type", "application/json")
+                    .method(methode, HttpRequest.BodyPublishers.ofString(corps));
+        } else {
+            requete.method(methode, HttpRequest.BodyPublishers.noBody());
+        }
+        try {
+            return client.send(requete.build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+        } catch (IOException e) {
+            return -1;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    private static class Resultat {
+        private final HistogrammeLatence latences = new HistogrammeLatence();
+        private final LongAdder succes = new LongAdder();
+        private final LongAdder refus = new LongAdder();
+        private final LongAdder echecs = new LongAdder();
+
+        void enregistrer(int statut, long nanos) {
+            latences.enregistrer(nanos);
+            if (statut >= 200 && statut < 300) {
+                succes.increment();
+            } else if (statut >= 400 && statut < 500) {
+                // 409 (doublon d'inscription) fait partie du scénario
+                refus.increment();
+            } else {
+                echecs.increment();
+            }
+        }
+
+        String resume(int clients, int dureeSecondes) {
+            long total = latences.getNombre();
+            return String.format(
+                    "📊 [CHARGE] %d clients, %d s: %d requêtes, %.0f req/s | 2xx: %d | 4xx: %d | erreurs: %d%n"
+                            + "            latence p50 %.2f ms | p99 %.2f ms | max %.2f ms",
+                    clients, dureeSecondes, total, total / (double) dureeSecondes,
+                    succes.sum(), refus.sum(), echecs.sum(),
+                    latences.getCentileNanos(50) / 1e6, latences.getCentileNanos(99) / 1e6,
+                    latences.getMaxNanos() / 1e6);
+        }
+    }
+}
@@ -0,0 +1,286 @@
+package com.service;
+
+import com.exception.GestionEvenementsException;
+import com.model.Conference;
+import com.model.Evenement;
+import com.model.Participant;
+import com.observer.HistogrammeLatence;
+import com.moteur.Commande;
+import com.moteur.JournalCommandes;
+import com.moteur.ModeleLectureEvenements;
+import com.moteur.MoteurMonoEcrivain;
+import com.util.Journal;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Banc d'essai des inscriptions sous forte concurrence
+ * N clients simulés envoient chacun K demandes d'inscription (ou liste d'attente) à des événements tirés
+ * au hasard. Chaque commande contient un appel bloquant simulé (écriture de persistance).
+ * Deux modèles d'exécution sont comparés :
+ * - plateforme : pool fixe de threads système appelant directement GestionEvenements, journal synchrone
+ * - virtuel : ExecuteurCommandes (thread virtuel par commande, sérialisation par événement), journal asynchrone
+ * - mono-ecrivain : MoteurMonoEcrivain, la persistance est le journal des commandes écrit par lots
+ *
+ * Livré avec les sources de test, hors du jar de production
+ * Usage : java -cp target/classes:target/test-classes:... com.service.BenchmarkInscriptions [--clients 10000] [--commandes 10]
+ *         [--evenements 1000] [--capacite 20] [--blocage-ms 1] [--pool 200] [--journal fichier.log]
+ *         [--mode plateforme|virtuel|mono-ecrivain|tous]
+ * Les latences du mode plateforme ne comptent pas l'attente d'un thread du pool : seuls 200 clients
+ * sont réellement concurrents, les autres patientent dans la file de l'exécuteur
+ */
+public class BenchmarkInscriptions {
+
+    public static void main(String[] args) throws Exception {
+        int clients = 10_000;
+        int commandesParClient = 10;
+        int nombreEvenements = 1_000;
+        int capacite = 20;
+        long blocageMs = 1;
+        int pool = 200;
+        String fichierJournal = "benchmark_inscriptions.log";
+        String mode = "tous";
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--clients": clients = Integer.parseInt(args[++i]); break;
+                case "--commandes": commandesParClient = Integer.parseInt(args[++i]); break;
+                case "--evenements": nombreEvenements = Integer.parseInt(args[++i]); break;
+                case "--capacite": capacite = Integer.parseInt(args[++i]); break;
+                case "--blocage-ms": blocageMs = Long.parseLong(args[++i]); break;
+                case "--pool": pool = Integer.parseInt(args[++i]); break;
+                case "--journal": fichierJournal = args[++i]; break;
+                case "--mode": mode = args[++i]; break;
+                default: throw new IllegalArgumentException("Option inconnue: " + args[i]);
+            }
+        }
+
+        // Les traces du modèle vont dans un fichier (sortie à vidage automatique, comme la console)
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new FileOutputStream(fichierJournal), true, StandardCharsets.UTF_8));
+
+        console.println(String.format(
+                "🏁 [BENCHMARK] %d clients × %d commandes, %d événements de %d places, blocage %d ms par commande",
+                clients, commandesParClient, nombreEvenements, capacite, blocageMs));
+
+        Scenario scenario = new Scenario(clients, commandesParClient, nombreEvenements, capacite, blocageMs);
+        if (mode.equals("plateforme") || mode.equals("tous")) {
+            console.println(scenario.executerPlateforme(pool));
+        }
+        if (mode.equals("virtuel") || mode.equals("tous")) {
+            console.println(scenario.executerVirtuel());
+        }
+        if (mode.equals("mono-ecrivain") || mode.equals("tous")) {
+            console.println(scenario.executerMonoEcrivain());
+        }
+        System.exit(0);
+    }
+
+    private static final class Scenario {
+        private final int clients;
+        private final int commandesParClient;
+        private final int nombreEvenements;
+        private final int capacite;
+        private final long blocageMs;
+        private final GestionEvenements gestion = GestionEvenements.getInstance();
+
+        Scenario(int clients, int commandesParClient, int nombreEvenements, int capacite, long blocageMs) {
+            this.clients = clients;
+            this.commandesParClient = commandesParClient;
+            this.nombreEvenements = nombreEvenements;
+            this.capacite = capacite;
+            this.blocageMs = blocageMs;
+        }
+
+        private void preparer() throws GestionEvenementsException {
+            gestion.viderTout();
+            for (int i = 0; i < clients; i++) {
+                gestion.ajouterParticipant(new Participant("P" + i, "Participant " + i, "p" + i + "@test.com"));
+            }
+            List<Evenement> evenements = new ArrayList<>(nombreEvenements);
+            for (int i = 0; i < nombreEvenements; i++) {
+                evenements.add(new Conference("E" + i, "Conférence " + i, LocalDateTime.now().plusDays(30),
+                        "Salle " + (i % 50), capacite));
+            }
+            gestion.ajouterEvenements(evenements);
+        }
+
+        // Commande d'un client : inscription puis écriture de persistance simulée
+        private boolean commande(int client) throws GestionEvenementsException {
+            String evenementId = "E" + ThreadLocalRandom.current().nextInt(nombreEvenements);
+            boolean inscrit;
+            try {
+                inscrit = gestion.inscrireParticipantOuListeAttente("P" + client, evenementId);
+            } catch (IllegalArgumentException e) {
+                // Déjà inscrit / en attente sur cet événement : commande refusée
+                return false;
+            }
+            bloquer();
+            return inscrit;
+        }
+
+        private void bloquer() {
+            if (blocageMs > 0) {
+                try {
+                    Thread.sleep(blocageMs);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        String executerPlateforme(int pool) throws Exception {
+            preparer();
+            Mesure mesure = new Mesure();
+            long debut = System.nanoTime();
+            try (ExecutorService executeur = Executors.newFixedThreadPool(pool)) {
+                List<Future<?>> resultats = new ArrayList<>(clients);
+                for (int c = 0; c < clients; c++) {
+                    int client = c;
+                    resultats.add(executeur.submit(() -> {
+                        for (int k = 0; k < commandesParClient; k++) {
+                            long t0 = System.nanoTime();
+                            try {
+                                mesure.enregistrer(commande(client), t0);
+                            } catch (GestionEvenementsException e) {
+                                mesure.echec();
+                            }
+                        }
+                    }));
+                }
+                for (Future<?> resultat : resultats) {
+                    resultat.get();
+                }
+            }
+            return mesure.resume("plateforme (pool " + pool + ", journal synchrone)", System.nanoTime() - debut);
+        }
+
+        String executerVirtuel() throws Exception {
+            preparer();
+            Journal.demarrerAsynchrone(1 << 16);
+            ExecuteurCommandes executeur = ExecuteurCommandes.getInstance();
+            Mesure mesure = new Mesure();
+            long debut = System.nanoTime();
+            try (ExecutorService clientsVirtuels = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < clients; c++) {
+                    int client = c;
+                    clientsVirtuels.submit(() -> {
+                        for (int k = 0; k < commandesParClient; k++) {
+                            long t0 = System.nanoTime();
+                            String evenementId = "E" + ThreadLocalRandom.current().nextInt(nombreEvenements);
+                            try {
+                                boolean inscrit = ExecuteurCommandes.attendre(executeur.soumettre(evenementId, () -> {
+                                    boolean resultat = gestion.inscrireParticipantOuListeAttente("P" + client, evenementId);
+                                    bloquer();
+                                    return resultat;
+                                }));
+                                mesure.enregistrer(inscrit, t0);
+                            } catch (IllegalArgumentException e) {
+                                mesure.enregistrer(false, t0);
+                            } catch (GestionEvenementsException e) {
+                                mesure.echec();
+                            }
+                        }
+                    });
+                }
+            }
+            long duree = System.nanoTime() - debut;
+            Journal.arreter();
+            return mesure.resume("virtuel (ExecuteurCommandes, journal asynchrone)", duree) + verifierCapacites();
+        }
+
+        // Le blocage simulé par commande est remplacé par le journal des commandes, écrit par lots
+        String executerMonoEcrivain() throws Exception {
+            preparer();
+            Journal.demarrerAsynchrone(1 << 16);
+            Path fichier = Files.createTempFile("benchmark_commandes", ".jsonl");
+            MoteurMonoEcrivain moteur = new MoteurMonoEcrivain(gestion, MoteurMonoEcrivain.TAILLE_DEFAUT,
+                    new JournalCommandes(fichier, false));
+            moteur.rejouer();
+            ModeleLectureEvenements modeleLecture = new ModeleLectureEvenements(gestion);
+            modeleLecture.initialiser();
+            moteur.ajouterEcouteur(modeleLecture);
+            moteur.demarrer();
+
+            Mesure mesure = new Mesure();
+            long debut = System.nanoTime();
+            try (ExecutorService clientsVirtuels = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int c = 0; c < clients; c++) {
+                    String participantId = "P" + c;
+                    clientsVirtuels.submit(() -> {
+                        for (int k = 0; k < commandesParClient; k++) {
+                            long t0 = System.nanoTime();
+                            String evenementId = "E" + ThreadLocalRandom.current().nextInt(nombreEvenements);
+                            try {
+                                Object inscrit = ExecuteurCommandes.attendre(moteur.soumettre(
+                                        new Commande.InscrireParticipant(participantId, evenementId, true)));
+                                mesure.enregistrer((Boolean) inscrit, t0);
+                            } catch (IllegalArgumentException e) {
+                                mesure.enregistrer(false, t0);
+                            } catch (GestionEvenementsException e) {
+                                mesure.echec();
+                            }
+                        }
+                    });
+                }
+            }
+            long duree = System.nanoTime() - debut;
+            moteur.arreter();
+            Journal.arreter();
+            String resume = mesure.resume("mono-écrivain (anneau, journal par lots)", duree)
+                    + String.format("%n            lots: %.1f commandes en moyenne, journal %d Ko",
+                    moteur.getTailleMoyenneLot(), Files.size(fichier) / 1024)
+                    + verifierCapacites();
+            Files.deleteIfExists(fichier);
+            return resume;
+        }
+
+        // La sérialisation par événement ne doit jamais laisser dépasser la capacité
+        private String verifierCapacites() {
+            long depassements = gestion.getEvenements().stream()
+                    .filter(e -> e.getNombreParticipants() > e.getCapaciteMax())
+                    .count();
+            return String.format("%n            cohérence: %d événement(s) au-delà de leur capacité, %d inscrits, journal: %d ligne(s) perdue(s)",
+                    depassements, gestion.getTotalParticipants(), Journal.getNombrePerdues());
+        }
+    }
+
+    private static final class Mesure {
+        private final HistogrammeLatence latences = new HistogrammeLatence();
+        private final LongAdder inscrits = new LongAdder();
+        private final LongAdder autres = new LongAdder();
+        private final LongAdder echecs = new LongAdder();
+
+        void enregistrer(boolean inscrit, long debutNanos) {
+            latences.enregistrer(System.nanoTime() - debutNanos);
+            (inscrit ? inscrits : autres).increment();
+        }
+
+        void echec() {
+            echecs.increment();
+        }
+
+        String resume(String mode, long dureeNanos) {
+            double secondes = dureeNanos / 1e9;
+            return String.format(
+                    "📊 [BENCHMARK] %-50s %8.0f commandes/s en %.2f s | inscrits %d, attente/refus %d, échecs %d%n"
+                            + "            latence par commande p50 %.2f ms | p99 %.2f ms | max %.2f ms",
+                    mode, latences.getNombre() / secondes, secondes,
+                    inscrits.sum(), autres.sum(), echecs.sum(),
+                    latences.getCentileNanos(50) / 1e6, latences.getCentileNanos(99) / 1e6,
+                    TimeUnit.NANOSECONDS.toMicros(latences.getMaxNanos()) / 1e3);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Index par préfixe de mots : normalisation, requêtes multi-mots, réindexation et annulation
+ */
+class IndexRechercheTest {
+
+    private record Personne(String id, String nom) {}
+
+    private final IndexRecherche<Personne> index = new IndexRecherche<>(Personne::id, Personne::nom);
+
+    @Test
+    void unPrefixeTrouveLesMotsEtLeMotExactPasseEnPremier() {
+        index.ajouterTous(List.of(new Personne("P1", "Marius"), new Personne("P2", "Mar"),
+                new Personne("P3", "Amar"), new Personne("P4", "Marie")));
+
+        List<String> ids = ids(index.rechercher("mar", 10, p -> true));
+
+        assertEquals("P2", ids.get(0));
+        assertEquals(3, ids.size());
+        assertFalse(ids.contains("P3"), "Un préfixe ne correspond pas au milieu d'un mot");
+    }
+
+    @Test
+    void laRechercheIgnoreLaCasseEtLesAccents() {
+        index.ajouter(new Personne("P1", "Élodie Dupré-Lefèvre"));
+
+        for (String requete : List.of("elo", "ÉLO", "dupre", "DUPRÉ", "lefevre", "Lefèv")) {
+            assertEquals(List.of("P1"), ids(index.rechercher(requete, 10, p -> true)), requete);
+        }
+        assertTrue(index.rechercher("dupres", 10, p -> true).isEmpty());
+    }
+
+    @Test
+    void chaqueMotDeLaRequetePrefixeUnMotDeLElement() {
+        index.ajouterTous(List.of(new Personne("P1", "Jean Dupont"), new Personne("P2", "Jean Martin"),
+                new Personne("P3", "Paul Dupont")));
+
+        assertEquals(List.of("P1"), ids(index.rechercher("jean dup", 10, p -> true)));
+        assertEquals(List.of("P1"), ids(index.rechercher("dup   j", 10, p -> true)));
+        assertEquals(2, index.rechercher("dupont", 10, p -> true).size());
+        assertTrue(index.rechercher("jean paul", 10, p -> true).isEmpty());
+
+        assertTrue(index.correspondance("jean dup").test(new Personne("P1", "Jean Dupont")));
+        assertFalse(index.correspondance("jean dup").test(new Personne("P2", "Jean Martin")));
+        // Élément absent de l'index : ses mots sont calculés à la volée
+        assertTrue(index.correspondance("mar").test(new Personne("P9", "Marc")));
+    }
+
+    @Test
+    void unTexteModifieEstReindexe() {
+        index.ajouter(new Personne("P1", "Alice Durand"));
+        index.ajouter(new Personne("P1", "Alice Martin"));
+
+        assertEquals(1, index.getTaille());
+        assertTrue(index.rechercher("durand", 10, p -> true).isEmpty());
+        List<Personne> trouves = index.rechercher("martin", 10, p -> true);
+        assertEquals("Alice Martin", trouves.get(0).nom());
+
+        index.retirer("P1");
+        assertEquals(0, index.getTaille());
+        assertTrue(index.rechercher("alice", 10, p -> true).isEmpty());
+    }
+
+    @Test
+    void laLimiteEtLeFiltreSontRespectes() {
+        for (int i = 0; i < 100; i++) {
+            index.ajouter(new Personne("P" + i, "Participant " + i));
+        }
+
+        assertEquals(10, index.rechercher("part", 10, p -> true).size());
+        assertEquals(10, index.rechercher("", 10, p -> true).size());
+        List<Personne> pairs = index.rechercher("part", 100, p -> Integer.parseInt(p.id().substring(1)) % 2 == 0);
+        assertEquals(50, pairs.size());
+    }
+
+    @Test
+    void annulerLaRechercheAsynchroneInterromptLeParcours() throws Exception {
+        for (int i = 0; i < 1000; i++) {
+            index.ajouter(new Personne("P" + i, "Mot" + i));
+        }
+        CountDownLatch premierAppel = new CountDownLatch(1);
+        CountDownLatch reprise = new CountDownLatch(1);
+        AtomicInteger appels = new AtomicInteger();
+
+        CompletableFuture<List<Personne>> recherche = index.rechercherAsync("mot", 1000, p -> {
+            appels.incrementAndGet();
+            premierAppel.countDown();
+            try {
+                reprise.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return true;
+        });
+
+        assertTrue(premierAppel.await(5, TimeUnit.SECONDS));
+        recherche.cancel(true);
+        reprise.countDown();
+        Thread.sleep(200);
+
+        assertTrue(recherche.isCancelled());
+        assertEquals(1, appels.get(), "Le parcours continue après l'annulation");
+
+        // Sans annulation, la même recherche va au bout
+        assertEquals(1000, index.rechercherAsync("mot", 1000, p -> true).get(5, TimeUnit.SECONDS).size());
+    }
+
+    private static List<String> ids(List<Personne> personnes) {
+        return personnes.stream().map(Personne::id).toList();
+    }
+}
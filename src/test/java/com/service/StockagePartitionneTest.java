@@ -0,0 +1,200 @@
+package com.service;
+
+import com.model.Concert;
+import com.model.Evenement;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.SimpleStringProperty;
+import javafx.beans.value.ChangeListener;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Stockage partitionné : index des lieux et des événements actifs tenus à jour par les écouteurs
+ * des propriétés, et écouteurs retirés quand un événement quitte le stockage
+ */
+class StockagePartitionneTest {
+
+    private final StockagePartitionne stockage = new StockagePartitionne(4);
+
+    @Test
+    void lIndexDesLieuxSuitSetLieu() {
+        Suivi concert = placer("E1", "Lyon");
+
+        concert.setLieu("Paris");
+
+        assertTrue(stockage.rechercherParLieu("lyon").isEmpty());
+        assertEquals(List.of(concert), stockage.rechercherParLieu("PAR"));
+    }
+
+    @Test
+    void lEnsembleDesActifsSuitLAnnulation() {
+        Suivi annule = placer("E1", "Lyon");
+        Suivi actif = placer("E2", "Lyon");
+
+        annule.annuler();
+
+        assertEquals(List.of(actif), stockage.getEvenementsActifs());
+        assertEquals(1, stockage.getNombreEvenementsActifs());
+        assertEquals(2, stockage.size());
+    }
+
+    @Test
+    void replaceEtRemoveConditionnelGardentLesIndex() {
+        Suivi ancien = placer("E1", "Lyon");
+        Suivi nouveau = new Suivi("E1", "Paris");
+
+        assertFalse(stockage.replace("E1", new Suivi("E9", "Lyon"), nouveau));
+        assertSame(ancien, stockage.get("E1"));
+
+        assertTrue(stockage.replace("E1", ancien, nouveau));
+        assertSame(nouveau, stockage.get("E1"));
+        assertEquals(0, ancien.ecouteurs());
+        assertEquals(List.of(nouveau), stockage.rechercherParLieu("paris"));
+        assertTrue(stockage.rechercherParLieu("lyon").isEmpty());
+
+        // L'ancienne instance n'influence plus les index
+        ancien.setLieu("Marseille");
+        ancien.annuler();
+        assertTrue(stockage.rechercherParLieu("marseille").isEmpty());
+        assertEquals(List.of(nouveau), stockage.getEvenementsActifs());
+
+        assertNull(stockage.replace("E2", new Suivi("E2", "Nice")));
+        assertFalse(stockage.containsKey("E2"));
+
+        assertFalse(stockage.remove("E1", new Suivi("E9", "Paris")));
+        assertTrue(stockage.remove("E1", nouveau));
+        assertTrue(stockage.isEmpty());
+        assertEquals(0, nouveau.ecouteurs());
+        assertTrue(stockage.rechercherParLieu("paris").isEmpty());
+        assertTrue(stockage.getEvenementsActifs().isEmpty());
+        assertTrue(stockage.rechercherParType(Concert.class).isEmpty());
+    }
+
+    @Test
+    void laSuppressionParLIterateurMetAJourLesIndex() {
+        for (int i = 0; i < 40; i++) {
+            placer("E" + i, i % 2 == 0 ? "Lyon" : "Paris");
+        }
+        Map<String, Suivi> retires = new HashMap<>();
+
+        Iterator<Evenement> iterateur = stockage.values().iterator();
+        while (iterateur.hasNext()) {
+            Evenement evenement = iterateur.next();
+            if (evenement.getLieu().equals("Lyon")) {
+                iterateur.remove();
+                retires.put(evenement.getId(), (Suivi) evenement);
+            }
+        }
+
+        assertEquals(20, retires.size());
+        assertEquals(20, stockage.size());
+        assertTrue(stockage.rechercherParLieu("lyon").isEmpty());
+        assertEquals(20, stockage.getNombreEvenementsActifs());
+        assertEquals(20, stockage.rechercherParType(Concert.class).size());
+        for (Suivi retire : retires.values()) {
+            assertFalse(stockage.containsKey(retire.getId()));
+            assertEquals(0, retire.ecouteurs());
+        }
+
+        Iterator<Map.Entry<String, Evenement>> entrees = stockage.entrySet().iterator();
+        assertThrows(IllegalStateException.class, entrees::remove);
+        entrees.next();
+        entrees.remove();
+        assertEquals(19, stockage.size());
+        assertEquals(19, stockage.getNombreEvenementsActifs());
+    }
+
+    @Test
+    void clearDetacheLesEcouteurs() {
+        Suivi premier = placer("E1", "Lyon");
+        Suivi second = placer("E2", "Paris");
+        assertEquals(2, premier.ecouteurs());
+
+        stockage.clear();
+
+        assertTrue(stockage.isEmpty());
+        for (Suivi suivi : List.of(premier, second)) {
+            assertEquals(0, suivi.ecouteurs());
+        }
+        premier.setLieu("Marseille");
+        second.annuler();
+        assertTrue(stockage.rechercherParLieu("marseille").isEmpty());
+        assertEquals(0, stockage.getNombreEvenementsActifs());
+
+        // Réinséré : suivi de nouveau, une seule fois
+        stockage.put("E1", premier);
+        assertEquals(2, premier.ecouteurs());
+        premier.setLieu("Nice");
+        Set<String> lieux = stockage.rechercherParLieu("").stream().map(Evenement::getLieu).collect(Collectors.toSet());
+        assertEquals(Set.of("Nice"), lieux);
+    }
+
+    // ============ UTILITAIRES ============
+
+    private Suivi placer(String id, String lieu) {
+        Suivi concert = new Suivi(id, lieu);
+        assertNull(stockage.put(id, concert));
+        return concert;
+    }
+
+    /**
+     * Concert dont les propriétés de lieu et d'annulation comptent leurs écouteurs
+     */
+    private static final class Suivi extends Concert {
+
+        Suivi(String id, String lieuInitial) {
+            super(id, "Concert " + id, LocalDateTime.of(2030, 1, 15, 20, 0), lieuInitial, 10);
+            this.lieu = new LieuCompte(lieuInitial);
+            this.annule = new AnnulationCompte();
+        }
+
+        int ecouteurs() {
+            return ((LieuCompte) lieu).ecouteurs + ((AnnulationCompte) annule).ecouteurs;
+        }
+    }
+
+    private static final class LieuCompte extends SimpleStringProperty {
+        private int ecouteurs;
+
+        LieuCompte(String valeur) {
+            super(valeur);
+        }
+
+        @Override
+        public void addListener(ChangeListener<? super String> ecouteur) {
+            super.addListener(ecouteur);
+            ecouteurs++;
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super String> ecouteur) {
+            super.removeListener(ecouteur);
+            ecouteurs--;
+        }
+    }
+
+    private static final class AnnulationCompte extends SimpleBooleanProperty {
+        private int ecouteurs;
+
+        @Override
+        public void addListener(ChangeListener<? super Boolean> ecouteur) {
+            super.addListener(ecouteur);
+            ecouteurs++;
+        }
+
+        @Override
+        public void removeListener(ChangeListener<? super Boolean> ecouteur) {
+            super.removeListener(ecouteur);
+            ecouteurs--;
+        }
+    }
+}